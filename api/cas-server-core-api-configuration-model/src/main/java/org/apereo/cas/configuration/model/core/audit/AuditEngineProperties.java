@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -119,6 +120,13 @@ public class AuditEngineProperties implements Serializable {
      */
     private int abbreviationLength = 125;
 
+    /**
+     * Control the queue and batching behavior of audit storage services
+     * that save records asynchronously.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
+
     /**
      * The audit format types.
      */
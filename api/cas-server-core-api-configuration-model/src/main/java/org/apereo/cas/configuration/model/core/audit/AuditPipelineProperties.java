@@ -0,0 +1,74 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditPipelineProperties}. Controls how audit records
+ * are queued and flushed to audit storage services that save records asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuditPipelineProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2817306466517624938L;
+
+    /**
+     * Maximum number of audit records that can be queued
+     * and waiting to be saved by the audit storage service.
+     * Once the queue is full, the overflow policy decides what happens
+     * to new audit records.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are saved together in a single batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time to wait for a batch to fill up
+     * before queued audit records are saved anyway.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide what should happen to new audit records when the queue is full.
+     */
+    private OverflowPolicyTypes overflowPolicy = OverflowPolicyTypes.BLOCK;
+
+    /**
+     * Maximum amount of time to wait on shutdown for queued audit records to be saved.
+     * Records that are not saved by then are discarded, and their number is logged.
+     */
+    @DurationCapable
+    private String shutdownTimeout = "PT30S";
+
+    /**
+     * Overflow policy types.
+     */
+    public enum OverflowPolicyTypes {
+        /**
+         * Block the caller until space becomes available in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the audit record and carry on.
+         */
+        DROP
+    }
+}
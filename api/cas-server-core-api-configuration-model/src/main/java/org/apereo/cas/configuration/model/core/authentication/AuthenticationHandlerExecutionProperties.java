@@ -0,0 +1,68 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuthenticationHandlerExecutionProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuthenticationHandlerExecutionProperties")
+public class AuthenticationHandlerExecutionProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 5370571297470963315L;
+
+    /**
+     * Decide how authentication handlers that support a given credential are executed.
+     * When executed in parallel, all supporting handlers are invoked at the same time
+     * and their results are still evaluated against authentication policies in the configured order.
+     * Outstanding attempts are cancelled once the authentication policy is satisfied.
+     */
+    private ExecutionModes mode = ExecutionModes.SEQUENTIAL;
+
+    /**
+     * When handlers are executed in parallel, fire a second, hedged attempt for
+     * a handler that has not responded within the latency percentile
+     * that is tracked for that handler. The first attempt to respond wins.
+     */
+    private boolean hedgingEnabled;
+
+    /**
+     * The latency percentile of each handler that is used to decide when a hedged attempt should be fired.
+     * The value must be between {@code 0} and {@code 1}.
+     */
+    private double hedgingPercentile = 0.95;
+
+    /**
+     * Minimum number of recorded attempts for a handler before
+     * hedged attempts are fired for that handler.
+     */
+    private long hedgingMinimumSamples = 50;
+
+    /**
+     * Authentication handler execution modes.
+     */
+    public enum ExecutionModes {
+        /**
+         * Execute handlers one after another.
+         */
+        SEQUENTIAL,
+        /**
+         * Execute handlers concurrently.
+         */
+        PARALLEL
+    }
+}
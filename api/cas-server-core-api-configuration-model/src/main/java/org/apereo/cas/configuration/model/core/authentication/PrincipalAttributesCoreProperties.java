@@ -48,6 +48,15 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private int maximumCacheSize = 10000;
 
+    /**
+     * Indicates the maximum weight of all attributes that are cached for all registered services
+     * whose attribute release policies define a caching principal attribute repository.
+     * The weight of a cache entry is the number of attribute values it carries.
+     * A zero or negative value indicates that attributes are cached per registered service,
+     * with a fixed maximum number of entries for each service and no global limit.
+     */
+    private long serviceCacheMaximumWeight;
+
     /**
      * Recover from LDAP exceptions and continue with partial results. Otherwise,
      * die and do not allow to log in.
@@ -2,6 +2,7 @@ package org.apereo.cas.configuration.model.core.authentication;
 
 import org.apereo.cas.configuration.model.support.email.EmailProperties;
 import org.apereo.cas.configuration.model.support.sms.SmsProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -12,6 +13,8 @@ import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This is {@link RiskBasedAuthenticationProperties}.
@@ -58,7 +61,13 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      * Core configuration settings for assessing risky authentication attempts.
      */
     private Core core = new Core();
-    
+
+    /**
+     * Maintain risk profiles for principals that are updated
+     * as authentication events are recorded.
+     */
+    private Profile profile = new Profile();
+
     @Getter
     @Setter
     @Accessors(chain = true)
@@ -80,6 +89,33 @@ public class RiskBasedAuthenticationProperties implements Serializable {
          * in order to locate authentication events.
          */
         private long daysInRecentHistory = 30;
+
+        /**
+         * Run risk calculators concurrently on virtual threads,
+         * each within its own time budget, instead of one after another
+         * on the thread that handles the login request.
+         */
+        private boolean concurrent;
+
+        /**
+         * The time budget of each risk calculator when calculators run concurrently.
+         */
+        @DurationCapable
+        private String calculatorTimeout = "PT2S";
+
+        /**
+         * Time budgets of specific risk calculators when calculators run concurrently,
+         * keyed by the simple class name of the calculator,
+         * i.e. {@code GeoLocationAuthenticationRequestRiskCalculator}.
+         * Calculators that are not listed here use the default time budget.
+         */
+        private Map<String, String> calculatorTimeouts = new HashMap<>(0);
+
+        /**
+         * The risk score, between {@code 0} and {@code 1},
+         * assigned by a risk calculator that does not complete within its time budget.
+         */
+        private double timeoutScore = 1;
     }
 
     @Getter
@@ -194,4 +230,44 @@ public class RiskBasedAuthenticationProperties implements Serializable {
         @NestedConfigurationProperty
         private SmsProperties sms = new SmsProperties();
     }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    @RequiresModule(name = "cas-server-support-electrofence")
+    public static class Profile implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 2206785624410372216L;
+
+        /**
+         * Keep a risk profile for each principal, with counts of recent
+         * authentication events by IP address, user agent, geolocation and hour of day,
+         * and calculate risk scores from the profile instead of the authentication history.
+         * Profiles are kept in the same place as authentication events when events
+         * are stored in Redis or a relational database, and in memory otherwise.
+         * Profiles are only built from events recorded after they are enabled. Until a principal
+         * has a profile, its risk scores are still calculated from its authentication history.
+         */
+        private boolean enabled;
+
+        /**
+         * The age at which an authentication event counts for half as much
+         * as a new one in the risk profile.
+         */
+        @DurationCapable
+        private String halfLife = "P7D";
+
+        /**
+         * Maximum number of distinct IP addresses, user agents and
+         * geolocations to track in each risk profile. Values with the lowest
+         * counts are dropped first.
+         */
+        private int maximumEntries = 50;
+
+        /**
+         * Maximum number of risk profiles to keep when profiles are kept in memory.
+         */
+        private long maximumSize = 100_000;
+    }
 }
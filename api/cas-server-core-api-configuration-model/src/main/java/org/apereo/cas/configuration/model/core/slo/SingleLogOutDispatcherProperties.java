@@ -0,0 +1,82 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogOutDispatcherProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogOutDispatcherProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2834618392658216245L;
+
+    /**
+     * Whether back-channel logout messages should be sent using a non-blocking
+     * HTTP client that is able to negotiate HTTP/2 with the application endpoint.
+     * When disabled, logout messages are sent using the default blocking HTTP client.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of connections that may be opened to a single application host.
+     */
+    private int maxConnectionsPerHost = 10;
+
+    /**
+     * Maximum number of connections that may be opened across all application hosts.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Timeout used when establishing a connection to the application endpoint.
+     */
+    @DurationCapable
+    private String connectTimeout = "PT5S";
+
+    /**
+     * Timeout used when waiting for a response from the application endpoint.
+     */
+    @DurationCapable
+    private String responseTimeout = "PT10S";
+
+    /**
+     * Maximum number of times a failed logout message is retried.
+     * Set to zero to disable retries.
+     */
+    private int maxRetries = 5;
+
+    /**
+     * Delay before the first retry of a failed logout message.
+     * Subsequent retries are delayed exponentially, up to the maximum backoff.
+     */
+    @DurationCapable
+    private String initialBackoff = "PT2S";
+
+    /**
+     * Maximum delay between two retries of a failed logout message.
+     */
+    @DurationCapable
+    private String maxBackoff = "PT5M";
+
+    /**
+     * Directory used to persist failed logout messages that are waiting to be retried,
+     * so they survive a restart of the CAS server. Pending messages are loaded from this
+     * directory on startup. If undefined, pending messages are only kept in memory.
+     */
+    private String retryQueueDirectory;
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -34,4 +35,10 @@ public class SingleLogOutProperties implements Serializable {
      * Whether SLO should be entirely disabled globally for the CAS deployment.
      */
     private boolean disabled;
+
+    /**
+     * Control how back-channel logout messages are dispatched to applications.
+     */
+    @NestedConfigurationProperty
+    private SingleLogOutDispatcherProperties dispatcher = new SingleLogOutDispatcherProperties();
 }
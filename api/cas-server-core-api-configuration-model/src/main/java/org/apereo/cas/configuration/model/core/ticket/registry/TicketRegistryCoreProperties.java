@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -42,4 +43,10 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Control how tickets are serialized when stored in a distributed ticket registry.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistrySerializationProperties serialization = new TicketRegistrySerializationProperties();
 }
@@ -0,0 +1,53 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketRegistrySerializationProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistrySerializationProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2847216103951742118L;
+
+    /**
+     * The format used to serialize tickets when stored in a distributed ticket registry.
+     * The binary format is able to read tickets that are serialized as JSON,
+     * which allows a cluster to roll forward: deploy the binary-capable version
+     * to all nodes first while still writing JSON, and then switch the format.
+     */
+    private SerializationFormats format = SerializationFormats.JSON;
+
+    /**
+     * Binary ticket payloads larger than this size, in bytes,
+     * are compressed before they are stored. Set to a negative value to disable compression.
+     */
+    private int compressionThreshold = 1024;
+
+    /**
+     * Ticket serialization formats.
+     */
+    public enum SerializationFormats {
+        /**
+         * Serialize tickets as JSON documents.
+         */
+        JSON,
+        /**
+         * Serialize tickets as compact, versioned binary documents.
+         */
+        BINARY
+    }
+}
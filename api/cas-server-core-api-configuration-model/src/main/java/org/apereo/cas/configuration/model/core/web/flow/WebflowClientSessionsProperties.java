@@ -0,0 +1,68 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link WebflowClientSessionsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowClientSessionsProperties")
+public class WebflowClientSessionsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2893716012467720158L;
+
+    /**
+     * Controls how flow execution state is encoded before it is encrypted and
+     * handed to the client, or kept in the server-side store.
+     * Only relevant if session storage is done on the client.
+     * All nodes in a cluster must use the same encoding.
+     */
+    private WebflowStateEncodings encoding = WebflowStateEncodings.JAVA;
+
+    /**
+     * Flow execution state larger than this size, in bytes, is compressed
+     * before it is encrypted. Set to a negative value to disable compression.
+     * Only relevant if the encoding is {@code COMPACT}.
+     */
+    private int compressionThreshold = 512;
+
+    /**
+     * Additional fully-qualified class names that are encoded as short identifiers
+     * instead of full class descriptors. Entries may only be appended to this list,
+     * and all nodes in a cluster must use the same list.
+     * Only relevant if the encoding is {@code COMPACT}.
+     */
+    private List<String> classDictionary = new ArrayList<>();
+
+    /**
+     * Flow execution state encodings.
+     */
+    public enum WebflowStateEncodings {
+        /**
+         * Java serialization, compressed with GZIP.
+         */
+        JAVA,
+        /**
+         * Java serialization with a dictionary of well-known classes,
+         * a small versioned header and size-based compression.
+         */
+        COMPACT
+    }
+}
@@ -34,6 +34,18 @@ public class WebflowSessionManagementProperties implements Serializable {
     @NestedConfigurationProperty
     private WebflowServerSessionsProperties server = new WebflowServerSessionsProperties();
 
+    /**
+     * Control client-side session storage.
+     */
+    @NestedConfigurationProperty
+    private WebflowClientSessionsProperties client = new WebflowClientSessionsProperties();
+
+    /**
+     * Control storage of flow execution state in a server-side store.
+     */
+    @NestedConfigurationProperty
+    private WebflowStoreSessionsProperties store = new WebflowStoreSessionsProperties();
+
     /**
      * Controls whether spring webflow sessions are to be stored server-side or client side.
      * By default state is managed on the client side, that is also signed and encrypted.
@@ -0,0 +1,82 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link WebflowStoreSessionsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowStoreSessionsProperties")
+public class WebflowStoreSessionsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3721604983427781653L;
+
+    /**
+     * Keep flow execution state on the server in a dedicated store, and only hand
+     * a short signed handle to the client. Only relevant if session storage is done on the client,
+     * and takes precedence over client-side state when enabled. Handles are signed with the webflow
+     * signing key, so webflow signing must be enabled for CAS to start with this option.
+     */
+    private boolean enabled;
+
+    /**
+     * The store that holds flow execution state.
+     * Stores other than {@code MEMORY} reuse the connection of the corresponding
+     * ticket registry, which must be included in the build and configured.
+     */
+    private WebflowStateStoreTypes type = WebflowStateStoreTypes.MEMORY;
+
+    /**
+     * How long flow execution state is kept in the store after it was last written.
+     * Conversations that remain idle for longer can no longer be resumed.
+     */
+    @DurationCapable
+    private String timeToLive = "PT30M";
+
+    /**
+     * The largest flow execution state, in bytes, that may be stored for a single
+     * conversation step. Larger state is rejected. Set to zero or a negative value for no limit.
+     */
+    private long maximumStateSize = 256 * 1024;
+
+    /**
+     * The total size, in bytes, of all flow execution state kept by the in-memory store,
+     * beyond which the least recently used state is evicted.
+     * Only relevant if the store type is {@code MEMORY}.
+     */
+    private long maximumStoreSize = 256L * 1024 * 1024;
+
+    /**
+     * Flow execution state stores.
+     */
+    public enum WebflowStateStoreTypes {
+        /**
+         * Keep state in memory, on the node that produced it.
+         */
+        MEMORY,
+        /**
+         * Keep state in Redis.
+         */
+        REDIS,
+        /**
+         * Keep state in Hazelcast.
+         */
+        HAZELCAST
+    }
+}
@@ -41,6 +41,14 @@ public class Cas30ViewProperties implements Serializable {
      */
     private ValidationAttributesRendererTypes attributeRendererType = ValidationAttributesRendererTypes.DEFAULT;
 
+    /**
+     * Whether successful validation responses, in XML or JSON, should be written directly
+     * to the response instead of being rendered by the success template or the JSON view.
+     * Responses are identical to those produced by the default templates, without building a view model
+     * or buffering the response. When enabled, customizations of the success template are ignored.
+     */
+    private boolean streamingEnabled;
+
     public enum ValidationAttributesRendererTypes {
         /**
          * Render attributes using CAS protocol suggestions.
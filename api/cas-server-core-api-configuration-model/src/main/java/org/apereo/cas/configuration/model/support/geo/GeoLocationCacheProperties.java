@@ -0,0 +1,66 @@
+package org.apereo.cas.configuration.model.support.geo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link GeoLocationCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-geolocation")
+public class GeoLocationCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2146738521043908761L;
+
+    /**
+     * Whether geolocation results should be cached.
+     * When enabled, concurrent lookups for the same address are coalesced into a single
+     * call to the geolocation provider, and results are kept until they expire.
+     * Lookups that do not produce a result are not cached.
+     * This is most useful for remote providers, such as Google Maps or IP geolocation services.
+     * MaxMind already keeps its own cache of database lookups, and results of Groovy scripts
+     * are reused until they expire even if the script would now produce a different result.
+     */
+    private boolean enabled;
+
+    /**
+     * Specifies the maximum number of entries the cache may contain. Note that the cache <b>may evict
+     * an entry before this limit is exceeded or temporarily exceed the threshold while evicting</b>.
+     */
+    private long cacheMaximumSize = 10_000L;
+
+    /**
+     * How long should geolocation results be cached.
+     */
+    @DurationCapable
+    private String cacheExpiration = "PT1H";
+
+    /**
+     * Whether results should be cached per network rather than per address,
+     * so that all addresses of the same network share a single result.
+     * Networks are determined by {@link #ipv4PrefixLength} and {@link #ipv6PrefixLength}.
+     */
+    private boolean networkPrefixEnabled;
+
+    /**
+     * Length of the network prefix of IPv4 addresses when results are cached per network.
+     */
+    private int ipv4PrefixLength = 24;
+
+    /**
+     * Length of the network prefix of IPv6 addresses when results are cached per network.
+     */
+    private int ipv6PrefixLength = 48;
+}
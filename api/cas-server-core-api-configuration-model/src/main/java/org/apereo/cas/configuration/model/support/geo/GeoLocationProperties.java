@@ -58,4 +58,10 @@ public class GeoLocationProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private SpringResourceProperties groovy = new SpringResourceProperties();
+
+    /**
+     * Cache settings for geolocation results.
+     */
+    @NestedConfigurationProperty
+    private GeoLocationCacheProperties cache = new GeoLocationCacheProperties();
 }
@@ -50,6 +50,13 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     @DurationCapable
     private String jpaLockingTimeout = DEFAULT_LOCK_TIMEOUT;
 
+    /**
+     * Number of expired tickets fetched and locked at a time by the cleaner
+     * when tickets must be processed individually, such as
+     * ticket-granting tickets that require single logout.
+     */
+    private int cleanerPageSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
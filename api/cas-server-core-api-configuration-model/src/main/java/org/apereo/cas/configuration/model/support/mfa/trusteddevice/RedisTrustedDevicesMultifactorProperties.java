@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.mfa.trusteddevice;
 
 import org.apereo.cas.configuration.model.support.redis.BaseRedisProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -24,4 +25,12 @@ import java.io.Serial;
 public class RedisTrustedDevicesMultifactorProperties extends BaseRedisProperties {
     @Serial
     private static final long serialVersionUID = -2261683393319585262L;
+
+    /**
+     * How long to remember that a device of a principal has no trusted device records.
+     * Looking up a device that is not remembered scans the records of the principal,
+     * while records that are saved for the device replace what is remembered right away.
+     */
+    @DurationCapable
+    private String unknownDeviceTimeout = "PT1H";
 }
@@ -0,0 +1,77 @@
+package org.apereo.cas.configuration.model.support.mfa.trusteddevice;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link TrustedDevicesMultifactorPrincipalFilterProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-support-trusted-mfa")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TrustedDevicesMultifactorPrincipalFilterProperties")
+public class TrustedDevicesMultifactorPrincipalFilterProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4026354813573128466L;
+
+    /**
+     * Keep a local filter of principals that have trusted devices on each node,
+     * so that principals without any trusted devices do not have their
+     * trusted devices looked up in storage. The filter is rebuilt from storage periodically,
+     * and a principal that the filter does not know about is treated as one without trusted devices.
+     * Since devices registered on other nodes would only be known to this node after the next rebuild,
+     * the filter is only used with storage that is local to each node, such as in-memory or JSON storage.
+     * With such storage, the filter trades a small memory footprint
+     * for skipping storage lookups of most principals without trusted devices, while false positives
+     * are still looked up in storage. With storage that is shared between nodes, whether a principal
+     * has trusted devices is instead looked up in storage and remembered for {@link #cacheExpiration},
+     * for at most {@link #expectedPrincipals} principals.
+     */
+    private boolean enabled;
+
+    /**
+     * The number of principals with trusted devices the filter is sized for.
+     * The filter still works with more principals, but gives more false positives.
+     */
+    private long expectedPrincipals = 100_000;
+
+    /**
+     * The probability that the filter reports a principal without trusted devices
+     * as one that may have trusted devices, when sized for the expected principals.
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * How long to wait after startup before the filter is first built.
+     * Until then, trusted devices are looked up in storage for all principals.
+     */
+    @DurationCapable
+    private String startDelay = "PT15S";
+
+    /**
+     * How often the filter is rebuilt from storage.
+     */
+    @DurationCapable
+    private String refreshInterval = "PT5M";
+
+    /**
+     * With storage that is shared between nodes, how long to remember whether a principal
+     * has trusted devices. Devices registered on other nodes for a principal remembered
+     * as one without trusted devices are only recognized once this expires.
+     */
+    @DurationCapable
+    private String cacheExpiration = "PT1M";
+}
@@ -67,6 +67,12 @@ public class TrustedDevicesMultifactorProperties implements Serializable {
     @NestedConfigurationProperty
     private ScheduledJobProperties cleaner = new ScheduledJobProperties();
 
+    /**
+     * Settings that control the local filter of principals with trusted devices.
+     */
+    @NestedConfigurationProperty
+    private TrustedDevicesMultifactorPrincipalFilterProperties principalFilter = new TrustedDevicesMultifactorPrincipalFilterProperties();
+
     /**
      * Store devices records inside MongoDb.
      */
@@ -58,6 +58,16 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * Number of keys requested from Redis for each {@code SCAN} iteration
+     * when the registry needs to iterate over tickets, for example during
+     * ticket cleanup or reporting. This is also used as the number of tickets
+     * that are fetched from Redis in a single pipelined batch. This is only a hint
+     * to Redis, and larger values reduce the number of round trips at the expense of
+     * memory and longer individual commands.
+     */
+    private int scanCount = 1000;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
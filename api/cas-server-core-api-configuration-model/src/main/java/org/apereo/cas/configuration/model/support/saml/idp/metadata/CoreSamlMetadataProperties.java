@@ -53,6 +53,24 @@ public class CoreSamlMetadataProperties implements Serializable {
      */
     private boolean requireValidMetadata = true;
 
+    /**
+     * Whether metadata aggregates loaded from files or URLs should be indexed
+     * rather than loaded into memory. Indexed aggregates are read in a single streaming pass,
+     * and each entity descriptor is written to an index file on disk from which it is unmarshalled
+     * once it is requested. This is useful for large federation aggregates with tens of thousands
+     * of entities, of which only a few are used by a given service. When the aggregate must be signed
+     * or its validity is limited, it is still unmarshalled once as it is loaded so that these checks
+     * can be applied by the usual metadata filters; only the index is kept in memory afterwards.
+     */
+    private boolean indexAggregates;
+
+    /**
+     * Specifies the maximum number of entity descriptors that are kept in memory
+     * for each indexed metadata aggregate. Entity descriptors that have not been used recently
+     * are evicted and read again from the index file once they are requested.
+     */
+    private long indexCacheMaximumSize = 1_000L;
+
     /**
      * Whether metadata generation process
      * should support SSO service POST binding.
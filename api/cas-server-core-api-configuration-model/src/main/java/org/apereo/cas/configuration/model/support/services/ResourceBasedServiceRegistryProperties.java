@@ -0,0 +1,46 @@
+package org.apereo.cas.configuration.model.support.services;
+
+import org.apereo.cas.configuration.model.SpringResourceProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link ResourceBasedServiceRegistryProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-services", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("ResourceBasedServiceRegistryProperties")
+public class ResourceBasedServiceRegistryProperties extends SpringResourceProperties {
+    @Serial
+    private static final long serialVersionUID = 2713418564870592714L;
+
+    /**
+     * Number of threads used to parse service definition files
+     * that are new or have changed since they were last loaded.
+     * A value of one or less parses files on the thread that loads the registry.
+     */
+    private int loaderThreads = 4;
+
+    /**
+     * Path to a file that holds a snapshot of all parsed service definitions,
+     * along with the size, modification date and content hash of the files they were loaded from.
+     * The snapshot is updated whenever files change, and is read when the registry is first loaded,
+     * so that only files that changed while CAS was down are parsed again on startup.
+     * Service definitions are kept in the snapshot in a binary form, and only those
+     * whose files have not changed are read back; all other files are parsed again.
+     * A snapshot that cannot be read is ignored, and all files are parsed again.
+     * Leave blank to disable snapshots.
+     */
+    private String snapshotLocation;
+}
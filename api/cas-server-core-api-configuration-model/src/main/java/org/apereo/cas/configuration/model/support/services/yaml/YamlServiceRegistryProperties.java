@@ -1,6 +1,6 @@
 package org.apereo.cas.configuration.model.support.services.yaml;
 
-import org.apereo.cas.configuration.model.SpringResourceProperties;
+import org.apereo.cas.configuration.model.support.services.ResourceBasedServiceRegistryProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -24,7 +24,7 @@ import java.io.Serial;
 @Setter
 @Accessors(chain = true)
 @JsonFilter("YamlServiceRegistryProperties")
-public class YamlServiceRegistryProperties extends SpringResourceProperties {
+public class YamlServiceRegistryProperties extends ResourceBasedServiceRegistryProperties {
     /**
      * Default location where services may be found.
      */
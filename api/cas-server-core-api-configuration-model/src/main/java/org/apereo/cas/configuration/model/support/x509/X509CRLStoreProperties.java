@@ -0,0 +1,52 @@
+package org.apereo.cas.configuration.model.support.x509;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link X509CRLStoreProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-support-x509-webflow")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class X509CRLStoreProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3418624031757960271L;
+
+    /**
+     * Keep fetched CRLs parsed in memory, shared by all CRL revocation checkers,
+     * and refresh them in the background before they expire.
+     * Certificate checks are then answered from the store, and never wait for a CRL
+     * to be downloaded and parsed again once it is first loaded.
+     * The number of stored CRLs is limited by {@code cache-max-elements-in-memory},
+     * and CRLs that are not used within {@code cache-time-to-live-seconds} are removed from the store.
+     */
+    private boolean enabled;
+
+    /**
+     * How long before the {@code nextUpdate} date of a CRL the store should
+     * attempt to fetch a new copy of the CRL. CRLs that do not specify a {@code nextUpdate}
+     * date are refreshed using the configured refresh interval.
+     */
+    @DurationCapable
+    private String refreshBeforeNextUpdate = "PT5M";
+
+    /**
+     * Check CRLs for the freshest CRL extension, and fetch and apply delta CRLs when present.
+     * When a delta CRL is available, only the delta CRL is fetched on refresh
+     * as long as the base CRL it applies to has not expired.
+     */
+    private boolean deltaCrlEnabled = true;
+}
@@ -205,6 +205,12 @@ public class X509Properties implements Serializable {
     @NestedConfigurationProperty
     private X509LdapProperties ldap = new X509LdapProperties();
 
+    /**
+     * Settings for the store that keeps parsed CRLs in memory.
+     */
+    @NestedConfigurationProperty
+    private X509CRLStoreProperties crlStore = new X509CRLStoreProperties();
+
     /**
      * The compiled pattern supplied by the deployer.
      */
@@ -49,6 +49,19 @@ public interface ServicesManagerRegisteredServiceLocator extends Ordered {
         return getClass().getSimpleName();
     }
 
+    /**
+     * Whether this locator finds registered services solely by matching
+     * their service id against the identifier of the requested service.
+     * Such locators may be handed a narrowed-down list of candidates
+     * by the services manager, which excludes services that cannot match
+     * the requested service identifier.
+     *
+     * @return true/false
+     */
+    default boolean isMatchingByServiceId() {
+        return false;
+    }
+
     default List<RegisteredServiceQueryIndex> getRegisteredServiceIndexes() {
         return new ArrayList<>();
     }
@@ -4,6 +4,7 @@ import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 
 import java.util.Collection;
@@ -131,6 +132,25 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Add, update and remove a set of tickets as a single unit.
+     * Registries backed by remote stores should submit all operations
+     * in as few round trips as possible. The default implementation
+     * executes each operation one at a time, in order.
+     *
+     * @param transaction the transaction
+     * @throws Exception the exception
+     */
+    default void executeTransaction(final TicketRegistryTransaction transaction) throws Exception {
+        for (val operation : transaction.getOperations()) {
+            switch (operation.type()) {
+                case ADD -> addTicket(operation.ticket());
+                case UPDATE -> updateTicket(operation.ticket());
+                case DELETE -> deleteTicket(operation.ticketId());
+            }
+        }
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
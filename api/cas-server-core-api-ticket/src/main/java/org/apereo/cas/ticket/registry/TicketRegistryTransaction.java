@@ -0,0 +1,119 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This is {@link TicketRegistryTransaction}. It collects a set of tickets
+ * that should be added, updated or removed from the ticket registry as a single unit,
+ * allowing registries that are backed by remote stores to submit all changes
+ * in one round trip instead of one call per ticket.
+ * <p>
+ * Operations are executed by the registry in the order they are recorded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@ToString
+public class TicketRegistryTransaction {
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Start a new transaction.
+     *
+     * @return the ticket registry transaction
+     */
+    public static TicketRegistryTransaction newTransaction() {
+        return new TicketRegistryTransaction();
+    }
+
+    /**
+     * Add ticket to the registry as part of this transaction.
+     *
+     * @param ticket the ticket
+     * @return the ticket registry transaction
+     */
+    public TicketRegistryTransaction addTicket(final Ticket ticket) {
+        if (ticket != null) {
+            operations.add(new Operation(OperationTypes.ADD, ticket, ticket.getId()));
+        }
+        return this;
+    }
+
+    /**
+     * Update ticket in the registry as part of this transaction.
+     *
+     * @param ticket the ticket
+     * @return the ticket registry transaction
+     */
+    public TicketRegistryTransaction updateTicket(final Ticket ticket) {
+        if (ticket != null) {
+            operations.add(new Operation(OperationTypes.UPDATE, ticket, ticket.getId()));
+        }
+        return this;
+    }
+
+    /**
+     * Delete ticket from the registry as part of this transaction.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket registry transaction
+     */
+    public TicketRegistryTransaction deleteTicket(final String ticketId) {
+        if (ticketId != null) {
+            operations.add(new Operation(OperationTypes.DELETE, null, ticketId));
+        }
+        return this;
+    }
+
+    /**
+     * Recorded operations, in order.
+     *
+     * @return the operations
+     */
+    public List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Is this transaction empty?
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Types of operations that can be recorded in a transaction.
+     */
+    public enum OperationTypes {
+        /**
+         * Add a new ticket.
+         */
+        ADD,
+        /**
+         * Update an existing ticket.
+         */
+        UPDATE,
+        /**
+         * Delete a ticket by its id.
+         */
+        DELETE
+    }
+
+    /**
+     * A single operation recorded in the transaction.
+     *
+     * @param type     the operation type
+     * @param ticket   the ticket; absent for deletions
+     * @param ticketId the ticket id
+     */
+    public record Operation(OperationTypes type, Ticket ticket, String ticketId) {
+    }
+}
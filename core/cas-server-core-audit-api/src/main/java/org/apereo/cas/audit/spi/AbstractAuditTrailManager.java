@@ -1,7 +1,8 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,8 +10,7 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
@@ -21,29 +21,39 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Save records asynchronously.
      */
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(
-        r -> new Thread(r, "AuditTrailManagerThread"));
+    /**
+     * Settings that control the queue and batching of records that are saved asynchronously.
+     */
+    protected AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
 
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private volatile AsynchronousAuditTrailPipeline pipeline;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            this.executorService.execute(() -> saveAuditRecord(audit));
+            getPipeline().submit(audit);
         } else {
             saveAuditRecord(audit);
         }
     }
 
     @Override
-    public void destroy() {
-        this.executorService.shutdown();
+    public void destroy() throws Exception {
+        if (this.pipeline != null) {
+            this.pipeline.destroy();
+        }
     }
 
     /**
@@ -52,4 +62,30 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
      * @param audit Audit record to be saved.
      */
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records that were queued asynchronously.
+     * Audit managers that are able to write multiple records in one go
+     * should override this method. By default, records are saved one at a time.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
+    }
+
+    private AsynchronousAuditTrailPipeline getPipeline() {
+        var result = this.pipeline;
+        if (result == null) {
+            synchronized (this) {
+                result = this.pipeline;
+                if (result == null) {
+                    result = new AsynchronousAuditTrailPipeline(getClass().getSimpleName(),
+                        this.pipelineProperties, this::saveAuditRecords);
+                    this.pipeline = result;
+                }
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,220 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AsynchronousAuditTrailPipeline}. Audit records are placed into a bounded queue
+ * and are handed over to the audit storage service in batches by a single worker thread.
+ * A batch is flushed once it reaches the configured size, or once the flush interval passes
+ * since the first record of the batch was picked up, whichever comes first. When the queue is full,
+ * the overflow policy decides whether the caller should block or the record should be dropped.
+ * Queue depth, dropped records and flush latency are published as metrics, and dropped records
+ * are summarized in the logs at most once per minute.
+ * On shutdown, the worker thread saves all queued records before it stops, for as long as the shutdown timeout allows.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class AsynchronousAuditTrailPipeline implements DisposableBean {
+    private static final String METRIC_PREFIX = "cas.audit.pipeline";
+
+    private static final long POLL_INTERVAL_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long DROPPED_LOG_INTERVAL_IN_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final Consumer<List<AuditActionContext>> consumer;
+
+    private final AuditPipelineProperties properties;
+
+    private final long flushIntervalInNanos;
+
+    private final Thread worker;
+
+    private final Timer flushTimer;
+
+    private final Counter droppedCounter;
+
+    private final AtomicLong droppedSinceLastLog = new AtomicLong();
+
+    private final AtomicLong lastDroppedLogTime = new AtomicLong(System.nanoTime() - DROPPED_LOG_INTERVAL_IN_NANOS);
+
+    private volatile boolean running = true;
+
+    public AsynchronousAuditTrailPipeline(final String name,
+                                          final AuditPipelineProperties properties,
+                                          final Consumer<List<AuditActionContext>> consumer) {
+        this.properties = properties;
+        this.consumer = consumer;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.flushIntervalInNanos = Beans.newDuration(properties.getFlushInterval()).toNanos();
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+            .description("Number of audit records waiting to be saved")
+            .tag("name", name)
+            .register(Metrics.globalRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+            .description("Time taken to save a batch of audit records")
+            .tag("name", name)
+            .register(Metrics.globalRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+            .description("Number of audit records dropped because the queue was full")
+            .tag("name", name)
+            .register(Metrics.globalRegistry);
+
+        this.worker = Thread.ofPlatform()
+            .name("AuditTrailPipeline-" + name)
+            .daemon(true)
+            .start(this::drain);
+    }
+
+    /**
+     * Submit the audit record into the queue.
+     *
+     * @param audit the audit record
+     * @return true if the record was queued, false if it was dropped.
+     */
+    public boolean submit(final AuditActionContext audit) {
+        if (!running) {
+            LOGGER.debug("Audit pipeline is shut down; saving audit record directly");
+            flush(List.of(audit));
+            return true;
+        }
+        if (properties.getOverflowPolicy() == AuditPipelineProperties.OverflowPolicyTypes.DROP) {
+            val queued = queue.offer(audit);
+            if (!queued) {
+                recordDropped();
+            }
+            return queued;
+        }
+        try {
+            queue.put(audit);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for space in the audit queue; saving audit record directly");
+            flush(List.of(audit));
+            return true;
+        }
+    }
+
+    /**
+     * Gets the number of audit records waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of audit records dropped so far.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        val timeout = Beans.newDuration(properties.getShutdownTimeout());
+        if (worker.join(timeout)) {
+            val remaining = new ArrayList<AuditActionContext>(queue.size());
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                LOGGER.debug("Saving [{}] remaining audit record(s) before shutdown", remaining.size());
+                flush(remaining);
+            }
+        } else {
+            LOGGER.warn("Audit pipeline could not save queued audit records within [{}]; [{}] audit record(s) are discarded",
+                timeout, queue.size());
+            worker.interrupt();
+        }
+        val dropped = droppedSinceLastLog.getAndSet(0);
+        if (dropped > 0) {
+            LOGGER.warn("[{}] audit record(s) were dropped since the last report because the audit queue was full", dropped);
+        }
+    }
+
+    private void recordDropped() {
+        droppedCounter.increment();
+        droppedSinceLastLog.incrementAndGet();
+        val now = System.nanoTime();
+        val last = lastDroppedLogTime.get();
+        if (now - last >= DROPPED_LOG_INTERVAL_IN_NANOS && lastDroppedLogTime.compareAndSet(last, now)) {
+            LOGGER.warn("Audit queue is full with [{}] records; [{}] audit record(s) were dropped since the last report",
+                queue.size(), droppedSinceLastLog.getAndSet(0));
+        }
+    }
+
+    private void drain() {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                val first = queue.poll(POLL_INTERVAL_IN_NANOS, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    fill(batch, batchSize);
+                    flush(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.trace("Audit pipeline worker is interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!batch.isEmpty()) {
+                flush(List.copyOf(batch));
+            }
+        }
+    }
+
+    private void fill(final List<AuditActionContext> batch, final int batchSize) throws InterruptedException {
+        val deadline = System.nanoTime() + flushIntervalInNanos;
+        queue.drainTo(batch, batchSize - batch.size());
+        while (running && batch.size() < batchSize) {
+            val remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            val next = queue.poll(Math.min(remaining, POLL_INTERVAL_IN_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+        }
+    }
+
+    private void flush(final List<AuditActionContext> batch) {
+        try {
+            LOGGER.trace("Saving batch of [{}] audit record(s)", batch.size());
+            flushTimer.record(() -> consumer.accept(batch));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+}
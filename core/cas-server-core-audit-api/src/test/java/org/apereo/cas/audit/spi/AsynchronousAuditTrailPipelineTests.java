@@ -0,0 +1,140 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AsynchronousAuditTrailPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Audits")
+class AsynchronousAuditTrailPipelineTests {
+
+    private static AuditActionContext getAuditActionContext() {
+        return new AuditActionContext("casuser", "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+
+    @Test
+    void verifyBatchesBySize() throws Throwable {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val latch = new CountDownLatch(2);
+        val properties = new AuditPipelineProperties().setBatchSize(5).setFlushInterval("PT10S");
+        val pipeline = new AsynchronousAuditTrailPipeline("verifyBatchesBySize", properties, batch -> {
+            batches.add(batch);
+            latch.countDown();
+        });
+        for (var i = 0; i < 10; i++) {
+            assertTrue(pipeline.submit(getAuditActionContext()));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(10, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 5));
+        pipeline.destroy();
+    }
+
+    @Test
+    void verifyBatchesByTime() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val properties = new AuditPipelineProperties().setBatchSize(100).setFlushInterval("PT0.2S");
+        val pipeline = new AsynchronousAuditTrailPipeline("verifyBatchesByTime", properties, batch -> latch.countDown());
+        pipeline.submit(getAuditActionContext());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        pipeline.destroy();
+    }
+
+    @Test
+    void verifyDropWhenFull() throws Throwable {
+        val blocker = new CountDownLatch(1);
+        val properties = new AuditPipelineProperties()
+            .setCapacity(1)
+            .setBatchSize(1)
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.DROP);
+        val pipeline = new AsynchronousAuditTrailPipeline("verifyDropWhenFull", properties,
+            batch -> assertDoesNotThrow(() -> blocker.await(5, TimeUnit.SECONDS)));
+        for (var i = 0; i < 10; i++) {
+            pipeline.submit(getAuditActionContext());
+        }
+        assertTrue(pipeline.getDroppedCount() > 0);
+        assertTrue(pipeline.getQueueDepth() <= 1);
+        blocker.countDown();
+        pipeline.destroy();
+    }
+
+    @Test
+    void verifyRemainingRecordsFlushedOnShutdown() throws Throwable {
+        val saved = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties().setBatchSize(1000).setFlushInterval("PT10S");
+        val pipeline = new AsynchronousAuditTrailPipeline("verifyRemainingRecordsFlushedOnShutdown", properties, saved::addAll);
+        for (var i = 0; i < 5; i++) {
+            pipeline.submit(getAuditActionContext());
+        }
+        pipeline.destroy();
+        assertEquals(5, saved.size());
+    }
+
+    @Test
+    void verifyShutdownWaitsForFlushInProgress() throws Throwable {
+        val saved = new CopyOnWriteArrayList<AuditActionContext>();
+        val started = new CountDownLatch(1);
+        val blocker = new CountDownLatch(1);
+        val interrupted = new AtomicBoolean();
+        val properties = new AuditPipelineProperties().setBatchSize(1).setFlushInterval("PT10S");
+        val pipeline = new AsynchronousAuditTrailPipeline("verifyShutdownWaitsForFlushInProgress", properties, batch -> {
+            started.countDown();
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                interrupted.set(true);
+            }
+            saved.addAll(batch);
+        });
+        for (var i = 0; i < 5; i++) {
+            pipeline.submit(getAuditActionContext());
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(blocker::countDown, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+        pipeline.destroy();
+        assertFalse(interrupted.get());
+        assertEquals(5, saved.size());
+    }
+
+    @Test
+    void verifyShutdownTimeout() throws Throwable {
+        val blocker = new CountDownLatch(1);
+        val properties = new AuditPipelineProperties().setBatchSize(1).setShutdownTimeout("PT0.2S");
+        val pipeline = new AsynchronousAuditTrailPipeline("verifyShutdownTimeout", properties, batch -> {
+            try {
+                blocker.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (var i = 0; i < 5; i++) {
+            pipeline.submit(getAuditActionContext());
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(5), pipeline::destroy);
+        blocker.countDown();
+    }
+}
@@ -0,0 +1,155 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ConcurrentAuthenticationHandlerExecutor}, which invokes authentication handlers
+ * concurrently on virtual threads. Each handler invocation produces a future whose outcome
+ * is later evaluated by the authentication manager in the configured order of handlers.
+ * Cancelling that future interrupts any outstanding attempt.
+ * The latency of each handler is recorded and published as a timer histogram. If hedging is enabled,
+ * a second attempt is fired for a handler that has not responded within its configured latency percentile,
+ * and whichever attempt responds first wins; the other attempt is cancelled, even if it is fired
+ * just as the first one responds.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrentAuthenticationHandlerExecutor implements DisposableBean {
+    private static final String METRIC_NAME = "cas.authentication.handler.latency";
+
+    private final AuthenticationHandlerExecutionProperties properties;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("AuthenticationHandler-", 0).factory());
+
+    private final SimpleMeterRegistry hedgingRegistry = new SimpleMeterRegistry();
+
+    private final Map<String, HandlerTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Authenticate the credential with all given handlers concurrently.
+     *
+     * @param handlers   the handlers, in the order they should be evaluated
+     * @param credential the credential
+     * @param service    the service
+     * @return the pending results, keyed by handler and ordered as the given handlers
+     */
+    public Map<AuthenticationHandler, Future<AuthenticationHandlerExecutionResult>> execute(
+        final Collection<AuthenticationHandler> handlers, final Credential credential, final Service service) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val results = new LinkedHashMap<AuthenticationHandler, Future<AuthenticationHandlerExecutionResult>>();
+        handlers.forEach(handler -> results.put(handler, submit(handler, credential, service, clientInfo)));
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        hedgingRegistry.close();
+    }
+
+    private CompletableFuture<AuthenticationHandlerExecutionResult> submit(final AuthenticationHandler handler,
+                                                                           final Credential credential,
+                                                                           final Service service,
+                                                                           final ClientInfo clientInfo) {
+        val result = new CompletableFuture<AuthenticationHandlerExecutionResult>();
+        val attempts = new CopyOnWriteArrayList<Future<?>>();
+        attempts.add(executor.submit(() -> attempt(handler, credential, service, clientInfo, result)));
+
+        getHedgingDelay(handler).ifPresent(delay -> {
+            val hedge = CompletableFuture.runAsync(() -> {
+                if (!result.isDone()) {
+                    LOGGER.debug("Authentication handler [{}] has not responded in [{}]; firing hedged attempt", handler.getName(), delay);
+                    val hedgedAttempt = executor.submit(() -> attempt(handler, credential, service, clientInfo, result));
+                    attempts.add(hedgedAttempt);
+                    if (result.isDone()) {
+                        hedgedAttempt.cancel(true);
+                    }
+                }
+            }, CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS));
+            result.whenComplete((__, throwable) -> hedge.cancel(false));
+        });
+        result.whenComplete((__, throwable) -> attempts.forEach(attempt -> attempt.cancel(true)));
+        return result;
+    }
+
+    private void attempt(final AuthenticationHandler handler, final Credential credential,
+                         final Service service, final ClientInfo clientInfo,
+                         final CompletableFuture<AuthenticationHandlerExecutionResult> result) {
+        ClientInfoHolder.setClientInfo(clientInfo);
+        val startTime = System.nanoTime();
+        try {
+            result.complete(handler.authenticate(credential, service));
+        } catch (final Throwable e) {
+            result.completeExceptionally(e);
+        } finally {
+            if (!Thread.currentThread().isInterrupted()) {
+                getTimers(handler).record(System.nanoTime() - startTime);
+            }
+            ClientInfoHolder.clear();
+        }
+    }
+
+    private Optional<Duration> getHedgingDelay(final AuthenticationHandler handler) {
+        if (!properties.isHedgingEnabled()) {
+            return Optional.empty();
+        }
+        val timer = getTimers(handler).hedging();
+        if (timer.count() < properties.getHedgingMinimumSamples()) {
+            return Optional.empty();
+        }
+        return Arrays.stream(timer.takeSnapshot().percentileValues())
+            .findFirst()
+            .map(percentile -> (long) percentile.value(TimeUnit.NANOSECONDS))
+            .filter(nanos -> nanos > 0)
+            .map(Duration::ofNanos);
+    }
+
+    private HandlerTimers getTimers(final AuthenticationHandler handler) {
+        return timers.computeIfAbsent(handler.getName(), name -> new HandlerTimers(
+            Timer.builder(METRIC_NAME)
+                .description("Time taken by authentication handlers to authenticate credentials")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry),
+            Timer.builder(METRIC_NAME)
+                .tag("handler", name)
+                .publishPercentiles(properties.getHedgingPercentile())
+                .register(hedgingRegistry)));
+    }
+
+    private record HandlerTimers(Timer published, Timer hedging) {
+        void record(final long durationInNanos) {
+            published.record(durationInNanos, TimeUnit.NANOSECONDS);
+            hedging.record(durationInNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
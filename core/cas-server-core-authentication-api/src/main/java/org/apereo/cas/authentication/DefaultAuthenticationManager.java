@@ -19,12 +19,14 @@ import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 
@@ -34,8 +36,11 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +62,22 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
 
     private final ConfigurableApplicationContext applicationContext;
 
+    /**
+     * Executes supporting authentication handlers concurrently, if defined.
+     * Otherwise, handlers are invoked sequentially on the calling thread.
+     */
+    @Setter
+    private ConcurrentAuthenticationHandlerExecutor concurrentAuthenticationHandlerExecutor;
+
+    private static AuthenticationHandlerExecutionResult getAuthenticationHandlerExecutionResult(
+        final Future<AuthenticationHandlerExecutionResult> pendingResult) throws Throwable {
+        try {
+            return pendingResult.get();
+        } catch (final ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     @Audit(
         action = AuditableActions.AUTHENTICATION,
@@ -177,10 +198,19 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
                                                    final PrincipalResolver resolver,
                                                    final AuthenticationHandler handler,
                                                    final Service service) throws Throwable {
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential, clientInfo));
+        publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential, ClientInfoHolder.getClientInfo()));
+        authenticateAndResolvePrincipal(builder, credential, resolver, handler, service,
+            () -> handler.authenticate(credential, service));
+    }
 
-        val result = handler.authenticate(credential, service);
+    protected void authenticateAndResolvePrincipal(final AuthenticationBuilder builder,
+                                                   final Credential credential,
+                                                   final PrincipalResolver resolver,
+                                                   final AuthenticationHandler handler,
+                                                   final Service service,
+                                                   final CheckedSupplier<AuthenticationHandlerExecutionResult> authenticator) throws Throwable {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val result = authenticator.get();
         val authenticationHandlerName = handler.getName();
         builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
@@ -261,36 +291,47 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
                 val credential = it.next();
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
 
-                val itHandlers = handlerSet.iterator();
-                var proceedWithNextHandler = true;
-                while (proceedWithNextHandler && itHandlers.hasNext()) {
-                    val handler = itHandlers.next();
-                    if (handler.supports(credential)) {
-                        try {
-                            val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
-                            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
-                            authenticateAndResolvePrincipal(builder, credential, resolver, handler, transaction.getService());
-
-                            val authnResult = builder.build();
-                            AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
-                            val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
-                            proceedWithNextHandler = !executionResult.isSuccess();
-                        } catch (final GeneralSecurityException e) {
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                        } catch (final Exception e) {
-                            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
-                                         + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
-                                         + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
-                                         + "the authentication event.", credential, credential.getClass().getSimpleName());
-
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
+                val pendingResults = executeAuthenticationHandlersConcurrently(handlerSet, credential, transaction);
+                try {
+                    val itHandlers = handlerSet.iterator();
+                    var proceedWithNextHandler = true;
+                    while (proceedWithNextHandler && itHandlers.hasNext()) {
+                        val handler = itHandlers.next();
+                        if (handler.supports(credential)) {
+                            try {
+                                val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                                LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                                val pendingResult = pendingResults.get(handler);
+                                if (pendingResult == null) {
+                                    authenticateAndResolvePrincipal(builder, credential, resolver, handler, transaction.getService());
+                                } else {
+                                    authenticateAndResolvePrincipal(builder, credential, resolver, handler,
+                                        transaction.getService(), () -> getAuthenticationHandlerExecutionResult(pendingResult));
+                                }
+
+                                val authnResult = builder.build();
+                                AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+                                val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+                                proceedWithNextHandler = !executionResult.isSuccess();
+                            } catch (final GeneralSecurityException e) {
+                                handleAuthenticationException(e, handler.getName(), builder);
+                                proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
+                            } catch (final Exception e) {
+                                LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                                             + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                                             + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                                             + "the authentication event.", credential, credential.getClass().getSimpleName());
+
+                                handleAuthenticationException(e, handler.getName(), builder);
+                                proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
+                            }
+                        } else {
+                            LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
+                                handler.getName(), credential);
                         }
-                    } else {
-                        LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
-                            handler.getName(), credential);
                     }
+                } finally {
+                    pendingResults.values().forEach(result -> result.cancel(true));
                 }
             }
             evaluateFinalAuthentication(builder, transaction, handlerSet);
@@ -390,6 +431,31 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    /**
+     * Execute all authentication handlers that support the credential concurrently,
+     * if a concurrent executor is defined. The start of the authentication transaction
+     * is announced for each handler before it is dispatched.
+     *
+     * @param handlers    the handlers
+     * @param credential  the credential
+     * @param transaction the transaction
+     * @return the pending results keyed by handler, or an empty map if handlers are to be invoked sequentially.
+     */
+    protected Map<AuthenticationHandler, Future<AuthenticationHandlerExecutionResult>> executeAuthenticationHandlersConcurrently(
+        final Set<AuthenticationHandler> handlers, final Credential credential, final AuthenticationTransaction transaction) {
+        if (concurrentAuthenticationHandlerExecutor == null) {
+            return Map.of();
+        }
+        val supportingHandlers = handlers
+            .stream()
+            .filter(handler -> handler.supports(credential))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        LOGGER.debug("Executing authentication handlers [{}] concurrently for [{}]", supportingHandlers, credential.getId());
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        supportingHandlers.forEach(handler -> publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential, clientInfo)));
+        return concurrentAuthenticationHandlerExecutor.execute(supportingHandlers, credential, transaction.getService());
+    }
+
     private boolean shouldAuthenticationChainProceedOnFailure(final AuthenticationTransaction transaction,
                                                               final Throwable failure) {
         val policies = authenticationEventExecutionPlan.getAuthenticationPolicies(transaction);
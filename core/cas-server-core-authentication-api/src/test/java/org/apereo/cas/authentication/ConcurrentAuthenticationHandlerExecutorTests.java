@@ -0,0 +1,86 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.login.FailedLoginException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ConcurrentAuthenticationHandlerExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("AuthenticationHandler")
+class ConcurrentAuthenticationHandlerExecutorTests {
+
+    private static AuthenticationHandler newMockHandler() {
+        val handler = mock(AuthenticationHandler.class);
+        when(handler.getName()).thenReturn(UUID.randomUUID().toString());
+        return handler;
+    }
+
+    private static AuthenticationHandlerExecutionResult newResult(final AuthenticationHandler handler) {
+        val credential = CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword();
+        return new DefaultAuthenticationHandlerExecutionResult(handler, credential,
+            PrincipalFactoryUtils.newPrincipalFactory().createPrincipal(credential.getId()));
+    }
+
+    @Test
+    void verifyResultsInOrder() throws Throwable {
+        val success = newMockHandler();
+        val result = newResult(success);
+        when(success.authenticate(any(Credential.class), any(Service.class))).thenReturn(result);
+        val failure = newMockHandler();
+        when(failure.authenticate(any(Credential.class), any(Service.class))).thenThrow(new FailedLoginException());
+
+        val executor = new ConcurrentAuthenticationHandlerExecutor(new AuthenticationHandlerExecutionProperties());
+        val results = executor.execute(List.of(failure, success),
+            CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(), CoreAuthenticationTestUtils.getService());
+        assertEquals(List.of(failure, success), List.copyOf(results.keySet()));
+        val error = assertThrows(ExecutionException.class, () -> results.get(failure).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(FailedLoginException.class, error.getCause());
+        assertSame(result, results.get(success).get(5, TimeUnit.SECONDS));
+        executor.destroy();
+    }
+
+    @Test
+    void verifyHedgedAttempt() throws Throwable {
+        val handler = newMockHandler();
+        val result = newResult(handler);
+        val attempts = new AtomicInteger();
+        val minimumSamples = 5;
+        when(handler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(invocation -> {
+            val attempt = attempts.incrementAndGet();
+            Thread.sleep(attempt == minimumSamples + 1 ? 30_000 : 20);
+            return result;
+        });
+        val properties = new AuthenticationHandlerExecutionProperties()
+            .setHedgingEnabled(true)
+            .setHedgingMinimumSamples(minimumSamples);
+        val executor = new ConcurrentAuthenticationHandlerExecutor(properties);
+        val credential = CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword();
+        val service = CoreAuthenticationTestUtils.getService();
+        for (var i = 0; i < minimumSamples; i++) {
+            executor.execute(List.of(handler), credential, service).get(handler).get(5, TimeUnit.SECONDS);
+        }
+        val hedged = executor.execute(List.of(handler), credential, service).get(handler);
+        assertSame(result, hedged.get(5, TimeUnit.SECONDS));
+        assertEquals(minimumSamples + 2, attempts.get());
+        executor.destroy();
+    }
+}
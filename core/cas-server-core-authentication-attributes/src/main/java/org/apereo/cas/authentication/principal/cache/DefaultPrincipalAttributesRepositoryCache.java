@@ -4,21 +4,27 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes are cached per registered service and principal, without any global locks.
+ * By default, each registered service is given its own cache with a fixed maximum number of entries.
+ * If a maximum weight is defined, attributes for all registered services are kept in a single cache
+ * that is bounded by the number of cached attribute values, and entries are evicted across all services.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -29,30 +35,55 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
-
-    /**
-     * Build registered service cache key string.
-     *
-     * @param registeredService the registered service
-     * @return the string
-     */
-    private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + "@" + registeredService.getName();
-        val cacheKey = DigestUtils.sha512(key);
-        LOGGER.trace("Built registered service cache key [{}] for [{}]:", cacheKey, key);
-        return cacheKey;
+    private static final String METRIC_NAME = "cas.principal.attributes.cache";
+
+    private final Map<ServiceCacheKey, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new ConcurrentHashMap<>();
+
+    private final Cache<PrincipalCacheKey, CachedAttributes> weightedCache;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter loadCounter;
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(0);
     }
 
-    private static Cache<String, Map<String, List<Object>>> initializeCache(
-        final RegisteredServicePrincipalAttributesRepository repository) {
+    public DefaultPrincipalAttributesRepositoryCache(final long maximumWeight) {
+        this.weightedCache = maximumWeight > 0
+            ? Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((PrincipalCacheKey key, CachedAttributes value) -> value.weight())
+                .expireAfter(new CachedAttributesExpiry())
+                .build()
+            : null;
+        this.hitCounter = newCounter("hit");
+        this.missCounter = newCounter("miss");
+        this.loadCounter = newCounter("load");
+    }
+
+    private static Counter newCounter(final String result) {
+        return Counter.builder(METRIC_NAME)
+            .description("Number of principal attribute cache lookups and loads for registered services")
+            .tag("result", result)
+            .register(Metrics.globalRegistry);
+    }
+
+    private static long getExpirationInNanos(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = (CachingPrincipalAttributesRepository) repository;
         val unit = TimeUnit.valueOf(StringUtils.defaultIfBlank(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
+        return unit.toNanos(cachedRepository.getExpiration());
+    }
+
+    private static Cache<String, Map<String, List<Object>>> initializeCache(
+        final RegisteredServicePrincipalAttributesRepository repository) {
         return Caffeine.newBuilder()
             .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
             .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+            .expireAfterWrite(getExpirationInNanos(repository), TimeUnit.NANOSECONDS)
+            .build();
     }
 
     @Override
@@ -61,38 +92,89 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
     }
 
     @Override
-    public synchronized void invalidate() {
+    public void invalidate() {
         registeredServicesCache.values().forEach(Cache::invalidateAll);
+        if (weightedCache != null) {
+            weightedCache.invalidateAll();
+        }
     }
 
     @Override
-    public synchronized Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
-                                                                  final RegisteredServicePrincipalAttributesRepository repository,
-                                                                  final Principal principal) {
-        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        return cache.get(principal.getId(), __ -> {
+    public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                     final RegisteredServicePrincipalAttributesRepository repository,
+                                                     final Principal principal) {
+        val serviceKey = ServiceCacheKey.of(registeredService);
+        val attributes = weightedCache == null
+            ? getRegisteredServiceCacheInstance(serviceKey, repository).getIfPresent(principal.getId())
+            : getCachedAttributes(new PrincipalCacheKey(serviceKey, principal.getId()));
+        if (attributes == null) {
             LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
+            missCounter.increment();
             return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        });
+        }
+        hitCounter.increment();
+        return attributes;
     }
 
     @Override
-    public synchronized void putAttributes(final RegisteredService registeredService,
-                                           final RegisteredServicePrincipalAttributesRepository repository,
-                                           final String id, final Map<String, List<Object>> attributes) {
-        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        cache.put(id, attributes);
+    public void putAttributes(final RegisteredService registeredService,
+                              final RegisteredServicePrincipalAttributesRepository repository,
+                              final String id, final Map<String, List<Object>> attributes) {
+        val serviceKey = ServiceCacheKey.of(registeredService);
+        if (weightedCache == null) {
+            getRegisteredServiceCacheInstance(serviceKey, repository).put(id, attributes);
+        } else {
+            weightedCache.put(new PrincipalCacheKey(serviceKey, id),
+                new CachedAttributes(attributes, getExpirationInNanos(repository)));
+        }
+        loadCounter.increment();
+    }
+
+    private Map<String, List<Object>> getCachedAttributes(final PrincipalCacheKey key) {
+        val cached = weightedCache.getIfPresent(key);
+        return cached == null ? null : cached.attributes();
     }
 
     private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
-        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
+        final ServiceCacheKey serviceKey, final RegisteredServicePrincipalAttributesRepository repository) {
+        val cache = registeredServicesCache.get(serviceKey);
+        return cache == null
+            ? registeredServicesCache.computeIfAbsent(serviceKey, __ -> initializeCache(repository))
+            : cache;
+    }
+
+    private record ServiceCacheKey(long id, String name) {
+        static ServiceCacheKey of(final RegisteredService registeredService) {
+            return new ServiceCacheKey(registeredService.getId(), registeredService.getName());
+        }
+    }
+
+    private record PrincipalCacheKey(ServiceCacheKey service, String principalId) {
+    }
+
+    private record CachedAttributes(Map<String, List<Object>> attributes, long expirationInNanos) {
+        int weight() {
+            val weight = 1L + attributes.values().stream().mapToLong(values -> values == null ? 0 : values.size()).sum();
+            return (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+    }
+
+    private static final class CachedAttributesExpiry implements Expiry<PrincipalCacheKey, CachedAttributes> {
+        @Override
+        public long expireAfterCreate(final PrincipalCacheKey key, final CachedAttributes value, final long currentTime) {
+            return value.expirationInNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final PrincipalCacheKey key, final CachedAttributes value,
+                                      final long currentTime, final long currentDuration) {
+            return value.expirationInNanos();
+        }
 
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+        @Override
+        public long expireAfterRead(final PrincipalCacheKey key, final CachedAttributes value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
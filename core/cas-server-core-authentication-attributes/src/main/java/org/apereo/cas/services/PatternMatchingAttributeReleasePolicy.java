@@ -3,9 +3,11 @@ package org.apereo.cas.services;
 import org.apereo.cas.util.RegexUtils;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -61,7 +63,7 @@ public class PatternMatchingAttributeReleasePolicy extends AbstractRegisteredSer
             .map(entry -> {
                 val rule = entry.getValue();
 
-                val valuePattern = RegexUtils.createPattern(rule.getPattern());
+                val valuePattern = rule.toPattern();
                 val transformPattern = PATTERN_TRANSFORM_GROUPS.matcher(rule.getTransform());
 
                 val attributeValues = attributes.get(entry.getKey());
@@ -102,5 +104,33 @@ public class PatternMatchingAttributeReleasePolicy extends AbstractRegisteredSer
         private String pattern;
 
         private String transform;
+
+        @JsonIgnore
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private transient Pattern compiledPattern;
+
+        public Rule setPattern(final String pattern) {
+            this.pattern = pattern;
+            this.compiledPattern = null;
+            return this;
+        }
+
+        /**
+         * Gets the compiled value pattern of this rule,
+         * which is compiled once and kept with the rule.
+         *
+         * @return the pattern
+         */
+        public Pattern toPattern() {
+            var compiled = compiledPattern;
+            if (compiled == null) {
+                compiled = RegexUtils.createPattern(pattern);
+                compiledPattern = compiled;
+            }
+            return compiled;
+        }
     }
 }
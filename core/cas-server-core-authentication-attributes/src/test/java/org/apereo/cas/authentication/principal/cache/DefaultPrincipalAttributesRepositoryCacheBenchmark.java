@@ -0,0 +1,99 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.services.RegisteredService;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link DefaultPrincipalAttributesRepositoryCache} when many threads
+ * fetch and store attributes for a mix of registered services and principals, with and without
+ * a maximum weight across all registered services. Run via {@link #main(String[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class DefaultPrincipalAttributesRepositoryCacheBenchmark {
+    private static final int SERVICES_COUNT = 50;
+
+    private static final int PRINCIPALS_COUNT = 500;
+
+    @Param({"0", "100000"})
+    private long maximumWeight;
+
+    private DefaultPrincipalAttributesRepositoryCache cache;
+
+    private CachingPrincipalAttributesRepository repository;
+
+    private RegisteredService[] services;
+
+    private Principal[] principals;
+
+    private Map<String, List<Object>> attributes;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(DefaultPrincipalAttributesRepositoryCacheBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = new DefaultPrincipalAttributesRepositoryCache(maximumWeight);
+        repository = new CachingPrincipalAttributesRepository(TimeUnit.HOURS.name(), 1);
+        attributes = Map.of("mail", List.of("casuser@example.org"), "memberOf", List.of("staff", "faculty"));
+        services = new RegisteredService[SERVICES_COUNT];
+        for (var i = 0; i < services.length; i++) {
+            services[i] = CoreAuthenticationTestUtils.getRegisteredService("service-" + i, "https://app" + i + ".example.org");
+        }
+        principals = new Principal[PRINCIPALS_COUNT];
+        for (var i = 0; i < principals.length; i++) {
+            principals[i] = CoreAuthenticationTestUtils.getPrincipal("casuser" + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> fetchOrPutAttributes() {
+        val random = ThreadLocalRandom.current();
+        val service = services[random.nextInt(services.length)];
+        val principal = principals[random.nextInt(principals.length)];
+        val result = cache.fetchAttributes(service, repository, principal);
+        if (result.isEmpty()) {
+            cache.putAttributes(service, repository, principal.getId(), attributes);
+        }
+        return result;
+    }
+}
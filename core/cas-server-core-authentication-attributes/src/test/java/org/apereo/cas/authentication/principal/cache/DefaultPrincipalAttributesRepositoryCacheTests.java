@@ -0,0 +1,76 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import io.micrometer.core.instrument.Metrics;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Attributes")
+class DefaultPrincipalAttributesRepositoryCacheTests {
+    private static final Map<String, List<Object>> ATTRIBUTES = CollectionUtils.wrap("mail", List.of("casuser@example.org"),
+        "memberOf", List.of("staff", "faculty"));
+
+    private static double getCount(final String result) {
+        return Metrics.globalRegistry.get("cas.principal.attributes.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    void verifyCachePerService() throws Throwable {
+        try (val cache = new DefaultPrincipalAttributesRepositoryCache();
+             val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5)) {
+            val service1 = CoreAuthenticationTestUtils.getRegisteredService(UUID.randomUUID().toString(), "https://app1.example.org");
+            val service2 = CoreAuthenticationTestUtils.getRegisteredService(UUID.randomUUID().toString(), "https://app2.example.org");
+            val principal = CoreAuthenticationTestUtils.getPrincipal(UUID.randomUUID().toString());
+
+            assertTrue(cache.fetchAttributes(service1, repository, principal).isEmpty());
+            val hits = getCount("hit");
+            cache.putAttributes(service1, repository, principal.getId(), ATTRIBUTES);
+            assertEquals(ATTRIBUTES, cache.fetchAttributes(service1, repository, principal));
+            assertTrue(cache.fetchAttributes(service2, repository, principal).isEmpty());
+            assertTrue(getCount("hit") > hits);
+
+            cache.invalidate();
+            assertTrue(cache.fetchAttributes(service1, repository, principal).isEmpty());
+        }
+    }
+
+    @Test
+    void verifyWeightedCacheAcrossServices() throws Throwable {
+        try (val cache = new DefaultPrincipalAttributesRepositoryCache(10);
+             val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5)) {
+            val service = CoreAuthenticationTestUtils.getRegisteredService(UUID.randomUUID().toString(), "https://app.example.org");
+            val principal = CoreAuthenticationTestUtils.getPrincipal(UUID.randomUUID().toString());
+            cache.putAttributes(service, repository, principal.getId(), ATTRIBUTES);
+            assertEquals(ATTRIBUTES, cache.fetchAttributes(service, repository, principal));
+
+            val service2 = CoreAuthenticationTestUtils.getRegisteredService(UUID.randomUUID().toString(), "https://app2.example.org");
+            assertTrue(cache.fetchAttributes(service2, repository, principal).isEmpty());
+        }
+    }
+
+    @Test
+    void verifyWeightedCacheExpiration() throws Throwable {
+        try (val cache = new DefaultPrincipalAttributesRepositoryCache(100);
+             val repository = new CachingPrincipalAttributesRepository(TimeUnit.MILLISECONDS.name(), 100)) {
+            val service = CoreAuthenticationTestUtils.getRegisteredService(UUID.randomUUID().toString(), "https://app.example.org");
+            val principal = CoreAuthenticationTestUtils.getPrincipal(UUID.randomUUID().toString());
+            cache.putAttributes(service, repository, principal.getId(), ATTRIBUTES);
+            assertFalse(cache.fetchAttributes(service, repository, principal).isEmpty());
+            Thread.sleep(500);
+            assertTrue(cache.fetchAttributes(service, repository, principal).isEmpty());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.AuthenticationManager;
 import org.apereo.cas.authentication.AuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.AuthenticationTransactionFactory;
 import org.apereo.cas.authentication.AuthenticationTransactionManager;
+import org.apereo.cas.authentication.ConcurrentAuthenticationHandlerExecutor;
 import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
 import org.apereo.cas.authentication.DefaultAuthenticationEventExecutionPlan;
 import org.apereo.cas.authentication.DefaultAuthenticationManager;
@@ -13,6 +14,7 @@ import org.apereo.cas.authentication.DefaultAuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.model.TriStateBoolean;
@@ -22,10 +24,12 @@ import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -103,9 +107,24 @@ public class CasCoreAuthenticationConfiguration {
         public AuthenticationManager casAuthenticationManager(
             final CasConfigurationProperties casProperties,
             final ConfigurableApplicationContext applicationContext,
+            @Qualifier("concurrentAuthenticationHandlerExecutor") final ObjectProvider<ConcurrentAuthenticationHandlerExecutor> concurrentAuthenticationHandlerExecutor,
             @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME) final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
             val isFatal = casProperties.getPersonDirectory().getPrincipalResolutionFailureFatal() == TriStateBoolean.TRUE;
-            return new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            val manager = new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+            if (execution.getMode() == AuthenticationHandlerExecutionProperties.ExecutionModes.PARALLEL) {
+                concurrentAuthenticationHandlerExecutor.ifAvailable(manager::setConcurrentAuthenticationHandlerExecutor);
+            }
+            return manager;
+        }
+
+        @ConditionalOnMissingBean(name = "concurrentAuthenticationHandlerExecutor")
+        @ConditionalOnProperty(name = "cas.authn.core.engine.handler-execution.mode", havingValue = "PARALLEL")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public ConcurrentAuthenticationHandlerExecutor concurrentAuthenticationHandlerExecutor(
+            final CasConfigurationProperties casProperties) {
+            return new ConcurrentAuthenticationHandlerExecutor(casProperties.getAuthn().getCore().getEngine().getHandlerExecution());
         }
     }
 
@@ -57,8 +57,10 @@ public class CasCoreAuthenticationSupportConfiguration {
         @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache() {
-            return new DefaultPrincipalAttributesRepositoryCache();
+        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache(
+            final CasConfigurationProperties casProperties) {
+            return new DefaultPrincipalAttributesRepositoryCache(
+                casProperties.getAuthn().getAttributeRepository().getCore().getServiceCacheMaximumWeight());
         }
     }
 
@@ -10,7 +10,9 @@ import org.apereo.cas.authentication.policy.RequiredAuthenticationHandlerAuthent
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionStartedEvent;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import lombok.extern.slf4j.Slf4j;
@@ -18,12 +20,14 @@ import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.StaticApplicationContext;
 
 import javax.security.auth.login.FailedLoginException;
 
 import java.security.GeneralSecurityException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -31,6 +35,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -231,6 +236,78 @@ class DefaultAuthenticationManagerTests {
         assertEquals(2, auth.getCredentials().size());
     }
 
+    @Test
+    void verifyAuthenticateAnySuccessConcurrently() throws Throwable {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler(false), null);
+        map.put(newMockHandler(true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan,
+            false, applicationContext);
+        val executor = new ConcurrentAuthenticationHandlerExecutor(new AuthenticationHandlerExecutionProperties()
+            .setMode(AuthenticationHandlerExecutionProperties.ExecutionModes.PARALLEL));
+        manager.setConcurrentAuthenticationHandlerExecutor(executor);
+
+        val auth = manager.authenticate(transaction);
+        assertEquals(1, auth.getSuccesses().size());
+        assertEquals(1, auth.getFailures().size());
+        assertEquals(2, auth.getCredentials().size());
+        executor.destroy();
+    }
+
+    @Test
+    void verifyAuthenticateAllSuccessConcurrently() throws Throwable {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler(true), null);
+        map.put(newMockHandler(true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AllCredentialsValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan,
+            false, applicationContext);
+        val executor = new ConcurrentAuthenticationHandlerExecutor(new AuthenticationHandlerExecutionProperties());
+        manager.setConcurrentAuthenticationHandlerExecutor(executor);
+
+        val auth = manager.authenticate(transaction);
+        assertEquals(2, auth.getSuccesses().size());
+        assertEquals(0, auth.getFailures().size());
+        executor.destroy();
+    }
+
+    @Test
+    void verifyTransactionStartedBeforeConcurrentExecution() throws Throwable {
+        val events = new CopyOnWriteArrayList<String>();
+        val handler = newMockHandler(true);
+        val result = handler.authenticate(CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+            CoreAuthenticationTestUtils.getService());
+        when(handler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(__ -> {
+            events.add("authenticated");
+            return result;
+        });
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(handler, null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext) {
+            @Override
+            protected void publishEvent(final ApplicationEvent event) {
+                events.add(event.getClass().getSimpleName());
+                super.publishEvent(event);
+            }
+        };
+        val executor = new ConcurrentAuthenticationHandlerExecutor(new AuthenticationHandlerExecutionProperties());
+        manager.setConcurrentAuthenticationHandlerExecutor(executor);
+
+        manager.authenticate(transaction);
+        val started = CasAuthenticationTransactionStartedEvent.class.getSimpleName();
+        assertEquals(started, events.getFirst());
+        assertEquals(Collections.frequency(events, "authenticated"), Collections.frequency(events, started));
+        executor.destroy();
+    }
+
     @Test
     void verifyAuthenticateAnyButTryAllSuccess() throws Throwable {
         val map = new HashMap<AuthenticationHandler, PrincipalResolver>();
@@ -0,0 +1,42 @@
+package org.apereo.cas.support.events.risk;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.time.Duration;
+
+/**
+ * This is {@link AbstractAuthenticationRiskProfileRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public abstract class AbstractAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository {
+    /**
+     * The age at which recorded events count for half as much as new ones.
+     */
+    protected final Duration halfLife;
+
+    /**
+     * Maximum number of entries to keep by criteria in each profile.
+     */
+    protected final int maximumEntries;
+
+    /**
+     * Record the event in a copy of the current profile, or in a new profile if there is none.
+     *
+     * @param current the current profile, if any
+     * @param event   the event
+     * @return the updated profile
+     */
+    protected AuthenticationRiskProfile update(final AuthenticationRiskProfile current, final CasEvent event) {
+        val profile = current == null ? new AuthenticationRiskProfile(event.getPrincipalId()) : current.copy();
+        return profile.record(event, halfLife, maximumEntries);
+    }
+}
@@ -0,0 +1,228 @@
+package org.apereo.cas.support.events.risk;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link AuthenticationRiskProfile}, which summarizes the recent authentication history
+ * of a principal as weighted counts of authentication events by IP address, user agent,
+ * geolocation and hour of day. Every recorded event adds a weight of one, and all weights
+ * decay exponentially with the age of the events, so that the profile reflects recent
+ * history without having to keep or load the events themselves. Since all weights decay at the
+ * same rate, the ratio of any count to the total does not depend on when the profile is read.
+ * <p>
+ * Geolocations are tracked by cells of two decimal places of latitude and longitude,
+ * which is roughly a square kilometer.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class AuthenticationRiskProfile implements Serializable {
+    private static final int HOURS_IN_DAY = 24;
+
+    private static final double MINIMUM_WEIGHT = 0.01;
+
+    @Serial
+    private static final long serialVersionUID = -2846503640713298165L;
+
+    private String principal;
+
+    private long lastUpdated;
+
+    private double total;
+
+    private Map<String, Double> ipAddresses = new HashMap<>();
+
+    private Map<String, Double> userAgents = new HashMap<>();
+
+    private Map<String, Double> geoLocations = new HashMap<>();
+
+    private double[] hoursOfDay = new double[HOURS_IN_DAY];
+
+    public AuthenticationRiskProfile(final String principal) {
+        this.principal = principal;
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isBlank(value) ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static double getWeight(final Map<String, Double> weights, final String key) {
+        return Optional.ofNullable(key).map(weights::get).orElse(0D);
+    }
+
+    private static void increment(final Map<String, Double> weights, final String key,
+                                  final double weight, final int maximumEntries) {
+        if (key != null) {
+            weights.merge(key, weight, Double::sum);
+            while (weights.size() > maximumEntries) {
+                weights.entrySet()
+                    .stream()
+                    .min(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .map(Map.Entry::getKey)
+                    .ifPresent(weights::remove);
+            }
+        }
+    }
+
+    private static void decay(final Map<String, Double> weights, final double factor) {
+        weights.replaceAll((key, weight) -> weight * factor);
+        weights.values().removeIf(weight -> weight < MINIMUM_WEIGHT);
+    }
+
+    private static double getDecayFactor(final long elapsed, final Duration halfLife) {
+        return Math.pow(0.5, (double) elapsed / Math.max(1, halfLife.toMillis()));
+    }
+
+    /**
+     * Gets the geolocation cell of the given location.
+     *
+     * @param location the location
+     * @return the cell, or null if the location has no valid coordinates
+     */
+    public static String getGeoLocationCell(final GeoLocationRequest location) {
+        if (location == null || !NumberUtils.isCreatable(location.getLatitude())
+            || !NumberUtils.isCreatable(location.getLongitude())) {
+            return null;
+        }
+        return String.format(Locale.ROOT, "%.2f,%.2f",
+            Double.parseDouble(location.getLatitude()), Double.parseDouble(location.getLongitude()));
+    }
+
+    /**
+     * Create a copy of this profile.
+     *
+     * @return the copy
+     */
+    public AuthenticationRiskProfile copy() {
+        val copy = new AuthenticationRiskProfile(principal);
+        copy.setLastUpdated(lastUpdated);
+        copy.setTotal(total);
+        copy.setIpAddresses(new HashMap<>(ipAddresses));
+        copy.setUserAgents(new HashMap<>(userAgents));
+        copy.setGeoLocations(new HashMap<>(geoLocations));
+        copy.setHoursOfDay(hoursOfDay.clone());
+        return copy;
+    }
+
+    /**
+     * Record the given authentication event in this profile. Events that are older
+     * than the latest recorded event, which may happen when events are recorded asynchronously,
+     * are recorded with the weight they would have had if they were recorded in order.
+     *
+     * @param event          the event
+     * @param halfLife       the half life of recorded events
+     * @param maximumEntries the maximum number of entries to keep by criteria
+     * @return this profile
+     */
+    public AuthenticationRiskProfile record(final CasEvent event, final Duration halfLife, final int maximumEntries) {
+        val timestamp = Optional.ofNullable(event.getTimestamp()).orElseGet(System::currentTimeMillis);
+        var weight = 1D;
+        if (timestamp > lastUpdated) {
+            if (lastUpdated > 0) {
+                val factor = getDecayFactor(timestamp - lastUpdated, halfLife);
+                total *= factor;
+                decay(ipAddresses, factor);
+                decay(userAgents, factor);
+                decay(geoLocations, factor);
+                for (var i = 0; i < hoursOfDay.length; i++) {
+                    hoursOfDay[i] *= factor;
+                }
+            }
+            lastUpdated = timestamp;
+        } else {
+            weight = getDecayFactor(lastUpdated - timestamp, halfLife);
+        }
+        total += weight;
+        increment(ipAddresses, normalize(event.getClientIpAddress()), weight, maximumEntries);
+        increment(userAgents, normalize(event.getAgent()), weight, maximumEntries);
+        increment(geoLocations, getGeoLocationCell(event.getGeoLocation()), weight, maximumEntries);
+        hoursOfDay[Instant.ofEpochMilli(timestamp).atZone(ZoneOffset.UTC).getHour()] += weight;
+        return this;
+    }
+
+    /**
+     * Whether this profile has no recorded events.
+     *
+     * @return true/false
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return total < MINIMUM_WEIGHT;
+    }
+
+    /**
+     * Gets the weight of recorded events from the given IP address.
+     *
+     * @param ipAddress the ip address
+     * @return the weight
+     */
+    public double getIpAddressWeight(final String ipAddress) {
+        return getWeight(ipAddresses, normalize(ipAddress));
+    }
+
+    /**
+     * Gets the weight of recorded events with the given user agent.
+     *
+     * @param userAgent the user agent
+     * @return the weight
+     */
+    public double getUserAgentWeight(final String userAgent) {
+        return getWeight(userAgents, normalize(userAgent));
+    }
+
+    /**
+     * Gets the weight of recorded events in the geolocation cell of the given location.
+     *
+     * @param location the location
+     * @return the weight
+     */
+    public double getGeoLocationWeight(final GeoLocationRequest location) {
+        return getWeight(geoLocations, getGeoLocationCell(location));
+    }
+
+    /**
+     * Gets the weight of recorded events between the given hours of day in UTC, inclusive.
+     * The range wraps around midnight if the first hour is after the last hour.
+     *
+     * @param fromHour the first hour
+     * @param toHour   the last hour
+     * @return the weight
+     */
+    public double getHoursOfDayWeight(final int fromHour, final int toHour) {
+        var weight = 0D;
+        var hour = Math.floorMod(fromHour, HOURS_IN_DAY);
+        val last = Math.floorMod(toHour, HOURS_IN_DAY);
+        while (true) {
+            weight += hoursOfDay[hour];
+            if (hour == last) {
+                return weight;
+            }
+            hour = (hour + 1) % HOURS_IN_DAY;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.apereo.cas.support.events.risk;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import java.util.Optional;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository}, which keeps the risk profiles
+ * of principals up to date as authentication events are recorded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface AuthenticationRiskProfileRepository {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Find the risk profile of the given principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    Optional<AuthenticationRiskProfile> find(String principal);
+
+    /**
+     * Record the given event in the risk profile of its principal,
+     * creating the profile if none exists yet.
+     *
+     * @param event the event
+     * @return the updated profile
+     */
+    AuthenticationRiskProfile record(CasEvent event);
+
+    /**
+     * Remove the risk profile of the given principal.
+     *
+     * @param principal the principal
+     */
+    void remove(String principal);
+
+    /**
+     * Remove all risk profiles.
+     */
+    void removeAll();
+}
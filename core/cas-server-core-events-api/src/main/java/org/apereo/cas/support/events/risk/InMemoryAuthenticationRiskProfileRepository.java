@@ -0,0 +1,50 @@
+package org.apereo.cas.support.events.risk;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This is {@link InMemoryAuthenticationRiskProfileRepository}, which keeps risk profiles in memory.
+ * Profiles are replaced rather than modified when events are recorded, so they may be read
+ * while they are being updated. Profiles that are not updated for the given expiration period are removed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class InMemoryAuthenticationRiskProfileRepository extends AbstractAuthenticationRiskProfileRepository {
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public InMemoryAuthenticationRiskProfileRepository(final Duration halfLife, final int maximumEntries,
+                                                       final long maximumSize, final Duration expiration) {
+        super(halfLife, maximumEntries);
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    @Override
+    public Optional<AuthenticationRiskProfile> find(final String principal) {
+        return Optional.ofNullable(profiles.getIfPresent(principal));
+    }
+
+    @Override
+    public AuthenticationRiskProfile record(final CasEvent event) {
+        return profiles.asMap().compute(event.getPrincipalId(), (principal, current) -> update(current, event));
+    }
+
+    @Override
+    public void remove(final String principal) {
+        profiles.invalidate(principal);
+    }
+
+    @Override
+    public void removeAll() {
+        profiles.invalidateAll();
+    }
+}
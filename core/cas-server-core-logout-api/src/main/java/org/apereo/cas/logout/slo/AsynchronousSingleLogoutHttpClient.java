@@ -0,0 +1,399 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.CasSSLContext;
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpClientFactory;
+import org.apereo.cas.util.http.HttpMessage;
+import org.apereo.cas.util.http.SimpleHttpClient;
+import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link AsynchronousSingleLogoutHttpClient}, an {@link HttpClient} that is dedicated to
+ * sending back-channel logout messages using a non-blocking HTTP client, able to negotiate HTTP/2
+ * with application endpoints. Connections are pooled and limited per application host.
+ * Identical logout messages to the same endpoint that are in flight at the same time are coalesced into
+ * a single request. Failed messages are placed into a retry queue, optionally persisted to disk,
+ * and retried with exponential backoff. All other operations are handled by the delegate client.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class AsynchronousSingleLogoutHttpClient implements HttpClient, DisposableBean {
+    private static final String METRIC_PREFIX = "cas.slo.dispatch";
+
+    private static final String PERSISTED_FILE_EXTENSION = ".json";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private final HttpClient delegate;
+
+    private final SingleLogOutDispatcherProperties properties;
+
+    private final CloseableHttpAsyncClient asyncClient;
+
+    private final ScheduledThreadPoolExecutor retryScheduler;
+
+    private final List<Integer> acceptableCodes;
+
+    private final Map<String, CompletableFuture<Boolean>> inflight = new ConcurrentHashMap<>();
+
+    private final Map<String, PendingLogoutMessage> retryQueue = new ConcurrentHashMap<>();
+
+    private final Timer dispatchTimer;
+
+    private final Counter successCounter;
+
+    private final Counter failureCounter;
+
+    private final Counter coalescedCounter;
+
+    private final Counter abandonedCounter;
+
+    public AsynchronousSingleLogoutHttpClient(final HttpClient delegate,
+                                              final SingleLogOutDispatcherProperties properties,
+                                              final CasSSLContext casSslContext) {
+        this.delegate = delegate;
+        this.properties = properties;
+
+        val connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(ClientTlsStrategyBuilder.create().setSslContext(casSslContext.getSslContext()).build())
+            .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(Beans.newDuration(properties.getConnectTimeout())))
+                .build())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerHost())
+            .setMaxConnTotal(properties.getMaxConnections())
+            .build();
+        this.asyncClient = HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(Beans.newDuration(properties.getResponseTimeout())))
+                .setRedirectsEnabled(false)
+                .build())
+            .disableAutomaticRetries()
+            .build();
+        this.asyncClient.start();
+
+        this.acceptableCodes = delegate instanceof final SimpleHttpClient simpleHttpClient
+            ? simpleHttpClient.acceptableCodes()
+            : SimpleHttpClientFactoryBean.DEFAULT_ACCEPTABLE_CODES;
+
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1,
+            Thread.ofPlatform().name("SingleLogoutRetry-", 0).daemon(true).factory());
+        this.retryScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.retryScheduler.setRemoveOnCancelPolicy(true);
+
+        this.dispatchTimer = Timer.builder(METRIC_PREFIX)
+            .description("Time taken to deliver logout messages to application endpoints")
+            .register(Metrics.globalRegistry);
+        this.successCounter = newOutcomeCounter("success");
+        this.failureCounter = newOutcomeCounter("failure");
+        this.coalescedCounter = newOutcomeCounter("coalesced");
+        this.abandonedCounter = newOutcomeCounter("abandoned");
+        Gauge.builder(METRIC_PREFIX + ".retry.queue", retryQueue, Map::size)
+            .description("Number of logout messages waiting to be retried")
+            .register(Metrics.globalRegistry);
+
+        loadPersistedRetries();
+    }
+
+    private static Counter newOutcomeCounter(final String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".messages")
+            .description("Number of logout messages by dispatch outcome")
+            .tag("outcome", outcome)
+            .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public boolean sendMessageToEndPoint(final HttpMessage message) {
+        val result = dispatch(message);
+        if (message.isAsynchronous()) {
+            return true;
+        }
+        try {
+            return result.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final ExecutionException e) {
+            LoggingUtils.warn(LOGGER, e);
+            return false;
+        }
+    }
+
+    /**
+     * Dispatch the logout message without blocking.
+     * If an identical message to the same endpoint is already in flight,
+     * the result of that message is returned instead.
+     *
+     * @param message the message
+     * @return the result, indicating whether the message was delivered on the first attempt
+     */
+    public CompletableFuture<Boolean> dispatch(final HttpMessage message) {
+        val pending = new PendingLogoutMessage(UUID.randomUUID().toString(), message.getUrl().toExternalForm(),
+            message.getMessage(), message.getContentType(), 0);
+        val key = DigestUtils.sha256(pending.url() + '\n' + pending.message());
+        val result = new CompletableFuture<Boolean>();
+        val existing = inflight.putIfAbsent(key, result);
+        if (existing != null) {
+            LOGGER.debug("Logout message to [{}] is already in flight and will not be sent again", pending.url());
+            coalescedCounter.increment();
+            return existing;
+        }
+        result.whenComplete((__, throwable) -> inflight.remove(key, result));
+        send(pending).whenComplete((sent, throwable) -> result.complete(Boolean.TRUE.equals(sent)));
+        return result;
+    }
+
+    /**
+     * Gets the number of logout messages waiting to be retried.
+     *
+     * @return the retry queue size
+     */
+    public int getRetryQueueSize() {
+        return retryQueue.size();
+    }
+
+    @Override
+    public HttpMessage sendMessageToEndPoint(final URL url) {
+        return delegate.sendMessageToEndPoint(url);
+    }
+
+    @Override
+    public boolean isValidEndPoint(final String url) {
+        return delegate.isValidEndPoint(url);
+    }
+
+    @Override
+    public boolean isValidEndPoint(final URL url) {
+        return delegate.isValidEndPoint(url);
+    }
+
+    @Override
+    public org.apache.hc.client5.http.classic.HttpClient wrappedHttpClient() {
+        return delegate.wrappedHttpClient();
+    }
+
+    @Override
+    public HttpClientFactory httpClientFactory() {
+        return delegate.httpClientFactory();
+    }
+
+    /**
+     * Stop scheduling retries, let retries that are already running complete,
+     * and close the client once messages in flight are delivered or fail.
+     * Messages still waiting to be retried are resumed on startup if the retry queue is persisted,
+     * and are otherwise dropped.
+     */
+    @Override
+    public void destroy() {
+        retryScheduler.shutdown();
+        try {
+            if (!retryScheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                retryScheduler.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            retryScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        asyncClient.close(CloseMode.GRACEFUL);
+
+        val pendingRetries = retryQueue.size();
+        if (pendingRetries > 0) {
+            getRetryQueueDirectory().ifPresentOrElse(
+                directory -> LOGGER.info("Logout dispatcher is shut down with [{}] message(s) waiting to be retried, "
+                    + "which are persisted in [{}] and will be retried on startup", pendingRetries, directory),
+                () -> LOGGER.warn("Logout dispatcher is shut down with [{}] message(s) waiting to be retried, "
+                    + "which are dropped since the retry queue is not persisted", pendingRetries));
+        }
+    }
+
+    private CompletableFuture<Boolean> send(final PendingLogoutMessage pending) {
+        val result = new CompletableFuture<Boolean>();
+        val startTime = System.nanoTime();
+        try {
+            val request = SimpleRequestBuilder.post(pending.url())
+                .setBody(pending.message(), ContentType.parse(pending.contentType()))
+                .build();
+            LOGGER.trace("Sending logout message to [{}], attempt [{}]", pending.url(), pending.attempt() + 1);
+            asyncClient.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(final SimpleHttpResponse response) {
+                    LOGGER.debug("Logout message to [{}] received response code [{}]", pending.url(), response.getCode());
+                    complete(pending, acceptableCodes.contains(response.getCode()), startTime, result);
+                }
+
+                @Override
+                public void failed(final Exception e) {
+                    LOGGER.debug("Unable to send logout message to [{}]: [{}]", pending.url(), e.getMessage());
+                    complete(pending, false, startTime, result);
+                }
+
+                @Override
+                public void cancelled() {
+                    complete(pending, false, startTime, result);
+                }
+            });
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            complete(pending, false, startTime, result);
+        }
+        return result;
+    }
+
+    private void complete(final PendingLogoutMessage pending, final boolean sent,
+                          final long startTime, final CompletableFuture<Boolean> result) {
+        dispatchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        if (sent) {
+            successCounter.increment();
+            forget(pending);
+        } else {
+            failureCounter.increment();
+            scheduleRetry(pending);
+        }
+        result.complete(sent);
+    }
+
+    private void scheduleRetry(final PendingLogoutMessage pending) {
+        if (pending.attempt() >= properties.getMaxRetries()) {
+            LOGGER.warn("Logout message to [{}] could not be delivered after [{}] attempt(s) and is abandoned",
+                pending.url(), pending.attempt() + 1);
+            abandonedCounter.increment();
+            forget(pending);
+            return;
+        }
+        val retry = pending.nextAttempt();
+        retryQueue.put(retry.id(), retry);
+        persist(retry);
+        scheduleRetry(retry, getBackoff(retry.attempt()));
+    }
+
+    private void scheduleRetry(final PendingLogoutMessage retry, final Duration delay) {
+        try {
+            LOGGER.debug("Logout message to [{}] will be retried in [{}]", retry.url(), delay);
+            retryScheduler.schedule(() -> send(retry), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to schedule retry for logout message to [{}]: [{}]", retry.url(), e.getMessage());
+        }
+    }
+
+    private Duration getBackoff(final int attempt) {
+        val initialBackoff = Beans.newDuration(properties.getInitialBackoff());
+        val maxBackoff = Beans.newDuration(properties.getMaxBackoff());
+        val exponential = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempt - 1, 0), 20));
+        val backoff = exponential.compareTo(maxBackoff) > 0 ? maxBackoff : exponential;
+        val halfBackoff = backoff.toMillis() / 2;
+        return Duration.ofMillis(halfBackoff + ThreadLocalRandom.current().nextLong(halfBackoff + 1));
+    }
+
+    private void forget(final PendingLogoutMessage pending) {
+        if (retryQueue.remove(pending.id()) != null) {
+            getRetryQueueDirectory().ifPresent(directory ->
+                FileUtils.deleteQuietly(directory.resolve(pending.id() + PERSISTED_FILE_EXTENSION).toFile()));
+        }
+    }
+
+    private void persist(final PendingLogoutMessage pending) {
+        getRetryQueueDirectory().ifPresent(directory -> {
+            try {
+                val file = directory.resolve(pending.id() + PERSISTED_FILE_EXTENSION);
+                Files.writeString(file, MAPPER.writeValueAsString(pending), StandardCharsets.UTF_8);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        });
+    }
+
+    private void loadPersistedRetries() {
+        getRetryQueueDirectory().ifPresent(directory -> {
+            try {
+                Files.createDirectories(directory);
+                try (val files = Files.list(directory)) {
+                    files
+                        .filter(file -> file.getFileName().toString().endsWith(PERSISTED_FILE_EXTENSION))
+                        .forEach(file -> {
+                            try {
+                                val pending = MAPPER.readValue(file.toFile(), PendingLogoutMessage.class);
+                                retryQueue.put(pending.id(), pending);
+                                scheduleRetry(pending, getBackoff(pending.attempt()));
+                            } catch (final Exception e) {
+                                LOGGER.warn("Unable to load pending logout message from [{}]: [{}]", file, e.getMessage());
+                            }
+                        });
+                }
+                LOGGER.debug("Loaded [{}] pending logout message(s) from [{}]", retryQueue.size(), directory);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        });
+    }
+
+    private Optional<Path> getRetryQueueDirectory() {
+        return Optional.ofNullable(StringUtils.trimToNull(properties.getRetryQueueDirectory())).map(Path::of);
+    }
+
+    /**
+     * A logout message waiting to be sent, along with the number of attempts made so far.
+     *
+     * @param id          the id
+     * @param url         the url
+     * @param message     the formatted message body
+     * @param contentType the content type
+     * @param attempt     the number of retries so far
+     */
+    record PendingLogoutMessage(String id, String url, String message, String contentType, int attempt) {
+        PendingLogoutMessage nextAttempt() {
+            return new PendingLogoutMessage(id, url, message, contentType, attempt + 1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.ServiceFactoryConfigurer;
 import org.apereo.cas.authentication.principal.WebApplicationService;
@@ -15,6 +16,7 @@ import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.LogoutWebApplicationServiceFactory;
+import org.apereo.cas.logout.slo.AsynchronousSingleLogoutHttpClient;
 import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
@@ -28,6 +30,7 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
@@ -134,9 +137,12 @@ public class CasCoreLogoutConfiguration {
             final SingleLogoutMessageCreator defaultSingleLogoutMessageCreator,
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
+            @Qualifier("singleLogoutHttpClient")
+            final HttpClient singleLogoutHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
             final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            val httpClient = BeanSupplier.isNotProxy(singleLogoutHttpClient) ? singleLogoutHttpClient : noRedirectHttpClient;
+            return new DefaultSingleLogoutServiceMessageHandler(httpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
@@ -144,6 +150,24 @@ public class CasCoreLogoutConfiguration {
                 authenticationServiceSelectionPlan);
         }
 
+        @ConditionalOnMissingBean(name = "singleLogoutHttpClient")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public HttpClient singleLogoutHttpClient(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasSSLContext.BEAN_NAME)
+            final CasSSLContext casSslContext,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
+            final HttpClient noRedirectHttpClient) {
+            return BeanSupplier.of(HttpClient.class)
+                .when(BeanCondition.on("cas.slo.dispatcher.enabled").isTrue().given(applicationContext.getEnvironment()))
+                .supply(() -> new AsynchronousSingleLogoutHttpClient(noRedirectHttpClient,
+                    casProperties.getSlo().getDispatcher(), casSslContext))
+                .otherwiseProxy()
+                .get();
+        }
+
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -0,0 +1,111 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.CasSSLContext;
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.logout.LogoutHttpMessage;
+import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.SimpleHttpClient;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link AsynchronousSingleLogoutHttpClientTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Logout")
+class AsynchronousSingleLogoutHttpClientTests {
+
+    @Test
+    void verifyMessageDelivered() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.OK)) {
+            webServer.start();
+            val client = new AsynchronousSingleLogoutHttpClient(mock(HttpClient.class),
+                new SingleLogOutDispatcherProperties(), CasSSLContext.disabled());
+            val url = new URI("http://localhost:" + webServer.getPort()).toURL();
+            assertTrue(client.sendMessageToEndPoint(new LogoutHttpMessage(url, "LogoutMessage", false)));
+            assertEquals(0, client.getRetryQueueSize());
+            client.destroy();
+        }
+    }
+
+    @Test
+    void verifyAcceptableResponseCodes() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.ACCEPTED)) {
+            webServer.start();
+            val client = new AsynchronousSingleLogoutHttpClient(mock(HttpClient.class),
+                new SingleLogOutDispatcherProperties(), CasSSLContext.disabled());
+            val url = new URI("http://localhost:" + webServer.getPort()).toURL();
+            assertTrue(client.sendMessageToEndPoint(new LogoutHttpMessage(url, "LogoutMessage", false)));
+            assertEquals(0, client.getRetryQueueSize());
+            client.destroy();
+        }
+        try (val webServer = new MockWebServer(HttpStatus.ACCEPTED)) {
+            webServer.start();
+            val delegate = new SimpleHttpClient(List.of(HttpStatus.OK.value()), null, null, null);
+            val client = new AsynchronousSingleLogoutHttpClient(delegate,
+                new SingleLogOutDispatcherProperties().setMaxRetries(0), CasSSLContext.disabled());
+            val url = new URI("http://localhost:" + webServer.getPort()).toURL();
+            assertFalse(client.sendMessageToEndPoint(new LogoutHttpMessage(url, "LogoutMessage", false)));
+            client.destroy();
+        }
+    }
+
+    @Test
+    void verifyIdenticalMessagesCoalesced() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.OK)) {
+            webServer.start();
+            val client = new AsynchronousSingleLogoutHttpClient(mock(HttpClient.class),
+                new SingleLogOutDispatcherProperties(), CasSSLContext.disabled());
+            val url = new URI("http://localhost:" + webServer.getPort()).toURL();
+            val first = client.dispatch(new LogoutHttpMessage(url, "LogoutMessage", true));
+            val second = client.dispatch(new LogoutHttpMessage(url, "LogoutMessage", true));
+            assertSame(first, second);
+            assertTrue(first.get(10, TimeUnit.SECONDS));
+            client.destroy();
+        }
+    }
+
+    @Test
+    void verifyFailedMessagePersistedForRetry(@TempDir final File retryQueueDirectory) throws Throwable {
+        val properties = new SingleLogOutDispatcherProperties()
+            .setMaxRetries(3)
+            .setInitialBackoff("PT1M")
+            .setRetryQueueDirectory(retryQueueDirectory.getAbsolutePath());
+        val client = new AsynchronousSingleLogoutHttpClient(mock(HttpClient.class), properties, CasSSLContext.disabled());
+        val url = new URI("http://localhost:9431").toURL();
+        assertFalse(client.sendMessageToEndPoint(new LogoutHttpMessage(url, "LogoutMessage", false)));
+        assertEquals(1, client.getRetryQueueSize());
+        assertEquals(1, Objects.requireNonNull(retryQueueDirectory.listFiles()).length);
+        client.destroy();
+
+        val reloaded = new AsynchronousSingleLogoutHttpClient(mock(HttpClient.class), properties, CasSSLContext.disabled());
+        assertEquals(1, reloaded.getRetryQueueSize());
+        reloaded.destroy();
+    }
+
+    @Test
+    void verifyMessageAbandonedWithoutRetries() throws Throwable {
+        val properties = new SingleLogOutDispatcherProperties().setMaxRetries(0);
+        val client = new AsynchronousSingleLogoutHttpClient(mock(HttpClient.class), properties, CasSSLContext.disabled());
+        val url = new URI("http://localhost:9431").toURL();
+        assertFalse(client.sendMessageToEndPoint(new LogoutHttpMessage(url, "LogoutMessage", false)));
+        assertEquals(0, client.getRetryQueueSize());
+        client.destroy();
+    }
+}
@@ -4,6 +4,7 @@ import org.apereo.cas.util.RegexUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,9 +12,11 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
 import java.io.Serial;
 import java.net.URL;
+import java.util.regex.Pattern;
 
 /**
  * A proxy policy that only allows proxying to pgt urls
@@ -41,6 +44,19 @@ public class RegexMatchingRegisteredServiceProxyPolicy implements RegisteredServ
 
     private boolean exactMatch;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient Pattern compiledPattern;
+
+    public RegexMatchingRegisteredServiceProxyPolicy setPattern(final String pattern) {
+        this.pattern = pattern;
+        this.compiledPattern = null;
+        return this;
+    }
+
     @JsonIgnore
     @Override
     public boolean isAllowedToProxy() {
@@ -49,8 +65,9 @@ public class RegexMatchingRegisteredServiceProxyPolicy implements RegisteredServ
 
     @Override
     public boolean isAllowedProxyCallbackUrl(final RegisteredService registeredService, final URL pgtUrl) {
-        var patternToUse = this.useServiceId ? registeredService.getServiceId() : this.pattern;
-        if (!RegexUtils.isValidRegex(patternToUse)) {
+        val patternToUse = this.useServiceId ? registeredService.getServiceId() : this.pattern;
+        val compiled = this.useServiceId ? RegexUtils.createPattern(patternToUse) : getCompiledPattern();
+        if (compiled == RegexUtils.MATCH_NOTHING_PATTERN) {
             LOGGER.warn("Pattern specified [{}] is not a valid regular expression", patternToUse);
             return false;
         }
@@ -59,6 +76,15 @@ public class RegexMatchingRegisteredServiceProxyPolicy implements RegisteredServ
             return patternToUse.equals(pgtUrl.toExternalForm());
         }
         LOGGER.debug("Using pattern [{}] to authorize proxy policy for URL [{}]", patternToUse, pgtUrl.toExternalForm());
-        return RegexUtils.find(patternToUse, pgtUrl.toExternalForm());
+        return RegexUtils.find(compiled, pgtUrl.toExternalForm());
+    }
+
+    private Pattern getCompiledPattern() {
+        var compiled = compiledPattern;
+        if (compiled == null) {
+            compiled = RegexUtils.createPattern(pattern);
+            compiledPattern = compiled;
+        }
+        return compiled;
     }
 }
@@ -36,6 +36,19 @@ public class DefaultServicesManagerRegisteredServiceLocator implements ServicesM
         return supportedType && registeredService.matches(service.getId());
     };
 
+    private boolean matchingByServiceId = true;
+
+    /**
+     * Sets registered service filter.
+     * Custom filters are not assumed to match services by their service id.
+     *
+     * @param registeredServiceFilter the registered service filter
+     */
+    public void setRegisteredServiceFilter(final BiPredicate<RegisteredService, Service> registeredServiceFilter) {
+        this.registeredServiceFilter = registeredServiceFilter;
+        this.matchingByServiceId = false;
+    }
+
     @Override
     public RegisteredService locate(final Collection<? extends RegisteredService> candidates, final Service service) {
         return candidates
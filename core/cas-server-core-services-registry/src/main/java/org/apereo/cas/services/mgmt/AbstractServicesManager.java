@@ -5,6 +5,7 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceLocator;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.services.query.RegisteredServiceQueryAttribute;
 import org.apereo.cas.services.query.RegisteredServiceQueryIndex;
@@ -30,10 +31,13 @@ import org.springframework.context.ApplicationEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -54,6 +58,12 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    private final AtomicLong servicesCacheVersion = new AtomicLong();
+
+    private final ReentrantLock matchingIndexLock = new ReentrantLock();
+
+    private volatile RegisteredServicesMatchingIndex matchingIndex = RegisteredServicesMatchingIndex.of(List.of(), -1);
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
 
@@ -100,6 +110,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
         val savedService = configurationContext.getServiceRegistry().save(registeredService);
         cacheRegisteredService(savedService);
+        servicesCacheVersion.incrementAndGet();
         saveInternal(registeredService);
 
         if (publishEvent) {
@@ -118,6 +129,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             if (registeredService != null) {
                 publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
                 cacheRegisteredService(registeredService);
+                servicesCacheVersion.incrementAndGet();
                 saveInternal(registeredService);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, registeredService, clientInfo));
                 return registeredService;
@@ -130,6 +142,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     public synchronized void deleteAll() {
         configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
         configurationContext.getServicesCache().invalidateAll();
+        servicesCacheVersion.incrementAndGet();
         val clientInfo = ClientInfoHolder.getClientInfo();
         publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
     }
@@ -147,6 +160,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
             configurationContext.getServiceRegistry().delete(service);
             configurationContext.getServicesCache().invalidate(service.getId());
+            servicesCacheVersion.incrementAndGet();
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
         }
@@ -162,7 +176,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         val candidates = getCandidateServicesToMatch(service.getId());
         var foundService = configurationContext.getRegisteredServiceLocators()
             .stream()
-            .map(locator -> locator.locate(candidates, service))
+            .map(locator -> locator.locate(getCandidateServicesToMatch(service.getId(), locator, candidates), service))
             .filter(registeredService -> validateRegisteredService(registeredService) != null)
             .findFirst();
 
@@ -202,6 +216,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        servicesCacheVersion.incrementAndGet();
         return results.values();
     }
 
@@ -348,12 +363,38 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return results.values();
     }
 
-    private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
+    /**
+     * Replace the cached services with the given services. The matching index for the new services
+     * is built first and published in one step once the cache is updated, and the cache is never emptied
+     * along the way: new definitions are added before stale ones are removed. Lookups that
+     * run in the meantime see either the previous or the new services, but never a partially loaded cache.
+     *
+     * @param servicesMap the services
+     */
+    private void cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
-        servicesCache.invalidateAll();
-        servicesCache.putAll(servicesMap);
-        indexedRegisteredServices.addAll(servicesMap.values());
-        return servicesCache.asMap();
+        val loadedServices = new HashSet<>(servicesMap.values());
+        val staleServices = indexedRegisteredServices
+            .stream()
+            .filter(service -> !loadedServices.contains(service))
+            .toList();
+        val staleIds = servicesCache.asMap().keySet()
+            .stream()
+            .filter(id -> !servicesMap.containsKey(id))
+            .toList();
+        val snapshot = RegisteredServicesMatchingIndex.of(servicesMap.values(), servicesCacheVersion.incrementAndGet());
+        matchingIndexLock.lock();
+        try {
+            servicesCache.putAll(servicesMap);
+            servicesCache.invalidateAll(staleIds);
+            indexedRegisteredServices.addAll(loadedServices);
+            indexedRegisteredServices.removeAll(staleServices);
+            matchingIndex = snapshot;
+        } finally {
+            matchingIndexLock.unlock();
+        }
+        LOGGER.trace("Published [{}] registered service(s); [{}] stale service(s) are removed from the cache",
+            servicesMap.size(), staleIds.size());
     }
 
     @Override
@@ -392,6 +433,52 @@ public abstract class AbstractServicesManager implements ServicesManager {
      */
     protected abstract Collection<RegisteredService> getCandidateServicesToMatch(String serviceId);
 
+    /**
+     * Gets candidate services to match the service id for the given locator.
+     * By default, all candidates are handed to every locator.
+     *
+     * @param serviceId  the service id
+     * @param locator    the locator
+     * @param candidates the candidates to match
+     * @return the candidate services to match
+     */
+    protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId,
+                                                                        final ServicesManagerRegisteredServiceLocator locator,
+                                                                        final Collection<RegisteredService> candidates) {
+        return candidates;
+    }
+
+    /**
+     * Gets the matching index built from the services cache.
+     * The index is rebuilt whenever the contents of the cache change.
+     * If the cache is empty, no index is returned.
+     *
+     * @return the matching index
+     */
+    protected Optional<RegisteredServicesMatchingIndex> getRegisteredServicesMatchingIndex() {
+        val servicesCache = configurationContext.getServicesCache();
+        servicesCache.cleanUp();
+        if (servicesCache.estimatedSize() <= 0) {
+            return Optional.empty();
+        }
+        var index = matchingIndex;
+        if (isStale(index)) {
+            matchingIndexLock.lock();
+            try {
+                index = matchingIndex;
+                if (isStale(index)) {
+                    val version = servicesCacheVersion.get();
+                    index = RegisteredServicesMatchingIndex.of(servicesCache.asMap().values(), version);
+                    LOGGER.trace("Rebuilt registered services matching index with [{}] service(s)", index.size());
+                    matchingIndex = index;
+                }
+            } finally {
+                matchingIndexLock.unlock();
+            }
+        }
+        return Optional.of(index);
+    }
+
     /**
      * Delete internal.
      *
@@ -443,10 +530,16 @@ public abstract class AbstractServicesManager implements ServicesManager {
     private void cacheRegisteredService(final RegisteredService service) {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
+            servicesCacheVersion.incrementAndGet();
             indexedRegisteredServices.add(service);
         }
     }
 
+    private boolean isStale(final RegisteredServicesMatchingIndex index) {
+        return index.getVersion() != servicesCacheVersion.get()
+               || index.size() != configurationContext.getServicesCache().estimatedSize();
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         getCacheableServicesStream()
             .get()
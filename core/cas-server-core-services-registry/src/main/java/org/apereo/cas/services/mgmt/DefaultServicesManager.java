@@ -4,6 +4,9 @@ import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceLocator;
+
+import lombok.val;
 
 import java.util.Collection;
 import java.util.Comparator;
@@ -24,13 +27,32 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     public Collection<RegisteredService> getServicesForDomain(final String domain) {
-        return getCacheableServicesStream().get()
-            .sorted(Comparator.naturalOrder())
-            .collect(Collectors.toList());
+        return getSortedRegisteredServices();
     }
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        return getSortedRegisteredServices();
+    }
+
+    @Override
+    protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId,
+                                                                        final ServicesManagerRegisteredServiceLocator locator,
+                                                                        final Collection<RegisteredService> candidates) {
+        if (locator.isMatchingByServiceId()) {
+            val index = getRegisteredServicesMatchingIndex();
+            if (index.isPresent() && index.get().getRegisteredServices() == candidates) {
+                return index.get().findCandidateServicesToMatch(serviceId);
+            }
+        }
+        return candidates;
+    }
+
+    private Collection<RegisteredService> getSortedRegisteredServices() {
+        val index = getRegisteredServicesMatchingIndex();
+        if (index.isPresent()) {
+            return index.get().getRegisteredServices();
+        }
         return getCacheableServicesStream().get()
             .sorted(Comparator.naturalOrder())
             .collect(Collectors.toList());
@@ -0,0 +1,250 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.BaseRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link RegisteredServicesMatchingIndex}. It holds an immutable snapshot
+ * of registered services sorted in their natural evaluation order, and narrows down
+ * the set of candidates that could possibly match a given service identifier.
+ * <p>
+ * Services that are matched literally, or whose service id pattern is anchored to a literal
+ * prefix (i.e. {@code ^https://app\.example\.org/.*}) are placed into a prefix trie keyed
+ * by the (lower-cased) literal prefix. All other services are kept on a fallback list
+ * that is always evaluated. Candidates are returned in the same order as the full snapshot,
+ * so the first matching service remains the same as with a linear scan.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class RegisteredServicesMatchingIndex {
+    private static final String REGEX_META_CHARACTERS = ".[]()*+?{}|^$";
+
+    /**
+     * Registered services sorted by their natural order.
+     */
+    @Getter
+    private final List<RegisteredService> registeredServices;
+
+    @Getter
+    private final long version;
+
+    private final TrieNode root = new TrieNode();
+
+    private final int[] fallbackPositions;
+
+    RegisteredServicesMatchingIndex(final Collection<RegisteredService> services, final long version) {
+        this.version = version;
+        this.registeredServices = services
+            .stream()
+            .sorted(Comparator.naturalOrder())
+            .toList();
+
+        val fallback = new ArrayList<Integer>();
+        for (var position = 0; position < registeredServices.size(); position++) {
+            val registeredService = registeredServices.get(position);
+            val prefix = getLiteralPrefix(registeredService);
+            if (StringUtils.isEmpty(prefix)) {
+                fallback.add(position);
+            } else {
+                root.insert(prefix, position);
+            }
+        }
+        this.fallbackPositions = fallback.stream().mapToInt(Integer::intValue).toArray();
+        LOGGER.trace("Indexed [{}] registered service(s) by service id prefix; [{}] service(s) require regular expression evaluation",
+            registeredServices.size() - fallbackPositions.length, fallbackPositions.length);
+    }
+
+    /**
+     * Build the index from the given services.
+     *
+     * @param services the services
+     * @param version  the version of the services cache used to build this index
+     * @return the index
+     */
+    public static RegisteredServicesMatchingIndex of(final Collection<RegisteredService> services, final long version) {
+        return new RegisteredServicesMatchingIndex(services, version);
+    }
+
+    /**
+     * Number of services in this index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return registeredServices.size();
+    }
+
+    /**
+     * Find candidate services that might match the given service identifier,
+     * in their natural evaluation order. Services not returned here are guaranteed
+     * not to match the service identifier.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    public List<RegisteredService> findCandidateServicesToMatch(final String serviceId) {
+        val matched = StringUtils.isEmpty(serviceId) ? new int[0] : root.collect(serviceId);
+        if (matched.length == 0 && fallbackPositions.length == 0) {
+            return List.of();
+        }
+        Arrays.sort(matched);
+        val candidates = new ArrayList<RegisteredService>(matched.length + fallbackPositions.length);
+        var i = 0;
+        var j = 0;
+        while (i < matched.length || j < fallbackPositions.length) {
+            if (j >= fallbackPositions.length || (i < matched.length && matched[i] < fallbackPositions[j])) {
+                candidates.add(registeredServices.get(matched[i++]));
+            } else {
+                candidates.add(registeredServices.get(fallbackPositions[j++]));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Determine the literal prefix that every service id matched by the registered service
+     * must start with, ignoring case. Returns an empty value if no such prefix can be safely determined.
+     *
+     * @param registeredService the registered service
+     * @return the literal prefix, or empty
+     */
+    static String getLiteralPrefix(final RegisteredService registeredService) {
+        if (!(registeredService instanceof BaseRegisteredService) || StringUtils.isBlank(registeredService.getServiceId())) {
+            return StringUtils.EMPTY;
+        }
+        val strategy = registeredService.getMatchingStrategy();
+        if (strategy instanceof LiteralRegisteredServiceMatchingStrategy) {
+            return registeredService.getServiceId().trim();
+        }
+        if (strategy == null || strategy instanceof FullRegexRegisteredServiceMatchingStrategy) {
+            return getRegularExpressionLiteralPrefix(registeredService.getServiceId(), false);
+        }
+        if (strategy instanceof PartialRegexRegisteredServiceMatchingStrategy) {
+            return getRegularExpressionLiteralPrefix(registeredService.getServiceId(), true);
+        }
+        return StringUtils.EMPTY;
+    }
+
+    /**
+     * Extract the literal prefix of a regular expression. Partial matches
+     * only produce a prefix if the expression is anchored to the beginning of the input.
+     *
+     * @param pattern        the pattern
+     * @param requiresAnchor whether the expression must start with an anchor
+     * @return the literal prefix, or empty
+     */
+    static String getRegularExpressionLiteralPrefix(final String pattern, final boolean requiresAnchor) {
+        if (hasTopLevelAlternation(pattern)) {
+            return StringUtils.EMPTY;
+        }
+        var position = 0;
+        if (pattern.charAt(0) == '^') {
+            position++;
+        } else if (requiresAnchor) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        while (position < pattern.length()) {
+            var current = pattern.charAt(position);
+            var width = 1;
+            if (current == '\\') {
+                if (position + 1 >= pattern.length()) {
+                    break;
+                }
+                current = pattern.charAt(position + 1);
+                if (Character.isLetterOrDigit(current)) {
+                    break;
+                }
+                width = 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            val next = position + width < pattern.length() ? pattern.charAt(position + width) : 0;
+            if (next == '?' || next == '*' || next == '{') {
+                break;
+            }
+            prefix.append(current);
+            if (next == '+') {
+                break;
+            }
+            position += width;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        if (pattern.contains("\\Q")) {
+            return true;
+        }
+        var depth = 0;
+        var inCharacterClass = false;
+        for (var i = 0; i < pattern.length(); i++) {
+            val current = pattern.charAt(i);
+            if (current == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                inCharacterClass = current != ']';
+            } else if (current == '[') {
+                inCharacterClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == '|' && depth <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char toLowerCase(final char character) {
+        return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) : character;
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>(2);
+
+        private int[] positions = new int[0];
+
+        void insert(final String key, final int position) {
+            var node = this;
+            for (var i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(toLowerCase(key.charAt(i)), c -> new TrieNode());
+            }
+            node.positions = Arrays.copyOf(node.positions, node.positions.length + 1);
+            node.positions[node.positions.length - 1] = position;
+        }
+
+        int[] collect(final String serviceId) {
+            var results = new int[0];
+            var node = this;
+            for (var i = 0; i < serviceId.length() && node != null; i++) {
+                node = node.children.get(toLowerCase(serviceId.charAt(i)));
+                if (node != null && node.positions.length > 0) {
+                    val merged = Arrays.copyOf(results, results.length + node.positions.length);
+                    System.arraycopy(node.positions, 0, merged, results.length, node.positions.length);
+                    results = merged;
+                }
+            }
+            return results;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicePreDeleteEvent;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
@@ -18,12 +19,16 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.io.PathWatcherService;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.util.serialization.StringSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.math.NumberUtils;
@@ -35,18 +40,24 @@ import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -68,6 +79,14 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     public static final File FALLBACK_REGISTERED_SERVICES_LOCATION =
         new File(CasConfigurationPropertiesSourceLocator.DEFAULT_CAS_CONFIG_DIRECTORIES.get(0), "services");
     
+    private static final int DEFAULT_LOADER_THREADS = 4;
+
+    private static final ObjectMapper SNAPSHOT_MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false)
+        .jsonFactory(new SmileFactory())
+        .build()
+        .toObjectMapper();
+
     /**
      * The Service registry directory.
      */
@@ -85,9 +104,31 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      */
     private Collection<StringSerializer<RegisteredService>> registeredServiceSerializers;
 
+    /**
+     * Services parsed from each file along with the file state at the time,
+     * so that files that did not change are not parsed again on reload.
+     */
+    private final Map<File, LoadedResource> loadedResources = new ConcurrentHashMap<>();
+
     @Setter
     private WatcherService serviceRegistryWatcherService;
 
+    /**
+     * Number of threads used to parse changed files.
+     */
+    @Setter
+    private int loaderThreads = DEFAULT_LOADER_THREADS;
+
+    /**
+     * File that holds a snapshot of loaded resources, if any.
+     */
+    @Setter
+    private File snapshotFile;
+
+    private boolean snapshotRead;
+
+    private ObjectMapper servicesMapper;
+
     private RegisteredServiceReplicationStrategy registeredServiceReplicationStrategy;
 
     private RegisteredServiceResourceNamingStrategy resourceNamingStrategy;
@@ -252,14 +293,13 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public synchronized Collection<RegisteredService> load() {
         LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
-        val files = FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), getExtensions(), true);
+        val files = listServiceDefinitionFiles();
         LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
         val clientInfo = ClientInfoHolder.getClientInfo();
 
-        this.services = files
+        this.services = loadChangedResources(files)
             .stream()
-            .map(this::load)
-            .filter(Objects::nonNull)
+            .map(this::readServices)
             .flatMap(Collection::stream)
             .sorted()
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
@@ -273,8 +313,55 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         return results;
     }
 
+    /**
+     * Load services from the given files, and only parse the files that are new
+     * or whose size, modification date or content changed since they were last loaded.
+     * Changed files are parsed in parallel, using up to the configured number of loader threads.
+     * Parsed services are kept in a binary form, from which new instances are read on every load,
+     * so that changes made to loaded services never carry over to the next load.
+     * If a snapshot file is configured, previously loaded resources are read from the snapshot
+     * the first time and the snapshot is updated whenever files change.
+     *
+     * @param files the files
+     * @return the loaded resources, in the order of the given files
+     */
+    protected List<LoadedResource> loadChangedResources(final Collection<File> files) {
+        val mapper = getServicesMapper();
+        if (!snapshotRead) {
+            readSnapshot(files);
+            snapshotRead = true;
+        }
+        val removed = loadedResources.keySet().retainAll(new HashSet<>(files));
+        val changedFiles = files
+            .stream()
+            .filter(file -> !Optional.ofNullable(loadedResources.get(file)).map(LoadedResource::isCurrent).orElse(Boolean.FALSE))
+            .toList();
+        LOGGER.debug("[{}] of [{}] service definition file(s) in [{}] are new or have changed since they were last loaded",
+            changedFiles.size(), files.size(), serviceRegistryDirectory);
+        val threads = Math.min(loaderThreads, changedFiles.size());
+        if (threads > 1) {
+            try (val executor = Executors.newFixedThreadPool(threads)) {
+                changedFiles.forEach(file -> executor.execute(() -> loadResource(file, mapper)));
+            }
+        } else {
+            changedFiles.forEach(file -> loadResource(file, mapper));
+        }
+        if (removed || !changedFiles.isEmpty()) {
+            writeSnapshot();
+        }
+        return files.stream().map(loadedResources::get).filter(Objects::nonNull).toList();
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
+        return parseServiceDefinitionFile(file)
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private List<RegisteredService> parseServiceDefinitionFile(final File file) {
         val fileName = file.getName();
         if (!file.canRead()) {
             LOGGER.warn("[{}] is not readable. Check file permissions", fileName);
@@ -313,8 +400,6 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
                 .map(s -> s.load(in))
                 .filter(Objects::nonNull)
                 .flatMap(Collection::stream)
-                .map(this::invokeServiceRegistryListenerPostLoad)
-                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
         } catch (final Exception e) {
             LOGGER.error("Error reading configuration file [{}]", fileName);
@@ -323,6 +408,135 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         return new ArrayList<>(0);
     }
 
+    private List<File> listServiceDefinitionFiles() {
+        val extensions = Arrays.stream(getExtensions()).map(extension -> '.' + extension).toList();
+        try (val paths = Files.walk(serviceRegistryDirectory, FileVisitOption.FOLLOW_LINKS)) {
+            return paths
+                .filter(Files::isRegularFile)
+                .filter(path -> extensions.stream().anyMatch(path.getFileName().toString()::endsWith))
+                .map(Path::toFile)
+                .toList();
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+            return new ArrayList<>(0);
+        }
+    }
+
+    private static String computeContentHash(final File file) {
+        try {
+            return DigestUtils.digest(MessageDigestAlgorithms.SHA_256, Files.readAllBytes(file.toPath()));
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to read [{}]: [{}]", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] writeServices(final ObjectMapper mapper, final File file, final List<RegisteredService> services) {
+        try {
+            return mapper.writeValueAsBytes(services.toArray(RegisteredService[]::new));
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to keep services parsed from [{}], which will be parsed again on every load: [{}]", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void loadResource(final File file, final ObjectMapper mapper) {
+        val lastModified = file.lastModified();
+        val length = file.length();
+        val contentHash = computeContentHash(file);
+        val definitions = writeServices(mapper, file, parseServiceDefinitionFile(file));
+        loadedResources.put(file, new LoadedResource(file, lastModified, length, contentHash, definitions));
+    }
+
+    /**
+     * Read new instances of the services of a loaded resource. If they cannot be read back,
+     * the file is parsed again and will also be parsed again on the next load.
+     *
+     * @param resource the loaded resource
+     * @return the services
+     */
+    private List<RegisteredService> readServices(final LoadedResource resource) {
+        if (resource.definitions() != null) {
+            try {
+                return Arrays.stream(getServicesMapper().readValue(resource.definitions(), RegisteredService[].class))
+                    .map(this::invokeServiceRegistryListenerPostLoad)
+                    .filter(Objects::nonNull)
+                    .toList();
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to read services parsed from [{}], which is parsed again: [{}]", resource.file(), e.getMessage());
+                loadedResources.remove(resource.file());
+            }
+        }
+        return List.copyOf(load(resource.file()));
+    }
+
+    /**
+     * Read the snapshot, if any. Only entries of files that have not changed since the snapshot
+     * was written are used; all other files are parsed again. If the snapshot cannot be read,
+     * it is ignored entirely and all files are parsed again.
+     *
+     * @param files the files
+     */
+    private void readSnapshot(final Collection<File> files) {
+        if (snapshotFile != null && snapshotFile.exists()) {
+            try {
+                val currentFiles = new HashSet<>(files);
+                val snapshot = SNAPSHOT_MAPPER.readValue(snapshotFile, LoadedResourceSnapshot[].class);
+                val resources = new HashMap<File, LoadedResource>();
+                for (val entry : snapshot) {
+                    val file = new File(entry.file());
+                    if (currentFiles.contains(file)) {
+                        resources.put(file, new LoadedResource(file, entry.lastModified(), entry.length(), entry.contentHash(), entry.services()));
+                    }
+                }
+                loadedResources.putAll(resources);
+                LOGGER.debug("Read [{}] of [{}] service definition file(s) from snapshot [{}]", resources.size(), snapshot.length, snapshotFile);
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to read service registry snapshot [{}], which is ignored: [{}]", snapshotFile, e.getMessage());
+            }
+        }
+    }
+
+    private void writeSnapshot() {
+        if (snapshotFile != null) {
+            val temporaryFile = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+            try {
+                val snapshot = loadedResources.values()
+                    .stream()
+                    .filter(resource -> resource.definitions() != null)
+                    .map(resource -> new LoadedResourceSnapshot(resource.file().getPath(), resource.lastModified(),
+                        resource.length(), resource.contentHash(), resource.definitions()))
+                    .toList();
+                SNAPSHOT_MAPPER.writeValue(temporaryFile, snapshot);
+                Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                LOGGER.trace("Wrote [{}] service definition file(s) to snapshot [{}]", snapshot.size(), snapshotFile);
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to write service registry snapshot [{}]: [{}]", snapshotFile, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Mapper that keeps parsed services in the binary Smile format,
+     * configured like the JSON serializer of service definition files so the same types are allowed.
+     *
+     * @return the mapper
+     */
+    private ObjectMapper getServicesMapper() {
+        if (servicesMapper == null) {
+            val mapper = JacksonObjectMapperFactory.builder()
+                .defaultTypingEnabled(true)
+                .jsonFactory(new SmileFactory())
+                .build()
+                .toObjectMapper();
+            if (getApplicationContext() != null) {
+                JacksonObjectMapperFactory.configure(getApplicationContext(), mapper);
+            }
+            servicesMapper = mapper;
+        }
+        return servicesMapper;
+    }
+
     @Override
     public Stream<? extends RegisteredService> getServicesStream() {
         return this.services.values().stream();
@@ -347,6 +561,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public void destroy() {
         this.serviceRegistryWatcherService.close();
+        this.loadedResources.clear();
     }
 
     /**
@@ -444,4 +659,32 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.serviceRegistryWatcherService.start(getClass().getSimpleName());
     }
 
+    /**
+     * Services parsed from a file, in binary form, along with the state of the file at the time.
+     *
+     * @param file         the file
+     * @param lastModified the modification date of the file
+     * @param length       the size of the file
+     * @param contentHash  the hash of the file content
+     * @param definitions  the parsed services, or null if they must be parsed from the file on every load
+     */
+    protected record LoadedResource(File file, long lastModified, long length, String contentHash, byte[] definitions) {
+        boolean isCurrent() {
+            return file.lastModified() == lastModified && file.length() == length
+                   && contentHash != null && contentHash.equals(computeContentHash(file));
+        }
+    }
+
+    /**
+     * Snapshot of a loaded resource. Services are kept as a separate binary document
+     * so they are only read back if the file they were loaded from has not changed.
+     *
+     * @param file         the file path
+     * @param lastModified the modification date of the file
+     * @param length       the size of the file
+     * @param contentHash  the hash of the file content
+     * @param services     the serialized services
+     */
+    record LoadedResourceSnapshot(String file, long lastModified, long length, String contentHash, byte[] services) {
+    }
 }
@@ -0,0 +1,113 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the {@link RegisteredServicesMatchingIndex} with the linear scan
+ * that sorts and evaluates every registered service in order.
+ * Every 20th service uses an unanchored pattern, and must be evaluated via regular expressions.
+ * Run via {@link #main(String[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisteredServicesMatchingIndexBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int servicesCount;
+
+    private List<RegisteredService> services;
+
+    private RegisteredServicesMatchingIndex index;
+
+    private String[] serviceIds;
+
+    private int counter;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(RegisteredServicesMatchingIndexBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        services = new ArrayList<>(servicesCount);
+        for (var i = 0; i < servicesCount; i++) {
+            val service = new CasRegisteredService();
+            service.setId(i);
+            service.setName("Service" + i);
+            service.setEvaluationOrder(i);
+            if (i % 20 == 0) {
+                service.setServiceId("app" + i + "\\.example\\.net/.*");
+                service.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+            } else {
+                service.setServiceId("^https://app" + i + "\\.example\\.org(:\\d+)?/.*");
+            }
+            services.add(service);
+        }
+        index = RegisteredServicesMatchingIndex.of(services, 1);
+        serviceIds = new String[]{
+            "https://app" + (servicesCount - 1) + ".example.org/cas/login",
+            "https://app" + (servicesCount / 2 + 1) + ".example.org:8443/callback",
+            "https://unknown.example.org/app"
+        };
+    }
+
+    @Benchmark
+    public RegisteredService linearScan() {
+        val serviceId = nextServiceId();
+        return services
+            .stream()
+            .sorted(Comparator.naturalOrder())
+            .collect(Collectors.toList())
+            .stream()
+            .filter(registeredService -> registeredService.matches(serviceId))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Benchmark
+    public RegisteredService matchingIndex() {
+        val serviceId = nextServiceId();
+        return index.findCandidateServicesToMatch(serviceId)
+            .stream()
+            .filter(registeredService -> registeredService.matches(serviceId))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private String nextServiceId() {
+        counter = (counter + 1) % serviceIds.length;
+        return serviceIds[counter];
+    }
+}
@@ -0,0 +1,92 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServicesMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("RegisteredService")
+class RegisteredServicesMatchingIndexTests {
+
+    private static CasRegisteredService newService(final long id, final String serviceId, final int order) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(order);
+        return service;
+    }
+
+    private static RegisteredService locate(final RegisteredServicesMatchingIndex index, final String serviceId) {
+        return index.findCandidateServicesToMatch(serviceId)
+            .stream()
+            .filter(registeredService -> registeredService.matches(serviceId))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static RegisteredService scan(final RegisteredServicesMatchingIndex index, final String serviceId) {
+        return index.getRegisteredServices()
+            .stream()
+            .filter(registeredService -> registeredService.matches(serviceId))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Test
+    void verifyLiteralPrefixes() {
+        assertEquals("https://app.example.org/", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("^https://app\\.example\\.org/.*", false));
+        assertEquals("https://app.example.org", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("https://app\\.example\\.org(/.*)?", false));
+        assertEquals("http", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("^https?://.*", false));
+        assertEquals("https://a", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("^https://a+.org", false));
+        assertEquals("", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("^https://a.org|^https://b.org", false));
+        assertEquals("", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("https://a.org", true));
+        assertEquals("", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("(?i)https://a.org", false));
+        assertEquals("https:/", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("https:\\/\\d+", false));
+        assertEquals("", RegisteredServicesMatchingIndex.getRegularExpressionLiteralPrefix("\\Qhttps://a.org\\E.*", false));
+    }
+
+    @Test
+    void verifyEvaluationOrderIsKept() {
+        val first = newService(1, "^https://app\\.example\\.org/.*", 10);
+        val second = newService(2, "^https://.*", 5);
+        val third = newService(3, "https://app.example.org/callback", 1);
+        third.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy());
+        val fourth = newService(4, "example\\.org", 0);
+        fourth.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        val fifth = newService(5, "^HTTPS://APP\\.EXAMPLE\\.ORG/admin.*", -1);
+
+        val index = RegisteredServicesMatchingIndex.of(List.of(first, second, third, fourth, fifth), 1);
+        assertEquals(5, index.size());
+        assertEquals(1, index.getVersion());
+        assertEquals(List.of(fifth, fourth, third, second, first), index.getRegisteredServices());
+
+        List.of("https://app.example.org/callback", "https://app.example.org/admin/page",
+                "https://other.example.org/app", "http://app.example.org", "https://app.example.com", "")
+            .forEach(serviceId -> assertEquals(scan(index, serviceId), locate(index, serviceId), serviceId));
+
+        val candidates = index.findCandidateServicesToMatch("https://app.example.org/other");
+        assertEquals(List.of(fourth, second, first), candidates);
+    }
+
+    @Test
+    void verifyEmptyIndex() {
+        val index = RegisteredServicesMatchingIndex.of(List.of(), 0);
+        assertTrue(index.findCandidateServicesToMatch("https://example.org").isEmpty());
+        assertTrue(index.findCandidateServicesToMatch(null).isEmpty());
+    }
+}
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
 import org.apereo.cas.services.mgmt.DefaultServicesManager;
+import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.util.RandomUtils;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -151,6 +152,23 @@ public abstract class AbstractServicesManagerTests<T extends ServicesManager> {
         assertNull(servicesManager.findServiceBy(serviceFactory.createService(r.getServiceId())));
     }
 
+    @Test
+    void verifyLoadRemovesStaleServices() throws Throwable {
+        val service = new CasRegisteredService();
+        service.setId(RandomUtils.nextLong());
+        service.setName(UUID.randomUUID().toString());
+        service.setServiceId("https://stale.example.org/.*");
+        serviceRegistry.save(service);
+        servicesManager.load();
+        assertTrue(isServiceInCache(null, service.getId()));
+        assertEquals(1, servicesManager.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service.getId())).count());
+
+        serviceRegistry.delete(service);
+        servicesManager.load();
+        assertFalse(isServiceInCache(null, service.getId()));
+        assertEquals(0, servicesManager.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service.getId())).count());
+    }
+
     /**
      * Attempts to make sure service lookup operations
      * are valid based on the existing cache, specially if load
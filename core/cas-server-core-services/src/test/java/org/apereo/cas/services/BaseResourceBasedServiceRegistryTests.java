@@ -13,6 +13,7 @@ import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -67,6 +68,46 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertTrue(newServiceRegistry.load(file).isEmpty());
     }
 
+    @Test
+    void verifyUnchangedFilesAreNotParsedAgain() {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(registeredService);
+        newServiceRegistry.load();
+        val loaded = newServiceRegistry.findServiceById(registeredService.getId());
+        assertNotNull(loaded);
+        loaded.setDescription("Changed after it was loaded");
+        newServiceRegistry.load();
+        val unchanged = newServiceRegistry.findServiceById(registeredService.getId());
+        assertNotSame(loaded, unchanged);
+        assertEquals(registeredService.getDescription(), unchanged.getDescription());
+
+        registeredService.setDescription("Updated " + registeredService.getDescription());
+        newServiceRegistry.save(registeredService);
+        newServiceRegistry.load();
+        val reloaded = newServiceRegistry.findServiceById(registeredService.getId());
+        assertNotSame(loaded, reloaded);
+        assertEquals(registeredService.getDescription(), reloaded.getDescription());
+    }
+
+    @Test
+    void verifyChangedContentWithSameSizeAndDate() throws Throwable {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        registeredService.setDescription("Description-A");
+        newServiceRegistry.save(registeredService);
+        newServiceRegistry.load();
+        val file = FileUtils.listFiles(((AbstractResourceBasedServiceRegistry) newServiceRegistry).getServiceRegistryDirectory().toFile(), null, true)
+            .stream()
+            .filter(candidate -> candidate.getName().contains("-" + registeredService.getId() + '.'))
+            .findFirst()
+            .orElseThrow();
+        val lastModified = file.lastModified();
+        val content = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(file, content.replace("Description-A", "Description-B"), StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(lastModified));
+        newServiceRegistry.load();
+        assertEquals("Description-B", newServiceRegistry.findServiceById(registeredService.getId()).getDescription());
+    }
+
     @Test
     void verify() {
         val applicationContext = new StaticApplicationContext();
@@ -59,4 +59,14 @@ class RegexMatchingRegisteredServiceProxyPolicyTests {
         val registeredService = RegisteredServiceTestUtils.getRegisteredService("^https:.+/apereo/cas");
         assertTrue(policy.isAllowedProxyCallbackUrl(registeredService, new URI("https://github.com/apereo/cas").toURL()));
     }
+
+    @Test
+    void verifyPatternChange() throws Throwable {
+        val policy = new RegexMatchingRegisteredServiceProxyPolicy();
+        policy.setPattern("^https://github.com/.+");
+        val url = new URI("https://github.com/apereo/cas").toURL();
+        assertTrue(policy.isAllowedProxyCallbackUrl(RegisteredServiceTestUtils.getRegisteredService(), url));
+        policy.setPattern("^https://example.org/.+");
+        assertFalse(policy.isAllowedProxyCallbackUrl(RegisteredServiceTestUtils.getRegisteredService(), url));
+    }
 }
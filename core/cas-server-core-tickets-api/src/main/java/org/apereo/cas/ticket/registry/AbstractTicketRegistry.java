@@ -27,6 +27,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -95,6 +96,25 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
     }
 
+    @Override
+    public void executeTransaction(final TicketRegistryTransaction transaction) throws Exception {
+        val batch = new ArrayList<TicketRegistryTransaction.Operation>();
+        for (val operation : transaction.getOperations()) {
+            if (operation.type() == TicketRegistryTransaction.OperationTypes.DELETE) {
+                if (!batch.isEmpty()) {
+                    saveTickets(List.copyOf(batch));
+                    batch.clear();
+                }
+                deleteTicket(operation.ticketId());
+            } else if (operation.type() == TicketRegistryTransaction.OperationTypes.UPDATE || !operation.ticket().isExpired()) {
+                batch.add(operation);
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveTickets(batch);
+        }
+    }
+
     @Override
     public Ticket getTicket(final String ticketId) {
         val returnTicket = getTicket(ticketId, ticket -> {
@@ -255,6 +275,25 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected abstract void addTicketInternal(Ticket ticket) throws Exception;
 
+    /**
+     * Add or update the given tickets as part of a transaction.
+     * Expired tickets that are to be added are already filtered out.
+     * Registries that are able to submit writes in bulk should override
+     * this method; by default, tickets are saved one at a time.
+     *
+     * @param operations the add and update operations, in order
+     * @throws Exception the exception
+     */
+    protected void saveTickets(final List<TicketRegistryTransaction.Operation> operations) throws Exception {
+        for (val operation : operations) {
+            if (operation.type() == TicketRegistryTransaction.OperationTypes.ADD) {
+                addTicketInternal(operation.ticket());
+            } else {
+                updateTicket(operation.ticket());
+            }
+        }
+    }
+
     protected int deleteTickets(final Set<String> tickets) {
         return deleteTickets(tickets.stream());
     }
@@ -0,0 +1,149 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link BinaryTicketSerializationManager}, which serializes tickets into
+ * a compact binary document using the Smile format, optionally compressed when the payload
+ * grows beyond a configurable size. Every document starts with a format version byte and
+ * a flags byte, and is Base64-encoded so it can be stored by registries that expect text.
+ * Ticket content that is serialized as JSON is handed off to the JSON serialization manager,
+ * which allows a cluster to switch formats without invalidating existing tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BinaryTicketSerializationManager implements TicketSerializationManager {
+    /**
+     * The current version of the binary format.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true)
+        .jsonFactory(new SmileFactory())
+        .build()
+        .toObjectMapper();
+
+    private final Map<String, Class<? extends Ticket>> ticketTypes = new ConcurrentHashMap<>();
+
+    private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    private final TicketSerializationManager jsonSerializationManager;
+
+    private final int compressionThreshold;
+
+    private static byte[] compress(final byte[] data) throws Exception {
+        val deflater = new Deflater(Deflater.BEST_SPEED);
+        try (val output = new ByteArrayOutputStream(data.length / 2);
+             val deflaterStream = new DeflaterOutputStream(output, deflater)) {
+            deflaterStream.write(data);
+            deflaterStream.finish();
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(final byte[] data, final int offset) throws Exception {
+        try (val input = new InflaterInputStream(new ByteArrayInputStream(data, offset, data.length - offset))) {
+            return input.readAllBytes();
+        }
+    }
+
+    @Override
+    public String serializeTicket(final Ticket ticket) {
+        try {
+            Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(ticket),
+                () -> "Unable to find ticket serializer for " + ticket.getId());
+            return FunctionUtils.doUnchecked(() -> {
+                val data = MAPPER.writeValueAsBytes(ticket);
+                val compressed = compressionThreshold >= 0 && data.length > compressionThreshold;
+                val payload = compressed ? compress(data) : data;
+                val document = new byte[HEADER_LENGTH + payload.length];
+                document[0] = FORMAT_VERSION;
+                document[1] = compressed ? FLAG_COMPRESSED : 0;
+                System.arraycopy(payload, 0, document, HEADER_LENGTH, payload.length);
+                LOGGER.trace("Serialized ticket [{}] into [{}] bytes, compressed: [{}]", ticket.getId(), document.length, compressed);
+                return Base64.getEncoder().encodeToString(document);
+            });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Ticket deserializeTicket(final String ticketContent, final String type) {
+        if (StringUtils.isBlank(type)) {
+            throw new InvalidTicketException("Invalid ticket type [blank] specified");
+        }
+        if (ticketSerializationExecutionPlan.getTicketSerializer(type) == null) {
+            throw new IllegalArgumentException("Unable to find ticket deserializer for " + type);
+        }
+        val clazz = ticketTypes.computeIfAbsent(type, Unchecked.function(name -> (Class<? extends Ticket>) Class.forName(name)));
+        return deserializeTicket(ticketContent, clazz);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
+        if (StringUtils.startsWith(StringUtils.trimToEmpty(ticketContent), "{")) {
+            LOGGER.trace("Ticket content is serialized as JSON and will be handed off to [{}]", jsonSerializationManager);
+            return jsonSerializationManager.deserializeTicket(ticketContent, clazz);
+        }
+        Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
+            () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
+        val document = Base64.getDecoder().decode(StringUtils.trimToEmpty(ticketContent));
+        if (document.length <= HEADER_LENGTH) {
+            throw new InvalidTicketException(clazz.getName());
+        }
+        if (document[0] > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Ticket is serialized with binary format version " + document[0]
+                                               + " which is newer than the supported version " + FORMAT_VERSION);
+        }
+        val ticket = FunctionUtils.doUnchecked(() -> {
+            val payload = (document[1] & FLAG_COMPRESSED) != 0
+                ? decompress(document, HEADER_LENGTH)
+                : Arrays.copyOfRange(document, HEADER_LENGTH, document.length);
+            return MAPPER.readValue(payload, Ticket.class);
+        });
+        if (ticket == null) {
+            throw new InvalidTicketException(clazz.getName());
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId()
+                                         + " is of type " + ticket.getClass()
+                                         + " when we were expecting " + clazz);
+        }
+        return (T) ticket;
+    }
+}
@@ -2,6 +2,8 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistrySerializationProperties;
+import org.apereo.cas.ticket.serialization.BinaryTicketSerializationManager;
 import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
@@ -60,8 +62,15 @@ public class CasCoreTicketsSerializationConfiguration {
         @ConditionalOnMissingBean(name = TicketSerializationManager.BEAN_NAME)
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketSerializationManager ticketSerializationManager(
+            final CasConfigurationProperties casProperties,
             @Qualifier("ticketSerializationExecutionPlan") final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
-            return new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+            val jsonSerializationManager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+            val serialization = casProperties.getTicket().getRegistry().getCore().getSerialization();
+            if (serialization.getFormat() == TicketRegistrySerializationProperties.SerializationFormats.BINARY) {
+                return new BinaryTicketSerializationManager(ticketSerializationExecutionPlan,
+                    jsonSerializationManager, serialization.getCompressionThreshold());
+            }
+            return jsonSerializationManager;
         }
     }
 
@@ -209,6 +209,30 @@ public abstract class BaseTicketRegistryTests {
         assertNotNull(tgt);
     }
 
+    @RepeatedTest(2)
+    void verifyTicketTransaction() throws Throwable {
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        val expiredTgt = new TicketGrantingTicketImpl(TICKET_GRANTING_TICKET_ID_GENERATOR.getNewTicketId(TicketGrantingTicket.PREFIX),
+            CoreAuthenticationTestUtils.getAuthentication(), AlwaysExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.executeTransaction(TicketRegistryTransaction.newTransaction()
+            .updateTicket(tgt)
+            .addTicket(st)
+            .addTicket(expiredTgt));
+
+        assertNotNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+        assertNull(ticketRegistry.getTicket(expiredTgt.getId()));
+        val tgtResult = ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        assertEquals(Collections.singleton(serviceTicketId),
+            ((AuthenticatedServicesAwareTicketGrantingTicket) tgtResult).getServices().keySet());
+
+        ticketRegistry.executeTransaction(TicketRegistryTransaction.newTransaction().deleteTicket(serviceTicketId));
+        assertNull(ticketRegistry.getTicket(serviceTicketId));
+    }
+
     @RepeatedTest(2)
     void verifyUnableToAddExpiredTicket() throws Throwable {
         val originalAuthn = CoreAuthenticationTestUtils.getAuthentication();
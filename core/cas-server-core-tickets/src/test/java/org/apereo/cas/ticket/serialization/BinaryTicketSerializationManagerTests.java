@@ -0,0 +1,117 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BinaryTicketSerializationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreTicketsSerializationConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class
+}, properties = {
+    "cas.ticket.registry.core.serialization.format=BINARY",
+    "cas.ticket.registry.core.serialization.compression-threshold=256"
+})
+@Tag("Tickets")
+class BinaryTicketSerializationManagerTests {
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier("ticketSerializationExecutionPlan")
+    private TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    private TicketGrantingTicket createTicketGrantingTicket() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) defaultTicketFactory.get(TicketGrantingTicket.class);
+        return factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+    }
+
+    @Test
+    void verifyOperation() throws Throwable {
+        assertInstanceOf(BinaryTicketSerializationManager.class, ticketSerializationManager);
+        val ticket = createTicketGrantingTicket();
+        val result = ticketSerializationManager.serializeTicket(ticket);
+        assertEquals(BinaryTicketSerializationManager.FORMAT_VERSION, Base64.getDecoder().decode(result)[0]);
+
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(result, ticket.getClass().getName()));
+        assertThrows(ClassCastException.class, () -> ticketSerializationManager.deserializeTicket(result, ProxyTicket.class));
+    }
+
+    @Test
+    void verifyJsonTicketsAreReadable() throws Throwable {
+        val ticket = createTicketGrantingTicket();
+        val json = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).serializeTicket(ticket);
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, TicketGrantingTicket.class));
+    }
+
+    @Test
+    void verifyUncompressed() throws Throwable {
+        val manager = new BinaryTicketSerializationManager(ticketSerializationExecutionPlan,
+            new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan), -1);
+        val ticket = createTicketGrantingTicket();
+        val result = manager.serializeTicket(ticket);
+        assertEquals(0, Base64.getDecoder().decode(result)[1]);
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(result, Ticket.class));
+    }
+
+    @Test
+    void verifyUnsupportedVersion() throws Throwable {
+        val result = Base64.getDecoder().decode(ticketSerializationManager.serializeTicket(createTicketGrantingTicket()));
+        result[0] = BinaryTicketSerializationManager.FORMAT_VERSION + 1;
+        val content = Base64.getEncoder().encodeToString(result);
+        assertThrows(IllegalArgumentException.class, () -> ticketSerializationManager.deserializeTicket(content, TicketGrantingTicket.class));
+    }
+
+    @Test
+    void verifyBadType() throws Throwable {
+        assertThrows(IllegalArgumentException.class, () -> ticketSerializationManager.deserializeTicket(StringUtils.EMPTY, "something"));
+    }
+}
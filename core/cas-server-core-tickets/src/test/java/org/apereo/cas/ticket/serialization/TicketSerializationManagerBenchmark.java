@@ -0,0 +1,108 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the size and the encode/decode time of tickets serialized by
+ * {@link DefaultTicketStringSerializationManager} as JSON with tickets serialized by
+ * {@link BinaryTicketSerializationManager}, for ticket-granting tickets that carry
+ * attribute maps of increasing size. Payload sizes are logged during setup.
+ * Run via {@link #main(String[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSerializationManagerBenchmark {
+    @Param({"10", "100", "500"})
+    private int attributeCount;
+
+    private TicketSerializationManager jsonSerializationManager;
+
+    private TicketSerializationManager binarySerializationManager;
+
+    private Ticket ticket;
+
+    private String jsonTicket;
+
+    private String binaryTicket;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(TicketSerializationManagerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val plan = new DefaultTicketSerializationExecutionPlan();
+        jsonSerializationManager = new DefaultTicketStringSerializationManager(plan);
+        binarySerializationManager = new BinaryTicketSerializationManager(plan, jsonSerializationManager, 1024);
+
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        for (var i = 0; i < attributeCount; i++) {
+            attributes.put("attribute" + i, List.of("value-" + i, "cn=group" + i + ",ou=groups,dc=example,dc=org"));
+        }
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser", attributes);
+        ticket = new TicketGrantingTicketImpl("TGT-1-benchmark",
+            CoreAuthenticationTestUtils.getAuthentication(principal, attributes), NeverExpiresExpirationPolicy.INSTANCE);
+
+        jsonTicket = jsonSerializationManager.serializeTicket(ticket);
+        binaryTicket = binarySerializationManager.serializeTicket(ticket);
+        LOGGER.info("Ticket with [{}] attributes: JSON is [{}] bytes, binary is [{}] bytes", attributeCount,
+            jsonTicket.getBytes(StandardCharsets.UTF_8).length, binaryTicket.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return jsonSerializationManager.serializeTicket(ticket);
+    }
+
+    @Benchmark
+    public String encodeBinary() {
+        return binarySerializationManager.serializeTicket(ticket);
+    }
+
+    @Benchmark
+    public Ticket decodeJson() {
+        return jsonSerializationManager.deserializeTicket(jsonTicket, TicketGrantingTicket.class);
+    }
+
+    @Benchmark
+    public Ticket decodeBinary() {
+        return binarySerializationManager.deserializeTicket(binaryTicket, TicketGrantingTicket.class);
+    }
+}
@@ -1,5 +1,9 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -13,6 +17,9 @@ import java.util.stream.Collectors;
 
 /**
  * Utility class to assist with regex operations.
+ * Patterns that are created from strings are compiled once and kept in a bounded cache
+ * keyed by the pattern and its flags, whose size and hit rate are reported
+ * as {@value #CACHE_METRIC_NAME} metrics.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -26,6 +33,16 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    /**
+     * Name of the metrics that report on the compiled pattern cache.
+     */
+    public static final String CACHE_METRIC_NAME = "cas.regex.patterns";
+
+    private static final long MAXIMUM_CACHE_SIZE = 10_000;
+
+    private static final Cache<PatternKey, Pattern> PATTERN_CACHE = CaffeineCacheMetrics.monitor(Metrics.globalRegistry,
+        Caffeine.newBuilder().maximumSize(MAXIMUM_CACHE_SIZE).recordStats().build(), CACHE_METRIC_NAME);
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -83,12 +100,14 @@ public class RegexUtils {
             LOGGER.warn("Pattern cannot be null/blank");
             return MATCH_NOTHING_PATTERN;
         }
-        try {
-            return Pattern.compile(pattern, flags);
-        } catch (final PatternSyntaxException exception) {
-            LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
-            return MATCH_NOTHING_PATTERN;
-        }
+        return PATTERN_CACHE.get(new PatternKey(pattern, flags), key -> {
+            try {
+                return Pattern.compile(key.pattern(), key.flags());
+            } catch (final PatternSyntaxException exception) {
+                LOGGER.debug("Pattern [{}] is not a valid regex.", key.pattern());
+                return MATCH_NOTHING_PATTERN;
+            }
+        });
     }
 
     /**
@@ -157,4 +176,7 @@ public class RegexUtils {
             .filter(entry -> find(compiledPattern, entry.toString()))
             .findFirst();
     }
+
+    private record PatternKey(String pattern, int flags) {
+    }
 }
@@ -50,7 +50,6 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * The factory to build a {@link SimpleHttpClient}.
@@ -79,10 +78,10 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
     /**
      * The default status codes we accept.
      */
-    private static final int[] DEFAULT_ACCEPTABLE_CODES = {HttpURLConnection.HTTP_OK,
+    public static final List<Integer> DEFAULT_ACCEPTABLE_CODES = List.of(HttpURLConnection.HTTP_OK,
         HttpURLConnection.HTTP_NOT_MODIFIED, HttpURLConnection.HTTP_MOVED_TEMP,
         HttpURLConnection.HTTP_MOVED_PERM, HttpURLConnection.HTTP_ACCEPTED,
-        HttpURLConnection.HTTP_NO_CONTENT};
+        HttpURLConnection.HTTP_NO_CONTENT);
 
     /**
      * 20% of the total of threads in the pool to handle overhead.
@@ -112,7 +111,7 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
     /**
      * List of HTTP status codes considered valid by the caller.
      */
-    private List<Integer> acceptableCodes = IntStream.of(DEFAULT_ACCEPTABLE_CODES).boxed().toList();
+    private List<Integer> acceptableCodes = DEFAULT_ACCEPTABLE_CODES;
 
     private long connectionTimeout = DEFAULT_TIMEOUT;
 
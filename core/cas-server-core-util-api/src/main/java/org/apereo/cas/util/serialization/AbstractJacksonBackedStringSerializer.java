@@ -52,7 +52,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
 
     private final PrettyPrinter prettyPrinter;
 
-    private ObjectMapper objectMapper;
+    private volatile ObjectMapper objectMapper;
 
     protected AbstractJacksonBackedStringSerializer() {
         this(new DefaultPrettyPrinter());
@@ -178,21 +178,14 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
 
     /**
      * Gets object mapper and builds on if uninitialized.
+     * The mapper is shared by all threads once built, and only
+     * building it requires a lock.
      *
      * @return the object mapper
      */
-    @Synchronized
     public ObjectMapper getObjectMapper() {
-        if (this.objectMapper == null) {
-            this.objectMapper = JacksonObjectMapperFactory
-                .builder()
-                .defaultTypingEnabled(isDefaultTypingEnabled())
-                .jsonFactory(getJsonFactory())
-                .build()
-                .toObjectMapper();
-            configureObjectMapper(objectMapper);
-        }
-        return this.objectMapper;
+        val mapper = this.objectMapper;
+        return mapper == null ? initializeObjectMapper() : mapper;
     }
 
     /**
@@ -271,4 +264,19 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     private Stringify getJsonFormattingOptions() {
         return prettyPrinter instanceof MinimalPrettyPrinter ? Stringify.PLAIN : Stringify.FORMATTED;
     }
+
+    @Synchronized
+    private ObjectMapper initializeObjectMapper() {
+        if (this.objectMapper == null) {
+            val mapper = JacksonObjectMapperFactory
+                .builder()
+                .defaultTypingEnabled(isDefaultTypingEnabled())
+                .jsonFactory(getJsonFactory())
+                .build()
+                .toObjectMapper();
+            configureObjectMapper(mapper);
+            this.objectMapper = mapper;
+        }
+        return this.objectMapper;
+    }
 }
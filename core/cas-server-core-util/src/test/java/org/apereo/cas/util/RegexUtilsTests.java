@@ -36,4 +36,13 @@ class RegexUtilsTests {
     void verifyNullRegex() throws Throwable {
         assertFalse(RegexUtils.isValidRegex(null));
     }
+
+    @Test
+    void verifyCompiledPatternsAreCached() throws Throwable {
+        val pattern = RegexUtils.createPattern("^https://.+\\.example\\.org/.*");
+        assertSame(pattern, RegexUtils.createPattern("^https://.+\\.example\\.org/.*"));
+        assertNotSame(pattern, RegexUtils.createPattern("^https://.+\\.example\\.org/.*", 0));
+        assertTrue(RegexUtils.find("EXAMPLE", "www.example.org"));
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern("***", 0));
+    }
 }
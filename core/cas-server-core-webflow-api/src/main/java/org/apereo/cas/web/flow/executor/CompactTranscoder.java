@@ -0,0 +1,265 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link CompactTranscoder}, which produces smaller flow execution state than {@link EncryptedTranscoder}
+ * for less CPU. Objects are still serialized by the JDK, but class descriptors of well-known classes
+ * are replaced with a short identifier from a class dictionary, and the result is only compressed when it grows
+ * beyond a configurable size, using the fastest deflate level. Every document starts with a format version,
+ * a flags byte and a fingerprint of the class dictionary so that state produced with a different dictionary
+ * is rejected rather than misread. Buffers, deflaters and inflaters are pooled and reused across requests.
+ * <p>
+ * The class dictionary may only ever be appended to: identifiers are positions in the dictionary.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class CompactTranscoder extends EncryptedTranscoder {
+    /**
+     * The current version of the document format.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    /**
+     * Classes that commonly appear in the flow execution state of CAS login flows.
+     */
+    public static final List<String> DEFAULT_CLASS_DICTIONARY = List.of(
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.execution.FlowExecutionOutcome",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.webflow.core.collection.LocalParameterMap",
+        "org.springframework.binding.collection.MapAdaptable",
+        "org.springframework.binding.message.Message",
+        "org.springframework.binding.message.Severity",
+        "org.springframework.binding.message.DefaultMessageContext",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.Response$ResponseType",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.TreeMap",
+        "java.util.ArrayList",
+        "java.util.LinkedList",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.TreeSet",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.util.UUID",
+        "java.time.Ser"
+    );
+
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final int HEADER_LENGTH = 2 + Integer.BYTES;
+
+    private static final int CLASS_DESCRIPTOR = 0;
+
+    private static final int CLASS_IDENTIFIER = 1;
+
+    private static final int POOL_SIZE = 64;
+
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 512;
+
+    private final List<String> classDictionary;
+
+    private final Map<String, Integer> classIdentifiers = new HashMap<>();
+
+    private final int dictionaryFingerprint;
+
+    private final int compressionThreshold;
+
+    private final BlockingQueue<ByteArrayOutputStream> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final BlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    public CompactTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, DEFAULT_COMPRESSION_THRESHOLD, List.of());
+    }
+
+    public CompactTranscoder(final CipherBean cipherBean, final int compressionThreshold,
+                             final List<String> additionalClasses) {
+        super(cipherBean, false);
+        this.compressionThreshold = compressionThreshold;
+        this.classDictionary = List.copyOf(Stream.concat(DEFAULT_CLASS_DICTIONARY.stream(), additionalClasses.stream())
+            .collect(LinkedHashSet<String>::new, LinkedHashSet::add, LinkedHashSet::addAll));
+        for (var i = 0; i < classDictionary.size(); i++) {
+            classIdentifiers.put(classDictionary.get(i), i);
+        }
+        this.dictionaryFingerprint = String.join(",", classDictionary).hashCode();
+    }
+
+    private static <T> T borrow(final BlockingQueue<T> pool, final Supplier<T> factory) {
+        return Optional.ofNullable(pool.poll()).orElseGet(factory);
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val serialized = borrow(buffers, ByteArrayOutputStream::new);
+        val document = borrow(buffers, ByteArrayOutputStream::new);
+        try {
+            try (val out = new DictionaryObjectOutputStream(serialized)) {
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+            val compressed = compressionThreshold >= 0 && serialized.size() > compressionThreshold;
+            document.write(ByteBuffer.allocate(HEADER_LENGTH)
+                .put(FORMAT_VERSION)
+                .put(compressed ? FLAG_COMPRESSED : 0)
+                .putInt(dictionaryFingerprint)
+                .array());
+            if (compressed) {
+                compress(serialized, document);
+            } else {
+                serialized.writeTo(document);
+            }
+            LOGGER.trace("Encoded flow state of [{}] bytes into [{}] bytes", serialized.size(), document.size());
+            return encrypt(document);
+        } finally {
+            release(serialized);
+            release(document);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        if (data == null || data.length < HEADER_LENGTH) {
+            throw new IOException("Flow state is too short to be decoded");
+        }
+        val header = ByteBuffer.wrap(data, 0, HEADER_LENGTH);
+        val version = header.get();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Flow state is encoded with unsupported format version " + version);
+        }
+        val compressed = (header.get() & FLAG_COMPRESSED) != 0;
+        if (header.getInt() != dictionaryFingerprint) {
+            throw new IOException("Flow state is encoded with a different class dictionary");
+        }
+        val inflater = compressed ? borrow(inflaters, Inflater::new) : null;
+        try {
+            InputStream input = new ByteArrayInputStream(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            if (inflater != null) {
+                input = new InflaterInputStream(input, inflater);
+            }
+            try (val in = new DictionaryObjectInputStream(input)) {
+                return in.readObject();
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        } finally {
+            if (inflater != null) {
+                inflater.reset();
+                inflaters.offer(inflater);
+            }
+        }
+    }
+
+    private void compress(final ByteArrayOutputStream source, final OutputStream target) throws IOException {
+        val deflater = borrow(deflaters, () -> new Deflater(Deflater.BEST_SPEED));
+        try {
+            val out = new DeflaterOutputStream(target, deflater);
+            source.writeTo(out);
+            out.finish();
+        } finally {
+            deflater.reset();
+            deflaters.offer(deflater);
+        }
+    }
+
+    private void release(final ByteArrayOutputStream buffer) {
+        if (buffer.size() <= MAX_POOLED_BUFFER_SIZE) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    private final class DictionaryObjectOutputStream extends ObjectOutputStream {
+        DictionaryObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            val identifier = classIdentifiers.get(desc.getName());
+            if (identifier == null) {
+                writeByte(CLASS_DESCRIPTOR);
+                super.writeClassDescriptor(desc);
+            } else {
+                writeByte(CLASS_IDENTIFIER);
+                writeShort(identifier);
+            }
+        }
+    }
+
+    private final class DictionaryObjectInputStream extends ObjectInputStream {
+        DictionaryObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val type = readByte();
+            if (type == CLASS_IDENTIFIER) {
+                val identifier = readUnsignedShort();
+                if (identifier >= classDictionary.size()) {
+                    throw new IOException("Unknown class identifier " + identifier);
+                }
+                val clazz = ClassUtils.forName(classDictionary.get(identifier), ClassUtils.getDefaultClassLoader());
+                return ObjectStreamClass.lookupAny(clazz);
+            }
+            return super.readClassDescriptor();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.apereo.cas.web.flow.executor;
+
+import java.util.Optional;
+
+/**
+ * This is {@link FlowExecutionStateStore}, which keeps encoded flow execution state
+ * on the server, keyed by the handle that is given to the client.
+ * Implementations are expected to evict state once it has not been written for a while.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface FlowExecutionStateStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "webflowExecutionStateStore";
+
+    /**
+     * Get the state stored for the given handle.
+     *
+     * @param id the handle
+     * @return the state, if it is still stored
+     */
+    Optional<byte[]> get(String id);
+
+    /**
+     * Store the state for the given handle, replacing any existing state.
+     *
+     * @param id    the handle
+     * @param state the state
+     */
+    void put(String id, byte[] state);
+
+    /**
+     * Remove the state stored for the given handle.
+     *
+     * @param id the handle
+     */
+    void remove(String id);
+}
@@ -0,0 +1,42 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This is {@link InMemoryFlowExecutionStateStore}, which keeps flow execution state
+ * in a cache on the local node. State expires once it has not been written for the configured
+ * time to live, and the cache is bounded by the total size of the state it holds.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class InMemoryFlowExecutionStateStore implements FlowExecutionStateStore {
+    private final Cache<String, byte[]> cache;
+
+    public InMemoryFlowExecutionStateStore(final Duration timeToLive, final long maximumStoreSize) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumWeight(maximumStoreSize)
+            .weigher((String id, byte[] state) -> state.length)
+            .build();
+    }
+
+    @Override
+    public Optional<byte[]> get(final String id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        cache.put(id, state);
+    }
+
+    @Override
+    public void remove(final String id) {
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,34 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.webflow.execution.FlowExecutionKey;
+
+import java.io.Serial;
+
+/**
+ * Spring Webflow execution id that only refers to flow execution state kept in a {@link FlowExecutionStateStore}.
+ * Keys produced by this class have the form ID_SIGNATURE where ID is a globally unique identifier
+ * that is used as the handle in the store, and SIGNATURE is the base-64 encoded signature of the identifier.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@EqualsAndHashCode(callSuper = false)
+@Getter
+@RequiredArgsConstructor
+public class StoredFlowExecutionKey extends FlowExecutionKey {
+
+    @Serial
+    private static final long serialVersionUID = -2954138751364880312L;
+
+    private final String id;
+
+    private final String signature;
+
+    @Override
+    public String toString() {
+        return this.id + '_' + this.signature;
+    }
+}
@@ -0,0 +1,219 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.google.common.base.Splitter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.util.Assert;
+import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionFactory;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.FlowExecutionKeyFactory;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.FlowExecutionLock;
+import org.springframework.webflow.execution.repository.FlowExecutionRepository;
+import org.springframework.webflow.execution.repository.FlowExecutionRepositoryException;
+import org.springframework.webflow.execution.repository.FlowExecutionRestorationFailureException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.execution.repository.snapshot.SnapshotCreationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores flow execution state in a {@link FlowExecutionStateStore} on the server, and only
+ * hands a short signed handle to the client in the form of a {@link StoredFlowExecutionKey}.
+ * Since the state never leaves the server, it is encoded by a {@link Transcoder} that does not encrypt.
+ * A conversation keeps the same handle for as long as it lasts, and every pause replaces its stored state,
+ * so that a conversation never holds more than one entry in the store. Handles must be signed with the
+ * webflow signing key, so that they are accepted by every node that shares the store.
+ * <p>
+ * Lookups and the size of stored state are recorded as {@code cas.webflow.state.store}
+ * and {@code cas.webflow.state.size} respectively.
+ *
+ * @author Misagh Moayyed
+ * @see StoredFlowExecutionKey
+ * @see FlowExecutionStateStore
+ * @since 7.0.0
+ */
+@Slf4j
+public class StoredFlowExecutionRepository implements FlowExecutionRepository, FlowExecutionKeyFactory {
+    private static final String KEY_FORMAT = "<uuid>_<base64-encoded-signature>";
+
+    private static final String SIGNING_ALGORITHM = "HmacSHA256";
+
+    private static final FlowExecutionLock NOOP_LOCK = new FlowExecutionLock() {
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void unlock() {
+        }
+    };
+
+    private final FlowExecutionStateStore store;
+
+    private final Transcoder transcoder;
+
+    private final SecretKeySpec signingKey;
+
+    private final long maximumStateSize;
+
+    private final Counter hitCounter = newCounter("hit");
+
+    private final Counter missCounter = newCounter("miss");
+
+    private final DistributionSummary stateSize = DistributionSummary.builder("cas.webflow.state.size")
+        .description("Size of flow execution state kept in the server-side store")
+        .baseUnit("bytes")
+        .register(Metrics.globalRegistry);
+
+    @Setter
+    private FlowExecutionFactory flowExecutionFactory;
+
+    @Setter
+    private FlowDefinitionLocator flowDefinitionLocator;
+
+    public StoredFlowExecutionRepository(final FlowExecutionStateStore store, final Transcoder transcoder,
+                                         final Key signingKey, final long maximumStateSize) {
+        this.store = store;
+        this.transcoder = transcoder;
+        this.maximumStateSize = maximumStateSize;
+        this.signingKey = new SecretKeySpec(getSigningKeyBytes(signingKey), SIGNING_ALGORITHM);
+    }
+
+    private static byte[] getSigningKeyBytes(final Key signingKey) {
+        return Optional.ofNullable(signingKey)
+            .map(Key::getEncoded)
+            .filter(bytes -> bytes.length > 0)
+            .orElseThrow(() -> new IllegalStateException("No signing key is available for flow execution handles. "
+                                                         + "Webflow signing must be enabled with a signing key when flow execution state is kept in a store"));
+    }
+
+    private static Counter newCounter(final String result) {
+        return Counter.builder("cas.webflow.state.store")
+            .description("Number of flow execution state lookups in the server-side store")
+            .tag("result", result)
+            .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public FlowExecutionKey parseFlowExecutionKey(final String encodedKey) throws FlowExecutionRepositoryException {
+        val tokens = Splitter.on('_').splitToList(encodedKey);
+        if (tokens.size() != 2) {
+            throw new BadlyFormattedFlowExecutionKeyException(encodedKey, KEY_FORMAT);
+        }
+        val expected = sign(tokens.get(0));
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), tokens.get(1).getBytes(StandardCharsets.UTF_8))) {
+            LOGGER.warn("Flow execution handle [{}] does not carry a valid signature", tokens.get(0));
+            throw new BadlyFormattedFlowExecutionKeyException(encodedKey, KEY_FORMAT);
+        }
+        return new StoredFlowExecutionKey(tokens.get(0), tokens.get(1));
+    }
+
+    @Override
+    public FlowExecutionLock getLock(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        return NOOP_LOCK;
+    }
+
+    @Override
+    public FlowExecution getFlowExecution(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        Assert.notNull(flowExecutionFactory, "FlowExecutionFactory cannot be null");
+        Assert.notNull(flowDefinitionLocator, "FlowDefinitionLocator cannot be null");
+
+        if (!(key instanceof final StoredFlowExecutionKey storedKey)) {
+            throw new IllegalArgumentException(
+                "Expected instance of StoredFlowExecutionKey but got " + key.getClass().getName());
+        }
+        val encoded = store.get(storedKey.getId());
+        if (encoded.isEmpty()) {
+            missCounter.increment();
+            throw new NoSuchFlowExecutionException(key, null);
+        }
+        hitCounter.increment();
+        try {
+            val state = (ClientFlowExecutionRepository.SerializedFlowExecutionState) transcoder.decode(encoded.get());
+            val flow = flowDefinitionLocator.getFlowDefinition(state.getFlowId());
+            return flowExecutionFactory.restoreFlowExecution(
+                state.getExecution(), flow, key, state.getConversationScope(), flowDefinitionLocator);
+        } catch (final Exception e) {
+            throw new FlowExecutionRestorationFailureException(key, e);
+        }
+    }
+
+    @Override
+    public void putFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        storeFlowExecution(flowExecution);
+    }
+
+    @Override
+    public void removeFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        removeFlowExecutionSnapshot(flowExecution);
+    }
+
+    @Override
+    public FlowExecutionKey getKey(final FlowExecution execution) {
+        if (execution.getKey() instanceof final StoredFlowExecutionKey key) {
+            return key;
+        }
+        val id = UUID.randomUUID().toString();
+        return new StoredFlowExecutionKey(id, sign(id));
+    }
+
+    @Override
+    public void updateFlowExecutionSnapshot(final FlowExecution execution) {
+        storeFlowExecution(execution);
+    }
+
+    @Override
+    public void removeFlowExecutionSnapshot(final FlowExecution execution) {
+        if (execution.getKey() instanceof final StoredFlowExecutionKey key) {
+            store.remove(key.getId());
+        }
+    }
+
+    @Override
+    public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
+        removeFlowExecutionSnapshot(execution);
+    }
+
+    private void storeFlowExecution(final FlowExecution execution) {
+        if (!(execution.getKey() instanceof final StoredFlowExecutionKey key)) {
+            throw new IllegalArgumentException("Flow execution has no key that was issued by this repository");
+        }
+        try {
+            val encoded = transcoder.encode(new ClientFlowExecutionRepository.SerializedFlowExecutionState(execution));
+            if (maximumStateSize > 0 && encoded.length > maximumStateSize) {
+                throw new SnapshotCreationException(execution, "Flow execution state of " + encoded.length
+                    + " bytes exceeds the maximum of " + maximumStateSize + " bytes", null);
+            }
+            stateSize.record(encoded.length);
+            store.put(key.getId(), encoded);
+        } catch (final SnapshotCreationException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new SnapshotCreationException(execution, "Error encoding flow execution", e);
+        }
+    }
+
+    private String sign(final String id) {
+        try {
+            val mac = Mac.getInstance(SIGNING_ALGORITHM);
+            mac.init(signingKey);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(id.getBytes(StandardCharsets.UTF_8)));
+        } catch (final Exception e) {
+            throw new IllegalStateException("Unable to sign flow execution handle", e);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package org.apereo.cas.web.flow.executor;
 
+import org.apereo.cas.configuration.model.core.web.flow.WebflowClientSessionsProperties;
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.cryptacular.bean.CipherBean;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
@@ -32,6 +34,8 @@ public class WebflowExecutorFactory {
 
     private final FlowExecutionListener[] executionListeners;
 
+    private final FlowExecutionStateStore flowExecutionStateStore;
+
     /**
      * Build flow executor.
      *
@@ -41,6 +45,9 @@ public class WebflowExecutorFactory {
         if (webflowProperties.getSession().isStorage()) {
             return buildFlowExecutorViaServerSessionBindingExecution();
         }
+        if (webflowProperties.getSession().getStore().isEnabled()) {
+            return buildFlowExecutorViaStoredFlowExecution();
+        }
         return buildFlowExecutorViaClientFlowExecution();
     }
 
@@ -75,8 +82,29 @@ public class WebflowExecutorFactory {
         return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
     }
 
+    private FlowExecutor buildFlowExecutorViaStoredFlowExecution() {
+        val store = webflowProperties.getSession().getStore();
+        val transcoder = getWebflowStateTranscoder(new WebflowCipherBean(CipherExecutor.noOp()));
+        val repository = new StoredFlowExecutionRepository(flowExecutionStateStore, transcoder,
+            webflowCipherExecutor.getSigningKey(), store.getMaximumStateSize());
+        repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
+
+        val factory = new FlowExecutionImplFactory();
+        factory.setExecutionKeyFactory(repository);
+        factory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
+        repository.setFlowExecutionFactory(factory);
+        return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
+    }
+
     private Transcoder getWebflowStateTranscoder() {
-        val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
+        return getWebflowStateTranscoder(new WebflowCipherBean(this.webflowCipherExecutor));
+    }
+
+    private Transcoder getWebflowStateTranscoder(final CipherBean cipherBean) {
+        val client = webflowProperties.getSession().getClient();
+        if (client.getEncoding() == WebflowClientSessionsProperties.WebflowStateEncodings.COMPACT) {
+            return new CompactTranscoder(cipherBean, client.getCompressionThreshold(), client.getClassDictionary());
+        }
         return new EncryptedTranscoder(cipherBean);
     }
 }
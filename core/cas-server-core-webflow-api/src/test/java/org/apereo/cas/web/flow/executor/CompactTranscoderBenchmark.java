@@ -0,0 +1,86 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the size and the encode/decode time of flow execution state produced by
+ * {@link EncryptedTranscoder} with state produced by {@link CompactTranscoder},
+ * for a flow scope that resembles the one of a typical login flow.
+ * Payload sizes are logged during setup. Run via {@link #main(String[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactTranscoderBenchmark {
+    private Transcoder javaTranscoder;
+
+    private Transcoder compactTranscoder;
+
+    private Object state;
+
+    private byte[] javaState;
+
+    private byte[] compactState;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(CompactTranscoderBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        val cipherBean = CompactTranscoderTests.getCipherBean();
+        javaTranscoder = new EncryptedTranscoder(cipherBean);
+        compactTranscoder = new CompactTranscoder(cipherBean);
+        state = CompactTranscoderTests.getLoginFlowState();
+        javaState = javaTranscoder.encode(state);
+        compactState = compactTranscoder.encode(state);
+        LOGGER.info("Login flow state: Java serialization is [{}] bytes, compact is [{}] bytes",
+            javaState.length, compactState.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJava() throws Exception {
+        return javaTranscoder.encode(state);
+    }
+
+    @Benchmark
+    public byte[] encodeCompact() throws Exception {
+        return compactTranscoder.encode(state);
+    }
+
+    @Benchmark
+    public Object decodeJava() throws Exception {
+        return javaTranscoder.decode(javaState);
+    }
+
+    @Benchmark
+    public Object decodeCompact() throws Exception {
+        return compactTranscoder.decode(compactState);
+    }
+}
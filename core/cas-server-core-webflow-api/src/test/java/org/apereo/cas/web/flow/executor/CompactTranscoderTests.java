@@ -0,0 +1,115 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link CompactTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Webflow")
+class CompactTranscoderTests {
+    private CipherBean cipherBean;
+
+    static LocalAttributeMap<Object> getLoginFlowState() {
+        val flowScope = new LocalAttributeMap<Object>();
+        flowScope.put("service", new WebApplicationServiceFactory().createService("https://app.example.org/login?param=value"));
+        flowScope.put("credential", new UsernamePasswordCredential("casuser", "Mellon"));
+        flowScope.put("authenticationResultBuilder", new LinkedHashMap<>());
+        flowScope.put("loginFlowId", UUID.randomUUID().toString());
+        flowScope.put("delegatedAuthenticationProviders", List.of("CasClient", "SAML2Client", "OidcClient"));
+        val conversationScope = new LocalAttributeMap<Object>();
+        conversationScope.put("flowScope", flowScope);
+        conversationScope.put("warnCookieValue", Boolean.FALSE);
+        conversationScope.put("attempts", 1);
+        return conversationScope;
+    }
+
+    static CipherBean getCipherBean() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val cipherBean = new AEADBlockCipherBean();
+        cipherBean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipherBean.setKeyStore(ksFactory.newInstance());
+        cipherBean.setKeyAlias("aes128");
+        cipherBean.setKeyPassword("changeit");
+        cipherBean.setNonce(new RBGNonce());
+        return cipherBean;
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        cipherBean = getCipherBean();
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Throwable {
+        val transcoder = new CompactTranscoder(cipherBean);
+        val state = getLoginFlowState();
+        val encoded = transcoder.encode(state);
+        assertEquals(state, transcoder.decode(encoded));
+        assertEquals(state, transcoder.decode(transcoder.encode(state)));
+    }
+
+    @Test
+    void verifySmallerThanJavaSerialization() throws Throwable {
+        val state = getLoginFlowState();
+        val compact = new CompactTranscoder(cipherBean, -1, List.of()).encode(state);
+        val java = new EncryptedTranscoder(cipherBean, false).encode(state);
+        assertTrue(compact.length < java.length);
+    }
+
+    @Test
+    void verifyCompressed() throws Throwable {
+        val transcoder = new CompactTranscoder(cipherBean, 0, List.of());
+        val state = getLoginFlowState();
+        assertEquals(state, transcoder.decode(transcoder.encode(state)));
+    }
+
+    @Test
+    void verifyDifferentDictionary() throws Throwable {
+        val encoded = new CompactTranscoder(cipherBean).encode(getLoginFlowState());
+        val transcoder = new CompactTranscoder(cipherBean, 512, List.of("org.example.Custom"));
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+    }
+
+    @Test
+    void verifyJavaSerializedStateIsRejected() throws Throwable {
+        val encoded = new EncryptedTranscoder(cipherBean).encode(getLoginFlowState());
+        assertThrows(IOException.class, () -> new CompactTranscoder(cipherBean).decode(encoded));
+    }
+
+    @Test
+    void verifyBadInput() throws Throwable {
+        val transcoder = new CompactTranscoder(mock(CipherBean.class));
+        assertArrayEquals(ArrayUtils.EMPTY_BYTE_ARRAY, transcoder.encode(null));
+        assertThrows(IOException.class, () -> transcoder.decode(ArrayUtils.EMPTY_BYTE_ARRAY));
+    }
+}
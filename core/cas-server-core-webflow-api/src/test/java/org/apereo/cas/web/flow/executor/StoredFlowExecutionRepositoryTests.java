@@ -0,0 +1,160 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.config.FlowBuilderServicesBuilder;
+import org.springframework.webflow.config.FlowDefinitionRegistryBuilder;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
+import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
+import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionFactory;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.executor.FlowExecutorImpl;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.CasMockViewFactoryCreator;
+import org.springframework.webflow.test.MockExternalContext;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link StoredFlowExecutionRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    StoredFlowExecutionRepositoryTests.WebflowTestConfiguration.class,
+    RefreshAutoConfiguration.class
+})
+@Tag("Webflow")
+class StoredFlowExecutionRepositoryTests {
+    private static final Key SIGNING_KEY = new SecretKeySpec(
+        "PqFcvtkKe2GuNJUzJ-kUr0UtyYt0y9xhRrBJwzVtBCk".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    @Autowired
+    @Qualifier("flowExecutor")
+    private FlowExecutor flowExecutor;
+
+    @Autowired
+    @Qualifier("flowExecutionRepository")
+    private StoredFlowExecutionRepository flowExecutionRepository;
+
+    @Autowired
+    @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+    private FlowExecutionStateStore flowExecutionStateStore;
+
+    @Test
+    void verifyMissingSigningKey() {
+        assertThrows(IllegalStateException.class, () -> new StoredFlowExecutionRepository(mock(FlowExecutionStateStore.class),
+            mock(Transcoder.class), null, 0));
+    }
+
+    @Test
+    void verifyBadKey() throws Throwable {
+        val repository = new StoredFlowExecutionRepository(mock(FlowExecutionStateStore.class),
+            mock(Transcoder.class), SIGNING_KEY, 0);
+        repository.setFlowExecutionFactory(mock(FlowExecutionFactory.class));
+        repository.setFlowDefinitionLocator(mock(FlowDefinitionLocator.class));
+        assertThrows(IllegalArgumentException.class, () -> repository.getFlowExecution(mock(FlowExecutionKey.class)));
+        assertThrows(IllegalArgumentException.class, () -> repository.putFlowExecution(mock(FlowExecution.class)));
+        assertThrows(BadlyFormattedFlowExecutionKeyException.class, () -> repository.parseFlowExecutionKey("unknown"));
+        val key = repository.getKey(mock(FlowExecution.class));
+        assertEquals(key, repository.parseFlowExecutionKey(key.toString()));
+        assertThrows(BadlyFormattedFlowExecutionKeyException.class,
+            () -> repository.parseFlowExecutionKey(key.toString() + 'X'));
+        assertThrows(NoSuchFlowExecutionException.class, () -> repository.getFlowExecution(key));
+
+        val execution = mock(FlowExecution.class);
+        when(execution.getKey()).thenReturn(key);
+        assertSame(key, repository.getKey(execution));
+    }
+
+    @Test
+    void verifyLaunchAndResumeFlow() throws Throwable {
+        val launchResult = flowExecutor.launchExecution("test-flow", new LocalAttributeMap<>(), new MockExternalContext());
+        val pausedKey = launchResult.getPausedKey();
+        assertNotNull(pausedKey);
+        assertTrue(pausedKey.length() < 100);
+        val key = (StoredFlowExecutionKey) flowExecutionRepository.parseFlowExecutionKey(pausedKey);
+        assertTrue(flowExecutionStateStore.get(key.getId()).isPresent());
+
+        val context = new MockExternalContext();
+        context.setEventId("submit");
+        context.getRequestMap().put("vegan", "0");
+        val resumeResult = flowExecutor.resumeExecution(pausedKey, context);
+        assertNotNull(resumeResult.getOutcome());
+        assertEquals("lasagnaDinner", resumeResult.getOutcome().getId());
+        assertTrue(flowExecutionStateStore.get(key.getId()).isEmpty());
+    }
+
+    @TestConfiguration(value = "WebflowTestConfiguration", proxyBeanMethods = false)
+    static class WebflowTestConfiguration {
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Bean
+        public FlowExecutionStateStore webflowExecutionStateStore() {
+            return new InMemoryFlowExecutionStateStore(Duration.ofMinutes(5), 1024 * 1024);
+        }
+
+        @Bean
+        public StoredFlowExecutionRepository flowExecutionRepository(
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME) final FlowExecutionStateStore webflowExecutionStateStore,
+            @Qualifier("flowRegistry") final FlowDefinitionRegistry flowRegistry) {
+            val transcoder = new CompactTranscoder(new WebflowCipherBean(CipherExecutor.noOp()));
+            val repository = new StoredFlowExecutionRepository(webflowExecutionStateStore, transcoder, SIGNING_KEY, 64 * 1024);
+            repository.setFlowDefinitionLocator(flowRegistry);
+            return repository;
+        }
+
+        @Bean
+        public FlowExecutor flowExecutor(
+            @Qualifier("flowExecutionRepository") final StoredFlowExecutionRepository flowExecutionRepository,
+            @Qualifier("flowRegistry") final FlowDefinitionRegistry flowRegistry) {
+            val factory = new FlowExecutionImplFactory();
+            factory.setExecutionKeyFactory(flowExecutionRepository);
+            flowExecutionRepository.setFlowExecutionFactory(factory);
+            return new FlowExecutorImpl(flowRegistry, factory, flowExecutionRepository);
+        }
+
+        @Bean
+        public FlowDefinitionRegistry flowRegistry(
+            @Qualifier("flowBuilder") final FlowBuilderServices flowBuilder) {
+            val builder = new FlowDefinitionRegistryBuilder(this.applicationContext, flowBuilder);
+            builder.setBasePath("classpath:");
+            builder.addFlowLocationPattern("/test/*-flow.xml");
+            return builder.build();
+        }
+
+        @Bean
+        public FlowBuilderServices flowBuilder() {
+            val builder = new FlowBuilderServicesBuilder();
+            builder.setViewFactoryCreator(new CasMockViewFactoryCreator());
+            builder.setExpressionParser(new WebFlowSpringELExpressionParser(new SpelExpressionParser()));
+            return builder.build();
+        }
+    }
+}
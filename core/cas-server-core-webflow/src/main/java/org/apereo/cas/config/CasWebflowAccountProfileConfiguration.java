@@ -14,6 +14,7 @@ import org.apereo.cas.web.flow.CasWebflowConstants;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlan;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
 import org.apereo.cas.web.flow.configurer.acct.AccountProfileWebflowConfigurer;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 
 import lombok.val;
@@ -78,9 +79,10 @@ public class CasWebflowAccountProfileConfiguration {
     public FlowExecutor accountProfileFlowExecutor(
         final CasConfigurationProperties casProperties,
         @Qualifier(CasWebflowConstants.BEAN_NAME_ACCOUNT_PROFILE_FLOW_DEFINITION_REGISTRY) final FlowDefinitionRegistry accountProfileFlowRegistry,
-        @Qualifier("webflowCipherExecutor") final CipherExecutor webflowCipherExecutor) {
+        @Qualifier("webflowCipherExecutor") final CipherExecutor webflowCipherExecutor,
+        @Qualifier(FlowExecutionStateStore.BEAN_NAME) final FlowExecutionStateStore webflowExecutionStateStore) {
         val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-            accountProfileFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+            accountProfileFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS, webflowExecutionStateStore);
         return factory.build();
     }
 
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.util.CollectionUtils;
@@ -24,6 +25,8 @@ import org.apereo.cas.web.flow.configurer.DefaultLogoutWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilder;
 import org.apereo.cas.web.flow.configurer.GroovyWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.plan.DefaultCasWebflowExecutionPlan;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.InMemoryFlowExecutionStateStore;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CasLocaleChangeInterceptor;
@@ -165,6 +168,14 @@ public class CasWebflowContextConfiguration {
     @Configuration(value = "CasWebflowContextFlowExecutorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasWebflowContextFlowExecutorConfiguration {
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Bean
+        @ConditionalOnMissingBean(name = FlowExecutionStateStore.BEAN_NAME)
+        public FlowExecutionStateStore webflowExecutionStateStore(final CasConfigurationProperties casProperties) {
+            val store = casProperties.getWebflow().getSession().getStore();
+            return new InMemoryFlowExecutionStateStore(Beans.newDuration(store.getTimeToLive()), store.getMaximumStoreSize());
+        }
+
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         public FlowExecutor logoutFlowExecutor(
@@ -172,9 +183,11 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGOUT_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry logoutFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+            final FlowExecutionStateStore webflowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS, webflowExecutionStateStore);
             return factory.build();
         }
 
@@ -185,10 +198,12 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGIN_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry loginFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+            final FlowExecutionStateStore webflowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 loginFlowRegistry, webflowCipherExecutor,
-                FLOW_EXECUTION_LISTENERS);
+                FLOW_EXECUTION_LISTENERS, webflowExecutionStateStore);
 
             return factory.build();
         }
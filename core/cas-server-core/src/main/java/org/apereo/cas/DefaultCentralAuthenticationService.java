@@ -37,6 +37,7 @@ import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistryTransaction;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -163,8 +164,9 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-                    configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
-                    configurationContext.getTicketRegistry().addTicket(serviceTicket);
+                    configurationContext.getTicketRegistry().executeTransaction(TicketRegistryTransaction.newTransaction()
+                        .updateTicket(ticketGrantingTicket)
+                        .addTicket(serviceTicket));
 
                     LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
                         serviceTicket.getId(), DigestUtils.abbreviate(selectedService.getId()), principal.getId());
@@ -210,8 +212,9 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                         val proxyTicket = factory.create(proxyGrantingTicketObject, service, ProxyTicket.class);
                         val clientInfo = ClientInfoHolder.getClientInfo();
 
-                        configurationContext.getTicketRegistry().updateTicket(proxyGrantingTicketObject);
-                        configurationContext.getTicketRegistry().addTicket(proxyTicket);
+                        configurationContext.getTicketRegistry().executeTransaction(TicketRegistryTransaction.newTransaction()
+                            .updateTicket(proxyGrantingTicketObject)
+                            .addTicket(proxyTicket));
 
                         LOGGER.info("Granted proxy ticket [{}] for service [{}] for user [{}]",
                             proxyTicket.getId(), service.getId(), principal.getId());
@@ -381,8 +384,9 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     val proxyGrantingTicket = factory.create(serviceTicket, authentication, ProxyGrantingTicket.class);
                     val clientInfo = ClientInfoHolder.getClientInfo();
                     LOGGER.debug("Generated proxy granting ticket [{}] based off of [{}]", proxyGrantingTicket, serviceTicketId);
-                    configurationContext.getTicketRegistry().addTicket(proxyGrantingTicket);
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket.getTicketGrantingTicket());
+                    configurationContext.getTicketRegistry().executeTransaction(TicketRegistryTransaction.newTransaction()
+                        .addTicket(proxyGrantingTicket)
+                        .updateTicket(serviceTicket.getTicketGrantingTicket()));
                     doPublishEvent(new CasProxyGrantingTicketCreatedEvent(this, proxyGrantingTicket, clientInfo));
                     return proxyGrantingTicket;
                 }))
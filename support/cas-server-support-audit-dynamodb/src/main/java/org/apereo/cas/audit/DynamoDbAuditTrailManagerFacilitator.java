@@ -18,15 +18,20 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,6 +46,8 @@ import java.util.stream.Collectors;
 @Slf4j
 @SuppressWarnings("JavaUtilDate")
 public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    private static final int BATCH_PUT_REQUEST_LIMIT = 25;
+
     /**
      * Build table attribute values map.
      *
@@ -96,6 +103,29 @@ public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynam
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save all records using batch writes, submitting
+     * up to {@value #BATCH_PUT_REQUEST_LIMIT} records per request.
+     * Records are keyed by principal, so only the last record
+     * of each principal within a batch is written.
+     *
+     * @param records the records
+     */
+    public void save(final List<AuditActionContext> records) {
+        val items = new LinkedHashMap<String, WriteRequest>();
+        records.forEach(record -> {
+            val values = buildTableAttributeValuesMap(record);
+            items.put(record.getPrincipal(), WriteRequest.builder().putRequest(PutRequest.builder().item(values).build()).build());
+            if (items.size() >= BATCH_PUT_REQUEST_LIMIT) {
+                submitBatchWriteRequest(items.values());
+                items.clear();
+            }
+        });
+        if (!items.isEmpty()) {
+            submitBatchWriteRequest(items.values());
+        }
+    }
+
     /**
      * Remove all.
      */
@@ -145,6 +175,18 @@ public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynam
             .collect(Collectors.toSet());
     }
 
+    private void submitBatchWriteRequest(final Collection<WriteRequest> requests) {
+        var pending = Map.<String, Collection<WriteRequest>>of(dynamoDbProperties.getTableName(), List.copyOf(requests));
+        while (!pending.isEmpty()) {
+            val batchRequest = BatchWriteItemRequest.builder().requestItems(pending).build();
+            LOGGER.debug("Submitting batch write request for [{}] record(s)", requests.size());
+            val result = amazonDynamoDBClient.batchWriteItem(batchRequest);
+            pending = result.hasUnprocessedItems()
+                ? Map.copyOf(result.unprocessedItems())
+                : Map.of();
+        }
+    }
+
     /**
      * Column names for tables holding records.
      */
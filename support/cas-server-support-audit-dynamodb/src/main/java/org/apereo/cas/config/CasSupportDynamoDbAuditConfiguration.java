@@ -37,7 +37,9 @@ public class CasSupportDynamoDbAuditConfiguration {
         @Qualifier("dynamoDbAuditTrailManagerFacilitator")
         final DynamoDbAuditTrailManagerFacilitator dynamoDbAuditTrailManagerFacilitator) {
         val db = casProperties.getAudit().getDynamoDb();
-        return new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        val manager = new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return manager;
     }
 
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -177,6 +177,7 @@ public class CasJdbcAuditConfiguration {
                     manager.setCleanupCriteria(auditCleanupCriteria);
                     manager.setDataSource(inspektrAuditTrailDataSource);
                     manager.setAsynchronous(jdbc.isAsynchronous());
+                    manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
                     manager.setColumnLength(jdbc.getColumnLength());
                     manager.setTableName(getAuditTableNameFrom(jdbc));
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
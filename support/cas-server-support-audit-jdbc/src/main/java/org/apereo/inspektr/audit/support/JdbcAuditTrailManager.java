@@ -1,5 +1,8 @@
 package org.apereo.inspektr.audit.support;
 
+import org.apereo.cas.audit.spi.AsynchronousAuditTrailPipeline;
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.apereo.inspektr.common.web.ClientInfo;
@@ -32,8 +35,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -142,14 +143,18 @@ public class JdbcAuditTrailManager extends NamedParameterJdbcDaoSupport implemen
     @Setter
     private String dateFormatterFunction;
 
-    @NotNull
-    private ExecutorService executorService = Executors.newSingleThreadExecutor();
-
-    private boolean defaultExecutorService = true;
-
     @Setter
     private boolean asynchronous = true;
 
+    /**
+     * Settings that control the queue and batching of records that are saved asynchronously.
+     */
+    @Setter
+    @NotNull
+    private AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
+
+    private volatile AsynchronousAuditTrailPipeline pipeline;
+
     /**
      * Criteria used to determine records that should be deleted on cleanup.
      */
@@ -162,32 +167,17 @@ public class JdbcAuditTrailManager extends NamedParameterJdbcDaoSupport implemen
 
     @Override
     public void record(final AuditActionContext auditActionContext) {
-        val command = new LoggingTask(auditActionContext,
-            this.transactionTemplate, this.columnLength);
         if (this.asynchronous) {
-            this.executorService.execute(command);
+            getPipeline().submit(auditActionContext);
         } else {
-            command.run();
+            saveAuditRecords(List.of(auditActionContext));
         }
     }
 
-    /**
-     * Sets executor service.
-     *
-     * @param executorService the executor service
-     */
-    public void setExecutorService(final ExecutorService executorService) {
-        this.executorService = executorService;
-        this.defaultExecutorService = false;
-    }
-
-    /**
-     * We only shut down the default executor service.  We assume, that if you've injected one, its being managed elsewhere.
-     */
     @Override
-    public void destroy() {
-        if (this.defaultExecutorService) {
-            this.executorService.shutdown();
+    public void destroy() throws Exception {
+        if (this.pipeline != null) {
+            this.pipeline.destroy();
         }
     }
 
@@ -245,46 +235,53 @@ public class JdbcAuditTrailManager extends NamedParameterJdbcDaoSupport implemen
         return getAuditRecordsSince(builder);
     }
 
-    @RequiredArgsConstructor
-    private final class LoggingTask implements Runnable {
-
-        private final AuditActionContext auditActionContext;
-
-        private final TransactionOperations transactionTemplate;
-
-        private final int columnLength;
-
-        @Override
-        public void run() {
-            this.transactionTemplate
-                .execute(new TransactionCallbackWithoutResult() {
-                    @Override
-                    protected void doInTransactionWithoutResult(final TransactionStatus transactionStatus) {
-                        val userId = columnLength <= 0 || auditActionContext.getPrincipal().length() <= columnLength
-                            ? auditActionContext.getPrincipal()
-                            : auditActionContext.getPrincipal().substring(0, columnLength);
-                        val resource = columnLength <= 0 || auditActionContext.getResourceOperatedUpon().length() <= columnLength
-                            ? auditActionContext.getResourceOperatedUpon()
-                            : auditActionContext.getResourceOperatedUpon().substring(0, columnLength);
-                        val action = columnLength <= 0 || auditActionContext.getActionPerformed().length() <= columnLength
-                            ? auditActionContext.getActionPerformed()
-                            : auditActionContext.getActionPerformed().substring(0, columnLength);
-
-                        getJdbcTemplate()
-                            .update(
-                                String.format(INSERT_SQL_TEMPLATE, tableName),
-                                userId,
-                                auditActionContext.getClientInfo().getClientIpAddress(),
-                                auditActionContext.getClientInfo().getServerIpAddress(),
-                                resource,
-                                action,
-                                auditActionContext.getApplicationCode(),
-                                auditActionContext.getWhenActionWasPerformed(),
-                                auditActionContext.getClientInfo().getGeoLocation(),
-                                auditActionContext.getClientInfo().getUserAgent());
-                    }
-                });
+    /**
+     * Save audit records using a single batch insert statement,
+     * executed in one transaction.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        val parameters = audits.stream().map(this::toInsertParameters).toList();
+        this.transactionTemplate.executeWithoutResult(status -> {
+            LOGGER.trace("Inserting [{}] audit records into [{}]", parameters.size(), tableName);
+            getJdbcTemplate().batchUpdate(String.format(INSERT_SQL_TEMPLATE, tableName), parameters);
+        });
+    }
+
+    private Object[] toInsertParameters(final AuditActionContext auditActionContext) {
+        return new Object[]{
+            truncate(auditActionContext.getPrincipal()),
+            auditActionContext.getClientInfo().getClientIpAddress(),
+            auditActionContext.getClientInfo().getServerIpAddress(),
+            truncate(auditActionContext.getResourceOperatedUpon()),
+            truncate(auditActionContext.getActionPerformed()),
+            auditActionContext.getApplicationCode(),
+            auditActionContext.getWhenActionWasPerformed(),
+            auditActionContext.getClientInfo().getGeoLocation(),
+            auditActionContext.getClientInfo().getUserAgent()
+        };
+    }
+
+    private String truncate(final String value) {
+        return columnLength <= 0 || value.length() <= columnLength
+            ? value
+            : value.substring(0, columnLength);
+    }
+
+    private AsynchronousAuditTrailPipeline getPipeline() {
+        var result = this.pipeline;
+        if (result == null) {
+            synchronized (this) {
+                result = this.pipeline;
+                if (result == null) {
+                    result = new AsynchronousAuditTrailPipeline(getClass().getSimpleName(),
+                        this.pipelineProperties, this::saveAuditRecords);
+                    this.pipeline = result;
+                }
+            }
         }
+        return result;
     }
 
     private Set<? extends AuditActionContext> getAuditRecordsSince(final StringBuilder where) {
@@ -11,6 +11,8 @@ import org.apereo.inspektr.audit.AuditActionContext;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -53,6 +55,10 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
         return CAS_AUDIT_CONTEXT_PREFIX + '*';
     }
 
+    private static String getAuditRedisKey(final AuditActionContext audit) {
+        return getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal());
+    }
+
     @Override
     public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDate) whereClause.get(WhereClauseFields.DATE);
@@ -79,8 +85,15 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
-        val redisKey = getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal());
-        this.redisTemplate.boundValueOps(redisKey).set(audit);
+        this.redisTemplate.boundValueOps(getAuditRedisKey(audit)).set(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        val records = new LinkedHashMap<String, AuditActionContext>(audits.size());
+        audits.forEach(audit -> records.put(getAuditRedisKey(audit), audit));
+        LOGGER.trace("Saving [{}] audit records", records.size());
+        this.redisTemplate.opsForValue().multiSet(records);
     }
 
     private Stream<String> getAuditRedisKeys() {
@@ -47,7 +47,9 @@ public class CasSupportRedisAuditConfiguration {
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> {
                 val redis = casProperties.getAudit().getRedis();
-                return new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous(), redis.getScanCount());
+                val manager = new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous(), redis.getScanCount());
+                manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+                return manager;
             })
             .otherwiseProxy()
             .get();
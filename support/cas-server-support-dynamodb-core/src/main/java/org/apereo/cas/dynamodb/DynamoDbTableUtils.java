@@ -17,6 +17,7 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
@@ -129,19 +130,50 @@ public class DynamoDbTableUtils {
                                                final boolean deleteTable,
                                                final List<AttributeDefinition> attributeDefinitions,
                                                final List<KeySchemaElement> keySchemaElements) throws Exception {
+        return createTable(dynamoDbClient, dynamoDbProperties, tableName, deleteTable,
+            attributeDefinitions, keySchemaElements, List.of());
+    }
+
+    /**
+     * Create table with global secondary indexes.
+     * The provisioned throughput of the table is applied to the indexes as well.
+     *
+     * @param dynamoDbClient         the dynamo db client
+     * @param dynamoDbProperties     the dynamo db properties
+     * @param tableName              the table name
+     * @param deleteTable            the delete tables
+     * @param attributeDefinitions   the attribute definitions
+     * @param keySchemaElements      the key schema elements
+     * @param globalSecondaryIndexes the global secondary indexes
+     * @return the table description
+     * @throws Exception the exception
+     */
+    public static TableDescription createTable(final DynamoDbClient dynamoDbClient,
+                                               final AbstractDynamoDbProperties dynamoDbProperties,
+                                               final String tableName,
+                                               final boolean deleteTable,
+                                               final List<AttributeDefinition> attributeDefinitions,
+                                               final List<KeySchemaElement> keySchemaElements,
+                                               final List<GlobalSecondaryIndex> globalSecondaryIndexes) throws Exception {
 
         val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
         val throughput = billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
             .readCapacityUnits(dynamoDbProperties.getReadCapacity())
             .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
             .build() : null;
-        val request = CreateTableRequest.builder()
+        val builder = CreateTableRequest.builder()
             .attributeDefinitions(attributeDefinitions)
             .keySchema(keySchemaElements)
             .provisionedThroughput(throughput)
             .tableName(tableName)
-            .billingMode(billingMode)
-            .build();
+            .billingMode(billingMode);
+        if (!globalSecondaryIndexes.isEmpty()) {
+            builder.globalSecondaryIndexes(globalSecondaryIndexes
+                .stream()
+                .map(index -> index.toBuilder().provisionedThroughput(throughput).build())
+                .toList());
+        }
+        val request = builder.build();
 
         if (deleteTable) {
             val delete = DeleteTableRequest.builder().tableName(tableName).build();
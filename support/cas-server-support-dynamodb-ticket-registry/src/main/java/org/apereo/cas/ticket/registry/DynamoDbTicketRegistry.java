@@ -99,6 +99,16 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         });
     }
 
+    @Override
+    protected void saveTickets(final List<TicketRegistryTransaction.Operation> operations) {
+        val toPut = operations
+            .stream()
+            .map(TicketRegistryTransaction.Operation::ticket)
+            .map(Unchecked.function(this::toTicketPayload))
+            .toList();
+        dbTableService.putTransactionally(toPut);
+    }
+
     private DynamoDbTicketRegistryFacilitator.TicketPayload toTicketPayload(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
         val principal = digestIdentifier(getPrincipalIdFrom(ticket));
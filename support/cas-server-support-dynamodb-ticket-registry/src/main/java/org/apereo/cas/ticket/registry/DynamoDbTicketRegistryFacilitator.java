@@ -28,10 +28,13 @@ import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.nio.ByteBuffer;
@@ -39,6 +42,7 @@ import java.time.chrono.ChronoZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -60,6 +64,8 @@ import java.util.stream.Stream;
 public class DynamoDbTicketRegistryFacilitator {
     private static final int BATCH_PUT_REQUEST_LIMIT = 25;
 
+    private static final int TRANSACT_WRITE_REQUEST_LIMIT = 100;
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
@@ -218,6 +224,35 @@ public class DynamoDbTicketRegistryFacilitator {
         }
     }
 
+    /**
+     * Put all tickets using transactional writes, submitting
+     * up to {@value #TRANSACT_WRITE_REQUEST_LIMIT} tickets per request.
+     * A ticket that is saved more than once is only written in its latest state,
+     * since a transaction may not operate on the same item more than once.
+     *
+     * @param toSave the to save
+     */
+    public void putTransactionally(final List<TicketPayload> toSave) {
+        val items = new LinkedHashMap<String, TransactWriteItem>();
+        toSave.forEach(payload -> {
+            val metadata = ticketCatalog.find(payload.getOriginalTicket());
+            val tableName = metadata.getProperties().getStorageName();
+            val put = Put.builder()
+                .tableName(tableName)
+                .item(buildTableAttributeValuesMapFromTicket(payload))
+                .build();
+            val key = tableName + ':' + payload.getEncodedTicket().getId();
+            items.remove(key);
+            items.put(key, TransactWriteItem.builder().put(put).build());
+        });
+        val requests = new ArrayList<>(items.values());
+        for (var i = 0; i < requests.size(); i += TRANSACT_WRITE_REQUEST_LIMIT) {
+            val batch = requests.subList(i, Math.min(i + TRANSACT_WRITE_REQUEST_LIMIT, requests.size()));
+            LOGGER.debug("Submitting transactional write request for [{}] ticket(s)", batch.size());
+            amazonDynamoDBClient.transactWriteItems(TransactWriteItemsRequest.builder().transactItems(batch).build());
+        }
+    }
+
     /**
      * Put ticket.
      *
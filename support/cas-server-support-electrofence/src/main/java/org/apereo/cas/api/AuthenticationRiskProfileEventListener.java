@@ -0,0 +1,26 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+
+/**
+ * This is {@link AuthenticationRiskProfileEventListener}, which records authentication events
+ * in the risk profiles of principals as they are saved into the events repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface AuthenticationRiskProfileEventListener extends CasEventListener {
+
+    /**
+     * Handle the event published when an authentication event is saved.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Async
+    void handleAuditApplicationEvent(AuditApplicationEvent event);
+}
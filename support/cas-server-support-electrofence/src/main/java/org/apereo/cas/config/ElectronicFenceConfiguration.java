@@ -5,16 +5,19 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileEventListener;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.engine.ConcurrentAuthenticationRiskEvaluator;
 import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluator;
 import org.apereo.cas.impl.engine.DefaultAuthenticationRiskMitigator;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifier;
@@ -22,8 +25,11 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileEventListener;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.risk.InMemoryAuthenticationRiskProfileRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -40,9 +46,11 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -56,6 +64,53 @@ import java.util.List;
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Electrofence)
 @AutoConfiguration
 public class ElectronicFenceConfiguration {
+    private static final BeanCondition PROFILE_CONDITION = BeanCondition.on("cas.authn.adaptive.risk.profile.enabled").isTrue();
+
+    private static AuthenticationRiskProfileRepository getRiskProfileRepository(
+        final CasConfigurationProperties casProperties,
+        final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
+        return casProperties.getAuthn().getAdaptive().getRisk().getProfile().isEnabled()
+            ? authenticationRiskProfileRepository
+            : null;
+    }
+
+    @Configuration(value = "ElectronicFenceRiskProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class ElectronicFenceRiskProfileConfiguration {
+
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileRepository.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties) {
+            return BeanSupplier.of(AuthenticationRiskProfileRepository.class)
+                .when(PROFILE_CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val risk = casProperties.getAuthn().getAdaptive().getRisk();
+                    return new InMemoryAuthenticationRiskProfileRepository(
+                        Beans.newDuration(risk.getProfile().getHalfLife()), risk.getProfile().getMaximumEntries(),
+                        risk.getProfile().getMaximumSize(), Duration.ofDays(risk.getCore().getDaysInRecentHistory()));
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "authenticationRiskProfileEventListener")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public AuthenticationRiskProfileEventListener authenticationRiskProfileEventListener(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
+            return BeanSupplier.of(AuthenticationRiskProfileEventListener.class)
+                .when(PROFILE_CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> new DefaultAuthenticationRiskProfileEventListener(authenticationRiskProfileRepository))
+                .otherwiseProxy()
+                .get();
+        }
+    }
 
     @Configuration(value = "ElectronicFenceMitigatorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
@@ -84,7 +139,12 @@ public class ElectronicFenceConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public AuthenticationRiskEvaluator authenticationRiskEvaluator(
+            final CasConfigurationProperties casProperties,
             final List<AuthenticationRequestRiskCalculator> ipAddressAuthenticationRequestRiskCalculators) {
+            val core = casProperties.getAuthn().getAdaptive().getRisk().getCore();
+            if (core.isConcurrent()) {
+                return new ConcurrentAuthenticationRiskEvaluator(ipAddressAuthenticationRequestRiskCalculators, core);
+            }
             return new DefaultAuthenticationRiskEvaluator(ipAddressAuthenticationRequestRiskCalculators);
         }
     }
@@ -175,11 +235,14 @@ public class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
             @Qualifier(CasEventRepository.BEAN_NAME)
             final CasEventRepository casEventRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.ip.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties)
+                    .setRiskProfileRepository(getRiskProfileRepository(casProperties, authenticationRiskProfileRepository)))
                 .otherwiseProxy()
                 .get();
         }
@@ -190,11 +253,14 @@ public class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
             @Qualifier(CasEventRepository.BEAN_NAME)
             final CasEventRepository casEventRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.agent.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties)
+                    .setRiskProfileRepository(getRiskProfileRepository(casProperties, authenticationRiskProfileRepository)))
                 .otherwiseProxy()
                 .get();
         }
@@ -205,11 +271,14 @@ public class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
             @Qualifier(CasEventRepository.BEAN_NAME)
             final CasEventRepository casEventRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.date-time.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties)
+                    .setRiskProfileRepository(getRiskProfileRepository(casProperties, authenticationRiskProfileRepository)))
                 .otherwiseProxy()
                 .get();
         }
@@ -227,11 +296,14 @@ public class ElectronicFenceConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier(GeoLocationService.BEAN_NAME)
             final GeoLocationService geoLocationService,
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
             @Qualifier(CasEventRepository.BEAN_NAME)
             final CasEventRepository casEventRepository) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.geo-location.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService))
+                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService)
+                    .setRiskProfileRepository(getRiskProfileRepository(casProperties, authenticationRiskProfileRepository)))
                 .otherwiseProxy()
                 .get();
         }
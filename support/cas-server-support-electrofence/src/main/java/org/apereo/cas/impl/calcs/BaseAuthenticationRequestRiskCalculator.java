@@ -7,16 +7,22 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfileRepository;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -24,7 +30,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * This is {@link BaseAuthenticationRequestRiskCalculator}.
+ * This is {@link BaseAuthenticationRequestRiskCalculator}. If a risk profile repository is available,
+ * scores are calculated from the risk profile of the principal, which summarizes its recent
+ * authentication events, instead of from the events themselves. Principals that have no risk profile yet,
+ * such as those that authenticated before profiles were enabled, are scored from their events.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -43,11 +52,27 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      */
     protected final CasConfigurationProperties casProperties;
 
+    /**
+     * Risk profiles of principals, if risk profiles are enabled.
+     */
+    @Setter
+    @Accessors(chain = true)
+    protected AuthenticationRiskProfileRepository riskProfileRepository;
+
     @Override
     public final AuthenticationRiskScore calculate(final Authentication authentication,
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         val principal = authentication.getPrincipal();
+        if (riskProfileRepository != null) {
+            val profile = getAuthenticationRiskProfileFor(principal.getId());
+            if (profile != null) {
+                val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, profile));
+                LOGGER.debug("Calculated authentication risk score by [{}] from risk profile is [{}]", getClass().getSimpleName(), score);
+                return score;
+            }
+            LOGGER.debug("No risk profile is found for [{}]; authentication events are examined instead", principal.getId());
+        }
         val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId()).collect(Collectors.toList());
         if (events.isEmpty()) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
@@ -64,6 +89,27 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
         return HIGHEST_RISK_SCORE;
     }
 
+    protected BigDecimal calculateScore(final HttpServletRequest request,
+                                        final Authentication authentication,
+                                        final RegisteredService service,
+                                        final AuthenticationRiskProfile profile) {
+        return HIGHEST_RISK_SCORE;
+    }
+
+    /**
+     * Gets the risk profile of the principal, if it has recorded events in recent history.
+     *
+     * @param principal the principal
+     * @return the risk profile, or null
+     */
+    protected AuthenticationRiskProfile getAuthenticationRiskProfileFor(final String principal) {
+        val history = Duration.ofDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+        val since = Instant.now().minus(history).toEpochMilli();
+        return riskProfileRepository.find(principal)
+            .filter(profile -> !profile.isEmpty() && profile.getLastUpdated() >= since)
+            .orElse(null);
+    }
+
     /**
      * Gets cas ticket granting ticket created events.
      *
@@ -91,6 +137,17 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
         return getFinalAveragedScore(count, eventCount);
     }
 
+    protected BigDecimal calculateScoreBasedOnProfileWeight(final Authentication authentication,
+                                                            final AuthenticationRiskProfile profile,
+                                                            final double weight) {
+        val score = BigDecimal.valueOf(weight)
+            .divide(BigDecimal.valueOf(profile.getTotal()), 2, RoundingMode.HALF_UP)
+            .min(BigDecimal.ONE);
+        LOGGER.debug("Principal [{}] has a weight of [{}] out of [{}] in its risk profile",
+            authentication.getPrincipal(), weight, profile.getTotal());
+        return HIGHEST_RISK_SCORE.subtract(score);
+    }
+
     /**
      * Gets final averaged score.
      *
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
 import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -59,4 +60,15 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
         LOGGER.debug("Total authentication events found for [{}] in a [{}]h window: [{}]", timestamp, windowInHours, count);
         return calculateScoreBasedOnEventsCount(authentication, events, count);
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
+        val windowInHours = casProperties.getAuthn().getAdaptive().getRisk().getDateTime().getWindowInHours();
+        val timestamp = ZonedDateTime.now(ZoneOffset.UTC);
+        val weight = windowInHours >= 12
+            ? profile.getTotal()
+            : profile.getHoursOfDayWeight(timestamp.minusHours(windowInHours).getHour(), timestamp.plusHours(windowInHours).getHour());
+        return calculateScoreBasedOnProfileWeight(authentication, profile, weight);
+    }
 }
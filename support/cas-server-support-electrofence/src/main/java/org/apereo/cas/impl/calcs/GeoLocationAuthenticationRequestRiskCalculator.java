@@ -7,6 +7,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
 import org.apereo.cas.web.support.WebUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -58,4 +59,20 @@ public class GeoLocationAuthenticationRequestRiskCalculator extends BaseAuthenti
         LOGGER.debug("Request does not contain enough geolocation data");
         return HIGHEST_RISK_SCORE;
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
+        var loc = WebUtils.getHttpServletRequestGeoLocation(request);
+        if (AuthenticationRiskProfile.getGeoLocationCell(loc) == null) {
+            val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
+            val response = this.geoLocationService.locate(remoteAddr);
+            if (response == null) {
+                LOGGER.debug("Request does not contain enough geolocation data");
+                return HIGHEST_RISK_SCORE;
+            }
+            loc = new GeoLocationRequest(response.getLatitude(), response.getLongitude());
+        }
+        return calculateScoreBasedOnProfileWeight(authentication, profile, profile.getGeoLocationWeight(loc));
+    }
 }
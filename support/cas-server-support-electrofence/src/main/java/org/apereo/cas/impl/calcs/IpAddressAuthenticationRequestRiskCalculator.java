@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -40,4 +41,13 @@ public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthentica
         LOGGER.debug("Total authentication events found for [{}]: [{}]", remoteAddr, count);
         return calculateScoreBasedOnEventsCount(authentication, events, count);
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request,
+                                        final Authentication authentication,
+                                        final RegisteredService service,
+                                        final AuthenticationRiskProfile profile) {
+        val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        return calculateScoreBasedOnProfileWeight(authentication, profile, profile.getIpAddressWeight(remoteAddr));
+    }
 }
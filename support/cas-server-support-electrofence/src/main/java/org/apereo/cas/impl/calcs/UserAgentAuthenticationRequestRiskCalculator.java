@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
 import org.apereo.cas.util.http.HttpRequestUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -41,4 +42,13 @@ public class UserAgentAuthenticationRequestRiskCalculator extends BaseAuthentica
         LOGGER.debug("Total authentication events found for [{}]: [{}]", agent, count);
         return calculateScoreBasedOnEventsCount(authentication, events, count);
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request,
+                                        final Authentication authentication,
+                                        final RegisteredService service,
+                                        final AuthenticationRiskProfile profile) {
+        val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        return calculateScoreBasedOnProfileWeight(authentication, profile, profile.getUserAgentWeight(agent));
+    }
 }
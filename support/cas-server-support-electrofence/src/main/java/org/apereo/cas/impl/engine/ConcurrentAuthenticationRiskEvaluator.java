@@ -0,0 +1,232 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskScore;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.configuration.model.core.authentication.RiskBasedAuthenticationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.services.RegisteredService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is {@link ConcurrentAuthenticationRiskEvaluator}, which runs risk calculators concurrently
+ * on virtual threads rather than one after another on the request thread. Each calculator
+ * has its own time budget, counted from the moment all calculators are started; a calculator
+ * that does not complete within its budget is cancelled and assigned the configured timeout score,
+ * so that a slow geolocation service or events repository cannot hold up the login.
+ * Calculators do not see the request itself, which may be recycled once the login completes,
+ * but a copy of its headers, parameters and addresses, along with the client info of the request thread.
+ * The latency of each calculator and the number of times it timed out are published as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class ConcurrentAuthenticationRiskEvaluator extends DefaultAuthenticationRiskEvaluator implements DisposableBean {
+    private static final String LATENCY_METRIC_NAME = "cas.authn.risk.calculator.latency";
+
+    private static final String TIMEOUT_METRIC_NAME = "cas.authn.risk.calculator.timeouts";
+
+    private final RiskBasedAuthenticationProperties.Core properties;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("AuthenticationRiskCalculator-", 0).factory());
+
+    private final Map<String, Duration> timeouts = new ConcurrentHashMap<>();
+
+    public ConcurrentAuthenticationRiskEvaluator(final List<AuthenticationRequestRiskCalculator> calculators,
+                                                 final RiskBasedAuthenticationProperties.Core properties) {
+        super(calculators);
+        this.properties = properties;
+    }
+
+    private static String getCalculatorName(final AuthenticationRequestRiskCalculator calculator) {
+        return ClassUtils.getUserClass(calculator).getSimpleName();
+    }
+
+    private static Timer getLatencyTimer(final String name) {
+        return Timer.builder(LATENCY_METRIC_NAME)
+            .description("Time taken by risk calculators to calculate authentication risk scores")
+            .tag("calculator", name)
+            .register(Metrics.globalRegistry);
+    }
+
+    private static Counter getTimeoutCounter(final String name) {
+        return Counter.builder(TIMEOUT_METRIC_NAME)
+            .description("Number of times risk calculators did not complete within their time budget")
+            .tag("calculator", name)
+            .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    protected List<AuthenticationRiskScore> calculate(final List<AuthenticationRequestRiskCalculator> activeCalculators,
+                                                      final Authentication authentication,
+                                                      final RegisteredService service,
+                                                      final HttpServletRequest request) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val detachedRequest = Optional.ofNullable(request).map(DetachedHttpServletRequest::new).orElse(null);
+        val startTime = System.nanoTime();
+        val results = new IdentityHashMap<AuthenticationRequestRiskCalculator, Future<AuthenticationRiskScore>>();
+        try {
+            activeCalculators.forEach(calculator -> {
+                val name = getCalculatorName(calculator);
+                results.put(calculator, executor.submit(() -> {
+                    ClientInfoHolder.setClientInfo(clientInfo);
+                    try {
+                        return getLatencyTimer(name).recordCallable(() -> calculator.calculate(authentication, service, detachedRequest));
+                    } finally {
+                        ClientInfoHolder.clear();
+                    }
+                }));
+            });
+
+            val scores = new ArrayList<AuthenticationRiskScore>(results.size());
+            results.forEach((calculator, result) -> Optional.ofNullable(await(getCalculatorName(calculator), result, startTime))
+                .ifPresent(scores::add));
+            return scores;
+        } finally {
+            results.values().forEach(result -> result.cancel(true));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private AuthenticationRiskScore await(final String name, final Future<AuthenticationRiskScore> result,
+                                          final long startTime) {
+        try {
+            val remaining = getTimeout(name).toNanos() - (System.nanoTime() - startTime);
+            return result.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("Risk calculator [{}] did not complete within [{}]; assigning risk score [{}]",
+                name, getTimeout(name), properties.getTimeoutScore());
+            result.cancel(true);
+            getTimeoutCounter(name).increment();
+            return new AuthenticationRiskScore(BigDecimal.valueOf(properties.getTimeoutScore()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            return new AuthenticationRiskScore(BigDecimal.valueOf(properties.getTimeoutScore()));
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Duration getTimeout(final String name) {
+        return timeouts.computeIfAbsent(name, key -> Beans.newDuration(
+            properties.getCalculatorTimeouts().getOrDefault(key, properties.getCalculatorTimeout())));
+    }
+
+    /**
+     * Copy of the request data that risk calculators need, taken on the request thread.
+     * Anything else is read from the wrapped request.
+     */
+    private static final class DetachedHttpServletRequest extends HttpServletRequestWrapper {
+        private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+
+        private final Map<String, String[]> parameters = new LinkedHashMap<>();
+
+        private final String remoteAddr;
+
+        private final String remoteHost;
+
+        private final String localAddr;
+
+        DetachedHttpServletRequest(final HttpServletRequest request) {
+            super(request);
+            Optional.ofNullable(request.getHeaderNames()).map(Collections::list).orElseGet(ArrayList::new)
+                .forEach(name -> headers.put(name,
+                    Optional.ofNullable(request.getHeaders(name)).map(Collections::list).orElseGet(ArrayList::new)));
+            request.getParameterMap().forEach((name, values) -> parameters.put(name, values.clone()));
+            this.remoteAddr = request.getRemoteAddr();
+            this.remoteHost = request.getRemoteHost();
+            this.localAddr = request.getLocalAddr();
+        }
+
+        @Override
+        public String getHeader(final String name) {
+            val values = headers.get(name);
+            return values == null || values.isEmpty() ? null : values.getFirst();
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(final String name) {
+            return Collections.enumeration(headers.getOrDefault(name, List.of()));
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(headers.keySet());
+        }
+
+        @Override
+        public String getParameter(final String name) {
+            val values = parameters.get(name);
+            return values == null || values.length == 0 ? null : values[0];
+        }
+
+        @Override
+        public String[] getParameterValues(final String name) {
+            return Optional.ofNullable(parameters.get(name)).map(String[]::clone).orElse(null);
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return Collections.unmodifiableMap(parameters);
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override
+        public String getRemoteAddr() {
+            return remoteAddr;
+        }
+
+        @Override
+        public String getRemoteHost() {
+            return remoteHost;
+        }
+
+        @Override
+        public String getLocalAddr() {
+            return localAddr;
+        }
+    }
+}
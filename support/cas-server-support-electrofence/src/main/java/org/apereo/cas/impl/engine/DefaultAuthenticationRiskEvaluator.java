@@ -48,10 +48,7 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE);
         }
 
-        val scores = activeCalculators
-            .stream()
-            .map(r -> r.calculate(authentication, service, request))
-            .filter(Objects::nonNull).toList();
+        val scores = calculate(activeCalculators, authentication, service, request);
 
         val sum = scores.stream()
             .map(AuthenticationRiskScore::score)
@@ -60,4 +57,14 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
         val score = sum.divide(BigDecimal.valueOf(activeCalculators.size()), 2, RoundingMode.UP);
         return new AuthenticationRiskScore(score);
     }
+
+    protected List<AuthenticationRiskScore> calculate(final List<AuthenticationRequestRiskCalculator> activeCalculators,
+                                                      final Authentication authentication,
+                                                      final RegisteredService service,
+                                                      final HttpServletRequest request) {
+        return activeCalculators
+            .stream()
+            .map(r -> r.calculate(authentication, service, request))
+            .filter(Objects::nonNull).toList();
+    }
 }
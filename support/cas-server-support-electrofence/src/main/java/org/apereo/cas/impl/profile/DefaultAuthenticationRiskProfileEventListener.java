@@ -0,0 +1,48 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileEventListener;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileEventListener}. It records ticket-granting ticket
+ * creation events, which are the events that risk calculators examine, in the risk profile of the principal.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public class DefaultAuthenticationRiskProfileEventListener implements AuthenticationRiskProfileEventListener {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Override
+    public void handleAuditApplicationEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        if (!EVENT_TYPE.equals(auditEvent.getType()) || StringUtils.isBlank(auditEvent.getPrincipal())) {
+            return;
+        }
+        try {
+            val casEvent = new CasEvent()
+                .setType(auditEvent.getType())
+                .setPrincipalId(auditEvent.getPrincipal());
+            auditEvent.getData().forEach((key, value) -> casEvent.put(key, String.valueOf(value)));
+            val profile = authenticationRiskProfileRepository.record(casEvent);
+            LOGGER.trace("Updated risk profile for [{}]: [{}]", auditEvent.getPrincipal(), profile);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+    }
+}
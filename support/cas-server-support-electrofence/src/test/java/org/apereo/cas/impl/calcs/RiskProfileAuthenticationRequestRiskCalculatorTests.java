@@ -0,0 +1,89 @@
+package org.apereo.cas.impl.calcs;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RiskProfileAuthenticationRequestRiskCalculatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@TestPropertySource(properties = {
+    "cas.authn.adaptive.risk.ip.enabled=true",
+    "cas.authn.adaptive.risk.agent.enabled=true",
+    "cas.authn.adaptive.risk.profile.enabled=true"
+})
+@Tag("Authentication")
+class RiskProfileAuthenticationRequestRiskCalculatorTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+    private AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Test
+    void verifyTestWhenNoProfileFoundForUser() throws Throwable {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("nobody");
+        val service = RegisteredServiceTestUtils.getRegisteredService("test");
+        val request = new MockHttpServletRequest();
+        val score = authenticationRiskEvaluator.eval(authentication, service, request);
+        assertTrue(score.isHighestRisk());
+    }
+
+    @Test
+    void verifyTestWhenNoProfileFoundForUserWithHistory() throws Throwable {
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent("historyuser", casEventRepository);
+        authenticationRiskProfileRepository.remove("historyuser");
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("historyuser");
+        val service = RegisteredServiceTestUtils.getRegisteredService("test");
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr(event.getClientIpAddress());
+        request.setLocalAddr("127.0.0.1");
+        request.addHeader("User-Agent", event.getAgent());
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+        val score = authenticationRiskEvaluator.eval(authentication, service, request);
+        assertTrue(score.isLowestRisk());
+    }
+
+    @Test
+    void verifyTestWhenProfileMatchesRequest() throws Throwable {
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId("profileuser");
+        event.putTimestamp(System.currentTimeMillis());
+        event.putClientIpAddress("107.181.69.221");
+        event.putAgent("Firefox");
+        authenticationRiskProfileRepository.record(event);
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("profileuser");
+        val service = RegisteredServiceTestUtils.getRegisteredService("test");
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("107.181.69.221");
+        request.setLocalAddr("127.0.0.1");
+        request.addHeader("User-Agent", "Firefox");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+        val score = authenticationRiskEvaluator.eval(authentication, service, request);
+        assertTrue(score.isLowestRisk());
+
+        request.setRemoteAddr("85.90.227.224");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+        val riskyScore = authenticationRiskEvaluator.eval(authentication, service, request);
+        assertFalse(riskyScore.isLowestRisk());
+    }
+}
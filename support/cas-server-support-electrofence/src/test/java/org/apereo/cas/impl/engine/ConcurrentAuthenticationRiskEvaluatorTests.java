@@ -0,0 +1,144 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskScore;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.model.core.authentication.RiskBasedAuthenticationProperties;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ConcurrentAuthenticationRiskEvaluatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Authentication")
+class ConcurrentAuthenticationRiskEvaluatorTests {
+
+    @Test
+    void verifyScoresAreAveraged() throws Exception {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("185.86.151.11");
+        request.setLocalAddr("127.0.0.1");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+
+        val properties = new RiskBasedAuthenticationProperties.Core().setConcurrent(true);
+        val calculators = List.<AuthenticationRequestRiskCalculator>of(
+            (authentication, service, httpRequest) -> new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.LOWEST_RISK_SCORE),
+            (authentication, service, httpRequest) -> new AuthenticationRiskScore(
+                "185.86.151.11".equals(ClientInfoHolder.getClientInfo().getClientIpAddress())
+                    ? AuthenticationRequestRiskCalculator.LOWEST_RISK_SCORE
+                    : AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE));
+        val evaluator = new ConcurrentAuthenticationRiskEvaluator(calculators, properties);
+        try {
+            val score = evaluator.eval(CoreAuthenticationTestUtils.getAuthentication(),
+                RegisteredServiceTestUtils.getRegisteredService(), request);
+            assertTrue(score.isLowestRisk());
+        } finally {
+            evaluator.destroy();
+        }
+    }
+
+    @Test
+    void verifySlowCalculatorTimesOut() throws Exception {
+        val properties = new RiskBasedAuthenticationProperties.Core()
+            .setConcurrent(true)
+            .setCalculatorTimeout("PT10S")
+            .setCalculatorTimeouts(Map.of(SlowCalculator.class.getSimpleName(), "PT0.1S"))
+            .setTimeoutScore(0.5);
+        val calculators = List.<AuthenticationRequestRiskCalculator>of(new SlowCalculator(),
+            (authentication, service, httpRequest) -> new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.LOWEST_RISK_SCORE));
+        val evaluator = new ConcurrentAuthenticationRiskEvaluator(calculators, properties);
+        try {
+            val startTime = System.currentTimeMillis();
+            val score = evaluator.eval(CoreAuthenticationTestUtils.getAuthentication(),
+                RegisteredServiceTestUtils.getRegisteredService(), new MockHttpServletRequest());
+            assertTrue(System.currentTimeMillis() - startTime < 5_000);
+            assertEquals(0, new BigDecimal("0.25").compareTo(score.score()));
+        } finally {
+            evaluator.destroy();
+        }
+    }
+
+    @Test
+    void verifyCalculatorsOfSameType() throws Exception {
+        val properties = new RiskBasedAuthenticationProperties.Core().setConcurrent(true);
+        val calculators = List.<AuthenticationRequestRiskCalculator>of(
+            new FixedScoreCalculator(AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE),
+            new FixedScoreCalculator(AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE));
+        val evaluator = new ConcurrentAuthenticationRiskEvaluator(calculators, properties);
+        try {
+            val score = evaluator.eval(CoreAuthenticationTestUtils.getAuthentication(),
+                RegisteredServiceTestUtils.getRegisteredService(), new MockHttpServletRequest());
+            assertTrue(score.isHighestRisk());
+        } finally {
+            evaluator.destroy();
+        }
+    }
+
+    @Test
+    void verifyRequestIsDetached() throws Exception {
+        val request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", "Firefox");
+        request.addParameter("geolocation", "40,70,1000,100");
+        request.setRemoteAddr("185.86.151.11");
+
+        val properties = new RiskBasedAuthenticationProperties.Core().setConcurrent(true);
+        val calculators = List.<AuthenticationRequestRiskCalculator>of((authentication, service, httpRequest) -> {
+            assertNotSame(request, httpRequest);
+            val matches = "Firefox".equals(httpRequest.getHeader("user-agent"))
+                && "40,70,1000,100".equals(httpRequest.getParameter("geolocation"))
+                && "185.86.151.11".equals(httpRequest.getRemoteAddr());
+            return new AuthenticationRiskScore(matches
+                ? AuthenticationRequestRiskCalculator.LOWEST_RISK_SCORE
+                : AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE);
+        });
+        val evaluator = new ConcurrentAuthenticationRiskEvaluator(calculators, properties);
+        try {
+            val score = evaluator.eval(CoreAuthenticationTestUtils.getAuthentication(),
+                RegisteredServiceTestUtils.getRegisteredService(), request);
+            assertTrue(score.isLowestRisk());
+        } finally {
+            evaluator.destroy();
+        }
+    }
+
+    private record FixedScoreCalculator(BigDecimal score) implements AuthenticationRequestRiskCalculator {
+        @Override
+        public AuthenticationRiskScore calculate(final Authentication authentication,
+                                                 final RegisteredService service,
+                                                 final HttpServletRequest request) {
+            return new AuthenticationRiskScore(score);
+        }
+    }
+
+    private static final class SlowCalculator implements AuthenticationRequestRiskCalculator {
+        @Override
+        public AuthenticationRiskScore calculate(final Authentication authentication,
+                                                 final RegisteredService service,
+                                                 final HttpServletRequest request) {
+            try {
+                Thread.sleep(30_000);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.LOWEST_RISK_SCORE);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
+import org.apereo.cas.support.events.risk.InMemoryAuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.audit.AuditEvent;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Authentication")
+class AuthenticationRiskProfileTests {
+    private static final Duration HALF_LIFE = Duration.ofDays(7);
+
+    private static CasEvent getEvent(final long timestamp, final String ipAddress) {
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId("casuser");
+        event.putTimestamp(timestamp);
+        event.putClientIpAddress(ipAddress);
+        event.putAgent("Firefox");
+        event.putGeoLocation(new GeoLocationRequest(40.7128, -74.0060));
+        return event;
+    }
+
+    @Test
+    void verifyEventsAreCounted() {
+        val now = System.currentTimeMillis();
+        val profile = new AuthenticationRiskProfile("casuser");
+        profile.record(getEvent(now, "1.2.3.4"), HALF_LIFE, 10);
+        profile.record(getEvent(now, "1.2.3.4"), HALF_LIFE, 10);
+        profile.record(getEvent(now, "5.6.7.8"), HALF_LIFE, 10);
+        assertEquals(3, profile.getTotal(), 0.001);
+        assertEquals(2, profile.getIpAddressWeight("1.2.3.4"), 0.001);
+        assertEquals(0, profile.getIpAddressWeight("9.9.9.9"), 0.001);
+        assertEquals(3, profile.getUserAgentWeight("FIREFOX"), 0.001);
+        assertEquals(3, profile.getGeoLocationWeight(new GeoLocationRequest(40.71, -74.00)), 0.001);
+        val hour = ZonedDateTime.now(ZoneOffset.UTC).getHour();
+        assertEquals(3, profile.getHoursOfDayWeight(hour, hour), 0.001);
+        assertEquals(3, profile.getHoursOfDayWeight(hour + 1, hour), 0.001);
+        assertEquals(0, profile.getHoursOfDayWeight(hour + 1, hour + 2), 0.001);
+    }
+
+    @Test
+    void verifyEventsDecay() {
+        val now = System.currentTimeMillis();
+        val profile = new AuthenticationRiskProfile("casuser");
+        profile.record(getEvent(now, "1.2.3.4"), HALF_LIFE, 10);
+        profile.record(getEvent(now + HALF_LIFE.toMillis(), "5.6.7.8"), HALF_LIFE, 10);
+        assertEquals(1.5, profile.getTotal(), 0.001);
+        assertEquals(0.5, profile.getIpAddressWeight("1.2.3.4"), 0.001);
+        profile.record(getEvent(now, "9.9.9.9"), HALF_LIFE, 10);
+        assertEquals(0.5, profile.getIpAddressWeight("9.9.9.9"), 0.001);
+        assertEquals(now + HALF_LIFE.toMillis(), profile.getLastUpdated());
+    }
+
+    @Test
+    void verifyEntriesAreLimited() {
+        val now = System.currentTimeMillis();
+        val profile = new AuthenticationRiskProfile("casuser");
+        profile.record(getEvent(now, "1.2.3.4"), HALF_LIFE, 2);
+        profile.record(getEvent(now, "1.2.3.4"), HALF_LIFE, 2);
+        profile.record(getEvent(now, "5.6.7.8"), HALF_LIFE, 2);
+        profile.record(getEvent(now, "9.9.9.9"), HALF_LIFE, 2);
+        assertEquals(2, profile.getIpAddresses().size());
+        assertEquals(2, profile.getIpAddressWeight("1.2.3.4"), 0.001);
+        assertEquals(4, profile.getTotal(), 0.001);
+    }
+
+    @Test
+    void verifyGeoLocationCell() {
+        assertEquals("40.71,-74.01", AuthenticationRiskProfile.getGeoLocationCell(new GeoLocationRequest(40.7128, -74.0060)));
+        assertNull(AuthenticationRiskProfile.getGeoLocationCell(new GeoLocationRequest()));
+        assertNull(AuthenticationRiskProfile.getGeoLocationCell(null));
+    }
+
+    @Test
+    void verifyListenerRecordsEvents() {
+        val repository = new InMemoryAuthenticationRiskProfileRepository(HALF_LIFE, 10, 100, Duration.ofDays(30));
+        val listener = new DefaultAuthenticationRiskProfileEventListener(repository);
+        val event = getEvent(System.currentTimeMillis(), "1.2.3.4");
+        listener.handleAuditApplicationEvent(new AuditApplicationEvent(
+            new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties())));
+        listener.handleAuditApplicationEvent(new AuditApplicationEvent(
+            new AuditEvent(event.getPrincipalId(), "OtherEvent", (Map) event.getProperties())));
+        val profile = repository.find("casuser").orElseThrow();
+        assertEquals(1, profile.getTotal(), 0.001);
+        assertEquals(1, profile.getIpAddressWeight("1.2.3.4"), 0.001);
+        repository.remove("casuser");
+        assertTrue(repository.find("casuser").isEmpty());
+    }
+}
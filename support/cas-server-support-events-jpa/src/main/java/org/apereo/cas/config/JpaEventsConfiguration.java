@@ -3,12 +3,15 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.support.jpa.JpaConfigurationContext;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.jpa.JpaAuthenticationRiskProfileRepository;
 import org.apereo.cas.support.events.jpa.JpaCasEvent;
 import org.apereo.cas.support.events.jpa.JpaCasEventRepository;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfileRepository;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanContainer;
@@ -163,5 +166,24 @@ public class JpaEventsConfiguration {
             return new JpaCasEventRepository(jpaEventRepositoryFilter, transactionManager,
                 casProperties, jpaBeanFactory);
         }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier("transactionManagerEvents")
+            final PlatformTransactionManager transactionManager,
+            final CasConfigurationProperties casProperties) {
+            return BeanSupplier.of(AuthenticationRiskProfileRepository.class)
+                .when(BeanCondition.on("cas.authn.adaptive.risk.profile.enabled").isTrue().given(applicationContext.getEnvironment()))
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val profile = casProperties.getAuthn().getAdaptive().getRisk().getProfile();
+                    return new JpaAuthenticationRiskProfileRepository(transactionManager,
+                        Beans.newDuration(profile.getHalfLife()), profile.getMaximumEntries());
+                })
+                .otherwiseProxy()
+                .get();
+        }
     }
 }
@@ -0,0 +1,41 @@
+package org.apereo.cas.support.events.jpa;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link JpaAuthenticationRiskProfile}, which stores the risk profile
+ * of a principal as a JSON document.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@Entity
+@Setter
+@Table(name = "AuthenticationRiskProfile")
+@Accessors(chain = true)
+public class JpaAuthenticationRiskProfile implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 6380925843513457717L;
+
+    @Id
+    @Column(nullable = false, length = 512)
+    private String principal;
+
+    @Column(nullable = false)
+    private long lastUpdated;
+
+    @Lob
+    @Column(nullable = false, length = Integer.MAX_VALUE)
+    private String profile;
+}
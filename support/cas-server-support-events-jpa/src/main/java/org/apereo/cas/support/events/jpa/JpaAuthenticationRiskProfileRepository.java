@@ -0,0 +1,103 @@
+package org.apereo.cas.support.events.jpa;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AbstractAuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This is {@link JpaAuthenticationRiskProfileRepository} that stores risk profiles into a RDBMS database.
+ * The row of the principal is locked while its profile is updated. If the profile of a principal is
+ * created concurrently by another node, the insert fails and the event is recorded again as an update.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@EnableTransactionManagement(proxyTargetClass = false)
+@Transactional(transactionManager = "transactionManagerEvents")
+@ToString
+@Slf4j
+public class JpaAuthenticationRiskProfileRepository extends AbstractAuthenticationRiskProfileRepository {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext(unitName = "jpaEventRegistryContext")
+    private EntityManager entityManager;
+
+    public JpaAuthenticationRiskProfileRepository(final PlatformTransactionManager transactionManager,
+                                                  final Duration halfLife, final int maximumEntries) {
+        super(halfLife, maximumEntries);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private static AuthenticationRiskProfile toProfile(final JpaAuthenticationRiskProfile entity) {
+        return FunctionUtils.doUnchecked(() -> MAPPER.readValue(entity.getProfile(), AuthenticationRiskProfile.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AuthenticationRiskProfile> find(final String principal) {
+        return Optional.ofNullable(entityManager.find(JpaAuthenticationRiskProfile.class, principal))
+            .map(JpaAuthenticationRiskProfileRepository::toProfile);
+    }
+
+    @Override
+    @Transactional(transactionManager = "transactionManagerEvents", propagation = Propagation.NOT_SUPPORTED)
+    public AuthenticationRiskProfile record(final CasEvent event) {
+        try {
+            return transactionTemplate.execute(status -> recordEvent(event));
+        } catch (final PersistenceException | DataIntegrityViolationException e) {
+            LOGGER.debug("Unable to save risk profile of [{}], which may have been created concurrently; "
+                + "recording event again: [{}]", event.getPrincipalId(), e.getMessage());
+            return transactionTemplate.execute(status -> recordEvent(event));
+        }
+    }
+
+    private AuthenticationRiskProfile recordEvent(final CasEvent event) {
+        val entity = entityManager.find(JpaAuthenticationRiskProfile.class,
+            event.getPrincipalId(), LockModeType.PESSIMISTIC_WRITE);
+        val profile = update(entity == null ? null : toProfile(entity), event);
+        val updated = (entity == null ? new JpaAuthenticationRiskProfile() : entity)
+            .setPrincipal(profile.getPrincipal())
+            .setLastUpdated(profile.getLastUpdated())
+            .setProfile(FunctionUtils.doUnchecked(() -> MAPPER.writeValueAsString(profile)));
+        if (entity == null) {
+            entityManager.persist(updated);
+            entityManager.flush();
+        }
+        return profile;
+    }
+
+    @Override
+    public void remove(final String principal) {
+        entityManager.createQuery("DELETE FROM JpaAuthenticationRiskProfile p WHERE p.principal = :principal")
+            .setParameter("principal", principal)
+            .executeUpdate();
+    }
+
+    @Override
+    public void removeAll() {
+        entityManager.createQuery("DELETE FROM JpaAuthenticationRiskProfile p").executeUpdate();
+    }
+}
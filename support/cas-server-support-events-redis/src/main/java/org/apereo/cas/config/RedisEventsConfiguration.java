@@ -3,11 +3,16 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.redis.RedisAuthenticationRiskProfileRepository;
 import org.apereo.cas.support.events.redis.RedisCasEventRepository;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfileRepository;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import lombok.val;
@@ -16,11 +21,14 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 
+import java.time.Duration;
+
 /**
  * This is {@link RedisEventsConfiguration}.
  *
@@ -76,4 +84,23 @@ public class RedisEventsConfiguration {
         return new RedisCasEventRepository(redisEventRepositoryFilter, redisEventTemplate,
             casProperties.getEvents().getRedis().getScanCount());
     }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier("redisEventTemplate")
+        final CasRedisTemplate redisEventTemplate,
+        final CasConfigurationProperties casProperties) {
+        return BeanSupplier.of(AuthenticationRiskProfileRepository.class)
+            .when(BeanCondition.on("cas.authn.adaptive.risk.profile.enabled").isTrue().given(applicationContext.getEnvironment()))
+            .supply(() -> {
+                val risk = casProperties.getAuthn().getAdaptive().getRisk();
+                return new RedisAuthenticationRiskProfileRepository(redisEventTemplate,
+                    Beans.newDuration(risk.getProfile().getHalfLife()), risk.getProfile().getMaximumEntries(),
+                    Duration.ofDays(risk.getCore().getDaysInRecentHistory()));
+            })
+            .otherwiseProxy()
+            .get();
+    }
 }
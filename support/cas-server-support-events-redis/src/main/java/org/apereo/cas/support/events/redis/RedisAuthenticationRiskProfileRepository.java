@@ -0,0 +1,91 @@
+package org.apereo.cas.support.events.redis;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.risk.AbstractAuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.risk.AuthenticationRiskProfile;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This is {@link RedisAuthenticationRiskProfileRepository} that stores risk profiles into a redis database,
+ * one key per principal. Profiles that are not updated for the given expiration period expire.
+ * Profiles are updated in a transaction that watches the key of the principal, and the update
+ * is attempted again if the profile is changed concurrently, so that no recorded event is lost.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class RedisAuthenticationRiskProfileRepository extends AbstractAuthenticationRiskProfileRepository {
+    private static final String CAS_PREFIX = AuthenticationRiskProfile.class.getSimpleName() + ':';
+
+    private static final int MAX_UPDATE_ATTEMPTS = 10;
+
+    private final CasRedisTemplate<String, AuthenticationRiskProfile> template;
+
+    private final Duration expiration;
+
+    public RedisAuthenticationRiskProfileRepository(final CasRedisTemplate<String, AuthenticationRiskProfile> template,
+                                                    final Duration halfLife, final int maximumEntries,
+                                                    final Duration expiration) {
+        super(halfLife, maximumEntries);
+        this.template = template;
+        this.expiration = expiration;
+    }
+
+    private static String getKey(final String principal) {
+        return CAS_PREFIX + principal;
+    }
+
+    @Override
+    public Optional<AuthenticationRiskProfile> find(final String principal) {
+        return Optional.ofNullable(template.boundValueOps(getKey(principal)).get());
+    }
+
+    @Override
+    public AuthenticationRiskProfile record(final CasEvent event) {
+        val key = getKey(event.getPrincipalId());
+        for (var attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            val profile = template.execute(new SessionCallback<AuthenticationRiskProfile>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> AuthenticationRiskProfile execute(final RedisOperations<K, V> operations) {
+                    val ops = (RedisOperations<String, AuthenticationRiskProfile>) operations;
+                    ops.watch(key);
+                    val updated = update(ops.opsForValue().get(key), event);
+                    ops.multi();
+                    ops.opsForValue().set(key, updated, expiration);
+                    return CollectionUtils.isEmpty(ops.exec()) ? null : updated;
+                }
+            });
+            if (profile != null) {
+                LOGGER.trace("Saved risk profile based on key [{}]", key);
+                return profile;
+            }
+            LOGGER.debug("Risk profile based on key [{}] was changed concurrently; attempt [{}] of [{}] is retried",
+                key, attempt, MAX_UPDATE_ATTEMPTS);
+        }
+        throw new IllegalStateException("Unable to save risk profile based on key " + key
+            + " after " + MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    @Override
+    public void remove(final String principal) {
+        template.delete(getKey(principal));
+    }
+
+    @Override
+    public void removeAll() {
+        try (val keys = template.scan(CAS_PREFIX + '*', 0)) {
+            keys.forEach(template::delete);
+        }
+    }
+}
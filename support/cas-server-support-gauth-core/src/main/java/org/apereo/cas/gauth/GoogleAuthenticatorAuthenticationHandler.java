@@ -19,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 
+import javax.security.auth.login.AccountExpiredException;
 import javax.security.auth.login.FailedLoginException;
 
 /**
@@ -68,7 +69,9 @@ public class GoogleAuthenticatorAuthenticationHandler extends AbstractPreAndPost
         if (validatedToken != null) {
             val principal = authentication.getPrincipal().getId();
             LOGGER.debug("Validated OTP token [{}] successfully for [{}]", validatedToken, principal);
-            validator.store(validatedToken);
+            if (!validator.storeIfAbsent(validatedToken)) {
+                throw new AccountExpiredException(principal + " cannot reuse OTP " + validatedToken.getToken() + " as it may be expired/invalid");
+            }
             LOGGER.debug("Creating authentication result and building principal for [{}]", principal);
             return createHandlerResult(tokenCredential, this.principalFactory.createPrincipal(principal));
         }
@@ -41,6 +41,15 @@ public class GoogleAuthenticatorRedisTokenRepository extends BaseOneTimeTokenRep
         LOGGER.trace("Saved token [{}]", token);
     }
 
+    @Override
+    public boolean storeIfAbsent(final GoogleAuthenticatorToken token) {
+        val redisKey = getGoogleAuthenticatorTokenRedisKey(token);
+        LOGGER.trace("Saving token [{}] using key [{}] unless it exists", token, redisKey);
+        val stored = this.template.boundValueOps(redisKey).setIfAbsent(token, Duration.ofSeconds(this.expireTokensInSeconds));
+        LOGGER.trace("Token [{}] was [{}]", token, Boolean.TRUE.equals(stored) ? "saved" : "already used");
+        return Boolean.TRUE.equals(stored);
+    }
+
     @Override
     public GoogleAuthenticatorToken get(final String uid, final Integer otp) {
         val redisKey = getGoogleAuthenticatorTokenRedisKey(uid, otp);
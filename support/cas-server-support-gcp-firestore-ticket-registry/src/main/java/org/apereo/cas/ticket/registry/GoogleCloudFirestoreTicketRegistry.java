@@ -15,8 +15,6 @@ import com.google.cloud.firestore.Firestore;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.hjson.JsonValue;
-import org.hjson.Stringify;
 import org.jooq.lambda.Unchecked;
 
 import java.time.Clock;
@@ -251,8 +249,7 @@ public class GoogleCloudFirestoreTicketRegistry extends AbstractTicketRegistry {
     protected GoogleCloudFirestoreTicketDocument buildTicketAsDocument(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
         val json = serializeTicket(encTicket);
-        LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-            JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        LOGGER.trace("Serialized ticket [{}] as [{}]", ticket.getId(), json);
         val principal = getPrincipalIdFrom(ticket);
 
         val expireAt = getExpireAt(ticket);
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.support.geo.CachingGeoLocationService;
 import org.apereo.cas.support.geo.GeoLocationServiceConfigurer;
 import org.apereo.cas.support.geo.GroovyGeoLocationService;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResource;
@@ -37,14 +38,19 @@ import java.util.List;
 public class CasGeoLocationConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-    public GeoLocationService geoLocationService(final List<GeoLocationServiceConfigurer> providers) {
+    public GeoLocationService geoLocationService(
+        final CasConfigurationProperties casProperties,
+        final List<GeoLocationServiceConfigurer> providers) {
         val services = providers.stream()
             .map(GeoLocationServiceConfigurer::configure)
             .filter(BeanSupplier::isNotProxy)
             .sorted(AnnotationAwareOrderComparator.INSTANCE).toList();
+        val cache = casProperties.getGeoLocation().getCache();
         return BeanSupplier.of(GeoLocationService.class)
             .when(!services.isEmpty())
-            .supply(() -> services.get(0))
+            .supply(() -> cache.isEnabled()
+                ? new CachingGeoLocationService(services.get(0), cache)
+                : services.get(0))
             .otherwiseProxy()
             .get();
     }
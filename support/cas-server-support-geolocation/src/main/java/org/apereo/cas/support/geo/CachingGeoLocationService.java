@@ -0,0 +1,147 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.support.geo.GeoLocationCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.ClassUtils;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link CachingGeoLocationService}, which caches the results of another geolocation service
+ * by address, or by network when network prefixes are enabled. Concurrent lookups for the same key
+ * are coalesced into a single call to the underlying service, and lookups that do not produce a result,
+ * or produce one without addresses and coordinates, are not cached. Since a cached result may be shared
+ * by all addresses of a network, callers receive a copy of it. Coordinates are always passed on to the
+ * underlying service.
+ * Cache metrics are bound to the global registry once per instance, and are removed
+ * when the instance is destroyed or replaced, such as when the service is refreshed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class CachingGeoLocationService extends AbstractGeoLocationService implements DisposableBean {
+    private static final String CACHE_METRIC_NAME = "cas.geolocation.cache";
+
+    private static final String LATENCY_METRIC_NAME = "cas.geolocation.upstream";
+
+    @Getter
+    private final GeoLocationService delegate;
+
+    private final GeoLocationCacheProperties properties;
+
+    private final Cache<String, GeoLocationResponse> cache;
+
+    private final Timer upstreamTimer;
+
+    public CachingGeoLocationService(final GeoLocationService delegate, final GeoLocationCacheProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+        removeCacheMetrics();
+        this.cache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry,
+            Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(Beans.newDuration(properties.getCacheExpiration()))
+                .recordStats()
+                .build(), CACHE_METRIC_NAME);
+        this.upstreamTimer = Timer.builder(LATENCY_METRIC_NAME)
+            .description("Time taken by geolocation services to locate addresses that are not cached")
+            .tag("service", ClassUtils.getUserClass(delegate).getSimpleName())
+            .register(Metrics.globalRegistry);
+    }
+
+    private static void removeCacheMetrics() {
+        Metrics.globalRegistry.getMeters()
+            .stream()
+            .filter(meter -> CACHE_METRIC_NAME.equals(meter.getId().getTag("cache")))
+            .forEach(Metrics.globalRegistry::remove);
+    }
+
+    private static byte[] maskAddress(final byte[] address, final int prefixLength) {
+        for (var i = 0; i < address.length; i++) {
+            val bits = prefixLength - i * Byte.SIZE;
+            if (bits <= 0) {
+                address[i] = 0;
+            } else if (bits < Byte.SIZE) {
+                address[i] &= (byte) (0xFF << (Byte.SIZE - bits));
+            }
+        }
+        return address;
+    }
+
+    private static boolean isEmpty(final GeoLocationResponse response) {
+        return response.getAddresses().isEmpty() && response.getLatitude() == 0 && response.getLongitude() == 0;
+    }
+
+    private static GeoLocationResponse copy(final GeoLocationResponse response) {
+        val copy = new GeoLocationResponse()
+            .setLatitude(response.getLatitude())
+            .setLongitude(response.getLongitude());
+        response.getAddresses().forEach(copy::addAddress);
+        return copy;
+    }
+
+    @Override
+    public GeoLocationResponse locate(final InetAddress address) {
+        val key = getCacheKey(address);
+        val uncached = new AtomicReference<GeoLocationResponse>();
+        val response = cache.get(key, __ -> FunctionUtils.doUnchecked(() -> {
+            LOGGER.trace("Locating [{}] for cache key [{}]", address, key);
+            val sample = Timer.start(Metrics.globalRegistry);
+            try {
+                val result = delegate.locate(address);
+                if (result != null && isEmpty(result)) {
+                    LOGGER.trace("Location of [{}] has no addresses or coordinates and will not be cached", address);
+                    uncached.set(result);
+                    return null;
+                }
+                return result;
+            } finally {
+                sample.stop(upstreamTimer);
+            }
+        }));
+        return response == null ? uncached.get() : copy(response);
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) throws Throwable {
+        return delegate.locate(latitude, longitude);
+    }
+
+    /**
+     * Remove all cached results.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void destroy() {
+        removeCacheMetrics();
+        cache.invalidateAll();
+    }
+
+    protected String getCacheKey(final InetAddress address) {
+        if (!properties.isNetworkPrefixEnabled()) {
+            return address.getHostAddress();
+        }
+        val prefixLength = address instanceof Inet4Address ? properties.getIpv4PrefixLength() : properties.getIpv6PrefixLength();
+        val network = maskAddress(address.getAddress(), prefixLength);
+        return FunctionUtils.doUnchecked(() -> InetAddress.getByAddress(network).getHostAddress()) + '/' + prefixLength;
+    }
+}
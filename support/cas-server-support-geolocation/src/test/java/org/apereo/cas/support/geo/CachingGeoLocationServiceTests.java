@@ -0,0 +1,161 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.support.geo.GeoLocationCacheProperties;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingGeoLocationServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("GeoLocation")
+class CachingGeoLocationServiceTests {
+    private static GeoLocationResponse getResponse() {
+        return new GeoLocationResponse().setLatitude(1).setLongitude(1).addAddress("1234 Main Street");
+    }
+
+    @Test
+    void verifyCachedByAddress() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(getResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.5"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        service.invalidate();
+        assertNotNull(service.locate("1.2.3.4"));
+        verify(delegate, times(3)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyCachedByNetwork() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(getResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties().setNetworkPrefixEnabled(true));
+        assertEquals("1.2.3.0/24", service.getCacheKey(InetAddress.getByName("1.2.3.4")));
+        assertEquals("2001:db8:1:0:0:0:0:0/48", service.getCacheKey(InetAddress.getByName("2001:db8:1:2::1")));
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.200"));
+        assertNotNull(service.locate("2001:db8:1:2::1"));
+        assertNotNull(service.locate("2001:db8:1:ffff::1"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        assertNotNull(service.locate("1.2.4.4"));
+        verify(delegate, times(3)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyMissingResultsNotCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(null);
+        when(delegate.locate(anyDouble(), anyDouble())).thenReturn(getResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        assertNull(service.locate("1.2.3.4"));
+        assertNull(service.locate("1.2.3.4"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+        assertNotNull(service.locate(1.0, 1.0));
+        assertNotNull(service.locate(1.0, 1.0));
+        verify(delegate, times(2)).locate(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void verifyEmptyResultsNotCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(new GeoLocationResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyCachedResultsCopied() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(getResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties().setNetworkPrefixEnabled(true));
+        val response = service.locate("1.2.3.4");
+        response.addAddress("1.2.3.4").setLatitude(2);
+        val cached = service.locate("1.2.3.200");
+        assertNotSame(response, cached);
+        assertEquals("1234 Main Street", cached.build());
+        assertEquals(1, cached.getLatitude());
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyFailuresNotCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenThrow(new IllegalStateException("Failed")).thenReturn(getResponse());
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        assertNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    void verifyCacheMetricsReplaced() throws Throwable {
+        val registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            val delegate = mock(GeoLocationService.class);
+            when(delegate.locate(any(InetAddress.class))).thenReturn(getResponse());
+            val first = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+            assertNotNull(first.locate("1.2.3.4"));
+            assertNotNull(first.locate("1.2.3.5"));
+
+            val second = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+            assertNotNull(second.locate("1.2.3.4"));
+            val gauges = registry.find("cache.size").tag("cache", "cas.geolocation.cache").gauges();
+            assertEquals(1, gauges.size());
+            assertEquals(1, gauges.iterator().next().value());
+
+            second.destroy();
+            assertTrue(registry.find("cache.size").tag("cache", "cas.geolocation.cache").gauges().isEmpty());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    void verifyConcurrentLookupsCoalesced() throws Throwable {
+        val calls = new AtomicInteger();
+        val latch = new CountDownLatch(1);
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenAnswer(__ -> {
+            calls.incrementAndGet();
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            return getResponse();
+        });
+        val service = new CachingGeoLocationService(delegate, new GeoLocationCacheProperties());
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            val futures = new ArrayList<CompletableFuture<GeoLocationResponse>>();
+            for (var i = 0; i < 8; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> service.locate("1.2.3.4"), executor));
+            }
+            Thread.sleep(500);
+            latch.countDown();
+            futures.forEach(future -> assertNotNull(future.join()));
+        }
+        assertEquals(1, calls.get());
+    }
+}
@@ -2,6 +2,8 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.web.flow.WebflowStoreSessionsProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
@@ -13,7 +15,11 @@ import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.HazelcastFlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.InMemoryFlowExecutionStateStore;
 
 import com.hazelcast.config.AttributeConfig;
 import com.hazelcast.config.IndexConfig;
@@ -48,7 +54,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistry, module = "hazelcast")
-@AutoConfiguration
+@AutoConfiguration(beforeName = "org.apereo.cas.config.CasWebflowContextConfiguration")
 public class HazelcastTicketRegistryConfiguration {
 
     @Bean
@@ -123,6 +129,21 @@ public class HazelcastTicketRegistryConfiguration {
         return builder.toString();
     }
 
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = FlowExecutionStateStore.BEAN_NAME)
+    public FlowExecutionStateStore webflowExecutionStateStore(
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        final HazelcastInstance casTicketRegistryHazelcastInstance,
+        final CasConfigurationProperties casProperties) {
+        val store = casProperties.getWebflow().getSession().getStore();
+        return BeanSupplier.of(FlowExecutionStateStore.class)
+            .when(store.getType() == WebflowStoreSessionsProperties.WebflowStateStoreTypes.HAZELCAST)
+            .supply(() -> new HazelcastFlowExecutionStateStore(casTicketRegistryHazelcastInstance, Beans.newDuration(store.getTimeToLive())))
+            .otherwise(() -> new InMemoryFlowExecutionStateStore(Beans.newDuration(store.getTimeToLive()), store.getMaximumStoreSize()))
+            .get();
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Lazy(false)
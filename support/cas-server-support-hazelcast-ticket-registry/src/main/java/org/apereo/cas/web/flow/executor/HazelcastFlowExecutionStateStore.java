@@ -0,0 +1,47 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastFlowExecutionStateStore}, which keeps flow execution state in a Hazelcast map,
+ * using the same instance as the ticket registry. Every entry expires once it has not
+ * been written for the configured time to live.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class HazelcastFlowExecutionStateStore implements FlowExecutionStateStore {
+    /**
+     * Name of the map that holds flow execution state.
+     */
+    public static final String MAP_NAME = "webflowExecutionStateCache";
+
+    private final IMap<String, byte[]> map;
+
+    private final Duration timeToLive;
+
+    public HazelcastFlowExecutionStateStore(final HazelcastInstance hazelcastInstance, final Duration timeToLive) {
+        this.map = hazelcastInstance.getMap(MAP_NAME);
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Optional<byte[]> get(final String id) {
+        return Optional.ofNullable(map.get(id));
+    }
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        map.set(id, state, timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void remove(final String id) {
+        map.delete(id);
+    }
+}
@@ -6,10 +6,15 @@ import org.apereo.cas.configuration.model.support.jpa.JpaConfigurationContext;
 import org.apereo.cas.configuration.support.CloseableDataSource;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -35,6 +40,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
@@ -192,6 +198,41 @@ public class JpaTicketRegistryConfiguration {
         }
     }
 
+    @Configuration(value = "JpaTicketRegistryCleanerConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class JpaTicketRegistryCleanerConfiguration {
+        private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.jpa.enabled").isTrue().evenIfMissing()
+            .and("cas.ticket.registry.cleaner.schedule.enabled").isTrue().evenIfMissing();
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public TicketRegistryCleaner ticketRegistryCleaner(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(LockRepository.BEAN_NAME)
+            final LockRepository lockRepository,
+            @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+            final LogoutManager logoutManager,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry,
+            @Qualifier(TicketCatalog.BEAN_NAME)
+            final TicketCatalog ticketCatalog) {
+            return BeanSupplier.of(TicketRegistryCleaner.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    if (ticketRegistry instanceof final JpaTicketRegistry jpaTicketRegistry) {
+                        val jpa = casProperties.getTicket().getRegistry().getJpa();
+                        return new JpaTicketRegistryCleaner(lockRepository, logoutManager,
+                            jpaTicketRegistry, ticketCatalog, jpa.getCleanerPageSize());
+                    }
+                    return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
+                })
+                .otherwise(NoOpTicketRegistryCleaner::getInstance)
+                .get();
+        }
+    }
+
     @Configuration(value = "JpaTicketRegistryLockingConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistryLocking, module = "jpa")
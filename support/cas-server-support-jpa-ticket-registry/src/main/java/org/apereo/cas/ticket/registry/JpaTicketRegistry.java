@@ -17,6 +17,8 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
 import org.jooq.lambda.Unchecked;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -24,11 +26,17 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +53,11 @@ import java.util.stream.Stream;
 @Getter
 @Monitorable
 public class JpaTicketRegistry extends AbstractTicketRegistry {
+    /**
+     * Expiration instant recorded for tickets whose expiration date is undefined,
+     * so that such tickets are never picked up by the cleaner.
+     */
+    private static final ZonedDateTime EXPIRES_AT_UNDEFINED = ZonedDateTime.of(9999, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
 
     private final JpaBeanFactory jpaBeanFactory;
 
@@ -70,6 +83,19 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return ((Number) result).longValue();
     }
 
+    private static ZonedDateTime getExpiresAt(final Ticket ticket) {
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        if (ticket.isExpired()) {
+            return now;
+        }
+        val ttl = ticket.getExpirationPolicy().getTimeToLive(ticket);
+        if (ttl == null || ttl < 1 || ttl == Long.MAX_VALUE) {
+            LOGGER.trace("Expiration date is undefined for ttl value [{}]", ttl);
+            return EXPIRES_AT_UNDEFINED;
+        }
+        return now.plusSeconds(ttl);
+    }
+
     @Override
     public void addTicketInternal(final Ticket ticket) {
         transactionTemplate.executeWithoutResult(Unchecked.consumer(status -> {
@@ -83,12 +109,21 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         }));
     }
 
+    @Override
+    public void executeTransaction(final TicketRegistryTransaction transaction) {
+        transactionTemplate.executeWithoutResult(Unchecked.consumer(status -> {
+            LOGGER.trace("Executing [{}] ticket operation(s) in a single transaction", transaction.getOperations().size());
+            super.executeTransaction(transaction);
+        }));
+    }
+
     protected BaseTicketEntity getTicketEntityFrom(final Ticket ticket) {
         return FunctionUtils.doUnchecked(() -> {
             val encodeTicket = encodeTicket(ticket);
             return getJpaTicketEntityFactory()
                 .fromTicket(encodeTicket)
                 .setPrincipalId(digestIdentifier(getPrincipalIdFrom(ticket)))
+                .setExpiresAt(getExpiresAt(ticket))
                 .setAttributes(collectAndDigestTicketAttributes(ticket));
         });
     }
@@ -297,6 +332,116 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
+    /**
+     * Delete expired tickets in bulk using a single statement,
+     * based on the indexed expiration instant of each ticket.
+     *
+     * @param expirationTime the expiration time
+     * @param excludedTypes  ticket types that must be left alone and processed individually
+     * @return the number of removed tickets
+     */
+    public int deleteExpiredTickets(final ZonedDateTime expirationTime, final Collection<String> excludedTypes) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = excludedTypes.isEmpty()
+                ? String.format("DELETE FROM %s t WHERE t.expiresAt <= :expirationTime", factory.getEntityName())
+                : String.format("DELETE FROM %s t WHERE t.expiresAt <= :expirationTime AND t.type NOT IN :types", factory.getEntityName());
+            val query = entityManager.createQuery(sql).setParameter("expirationTime", expirationTime);
+            if (!excludedTypes.isEmpty()) {
+                query.setParameter("types", excludedTypes);
+            }
+            return query.executeUpdate();
+        }));
+    }
+
+    /**
+     * Clean a page of expired tickets, ordered by ticket id and starting after the given id.
+     * Selected rows are locked for update and rows locked by other nodes are skipped, if the database supports it.
+     * Expired tickets are removed within the same transaction, so that locks are held only
+     * until expired tickets are removed, and are returned so that the caller may process them
+     * once the transaction is committed. Tickets that turn out not to be expired have their expiration instant
+     * recalculated, so that they are not picked up again until they do expire.
+     *
+     * @param expirationTime the expiration time
+     * @param types          the ticket types to select; if empty, all types are selected
+     * @param lastTicketId   the last ticket id (as stored) of the previous page, or blank for the first page
+     * @param pageSize       the page size
+     * @return the processed page
+     */
+    public ExpiredTicketsPage cleanExpiredTickets(final ZonedDateTime expirationTime,
+                                                  final Collection<String> types,
+                                                  final String lastTicketId,
+                                                  final int pageSize) {
+        val criteria = types.isEmpty()
+            ? "t.expiresAt <= :expirationTime"
+            : "t.expiresAt <= :expirationTime AND t.type IN :types";
+        return cleanTicketEntities(criteria, lastTicketId, pageSize, query -> {
+            query.setParameter("expirationTime", expirationTime);
+            if (!types.isEmpty()) {
+                query.setParameter("types", types);
+            }
+        });
+    }
+
+    /**
+     * Clean a page of tickets whose expiration instant was never recorded, such as tickets
+     * that were added before expiration instants were tracked. Expired tickets are removed
+     * and the expiration instant of all others is recorded, so that each such ticket is processed once.
+     *
+     * @param lastTicketId the last ticket id (as stored) of the previous page, or blank for the first page
+     * @param pageSize     the page size
+     * @return the processed page
+     */
+    public ExpiredTicketsPage cleanTicketsWithoutExpiration(final String lastTicketId,
+                                                           final int pageSize) {
+        return cleanTicketEntities("t.expiresAt IS NULL", lastTicketId, pageSize, query -> {
+        });
+    }
+
+    private ExpiredTicketsPage cleanTicketEntities(final String criteria,
+                                                   final String lastTicketId,
+                                                   final int pageSize,
+                                                   final Consumer<TypedQuery<BaseTicketEntity>> parameters) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = String.format("SELECT t FROM %s t WHERE t.id > :lastTicketId AND (%s) ORDER BY t.id",
+                factory.getEntityName(), criteria);
+            val query = entityManager.createQuery(sql, factory.getType())
+                .setParameter("lastTicketId", StringUtils.defaultString(lastTicketId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .setMaxResults(pageSize);
+            parameters.accept(query);
+            val entities = query.getResultList();
+
+            var removed = 0;
+            val expiredTickets = new ArrayList<Ticket>();
+            for (val entity : entities) {
+                val ticket = decodeTicket(factory.toTicket(entity));
+                if (ticket == null) {
+                    LOGGER.warn("Unable to decode ticket [{}]; its expiration instant cannot be determined", entity.getId());
+                    updateExpiresAt(entity.getId(), EXPIRES_AT_UNDEFINED);
+                } else if (ticket.isExpired()) {
+                    LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
+                    removed += FunctionUtils.doUnchecked(() -> deleteTicket(ticket));
+                    expiredTickets.add(ticket);
+                } else {
+                    updateExpiresAt(entity.getId(), getExpiresAt(ticket));
+                }
+            }
+            val lastId = entities.isEmpty() ? lastTicketId : entities.getLast().getId();
+            return new ExpiredTicketsPage(entities.size(), removed, lastId, expiredTickets);
+        }));
+    }
+
+    private void updateExpiresAt(final String ticketId, final ZonedDateTime expiresAt) {
+        val sql = String.format("UPDATE %s t SET t.expiresAt = :expiresAt WHERE t.id = :id", getJpaTicketEntityFactory().getEntityName());
+        entityManager.createQuery(sql)
+            .setParameter("expiresAt", expiresAt)
+            .setParameter("id", ticketId)
+            .executeUpdate();
+    }
+
     protected JpaTicketEntityFactory getJpaTicketEntityFactory() {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         return new JpaTicketEntityFactory(jpa.getDialect());
@@ -312,4 +457,15 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             return query.executeUpdate();
         });
     }
+
+    /**
+     * A page of tickets processed by the cleaner.
+     *
+     * @param size           the number of tickets in the page
+     * @param removed        the number of removed tickets
+     * @param lastTicketId   the last ticket id (as stored) in the page
+     * @param expiredTickets the expired tickets that were removed
+     */
+    public record ExpiredTicketsPage(int size, int removed, String lastTicketId, List<Ticket> expiredTickets) {
+    }
 }
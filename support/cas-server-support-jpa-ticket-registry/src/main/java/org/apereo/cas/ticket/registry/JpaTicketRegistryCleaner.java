@@ -0,0 +1,122 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.logout.SingleLogoutExecutionRequest;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.lock.LockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link JpaTicketRegistryCleaner}. Rather than loading every ticket from the database
+ * to check its expiration status, this cleaner relies on the indexed expiration instant of each ticket.
+ * Expired tickets that require no special treatment are removed in bulk using a single statement.
+ * Expired tickets that must be processed individually, such as ticket-granting tickets that
+ * require single logout, are fetched in pages ordered by id and locked for update while skipping
+ * rows already locked by other nodes. Each page is removed within the transaction that locked it,
+ * so that the cleaner can safely run on multiple nodes at the same time, and single logout is
+ * only performed for the removed ticket-granting tickets once that transaction is committed,
+ * so that locks are not held while services are notified. Tickets whose expiration instant
+ * was never recorded are processed once, and have their expiration instant recorded if they are not expired.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class JpaTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final LogoutManager logoutManager;
+
+    private final JpaTicketRegistry jpaTicketRegistry;
+
+    private final TicketCatalog ticketCatalog;
+
+    private final int pageSize;
+
+    public JpaTicketRegistryCleaner(final LockRepository lockRepository,
+                                    final LogoutManager logoutManager,
+                                    final JpaTicketRegistry ticketRegistry,
+                                    final TicketCatalog ticketCatalog,
+                                    final int pageSize) {
+        super(lockRepository, logoutManager, ticketRegistry);
+        this.logoutManager = logoutManager;
+        this.jpaTicketRegistry = ticketRegistry;
+        this.ticketCatalog = ticketCatalog;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    @Transactional(transactionManager = "ticketTransactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public int clean() {
+        return super.clean();
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val expirationTime = ZonedDateTime.now(Clock.systemUTC());
+        var ticketsDeleted = 0;
+
+        val individualTypes = getIndividuallyCleanedTicketTypes();
+        if (!jpaTicketRegistry.isCipherExecutorEnabled()) {
+            val removed = jpaTicketRegistry.deleteExpiredTickets(expirationTime, individualTypes);
+            LOGGER.debug("Removed [{}] expired ticket(s) in bulk", removed);
+            ticketsDeleted += removed;
+        }
+
+        val types = jpaTicketRegistry.isCipherExecutorEnabled() ? Set.<String>of() : individualTypes;
+        var page = new JpaTicketRegistry.ExpiredTicketsPage(0, 0, StringUtils.EMPTY);
+        do {
+            page = jpaTicketRegistry.cleanExpiredTickets(expirationTime, types, page.lastTicketId(), pageSize);
+            LOGGER.trace("Processed [{}] expired ticket(s) individually, removing [{}]", page.size(), page.removed());
+            performLogout(page.expiredTickets());
+            ticketsDeleted += page.removed();
+        } while (page.size() >= pageSize);
+
+        page = new JpaTicketRegistry.ExpiredTicketsPage(0, 0, StringUtils.EMPTY);
+        do {
+            page = jpaTicketRegistry.cleanTicketsWithoutExpiration(page.lastTicketId(), pageSize);
+            LOGGER.trace("Processed [{}] ticket(s) without an expiration instant, removing [{}]", page.size(), page.removed());
+            performLogout(page.expiredTickets());
+            ticketsDeleted += page.removed();
+        } while (page.size() >= pageSize);
+
+        LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+        return ticketsDeleted;
+    }
+
+    protected void performLogout(final Collection<? extends Ticket> expiredTickets) {
+        expiredTickets
+            .stream()
+            .filter(TicketGrantingTicket.class::isInstance)
+            .map(TicketGrantingTicket.class::cast)
+            .forEach(ticketGrantingTicket -> FunctionUtils.doAndHandle(__ -> {
+                LOGGER.debug("Performing logout for expired ticket-granting ticket [{}]", ticketGrantingTicket.getId());
+                logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
+                    .ticketGrantingTicket(ticketGrantingTicket)
+                    .build());
+            }));
+    }
+
+    protected Set<String> getIndividuallyCleanedTicketTypes() {
+        return ticketCatalog.findAll()
+            .stream()
+            .filter(definition -> TicketGrantingTicket.class.isAssignableFrom(definition.getImplementationClass())
+                || definition.getProperties().isCascadeRemovals())
+            .map(TicketDefinition::getImplementationClass)
+            .map(Class::getName)
+            .collect(Collectors.toSet());
+    }
+}
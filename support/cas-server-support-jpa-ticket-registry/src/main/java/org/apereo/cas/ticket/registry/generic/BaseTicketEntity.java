@@ -55,6 +55,14 @@ public abstract class BaseTicketEntity implements Serializable {
     @Column(nullable = false, length = 512)
     private ZonedDateTime creationTime;
 
+    /**
+     * The instant at which the ticket is considered expired,
+     * calculated from the ticket's expiration policy on every write.
+     * May be {@code null} if the expiration policy does not define a time-to-live.
+     */
+    @Column
+    private ZonedDateTime expiresAt;
+
     /**
      * Sets attributes.
      *
@@ -12,6 +12,7 @@ import org.hibernate.annotations.Type;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import java.io.Serial;
@@ -28,7 +29,7 @@ import java.util.Map;
 @SuperBuilder
 @NoArgsConstructor
 @Entity(name = "OracleJpaTicketEntity")
-@Table(name = "CasTickets")
+@Table(name = "CasTickets", indexes = @Index(name = "CasTicketsExpiresAtIndex", columnList = "expiresAt"))
 @Setter
 @Getter
 @Accessors(chain = true)
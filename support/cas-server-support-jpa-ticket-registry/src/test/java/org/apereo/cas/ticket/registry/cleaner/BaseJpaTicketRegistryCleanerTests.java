@@ -2,6 +2,8 @@ package org.apereo.cas.ticket.registry.cleaner;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.logout.SingleLogoutExecutionRequest;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.services.ServicesManager;
@@ -11,6 +13,7 @@ import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.ServiceTicketFactory;
 import org.apereo.cas.ticket.ServiceTicketSessionTrackingPolicy;
+import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
@@ -27,6 +30,8 @@ import org.apereo.cas.ticket.device.OAuth20DeviceUserCodeFactory;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.registry.BaseJpaTicketRegistryTests;
+import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.util.CollectionUtils;
@@ -34,6 +39,7 @@ import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.lock.LockRepository;
 
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,12 +51,14 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.integration.IntegrationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -93,6 +101,10 @@ public abstract class BaseJpaTicketRegistryCleanerTests {
     @Qualifier("ticketRegistryCleaner")
     private TicketRegistryCleaner ticketRegistryCleaner;
 
+    @Autowired
+    @Qualifier(TicketCatalog.BEAN_NAME)
+    private TicketCatalog ticketCatalog;
+
     @BeforeEach
     public void cleanup() {
         ticketRegistry.deleteAll();
@@ -210,6 +222,61 @@ public abstract class BaseJpaTicketRegistryCleanerTests {
         assertTrue(ticketRegistry.getTickets().isEmpty());
     }
 
+    @Test
+    void verifyTicketsRemovedByExpirationTime() throws Throwable {
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        val validTgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        ticketRegistry.addTicket(validTgt);
+
+        val tgt = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+            CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()),
+            new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(
+            ServiceTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16), RegisteredServiceTestUtils.getService(),
+            new HardTimeoutExpirationPolicy(1), true, serviceTicketSessionTrackingPolicy);
+        st.markTicketExpired();
+        ticketRegistry.addTicket(st);
+        tgt.markTicketExpired();
+        ticketRegistry.updateTicket(tgt);
+
+        assertEquals(2, ticketRegistry.sessionCount());
+        assertEquals(1, ticketRegistry.serviceTicketCount());
+
+        assertTrue(ticketRegistryCleaner.clean() >= 2);
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(0, ticketRegistry.serviceTicketCount());
+        assertNotNull(ticketRegistry.getTicket(validTgt.getId()));
+        assertNull(ticketRegistry.getTicket(tgt.getId()));
+    }
+
+    @Test
+    void verifyLogoutOutsideOfTransaction() throws Throwable {
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        val tgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        ticketRegistry.addTicket(tgt);
+        tgt.markTicketExpired();
+        ticketRegistry.updateTicket(tgt);
+
+        val loggedOut = new AtomicBoolean();
+        val logoutManager = mock(LogoutManager.class);
+        doAnswer(invocation -> {
+            val request = invocation.getArgument(0, SingleLogoutExecutionRequest.class);
+            assertEquals(tgt.getId(), request.getTicketGrantingTicket().getId());
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            assertNull(ticketRegistry.getTicket(tgt.getId()));
+            loggedOut.set(true);
+            return null;
+        }).when(logoutManager).performLogout(any());
+
+        val cleaner = new JpaTicketRegistryCleaner(LockRepository.noOp(), logoutManager,
+            (JpaTicketRegistry) ticketRegistry, ticketCatalog, 10);
+        assertEquals(1, cleaner.clean());
+        assertTrue(loggedOut.get());
+    }
+
     @RetryingTest(2)
     void verifyConcurrentCleaner() throws Throwable {
         val registryTask = new TimerTask() {
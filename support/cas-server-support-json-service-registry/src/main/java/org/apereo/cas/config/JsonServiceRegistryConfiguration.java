@@ -25,6 +25,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +60,8 @@ public class JsonServiceRegistryConfiguration {
             registeredServiceReplicationStrategy,
             resourceNamingStrategy,
             Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+        json.setLoaderThreads(registry.getJson().getLoaderThreads());
+        FunctionUtils.doIfNotBlank(registry.getJson().getSnapshotLocation(), location -> json.setSnapshotFile(new File(location)));
         if (registry.getJson().isWatcherEnabled()) {
             json.enableDefaultWatcherService();
         }
@@ -8,10 +8,12 @@ import org.apereo.cas.services.resource.DefaultRegisteredServiceResourceNamingSt
 import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import org.apereo.cas.ws.idp.services.WSFederationRegisteredService;
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,10 +22,13 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import java.io.File;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -59,6 +64,53 @@ class JsonServiceRegistryTests extends BaseResourceBasedServiceRegistryTests {
         assertEquals(AbstractResourceBasedServiceRegistry.FALLBACK_REGISTERED_SERVICES_LOCATION.getCanonicalPath(), location.toFile().getCanonicalPath());
     }
 
+    @Test
+    void verifyLoadFromSnapshot() throws Throwable {
+        val snapshot = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".snapshot");
+        val registry = buildResourceBasedServiceRegistry(RESOURCE);
+        registry.setSnapshotFile(snapshot);
+        registry.setLoaderThreads(2);
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        registry.save(registeredService);
+        registry.load();
+        assertTrue(snapshot.exists());
+
+        val restored = buildResourceBasedServiceRegistry(RESOURCE);
+        restored.setSnapshotFile(snapshot);
+        assertFalse(restored.load().isEmpty());
+        assertEquals(registeredService, restored.findServiceById(registeredService.getId()));
+
+        val file = FileUtils.listFiles(restored.getServiceRegistryDirectory().toFile(), new String[]{"json"}, true)
+            .stream()
+            .filter(candidate -> candidate.getName().endsWith("-" + registeredService.getId() + ".json"))
+            .findFirst()
+            .orElseThrow();
+        registeredService.setDescription("Changed while the registry was not running");
+        new RegisteredServiceJsonSerializer(applicationContext).to(file, registeredService);
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+        val reloaded = buildResourceBasedServiceRegistry(RESOURCE);
+        reloaded.setSnapshotFile(snapshot);
+        reloaded.load();
+        assertEquals(registeredService.getDescription(), reloaded.findServiceById(registeredService.getId()).getDescription());
+        FileUtils.deleteQuietly(snapshot);
+    }
+
+    @Test
+    void verifyInvalidSnapshotIgnored() throws Throwable {
+        val snapshot = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".snapshot");
+        FileUtils.writeStringToFile(snapshot, "[{\"file\": \"unknown.json\", \"services\": [\"{ bad\"]}]", StandardCharsets.UTF_8);
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        val registry = buildResourceBasedServiceRegistry(RESOURCE);
+        registry.save(registeredService);
+
+        val restored = buildResourceBasedServiceRegistry(RESOURCE);
+        restored.setSnapshotFile(snapshot);
+        assertFalse(restored.load().isEmpty());
+        assertEquals(registeredService, restored.findServiceById(registeredService.getId()));
+        assertTrue(FileUtils.readFileToString(snapshot, StandardCharsets.UTF_8).startsWith(":)"));
+        FileUtils.deleteQuietly(snapshot);
+    }
+
     @Test
     void verifyRequiredHandlersServiceDefinition() throws Throwable {
         val resource = new ClassPathResource("RequiredHandlers-10000004.json");
@@ -16,9 +16,8 @@ import com.mongodb.client.MongoCollection;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.hjson.JsonValue;
-import org.hjson.Stringify;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -29,6 +28,7 @@ import org.springframework.data.mongodb.core.query.Update;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -56,6 +56,14 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         this.mongoTemplate = mongoTemplate;
     }
 
+    private static Update buildTicketDocumentUpdate(final MongoDbTicketDocument document) {
+        return Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, document.getJson())
+            .set(MongoDbTicketDocument.FIELD_NAME_TYPE, document.getType())
+            .set(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, document.getExpireAt())
+            .set(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL, document.getPrincipal())
+            .set(MongoDbTicketDocument.FIELD_NAME_ATTRIBUTES, document.getAttributes());
+    }
+
     /**
      * Calculate the time at which the ticket is eligible for automated deletion by MongoDb.
      * Makes the assumption that the CAS server date and the Mongo server date are in sync.
@@ -92,6 +100,32 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         }
     }
 
+    @Override
+    protected void saveTickets(final List<TicketRegistryTransaction.Operation> operations) {
+        val bulkOperations = new LinkedHashMap<String, BulkOperations>();
+        for (val operation : operations) {
+            val ticket = operation.ticket();
+            val metadata = ticketCatalog.find(ticket);
+            if (metadata == null) {
+                throw new IllegalArgumentException("Could not locate ticket definition in the catalog for ticket " + ticket.getId());
+            }
+            val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+            val bulk = bulkOperations.computeIfAbsent(collectionName,
+                name -> mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, name));
+            val document = FunctionUtils.doUnchecked(() -> buildTicketAsDocument(ticket));
+            if (operation.type() == TicketRegistryTransaction.OperationTypes.ADD) {
+                bulk.insert(document);
+            } else {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(document.getTicketId()));
+                bulk.updateOne(query, buildTicketDocumentUpdate(document));
+            }
+        }
+        bulkOperations.forEach((collectionName, bulk) -> {
+            val result = bulk.execute();
+            LOGGER.debug("Saved tickets in collection [{}] with result [{}]", collectionName, result);
+        });
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         try {
@@ -271,8 +305,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         val json = serializeTicket(encTicket);
         FunctionUtils.throwIf(StringUtils.isBlank(json),
             () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
-        LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-            JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        LOGGER.trace("Serialized ticket [{}] as [{}]", ticket.getId(), json);
 
         val expireAt = getExpireAt(ticket);
         LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
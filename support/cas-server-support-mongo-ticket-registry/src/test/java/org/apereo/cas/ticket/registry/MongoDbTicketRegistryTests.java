@@ -9,6 +9,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -23,6 +24,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.test.context.TestPropertySource;
 
@@ -77,6 +81,37 @@ class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
         assertNull(result);
     }
 
+    @RepeatedTest(1)
+    void verifyTransactionUpdatesIndexedFields() throws Throwable {
+        val ticket = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(600));
+        newTicketRegistry.addTicket(ticket);
+
+        val collectionName = ticketCatalog.find(ticket).getProperties().getStorageName();
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).exists(true));
+        mongoDbTicketRegistryTemplate.updateFirst(query, new Update()
+            .unset(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT)
+            .unset(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL), collectionName);
+
+        newTicketRegistry.executeTransaction(TicketRegistryTransaction.newTransaction().updateTicket(ticket));
+        val document = mongoDbTicketRegistryTemplate.findOne(query, MongoDbTicketDocument.class, collectionName);
+        assertNotNull(document);
+        assertNotNull(document.getExpireAt());
+        assertNotNull(document.getPrincipal());
+    }
+
+    @RepeatedTest(1)
+    void verifyFailedTransaction() throws Throwable {
+        val ticket = new MockTicketGrantingTicket("casuser");
+        val catalog = mock(TicketCatalog.class);
+        when(catalog.find(any(Ticket.class))).thenReturn(null);
+        val mgr = mock(TicketSerializationManager.class);
+        when(mgr.serializeTicket(any())).thenReturn("{}");
+        val registry = new MongoDbTicketRegistry(CipherExecutor.noOp(), mgr, catalog, mongoDbTicketRegistryTemplate);
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.executeTransaction(TicketRegistryTransaction.newTransaction().addTicket(ticket)));
+    }
+
     @RepeatedTest(1)
     void verifyBadTicketInCatalog() throws Throwable {
         val ticket = new MockTicketGrantingTicket("casuser");
@@ -31,6 +31,18 @@ public interface OneTimeTokenCredentialValidator<C extends OneTimeTokenCredentia
      */
     OneTimeTokenCredentialValidator store(T validatedToken);
 
+    /**
+     * Store the validated token unless it was already used,
+     * checking and storing the token in one step.
+     *
+     * @param validatedToken the validated token
+     * @return true if the token was stored, false if it was already used.
+     */
+    @SuppressWarnings("unchecked")
+    default boolean storeIfAbsent(final T validatedToken) {
+        return getTokenRepository().storeIfAbsent(validatedToken);
+    }
+
     /**
      * Is token authorized for account?
      *
@@ -44,6 +44,15 @@ public class CachingOneTimeTokenRepository extends BaseOneTimeTokenRepository<On
         }
     }
 
+    @Override
+    public synchronized boolean storeIfAbsent(final OneTimeToken token) {
+        if (exists(token.getUserId(), token.getToken())) {
+            return false;
+        }
+        store(token);
+        return true;
+    }
+
     @Override
     public synchronized OneTimeToken get(final String uid, final Integer otp) {
         val tokens = storage.getIfPresent(uid);
@@ -0,0 +1,91 @@
+package org.apereo.cas.otp.repository.token;
+
+import org.apereo.cas.authentication.OneTimeToken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+
+/**
+ * This is {@link ConcurrentOneTimeTokenRepository}, which keeps used tokens in memory,
+ * keyed by user and token, without any lock. Checking whether a token was used and recording it
+ * is a single atomic operation, so the same token cannot be accepted twice even when submitted concurrently.
+ * Tokens expire once they can no longer be accepted, which is when the window
+ * of time steps the token validator allows has passed. Operations that do not identify a single token,
+ * such as removing all tokens of a user, scan the repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class ConcurrentOneTimeTokenRepository extends BaseOneTimeTokenRepository<OneTimeToken> {
+    private final Cache<TokenKey, OneTimeToken> storage;
+
+    public ConcurrentOneTimeTokenRepository(final Duration expiration, final long maximumSize) {
+        this.storage = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    @Override
+    public void cleanInternal() {
+        LOGGER.trace("Beginning to clean up the cache storage to remove expiring tokens");
+        storage.cleanUp();
+        LOGGER.debug("Estimated total of [{}] token(s) cached and may be removed in future iterations", storage.estimatedSize());
+    }
+
+    @Override
+    public void store(final OneTimeToken token) {
+        LOGGER.debug("Storing token [{}] for user [{}]", token, token.getUserId());
+        storage.put(new TokenKey(token.getUserId(), token.getToken()), token);
+    }
+
+    @Override
+    public boolean storeIfAbsent(final OneTimeToken token) {
+        val stored = storage.asMap().putIfAbsent(new TokenKey(token.getUserId(), token.getToken()), token) == null;
+        LOGGER.debug("Token [{}] for user [{}] is [{}]", token, token.getUserId(), stored ? "stored" : "already used");
+        return stored;
+    }
+
+    @Override
+    public OneTimeToken get(final String uid, final Integer otp) {
+        return storage.getIfPresent(new TokenKey(uid, otp));
+    }
+
+    @Override
+    public void remove(final String uid, final Integer otp) {
+        storage.invalidate(new TokenKey(uid, otp));
+    }
+
+    @Override
+    public void remove(final String uid) {
+        storage.asMap().keySet().removeIf(key -> key.userId().equals(uid));
+    }
+
+    @Override
+    public void remove(final Integer otp) {
+        storage.asMap().keySet().removeIf(key -> key.token().equals(otp));
+    }
+
+    @Override
+    public void removeAll() {
+        storage.invalidateAll();
+    }
+
+    @Override
+    public long count(final String uid) {
+        return storage.asMap().keySet().stream().filter(key -> key.userId().equals(uid)).count();
+    }
+
+    @Override
+    public long count() {
+        return storage.estimatedSize();
+    }
+
+    private record TokenKey(String userId, Integer token) {
+    }
+}
@@ -23,6 +23,23 @@ public interface OneTimeTokenRepository<T extends OneTimeToken> {
      */
     void store(T token);
 
+    /**
+     * Store token/code in the repository unless the same token is already stored for the user,
+     * so that concurrent attempts to use the same token cannot both succeed.
+     * Implementations should check and store the token atomically; the default implementation
+     * does not, and only exists for repositories that cannot.
+     *
+     * @param token the token
+     * @return true if the token was stored, false if it was already used.
+     */
+    default boolean storeIfAbsent(final T token) {
+        if (exists(token.getUserId(), token.getToken())) {
+            return false;
+        }
+        store(token);
+        return true;
+    }
+
     /**
      * Determine if the otp for user exists in repository.
      *
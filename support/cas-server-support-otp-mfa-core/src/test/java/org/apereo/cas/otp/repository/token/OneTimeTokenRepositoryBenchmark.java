@@ -0,0 +1,86 @@
+package org.apereo.cas.otp.repository.token;
+
+import org.apereo.cas.authentication.OneTimeToken;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of {@link CachingOneTimeTokenRepository}, whose operations are synchronized,
+ * with {@link ConcurrentOneTimeTokenRepository} when many threads record used tokens of many users at once,
+ * which is the access pattern of token validation under load. Run via {@link #main(String[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class OneTimeTokenRepositoryBenchmark {
+    private static final int USERS = 10_000;
+
+    private static final int TOKENS = 1_000_000;
+
+    private static final Duration EXPIRATION = Duration.ofSeconds(90);
+
+    private OneTimeTokenRepository cachingRepository;
+
+    private OneTimeTokenRepository concurrentRepository;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(OneTimeTokenRepositoryBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    private static OneTimeToken nextToken() {
+        val random = ThreadLocalRandom.current();
+        return new OneTimeToken(random.nextInt(TOKENS), "user" + random.nextInt(USERS));
+    }
+
+    private static boolean storeIfAbsent(final OneTimeTokenRepository repository) {
+        return repository.storeIfAbsent(nextToken());
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        cachingRepository = new CachingOneTimeTokenRepository(Caffeine.newBuilder()
+            .expireAfterWrite(EXPIRATION)
+            .<String, Collection<OneTimeToken>>build());
+        concurrentRepository = new ConcurrentOneTimeTokenRepository(EXPIRATION, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public boolean storeIfAbsentCaching() {
+        return storeIfAbsent(cachingRepository);
+    }
+
+    @Benchmark
+    public boolean storeIfAbsentConcurrent() {
+        return storeIfAbsent(concurrentRepository);
+    }
+}
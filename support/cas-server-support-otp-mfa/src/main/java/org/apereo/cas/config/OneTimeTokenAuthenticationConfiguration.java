@@ -1,9 +1,8 @@
 package org.apereo.cas.config;
 
-import org.apereo.cas.authentication.OneTimeToken;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
-import org.apereo.cas.otp.repository.token.CachingOneTimeTokenRepository;
+import org.apereo.cas.otp.repository.token.ConcurrentOneTimeTokenRepository;
 import org.apereo.cas.otp.repository.token.OneTimeTokenRepository;
 import org.apereo.cas.otp.web.flow.OneTimeTokenAuthenticationWebflowAction;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -12,8 +11,7 @@ import org.apereo.cas.web.flow.actions.WebflowActionBeanSupplier;
 import org.apereo.cas.web.flow.authentication.FinalMultifactorAuthenticationTransactionWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.impl.CasWebflowEventResolutionConfigurationContext;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -26,7 +24,6 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.webflow.execution.Action;
 import java.time.Duration;
-import java.util.Collection;
 
 /**
  * This is {@link OneTimeTokenAuthenticationConfiguration}.
@@ -41,8 +38,6 @@ import java.util.Collection;
 public class OneTimeTokenAuthenticationConfiguration {
     private static final int EXPIRE_TOKENS_IN_SECONDS = 30;
 
-    private static final int INITIAL_CACHE_SIZE = 50;
-
     private static final long MAX_CACHE_SIZE = 1_000_000;
 
     @Configuration(value = "OneTimeTokenAuthenticationWebflowConfiguration", proxyBeanMethods = false)
@@ -88,14 +83,10 @@ public class OneTimeTokenAuthenticationConfiguration {
         @ConditionalOnMissingBean(name = "oneTimeTokenAuthenticatorTokenRepository")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public OneTimeTokenRepository oneTimeTokenAuthenticatorTokenRepository() {
-            final Cache<String, Collection<OneTimeToken>> storage = Caffeine.newBuilder()
-                .initialCapacity(INITIAL_CACHE_SIZE)
-                .maximumSize(MAX_CACHE_SIZE)
-                .recordStats()
-                .expireAfterWrite(Duration.ofSeconds(EXPIRE_TOKENS_IN_SECONDS))
-                .build();
-            return new CachingOneTimeTokenRepository(storage);
+        public OneTimeTokenRepository oneTimeTokenAuthenticatorTokenRepository(final CasConfigurationProperties casProperties) {
+            val gauth = casProperties.getAuthn().getMfa().getGauth().getCore();
+            val expiration = Math.max(EXPIRE_TOKENS_IN_SECONDS, gauth.getTimeStepSize() * gauth.getWindowSize());
+            return new ConcurrentOneTimeTokenRepository(Duration.ofSeconds(expiration), MAX_CACHE_SIZE);
         }
     }
 }
@@ -3,16 +3,17 @@ package org.apereo.cas.otp.repository.token;
 import org.apereo.cas.authentication.OneTimeToken;
 import org.apereo.cas.util.RandomUtils;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,9 +30,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @ResourceLock(value = "repository", mode = ResourceAccessMode.READ_WRITE)
 class CachingOneTimeTokenRepositoryTests extends BaseOneTimeTokenRepositoryTests {
 
-    @Autowired
-    @Qualifier("oneTimeTokenAuthenticatorTokenRepository")
-    private OneTimeTokenRepository repository;
+    private final OneTimeTokenRepository repository = new CachingOneTimeTokenRepository(Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(30))
+        .<String, Collection<OneTimeToken>>build());
 
     @Test
     void verifyTokenSave() throws Throwable {
@@ -40,6 +41,7 @@ class CachingOneTimeTokenRepositoryTests extends BaseOneTimeTokenRepositoryTests
         repository.store(token);
         repository.store(token);
         assertEquals(2, repository.count(casuser));
+        assertFalse(repository.storeIfAbsent(token));
         repository.clean();
         assertTrue(repository.exists(casuser, 1234));
         repository.remove(casuser);
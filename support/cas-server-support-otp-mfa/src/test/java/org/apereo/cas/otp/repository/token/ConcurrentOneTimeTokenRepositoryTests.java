@@ -0,0 +1,74 @@
+package org.apereo.cas.otp.repository.token;
+
+import org.apereo.cas.authentication.OneTimeToken;
+import org.apereo.cas.util.RandomUtils;
+
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ConcurrentOneTimeTokenRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = BaseOneTimeTokenRepositoryTests.SharedTestConfiguration.class)
+@Getter
+@Tag("MFA")
+@ResourceLock(value = "repository", mode = ResourceAccessMode.READ_WRITE)
+class ConcurrentOneTimeTokenRepositoryTests extends BaseOneTimeTokenRepositoryTests {
+
+    @Autowired
+    @Qualifier("oneTimeTokenAuthenticatorTokenRepository")
+    private OneTimeTokenRepository repository;
+
+    @Test
+    void verifyTokenSave() {
+        val casuser = UUID.randomUUID().toString();
+        val token = new OneTimeToken(1234, casuser);
+        assertTrue(repository.storeIfAbsent(token));
+        assertFalse(repository.storeIfAbsent(token));
+        assertTrue(repository.storeIfAbsent(new OneTimeToken(5678, casuser)));
+        assertEquals(2, repository.count(casuser));
+        repository.clean();
+        assertTrue(repository.exists(casuser, 1234));
+        repository.remove(5678);
+        assertEquals(1, repository.count(casuser));
+        repository.remove(casuser);
+        assertNull(repository.get(casuser, 1234));
+        assertEquals(0, repository.count(casuser));
+    }
+
+    @Test
+    void verifyTokenUsedOnceConcurrently() throws Exception {
+        val token = new OneTimeToken(RandomUtils.nextInt(), UUID.randomUUID().toString());
+        val attempts = IntStream.range(0, 32)
+            .mapToObj(i -> (Callable<Boolean>) () -> repository.storeIfAbsent(token))
+            .toList();
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            var stored = 0;
+            for (val result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    stored++;
+                }
+            }
+            assertEquals(1, stored);
+        }
+        repository.remove(token.getUserId(), token.getToken());
+        assertFalse(repository.exists(token.getUserId(), token.getToken()));
+    }
+}
@@ -105,13 +105,17 @@ public abstract class BaseDelegatedClientFactory implements DelegatedClientFacto
 
     protected abstract Collection<IndirectClient> loadClients();
 
+    /**
+     * Build the clients, or return the clients that were built before
+     * if they are still cached. Clients are never rebuilt on lookups, regardless of
+     * whether they are initialized lazily; concurrent builds are coalesced.
+     *
+     * @return the clients
+     */
     @Override
-    @Synchronized
     public final Collection<IndirectClient> build() {
-        val core = casProperties.getAuthn().getPac4j().getCore();
-        val currentClients = getCachedClients().isEmpty() || !core.isLazyInit() ? loadClients() : getCachedClients();
-        clientsCache.put(casProperties.getServer().getName(), currentClients);
-        return currentClients;
+        val cachedClients = getCachedClients();
+        return cachedClients.isEmpty() ? loadAndCacheClients() : cachedClients;
     }
 
     @Override
@@ -125,6 +129,18 @@ public abstract class BaseDelegatedClientFactory implements DelegatedClientFacto
         return ObjectUtils.defaultIfNull(cachedClients, new ArrayList<>());
     }
 
+    @Synchronized
+    private Collection<IndirectClient> loadAndCacheClients() {
+        val cachedClients = getCachedClients();
+        if (!cachedClients.isEmpty()) {
+            return cachedClients;
+        }
+        val currentClients = loadClients();
+        LOGGER.debug("Loaded [{}] delegated client(s)", currentClients.size());
+        clientsCache.put(casProperties.getServer().getName(), currentClients);
+        return currentClients;
+    }
+
     protected void configureClient(final IndirectClient client,
                                    final Pac4jBaseClientProperties clientProperties,
                                    final CasConfigurationProperties givenProperties) {
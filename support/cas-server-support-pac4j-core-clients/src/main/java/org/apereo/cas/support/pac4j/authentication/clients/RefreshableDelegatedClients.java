@@ -2,15 +2,26 @@ package org.apereo.cas.support.pac4j.authentication.clients;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.client.Client;
 import org.pac4j.core.client.Clients;
+import org.pac4j.core.client.IndirectClient;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This is {@link RefreshableDelegatedClients}.
+ * Clients built by the {@link DelegatedClientFactory} are kept in an immutable snapshot,
+ * indexed by client name, that is only rebuilt when the factory hands out a different set of clients;
+ * lookups otherwise never initialize or rebuild clients. Individual clients are still initialized
+ * lazily by pac4j on first use, unless the factory is configured to initialize them eagerly.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -19,29 +30,73 @@ import java.util.Optional;
 public class RefreshableDelegatedClients extends Clients {
     private final DelegatedClientFactory delegatedClientFactory;
 
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile ClientsSnapshot snapshot;
+
     public RefreshableDelegatedClients(final String callbackUrl,
                                        final DelegatedClientFactory delegatedClientFactory) {
         setCallbackUrl(callbackUrl);
         this.delegatedClientFactory = delegatedClientFactory;
     }
 
+    private static String getClientKey(final String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public Optional<Client> findClient(final String name) {
-        setClients(buildDelegatedClients());
-        init();
-        return super.findClient(name);
+        if (StringUtils.isBlank(name)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getSnapshot().clientsByName().get(getClientKey(name)));
     }
 
     @Override
     public List<Client> findAllClients() {
-        setClients(buildDelegatedClients());
+        return getSnapshot().clients();
+    }
+
+    /**
+     * Gets the current snapshot of clients, and rebuilds it if the factory
+     * produced a different set of clients since the snapshot was built.
+     * Concurrent rebuilds of the snapshot are coalesced.
+     *
+     * @return the snapshot
+     */
+    protected ClientsSnapshot getSnapshot() {
+        val source = delegatedClientFactory.build();
+        var current = snapshot;
+        if (current == null || current.source() != source) {
+            lock.lock();
+            try {
+                current = snapshot;
+                if (current == null || current.source() != source) {
+                    current = buildSnapshot(source, current == null ? 0 : current.version() + 1);
+                    snapshot = current;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private ClientsSnapshot buildSnapshot(final Collection<IndirectClient> source, final long version) {
+        LOGGER.debug("The following clients are built: [{}]", source);
+        setClients(new ArrayList<>(source));
         init();
-        return super.findAllClients();
+        val clients = List.copyOf(super.findAllClients());
+        val clientsByName = new HashMap<String, Client>(clients.size());
+        clients
+            .stream()
+            .filter(client -> StringUtils.isNotBlank(client.getName()))
+            .forEach(client -> clientsByName.putIfAbsent(getClientKey(client.getName()), client));
+        LOGGER.debug("Indexed [{}] delegated client(s) in snapshot version [{}]", clients.size(), version);
+        return new ClientsSnapshot(source, version, clients, Map.copyOf(clientsByName));
     }
-    
-    protected List<Client> buildDelegatedClients() {
-        val clients = delegatedClientFactory.build();
-        LOGGER.debug("The following clients are built: [{}]", clients);
-        return new ArrayList<>(clients);
+
+    protected record ClientsSnapshot(Collection<IndirectClient> source, long version,
+                                     List<Client> clients, Map<String, Client> clientsByName) {
     }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.support.pac4j.authentication.clients;
 
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
@@ -34,6 +35,9 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link RestfulDelegatedClientFactory}.
+ * Clients are only rebuilt when the payload returned by the REST endpoint changes;
+ * otherwise, the clients that were built from the same payload before are handed out again,
+ * along with whatever state they have initialized.
  *
  * @author Misagh Moayyed
  * @since 6.2.0
@@ -43,6 +47,8 @@ public class RestfulDelegatedClientFactory extends BaseDelegatedClientFactory {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
+    private volatile LoadedClients loadedClients;
+
     public RestfulDelegatedClientFactory(final Collection<DelegatedClientFactoryCustomizer> customizers,
                                          final CasSSLContext casSSLContext,
                                          final CasConfigurationProperties casProperties,
@@ -68,10 +74,17 @@ public class RestfulDelegatedClientFactory extends BaseDelegatedClientFactory {
             try {
                 if (response != null && HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
                     val result = IOUtils.toString(((HttpEntityContainer) response).getEntity().getContent(), StandardCharsets.UTF_8);
-                    if ("cas".equalsIgnoreCase(restProperties.getType())) {
-                        return buildClientsBasedCasProperties(result);
+                    val digest = DigestUtils.sha256(result);
+                    val previous = loadedClients;
+                    if (previous != null && previous.digest().equals(digest)) {
+                        LOGGER.debug("Delegated clients received from [{}] have not changed", restProperties.getUrl());
+                        return previous.clients();
                     }
-                    return buildClientsBasedPac4jProperties(result);
+                    val clients = "cas".equalsIgnoreCase(restProperties.getType())
+                        ? buildClientsBasedCasProperties(result)
+                        : buildClientsBasedPac4jProperties(result);
+                    loadedClients = new LoadedClients(digest, clients);
+                    return clients;
                 }
                 return new ArrayList<>();
             } finally {
@@ -106,4 +119,7 @@ public class RestfulDelegatedClientFactory extends BaseDelegatedClientFactory {
             .map(IndirectClient.class::cast)
             .collect(Collectors.toList());
     }
+
+    private record LoadedClients(String digest, Collection<IndirectClient> clients) {
+    }
 }
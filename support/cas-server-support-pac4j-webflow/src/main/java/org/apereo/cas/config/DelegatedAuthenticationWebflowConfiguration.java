@@ -75,6 +75,7 @@ import org.apereo.cas.web.flow.configurer.CasMultifactorWebflowCustomizer;
 import org.apereo.cas.web.flow.controller.DefaultDelegatedAuthenticationNavigationController;
 import org.apereo.cas.web.flow.error.DefaultDelegatedClientAuthenticationFailureEvaluator;
 import org.apereo.cas.web.flow.error.DelegatedAuthenticationErrorViewResolver;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.flow.resolver.CasDelegatingWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
@@ -700,9 +701,10 @@ public class DelegatedAuthenticationWebflowConfiguration {
         public FlowExecutor delegatedClientRedirectFlowExecutor(
             final CasConfigurationProperties casProperties,
             @Qualifier("delegatedClientRedirectFlowRegistry") final FlowDefinitionRegistry delegatedClientRedirectFlowRegistry,
-            @Qualifier("webflowCipherExecutor") final CipherExecutor webflowCipherExecutor) {
+            @Qualifier("webflowCipherExecutor") final CipherExecutor webflowCipherExecutor,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME) final FlowExecutionStateStore webflowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                delegatedClientRedirectFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                delegatedClientRedirectFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS, webflowExecutionStateStore);
             return factory.build();
         }
     }
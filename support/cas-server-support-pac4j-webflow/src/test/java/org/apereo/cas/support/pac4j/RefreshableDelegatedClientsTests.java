@@ -7,6 +7,7 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.pac4j.cas.client.CasClient;
+import org.pac4j.core.client.IndirectClient;
 
 import java.util.List;
 
@@ -31,6 +32,27 @@ class RefreshableDelegatedClientsTests {
         when(delegatedFactory.build()).thenReturn(List.of(client));
         assertFalse(refreshableClients.findAllClients().isEmpty());
         assertTrue(refreshableClients.findClient(client.getName()).isPresent());
+    }
+
+    @Test
+    void verifyClientsAreIndexedOnce() throws Throwable {
+        val delegatedFactory = mock(DelegatedClientFactory.class);
+        val client = new CasClient();
+        client.setName("CasClient");
+        val clients = List.<IndirectClient>of(client);
+        when(delegatedFactory.build()).thenReturn(clients);
+        val refreshableClients = new RefreshableDelegatedClients("http://localhost:8080/cas", delegatedFactory);
+        val allClients = refreshableClients.findAllClients();
+        assertSame(allClients, refreshableClients.findAllClients());
+        assertSame(client, refreshableClients.findClient("casclient").orElseThrow());
+        assertTrue(refreshableClients.findClient("Unknown").isEmpty());
+        assertTrue(refreshableClients.findClient(null).isEmpty());
 
+        val newClient = new CasClient();
+        newClient.setName("NewCasClient");
+        when(delegatedFactory.build()).thenReturn(List.of(newClient));
+        assertNotSame(allClients, refreshableClients.findAllClients());
+        assertTrue(refreshableClients.findClient("CasClient").isEmpty());
+        assertSame(newClient, refreshableClients.findClient("NewCasClient").orElseThrow());
     }
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.web.flow.WebflowStoreSessionsProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.redis.core.RedisObjectFactory;
@@ -27,6 +28,9 @@ import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.InMemoryFlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.RedisFlowExecutionStateStore;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.redis.lettucemod.api.sync.RedisModulesCommands;
@@ -62,7 +66,7 @@ import java.util.Optional;
  */
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistry, module = "redis")
-@AutoConfiguration
+@AutoConfiguration(beforeName = "org.apereo.cas.config.CasWebflowContextConfiguration")
 public class RedisTicketRegistryConfiguration {
 
     private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.redis.enabled").isTrue().evenIfMissing();
@@ -228,14 +232,38 @@ public class RedisTicketRegistryConfiguration {
                     val redis = casProperties.getTicket().getRegistry().getRedis();
                     val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis");
                     val searchCommands = redis.isEnableRedisSearch() ? RedisObjectFactory.newRedisModulesCommands(redis) : Optional.<RedisModulesCommands>empty();
-                    return new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+                    val registry = new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
                         casRedisTemplates, redisTicketRegistryCache, redisTicketRegistryMessagePublisher, searchCommands);
+                    registry.setScanCount(redis.getScanCount());
+                    return registry;
                 })
                 .otherwise(() -> new DefaultTicketRegistry(ticketSerializationManager, ticketCatalog))
                 .get();
         }
     }
 
+    @Configuration(value = "RedisTicketRegistryWebflowConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class RedisTicketRegistryWebflowConfiguration {
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = FlowExecutionStateStore.BEAN_NAME)
+        public FlowExecutionStateStore webflowExecutionStateStore(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("redisTicketConnectionFactory")
+            final RedisConnectionFactory redisTicketConnectionFactory) {
+            val store = casProperties.getWebflow().getSession().getStore();
+            return BeanSupplier.of(FlowExecutionStateStore.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(() -> store.getType() == WebflowStoreSessionsProperties.WebflowStateStoreTypes.REDIS)
+                .supply(() -> new RedisFlowExecutionStateStore(
+                    RedisObjectFactory.newRedisTemplate(redisTicketConnectionFactory), Beans.newDuration(store.getTimeToLive())))
+                .otherwise(() -> new InMemoryFlowExecutionStateStore(Beans.newDuration(store.getTimeToLive()), store.getMaximumStoreSize()))
+                .get();
+        }
+    }
+
     @Configuration(value = "RedisTicketRegistryLockingConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistryLocking, module = "redis")
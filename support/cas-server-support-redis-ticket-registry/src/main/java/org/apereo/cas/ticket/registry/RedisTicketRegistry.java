@@ -19,32 +19,41 @@ import com.redis.lettucemod.search.CreateOptions;
 import com.redis.lettucemod.search.Document;
 import com.redis.lettucemod.search.Field;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.hjson.JsonValue;
-import org.hjson.Stringify;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -60,6 +69,8 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
+    private static final int DEFAULT_SCAN_COUNT = 1000;
+
     private final CasRedisTemplates casRedisTemplates;
 
     private final Cache<String, Ticket> ticketCache;
@@ -68,6 +79,11 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     private final Optional<RedisModulesCommands> redisModuleCommands;
 
+    private final RedisConverter redisTicketDocumentConverter;
+
+    @Setter
+    private int scanCount = DEFAULT_SCAN_COUNT;
+
     public RedisTicketRegistry(final CipherExecutor cipherExecutor,
                                final TicketSerializationManager ticketSerializationManager,
                                final TicketCatalog ticketCatalog,
@@ -81,6 +97,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         this.ticketCache = ticketCache;
         this.messagePublisher = messagePublisher;
         this.redisModuleCommands = redisModuleCommands;
+        this.redisTicketDocumentConverter = buildRedisKeyValueAdapter(RedisCompositeKey.forTickets().toKeyPattern()).getConverter();
 
         createIndexesIfNecessary();
     }
@@ -88,7 +105,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     @Override
     public long deleteAll() {
         val size = new AtomicLong();
-        var options = ScanOptions.scanOptions().match(RedisCompositeKey.forTickets().toKeyPattern()).build();
+        var options = ScanOptions.scanOptions().match(RedisCompositeKey.forTickets().toKeyPattern()).count(scanCount).build();
         try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
             casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
                 StreamSupport.stream(result.spliterator(), false).forEach(id -> {
@@ -99,7 +116,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             });
         }
 
-        options = ScanOptions.scanOptions().match(RedisCompositeKey.forPrincipal().toKeyPattern()).build();
+        options = ScanOptions.scanOptions().match(RedisCompositeKey.forPrincipal().toKeyPattern()).count(scanCount).build();
         try (val result = casRedisTemplates.getSessionsRedisTemplate().scan(options)) {
             casRedisTemplates.getSessionsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
                 StreamSupport.stream(result.spliterator(), false)
@@ -133,18 +150,36 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public void addTicket(final Stream<? extends Ticket> toSave) {
-        FunctionUtils.doAndHandle(__ ->
-            casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
-                toSave.forEach(this::addTicketInternal);
-                return null;
-            }));
+        FunctionUtils.doAndHandle(__ -> {
+            val tickets = toSave
+                .filter(Objects::nonNull)
+                .filter(ticket -> !ticket.isExpired())
+                .map(Ticket.class::cast)
+                .toList();
+            LOGGER.debug("Adding [{}] ticket(s)", tickets.size());
+            addOrUpdateTickets(tickets);
+            tickets.forEach(messagePublisher::add);
+        });
+    }
+
+    @Override
+    protected void saveTickets(final List<TicketRegistryTransaction.Operation> operations) {
+        LOGGER.debug("Saving [{}] ticket(s) as part of transaction", operations.size());
+        addOrUpdateTickets(operations.stream().map(TicketRegistryTransaction.Operation::ticket).toList());
+        operations.forEach(operation -> {
+            if (operation.type() == TicketRegistryTransaction.OperationTypes.ADD) {
+                messagePublisher.add(operation.ticket());
+            } else {
+                messagePublisher.update(operation.ticket());
+            }
+        });
     }
 
     @Override
     public void addTicketInternal(final Ticket ticket) {
         FunctionUtils.doAndHandle(__ -> {
             LOGGER.debug("Adding ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
+            addOrUpdateTickets(List.of(ticket));
             messagePublisher.add(ticket);
         });
     }
@@ -153,7 +188,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     public Ticket updateTicket(final Ticket ticket) {
         return FunctionUtils.doAndHandle(() -> {
             LOGGER.debug("Updating ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
+            addOrUpdateTickets(List.of(ticket));
             messagePublisher.update(ticket);
             return ticket;
         });
@@ -176,20 +211,26 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         }
     }
 
+    /**
+     * Stream tickets by scanning the keyspace incrementally. Keys are fetched
+     * using {@code SCAN} in batches, and ticket documents for each batch are retrieved
+     * in a single pipelined round trip. Batches are only fetched and deserialized
+     * as the stream is consumed, so only one batch is held in memory at any given time.
+     * The underlying cursor is released when the stream is exhausted or closed.
+     *
+     * @return the stream of tickets
+     */
     @Override
     public Stream<? extends Ticket> stream() {
-        return fetchKeysForTickets()
-            .map(redisKey -> {
-                val adapter = buildRedisKeyValueAdapter(redisKey);
-                val document = adapter.get(redisKey, redisKey, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(RedisTicketDocument.class::cast)
+        val options = ScanOptions.scanOptions()
+            .match(RedisCompositeKey.forTickets().toKeyPattern())
+            .count(scanCount)
+            .build();
+        val cursor = casRedisTemplates.getTicketsRedisTemplate().scan(options);
+        val batches = new RedisKeyBatchIterator(cursor, scanCount);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(batches::close)
+            .flatMap(this::fetchTicketDocuments)
             .map(this::deserializeAsTicket)
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
@@ -224,7 +265,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     @Override
     public long sessionCount() {
         val options = ScanOptions.scanOptions()
-            .match(RedisCompositeKey.forTickets().withIdPattern(TicketGrantingTicket.PREFIX).toKeyPattern()).build();
+            .match(RedisCompositeKey.forTickets().withIdPattern(TicketGrantingTicket.PREFIX).toKeyPattern())
+            .count(scanCount)
+            .build();
         try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
             return result.stream().count();
         }
@@ -233,7 +276,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     @Override
     public long serviceTicketCount() {
         val options = ScanOptions.scanOptions()
-            .match(RedisCompositeKey.forTickets().withIdPattern(ServiceTicket.PREFIX).toKeyPattern()).build();
+            .match(RedisCompositeKey.forTickets().withIdPattern(ServiceTicket.PREFIX).toKeyPattern())
+            .count(scanCount)
+            .build();
         try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
             return result.stream().count();
         }
@@ -267,13 +312,26 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> super.getSessionsWithAttributes(queryAttributes));
     }
 
-    private Stream<String> fetchKeysForTickets() {
-        return fetchKeysForTickets(RedisCompositeKey.forTickets().toKeyPattern());
-    }
-
-    private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).stream();
+    private Stream<RedisTicketDocument> fetchTicketDocuments(final List<String> redisKeys) {
+        LOGGER.trace("Fetching [{}] ticket document(s) from Redis", redisKeys.size());
+        val results = casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            redisKeys.forEach(key -> connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8)));
+            return connection.closePipeline();
+        });
+        return IntStream.range(0, Objects.requireNonNull(results).size())
+            .mapToObj(index -> {
+                val raw = (Map<byte[], byte[]>) results.get(index);
+                if (raw == null || raw.isEmpty()) {
+                    LOGGER.trace("Ticket document [{}] could not be found; it may have expired", redisKeys.get(index));
+                    return null;
+                }
+                val data = new RedisData(raw);
+                data.setId(redisKeys.get(index));
+                data.setKeyspace(redisKeys.get(index));
+                return redisTicketDocumentConverter.read(RedisTicketDocument.class, data);
+            })
+            .filter(Objects::nonNull);
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -282,8 +340,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             val json = serializeTicket(encTicket);
             FunctionUtils.throwIf(StringUtils.isBlank(json),
                 () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
-            LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-                JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+            LOGGER.trace("Serialized ticket [{}] as [{}]", ticket.getId(), json);
 
             val principal = getPrincipalIdFrom(ticket);
             val attributeMap = (Map<String, Object>) collectAndDigestTicketAttributes(ticket);
@@ -338,31 +395,62 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     }
 
 
-    private RedisCompositeKey addOrUpdateTicket(final Ticket ticket) {
-        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
-
-        val digestedId = digestIdentifier(ticket.getId());
-        val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
-
-        val timeout = RedisCompositeKey.getTimeout(ticket);
-        val redisKeyPattern = redisKey.toKeyPattern();
-
-        val ticketDocument = buildTicketAsDocument(ticket);
+    /**
+     * Store tickets as hashes and track ticket-granting tickets by principal.
+     * Commands for all tickets are sent in a single pipelined round trip per template,
+     * with keys and values serialized by the template that owns them.
+     *
+     * @param tickets the tickets
+     */
+    private void addOrUpdateTickets(final List<? extends Ticket> tickets) {
+        val ticketsTemplate = casRedisTemplates.getTicketsRedisTemplate();
+        val ticketKeySerializer = (RedisSerializer<String>) ticketsTemplate.getKeySerializer();
+        val documents = tickets
+            .stream()
+            .map(ticket -> {
+                val digestedId = digestIdentifier(ticket.getId());
+                val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
+                val data = new RedisData();
+                redisTicketDocumentConverter.write(buildTicketAsDocument(ticket), data);
+                return new RedisTicketWrite(ticket, redisKey, digestedId,
+                    ticketKeySerializer.serialize(redisKey.toKeyPattern()), data.getBucket().rawMap(),
+                    RedisCompositeKey.getTimeout(ticket));
+            })
+            .toList();
+        if (documents.isEmpty()) {
+            return;
+        }
 
-        casRedisTemplates.getTicketsRedisTemplate().boundValueOps(redisKeyPattern).set(ticketDocument, timeout, TimeUnit.SECONDS);
-        val adapter = buildRedisKeyValueAdapter(redisKeyPattern);
-        adapter.put(ticketDocument.getTicketId(), ticketDocument, redisKeyPattern);
-        casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
-        ticketCache.put(redisKey.getQuery(), ticket);
+        ticketsTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            documents.forEach(document -> {
+                connection.keyCommands().del(document.key());
+                connection.hashCommands().hMSet(document.key(), document.hash());
+                connection.keyCommands().expire(document.key(), document.timeout());
+            });
+            return null;
+        });
+        documents.forEach(document -> ticketCache.put(document.redisKey().getQuery(), document.ticket()));
 
-        if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
-            val redisPrincipalPattern = RedisCompositeKey.forPrincipal().withQuery(userId).toKeyPattern();
-            val ops = casRedisTemplates.getSessionsRedisTemplate().boundSetOps(redisPrincipalPattern);
-            ops.add(digestedId);
-            ops.expire(timeout, TimeUnit.SECONDS);
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val sessionKeySerializer = (RedisSerializer<String>) sessionsTemplate.getKeySerializer();
+        val sessionValueSerializer = (RedisSerializer<String>) sessionsTemplate.getValueSerializer();
+        val sessions = documents
+            .stream()
+            .filter(document -> document.ticket() instanceof TicketGrantingTicket)
+            .map(document -> Pair.of(document, digestIdentifier(getPrincipalIdFrom(document.ticket()))))
+            .filter(pair -> StringUtils.isNotBlank(pair.getValue()))
+            .toList();
+        if (!sessions.isEmpty()) {
+            sessionsTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                sessions.forEach(pair -> {
+                    val redisPrincipalKey = sessionKeySerializer.serialize(
+                        RedisCompositeKey.forPrincipal().withQuery(pair.getValue()).toKeyPattern());
+                    connection.setCommands().sAdd(redisPrincipalKey, sessionValueSerializer.serialize(pair.getKey().digestedId()));
+                    connection.keyCommands().expire(redisPrincipalKey, pair.getKey().timeout());
+                });
+                return null;
+            });
         }
-
-        return redisKey;
     }
 
     private RedisKeyValueAdapter buildRedisKeyValueAdapter(final String redisKeyPattern) {
@@ -407,6 +495,47 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
     }
 
+    @RequiredArgsConstructor
+    private static final class RedisKeyBatchIterator implements Iterator<List<String>> {
+        private final Cursor<String> cursor;
+
+        private final int batchSize;
+
+        @Override
+        public boolean hasNext() {
+            if (cursor.isClosed()) {
+                return false;
+            }
+            if (!cursor.hasNext()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public List<String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            val batch = new ArrayList<String>(batchSize);
+            while (batch.size() < batchSize && cursor.hasNext()) {
+                batch.add(cursor.next());
+            }
+            return batch;
+        }
+
+        void close() {
+            if (!cursor.isClosed()) {
+                cursor.close();
+            }
+        }
+    }
+
+    private record RedisTicketWrite(Ticket ticket, RedisCompositeKey redisKey, String digestedId,
+                                    byte[] key, Map<byte[], byte[]> hash, long timeout) {
+    }
+
     @Data
     public static class CasRedisTemplates {
         private final CasRedisTemplate<String, RedisTicketDocument> ticketsRedisTemplate;
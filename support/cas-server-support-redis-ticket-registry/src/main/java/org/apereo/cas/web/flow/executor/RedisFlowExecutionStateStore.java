@@ -0,0 +1,40 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This is {@link RedisFlowExecutionStateStore}, which keeps flow execution state in Redis,
+ * using the same connection as the ticket registry. Every entry expires once it has not
+ * been written for the configured time to live.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class RedisFlowExecutionStateStore implements FlowExecutionStateStore {
+    private static final String KEY_PREFIX = "CAS_WEBFLOW_STATE:";
+
+    private final CasRedisTemplate<String, byte[]> redisTemplate;
+
+    private final Duration timeToLive;
+
+    @Override
+    public Optional<byte[]> get(final String id) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + id));
+    }
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + id, state, timeToLive);
+    }
+
+    @Override
+    public void remove(final String id) {
+        redisTemplate.delete(KEY_PREFIX + id);
+    }
+}
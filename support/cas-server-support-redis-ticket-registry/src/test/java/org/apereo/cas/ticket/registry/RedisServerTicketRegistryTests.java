@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
@@ -23,11 +24,14 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 import org.springframework.test.context.TestPropertySource;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -128,6 +132,69 @@ class RedisServerTicketRegistryTests {
 
     }
 
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.core.serialization.format=BINARY",
+        "cas.ticket.registry.redis.queue-identifier=cas-node-300",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.cache.cache-size=0",
+        "cas.ticket.registry.redis.enable-redis-search=false",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class WithBinarySerializationTests extends BaseRedisSentinelTicketRegistryTests {
+        @RepeatedTest(1)
+        void verifyBinaryTicketStored() throws Throwable {
+            val ticketId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            val ticket = new TicketGrantingTicketImpl(ticketId, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            assertFalse(ticketSerializationManager.serializeTicket(ticket).startsWith("{"));
+            getNewTicketRegistry().addTicket(ticket);
+            val found = getNewTicketRegistry().getTicket(ticketId, TicketGrantingTicket.class);
+            assertNotNull(found);
+            assertEquals(ticket.getAuthentication().getPrincipal(), found.getAuthentication().getPrincipal());
+            getNewTicketRegistry().updateTicket(found);
+            assertNotNull(getNewTicketRegistry().getTicket(ticketId, TicketGrantingTicket.class));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.queue-identifier=cas-node-200",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.scan-count=7",
+        "cas.ticket.registry.redis.cache.cache-size=0",
+        "cas.ticket.registry.redis.enable-redis-search=false",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class WithSmallScanCountTests extends BaseRedisSentinelTicketRegistryTests {
+        private static final int COUNT = 50;
+
+        @RepeatedTest(2)
+        void verifyStreamingInBatches() throws Throwable {
+            getNewTicketRegistry().deleteAll();
+            val authentication = CoreAuthenticationTestUtils.getAuthentication();
+            val ticketIds = Stream.generate(() -> new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                    .getNewTicketId(TicketGrantingTicket.PREFIX))
+                .limit(COUNT)
+                .toList();
+            getNewTicketRegistry().addTicket(ticketIds.stream()
+                .map(id -> new TicketGrantingTicketImpl(id, authentication, NeverExpiresExpirationPolicy.INSTANCE)));
+
+            try (val stream = getNewTicketRegistry().stream()) {
+                val found = stream.map(Ticket::getId).collect(Collectors.toSet());
+                assertEquals(Set.copyOf(ticketIds), found);
+            }
+            try (val stream = getNewTicketRegistry().stream()) {
+                assertEquals(3, stream.limit(3).count());
+            }
+            assertEquals(COUNT, getNewTicketRegistry().getTickets().size());
+            assertEquals(COUNT, getNewTicketRegistry().sessionCount());
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = {
         "cas.ticket.registry.redis.queue-identifier=cas-node-1",
@@ -193,6 +260,30 @@ class RedisServerTicketRegistryTests {
             assertTrue(time <= 6000);
         }
 
+        @RepeatedTest(1)
+        void verifyTransactionPipelined() throws Throwable {
+            val connectionFactory = spy(Objects.requireNonNull(ticketRedisTemplate.getConnectionFactory()));
+            val ticketsTemplate = RedisObjectFactory.<String, RedisTicketDocument>newRedisTemplate(connectionFactory);
+            ticketsTemplate.initialize();
+            val sessionsTemplate = RedisObjectFactory.<String, String>newRedisTemplate(connectionFactory);
+            sessionsTemplate.initialize();
+            val registry = new RedisTicketRegistry(CipherExecutor.noOp(), ticketSerializationManager, ticketCatalog,
+                new RedisTicketRegistry.CasRedisTemplates(ticketsTemplate, sessionsTemplate),
+                Caffeine.newBuilder().maximumSize(0).build(), mock(RedisTicketRegistryMessagePublisher.class), Optional.empty());
+
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val transaction = TicketRegistryTransaction.newTransaction();
+            Stream.generate(() -> new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX))
+                .limit(COUNT)
+                .map(id -> new TicketGrantingTicketImpl(id, authentication, NeverExpiresExpirationPolicy.INSTANCE))
+                .forEach(transaction::addTicket);
+
+            clearInvocations(connectionFactory);
+            registry.executeTransaction(transaction);
+            verify(connectionFactory, times(2)).getConnection();
+            assertEquals(COUNT, registry.countSessionsFor(authentication.getPrincipal().getId()));
+        }
+
         @RepeatedTest(2)
         void verifyHealthOperation() throws Throwable {
             val health = redisHealthIndicator.health();
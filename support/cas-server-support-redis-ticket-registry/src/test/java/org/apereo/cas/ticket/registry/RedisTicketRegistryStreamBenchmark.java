@@ -0,0 +1,162 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CasSSLContext;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.redis.core.RedisObjectFactory;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
+import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.index.IndexConfiguration;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Compares streaming tickets out of {@link RedisTicketRegistry} with the previous
+ * approach that loaded all keys via {@code KEYS} and fetched each ticket document
+ * in a separate round trip. Ticket serialization is stubbed out so that the benchmark
+ * measures Redis access only. Requires a Redis server listening on {@code localhost:6379},
+ * similar to the Redis ticket registry tests. Run via {@link #main(String[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RedisTicketRegistryStreamBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int ticketCount;
+
+    @Param({"100", "1000"})
+    private int scanCount;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private CasRedisTemplate<String, RedisTicketDocument> ticketsRedisTemplate;
+
+    private RedisTicketRegistry ticketRegistry;
+
+    private TicketSerializationManager ticketSerializationManager;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(RedisTicketRegistryStreamBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        val properties = new RedisTicketRegistryProperties();
+        properties.setHost("localhost");
+        properties.setPort(6379);
+        connectionFactory = (LettuceConnectionFactory) RedisObjectFactory.newRedisConnectionFactory(properties, true, CasSSLContext.disabled());
+
+        ticketsRedisTemplate = RedisObjectFactory.newRedisTemplate(connectionFactory);
+        ticketsRedisTemplate.initialize();
+        val sessionsRedisTemplate = RedisObjectFactory.<String, String>newRedisTemplate(connectionFactory);
+        sessionsRedisTemplate.initialize();
+
+        val ticket = new TicketGrantingTicketImpl("TGT-benchmark",
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        ticketSerializationManager = mock(TicketSerializationManager.class);
+        when(ticketSerializationManager.serializeTicket(any())).thenReturn("{}");
+        when(ticketSerializationManager.deserializeTicket(anyString(), anyString())).thenReturn(ticket);
+
+        ticketRegistry = new RedisTicketRegistry(CipherExecutor.noOp(), ticketSerializationManager, mock(TicketCatalog.class),
+            new RedisTicketRegistry.CasRedisTemplates(ticketsRedisTemplate, sessionsRedisTemplate),
+            Caffeine.newBuilder().maximumSize(0).build(), mock(RedisTicketRegistryMessagePublisher.class), Optional.empty());
+        ticketRegistry.setScanCount(scanCount);
+        ticketRegistry.deleteAll();
+
+        val idGenerator = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY);
+        ticketRegistry.addTicket(Stream.generate(() -> new TicketGrantingTicketImpl(
+                idGenerator.getNewTicketId(TicketGrantingTicket.PREFIX),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE))
+            .limit(ticketCount));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ticketRegistry.deleteAll();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public long keysWithIndividualFetches() {
+        val keys = Objects.requireNonNull(ticketsRedisTemplate.keys(RedisCompositeKey.forTickets().toKeyPattern()));
+        return keys
+            .stream()
+            .map(redisKey -> buildRedisKeyValueAdapter(redisKey).get(redisKey, redisKey, RedisTicketDocument.class))
+            .filter(Objects::nonNull)
+            .map(document -> ticketSerializationManager.deserializeTicket(document.getJson(), document.getType()))
+            .count();
+    }
+
+    @Benchmark
+    public long scanWithPipelinedFetches() {
+        try (val stream = ticketRegistry.stream()) {
+            return stream.map(Ticket::getId).count();
+        }
+    }
+
+    private RedisKeyValueAdapter buildRedisKeyValueAdapter(final String redisKeyPattern) {
+        val redisMappingContext = new RedisMappingContext(
+            new MappingConfiguration(new IndexConfiguration(), new KeyspaceConfiguration() {
+                @Override
+                protected Iterable<KeyspaceSettings> initialConfiguration() {
+                    return Collections.singleton(new KeyspaceSettings(RedisTicketDocument.class, redisKeyPattern));
+                }
+            }));
+        val adapter = new RedisKeyValueAdapter(ticketsRedisTemplate, redisMappingContext) {
+            @Override
+            public byte[] createKey(final String keyspace, final String id) {
+                return toBytes(redisKeyPattern);
+            }
+        };
+        adapter.afterPropertiesSet();
+        return adapter;
+    }
+}
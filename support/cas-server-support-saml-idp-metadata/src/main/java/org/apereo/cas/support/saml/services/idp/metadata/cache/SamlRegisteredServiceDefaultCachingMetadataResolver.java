@@ -12,29 +12,37 @@ import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.jooq.lambda.Unchecked;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.core.criterion.SatisfyAnyCriterion;
 import org.opensaml.saml.metadata.criteria.entity.impl.EvaluableEntityRoleEntityDescriptorCriterion;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Metadata resolvers are loaded once per cache key, and concurrent requests for the same key
+ * wait on the same load operation. Entity ids that are resolved by a cached metadata resolver
+ * are tracked in a secondary index, so subsequent requests for the same entity do not have
+ * to query every cached metadata resolver.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -45,6 +53,8 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
 
     private final LoadingCache<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> cache;
 
+    private final Map<String, IndexedMetadataResolver> entityIdIndex = new ConcurrentHashMap<>();
+
     @Getter
     private final OpenSamlConfigBean openSamlConfigBean;
 
@@ -60,7 +70,9 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
             .maximumSize(core.getCacheMaximumSize())
             .recordStats()
             .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
-            .build(loader);
+            .removalListener((final SamlRegisteredServiceCacheKey key, final CachedMetadataResolverResult value,
+                              final RemovalCause cause) -> removeFromEntityIdIndex(value))
+            .build(key -> indexEntityDescriptors(key, loader.load(key)));
     }
 
     private static long countResolvableEntityDescriptors(final MetadataResolutionResult result) {
@@ -71,7 +83,6 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     }
 
     @Override
-    @Synchronized
     public CachedMetadataResolverResult resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
@@ -94,6 +105,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
                 throw new SamlException("Unable to locate a valid SAML metadata resolver for "
                                         + metadataLocation + " to locate " + criteriaSet);
             }
+            result.getEntityDescriptor().ifPresent(entity -> addToEntityIdIndex(entity.getEntityID(), queryResult));
             return queryResult.getResult();
         });
     }
@@ -102,6 +114,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     public void invalidate() {
         LOGGER.trace("Invalidating cache, removing all metadata resolvers");
         cache.invalidateAll();
+        entityIdIndex.clear();
     }
 
     @Override
@@ -143,15 +156,21 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         final CriteriaSet criteriaSet,
         final SamlRegisteredServiceCacheKey cacheKey) {
 
+        val indexedResult = locateIndexedMetadataResolver(criteriaSet);
+        if (indexedResult.isPresent()) {
+            return indexedResult.get();
+        }
+
         val result = cache
             .asMap()
-            .values()
+            .entrySet()
             .stream()
-            .map(Unchecked.function(res -> {
-                val entity = res.getMetadataResolver().resolveSingle(criteriaSet);
+            .map(Unchecked.function(entry -> {
+                val entity = entry.getValue().getMetadataResolver().resolveSingle(criteriaSet);
                 return Optional.ofNullable(entity)
                     .map(e -> MetadataResolverCacheQueryResult.builder()
-                        .result(res)
+                        .cacheKey(entry.getKey())
+                        .result(entry.getValue())
                         .entityDescriptor(Optional.of(e))
                         .build());
             }))
@@ -167,11 +186,58 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]",
             cacheResult.getMetadataResolver().getId(), service.getMetadataLocation());
         return MetadataResolverCacheQueryResult.builder()
+            .cacheKey(cacheKey)
             .entityDescriptor(Optional.empty())
             .result(cacheResult)
             .build();
     }
 
+    protected Optional<MetadataResolverCacheQueryResult> locateIndexedMetadataResolver(final CriteriaSet criteriaSet) {
+        val entityIdCriterion = criteriaSet.get(EntityIdCriterion.class);
+        if (entityIdCriterion == null) {
+            return Optional.empty();
+        }
+        val entityId = entityIdCriterion.getEntityId();
+        val indexed = entityIdIndex.get(entityId);
+        if (indexed == null) {
+            return Optional.empty();
+        }
+        if (cache.asMap().get(indexed.cacheKey()) != indexed.result()) {
+            LOGGER.trace("Indexed metadata resolver for entity id [{}] is no longer cached", entityId);
+            entityIdIndex.remove(entityId, indexed);
+            return Optional.empty();
+        }
+        val entity = FunctionUtils.doUnchecked(() -> indexed.result().getMetadataResolver().resolveSingle(criteriaSet));
+        LOGGER.trace("Located indexed metadata resolver [{}] for entity id [{}]", indexed.result().getMetadataResolver().getId(), entityId);
+        return Optional.ofNullable(entity)
+            .map(e -> MetadataResolverCacheQueryResult.builder()
+                .cacheKey(indexed.cacheKey())
+                .result(indexed.result())
+                .entityDescriptor(Optional.of(e))
+                .build());
+    }
+
+    private CachedMetadataResolverResult indexEntityDescriptors(final SamlRegisteredServiceCacheKey cacheKey,
+                                                                final CachedMetadataResolverResult result) {
+        FunctionUtils.doAndHandle(__ -> {
+            val criteria = new EvaluableEntityRoleEntityDescriptorCriterion(SPSSODescriptor.DEFAULT_ELEMENT_NAME);
+            val indexed = new IndexedMetadataResolver(cacheKey, result);
+            result.getMetadataResolver().resolve(new CriteriaSet(criteria))
+                .forEach(entity -> entityIdIndex.put(entity.getEntityID(), indexed));
+        });
+        return result;
+    }
+
+    private void addToEntityIdIndex(final String entityId, final MetadataResolverCacheQueryResult queryResult) {
+        if (entityId != null && queryResult.getCacheKey() != null) {
+            entityIdIndex.put(entityId, new IndexedMetadataResolver(queryResult.getCacheKey(), queryResult.getResult()));
+        }
+    }
+
+    private void removeFromEntityIdIndex(final CachedMetadataResolverResult result) {
+        entityIdIndex.values().removeIf(indexed -> indexed.result() == result);
+    }
+
     @SuperBuilder
     @Getter
     @SuppressWarnings("UnusedMethod")
@@ -205,9 +271,14 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         return cache.stats();
     }
 
+    private record IndexedMetadataResolver(SamlRegisteredServiceCacheKey cacheKey, CachedMetadataResolverResult result) {
+    }
+
     @SuperBuilder
     @Getter
     private static final class MetadataResolverCacheQueryResult {
+        private final SamlRegisteredServiceCacheKey cacheKey;
+
         private final CachedMetadataResolverResult result;
 
         @Builder.Default
@@ -8,7 +8,6 @@ import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
@@ -47,7 +46,6 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
     private final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan;
 
     @Override
-    @Synchronized
     public CachedMetadataResolverResult load(final SamlRegisteredServiceCacheKey cacheKey) {
         val metadataResolvers = loadMetadataResolvers(cacheKey);
 
@@ -8,6 +8,7 @@ import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.support.saml.services.idp.metadata.MetadataEntityAttributeQuery;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlMetadataDocument;
+import org.apereo.cas.support.saml.services.idp.metadata.index.IndexedAggregateMetadataResolver;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
@@ -29,6 +30,7 @@ import org.opensaml.saml.saml2.metadata.IDPSSODescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.springframework.core.io.Resource;
 import javax.xml.namespace.QName;
+import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -200,8 +202,12 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
 
     protected void buildMetadataFilters(final SamlRegisteredService service, final AbstractMetadataResolver metadataProvider,
                                         final List<MetadataFilter> metadataFilterList) throws Exception {
-        buildRequiredValidUntilFilterIfNeeded(service, metadataFilterList);
-        buildSignatureValidationFilterIfNeeded(service, metadataFilterList);
+        if (metadataProvider instanceof final IndexedAggregateMetadataResolver indexedMetadataProvider) {
+            configureIndexedAggregateMetadataResolver(service, indexedMetadataProvider);
+        } else {
+            buildRequiredValidUntilFilterIfNeeded(service, metadataFilterList);
+            buildSignatureValidationFilterIfNeeded(service, metadataFilterList);
+        }
         buildEntityRoleFilterIfNeeded(service, metadataFilterList);
         buildPredicateFilterIfNeeded(service, metadataFilterList);
 
@@ -210,6 +216,42 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
         }
     }
 
+    /**
+     * Whether metadata aggregates should be indexed rather than loaded into memory.
+     *
+     * @return true/false
+     */
+    protected boolean isIndexingEnabled() {
+        return samlIdPProperties.getMetadata().getCore().isIndexAggregates();
+    }
+
+    /**
+     * Build a metadata resolver that indexes the given metadata aggregate.
+     *
+     * @param metadataFile the metadata file
+     * @return the metadata resolver
+     */
+    protected IndexedAggregateMetadataResolver buildIndexedMetadataResolver(final File metadataFile) {
+        return new IndexedAggregateMetadataResolver(metadataFile.toPath(),
+            samlIdPProperties.getMetadata().getCore().getIndexCacheMaximumSize());
+    }
+
+    /**
+     * Configure the validity and signature checks of an indexed metadata aggregate. These are applied by the resolver
+     * to the aggregate as a whole before it is indexed, rather than to every entity descriptor it resolves.
+     *
+     * @param service          the service
+     * @param metadataProvider the metadata provider
+     * @throws Exception the exception
+     */
+    protected void configureIndexedAggregateMetadataResolver(final SamlRegisteredService service,
+                                                             final IndexedAggregateMetadataResolver metadataProvider) throws Exception {
+        val aggregateMetadataFilters = new ArrayList<MetadataFilter>();
+        buildRequiredValidUntilFilterIfNeeded(service, aggregateMetadataFilters);
+        buildSignatureValidationFilterIfNeeded(service, aggregateMetadataFilters);
+        metadataProvider.setAggregateMetadataFilters(aggregateMetadataFilters);
+    }
+
     protected void addMetadataFiltersToMetadataResolver(final AbstractMetadataResolver metadataProvider,
                                                         final List<MetadataFilter> metadataFilterList) {
         val metadataFilterChain = new MetadataFilterChain();
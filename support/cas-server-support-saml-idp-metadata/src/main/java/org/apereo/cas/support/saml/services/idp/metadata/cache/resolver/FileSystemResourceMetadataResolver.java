@@ -80,6 +80,9 @@ public class FileSystemResourceMetadataResolver extends BaseSamlRegisteredServic
             val manager = new FilesystemLoadSaveManager<>(metadataFile, configBean.getParserPool());
             return new LocalDynamicMetadataResolver(manager, sourceStrategy);
         }
+        if (isIndexingEnabled()) {
+            return buildIndexedMetadataResolver(metadataFile);
+        }
         return new InMemoryResourceMetadataResolver(metadataResource, configBean);
     }
 }
@@ -58,6 +58,11 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
         return true;
     }
 
+    @Override
+    protected boolean isIndexingEnabled() {
+        return false;
+    }
+
     @Override
     protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response, final File backupFile) throws Exception {
         if (!HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
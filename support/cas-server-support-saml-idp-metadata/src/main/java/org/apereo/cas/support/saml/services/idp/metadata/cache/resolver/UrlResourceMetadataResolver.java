@@ -11,6 +11,7 @@ import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.index.IndexedAggregateMetadataResolver;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -26,7 +27,6 @@ import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.CanReadFileFilter;
 import org.apache.commons.io.filefilter.CanWriteFileFilter;
@@ -40,6 +40,7 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
+import org.opensaml.saml.metadata.resolver.impl.AbstractBatchMetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
@@ -47,8 +48,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -117,7 +118,7 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                 try {
                     val metadataProvider = getMetadataResolverFromFile(backupFile);
                     configureAndInitializeSingleMetadataResolver(metadataProvider, service);
-                    if (Boolean.TRUE.equals(metadataProvider.isRootValid())) {
+                    if (isMetadataRootValid(metadataProvider)) {
                         LOGGER.debug("Metadata backup file for service [{}] at [{}] is valid. CAS will reuse the SAML2 metadata file "
                             + "at [{}] and will not download new metadata from [{}]", service.getName(), canonicalPath, canonicalPath, metadataLocation);
                         return CollectionUtils.wrap(metadataProvider);
@@ -193,19 +194,27 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
     protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response,
                                                                        final File backupFile) throws Exception {
         val entity = ((HttpEntityContainer) response).getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
         val path = backupFile.toPath();
         LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        try (val input = entity.getContent()) {
+            Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING);
         }
         EntityUtils.consume(entity);
         return getMetadataResolverFromFile(backupFile);
     }
 
-    private InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
-        val metadataResolver = new InMemoryResourceMetadataResolver(backupFile, configBean);
+    private static boolean isMetadataRootValid(final AbstractMetadataResolver metadataProvider) {
+        if (metadataProvider instanceof final IndexedAggregateMetadataResolver indexedMetadataProvider) {
+            return indexedMetadataProvider.isRootValid();
+        }
+        return metadataProvider instanceof final AbstractBatchMetadataResolver batchMetadataProvider
+            && Boolean.TRUE.equals(batchMetadataProvider.isRootValid());
+    }
+
+    private AbstractMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
+        final AbstractMetadataResolver metadataResolver = isIndexingEnabled()
+            ? buildIndexedMetadataResolver(backupFile)
+            : new InMemoryResourceMetadataResolver(backupFile, configBean);
         metadataResolver.setId("RegisteredServiceMetadata-" + backupFile.getName());
         return metadataResolver;
     }
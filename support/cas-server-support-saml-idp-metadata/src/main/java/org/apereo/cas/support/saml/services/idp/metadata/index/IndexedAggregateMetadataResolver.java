@@ -0,0 +1,155 @@
+package org.apereo.cas.support.saml.services.idp.metadata.index;
+
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.shibboleth.shared.component.ComponentInitializationException;
+import net.shibboleth.shared.resolver.CriteriaSet;
+import net.shibboleth.shared.resolver.ResolverException;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.criterion.EntityRoleCriterion;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilter;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilterContext;
+import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.opensaml.saml.saml2.common.SAML2Support;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This is {@link IndexedAggregateMetadataResolver}, which resolves entity descriptors from a metadata aggregate
+ * through a {@link SamlMetadataAggregateIndex} rather than keeping the unmarshalled aggregate in memory.
+ * The aggregate is verified with its aggregate metadata filters and then indexed once the resolver is initialized;
+ * entity descriptors are then unmarshalled and filtered when they are first requested, and only the most recently
+ * used ones are kept. Entity descriptors are only resolved by entity id.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class IndexedAggregateMetadataResolver extends AbstractMetadataResolver {
+    private final Path metadataFile;
+
+    private final long cacheMaximumSize;
+
+    /**
+     * Filters that verify the aggregate as a whole, such as its signature and validity, which are applied
+     * to a transient unmarshalled copy of the aggregate before it is indexed.
+     */
+    @Setter
+    private List<MetadataFilter> aggregateMetadataFilters = new ArrayList<>();
+
+    @Getter
+    private SamlMetadataAggregateIndex index;
+
+    private Cache<String, Optional<EntityDescriptor>> entityDescriptors;
+
+    public IndexedAggregateMetadataResolver(final Path metadataFile, final long cacheMaximumSize) {
+        this.metadataFile = metadataFile;
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    @Override
+    protected void initMetadataResolver() throws ComponentInitializationException {
+        super.initMetadataResolver();
+        verifyAggregate();
+        try {
+            val indexFile = Files.createTempFile("saml-metadata-", ".index");
+            index = new SamlMetadataAggregateIndexBuilder().build(metadataFile, indexFile);
+        } catch (final Exception e) {
+            throw new ComponentInitializationException("Unable to index metadata aggregate " + metadataFile, e);
+        }
+        entityDescriptors = Caffeine.newBuilder().maximumSize(cacheMaximumSize).build();
+        LOGGER.info("Indexed [{}] entities from metadata aggregate [{}]", index.size(), metadataFile);
+    }
+
+    private void verifyAggregate() throws ComponentInitializationException {
+        if (aggregateMetadataFilters.isEmpty()) {
+            return;
+        }
+        try (val input = new BufferedInputStream(Files.newInputStream(metadataFile))) {
+            var metadata = unmarshallMetadata(input);
+            val context = new MetadataFilterContext();
+            for (val filter : aggregateMetadataFilters) {
+                metadata = filter.filter(metadata, context);
+                if (metadata == null) {
+                    throw new ComponentInitializationException("Metadata aggregate " + metadataFile
+                                                               + " was rejected by " + filter.getClass().getSimpleName());
+                }
+            }
+            LOGGER.debug("Verified metadata aggregate [{}] with [{}] filters", metadataFile, aggregateMetadataFilters.size());
+        } catch (final ComponentInitializationException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new ComponentInitializationException("Unable to verify metadata aggregate " + metadataFile, e);
+        }
+    }
+
+    @Override
+    protected void doDestroy() {
+        if (entityDescriptors != null) {
+            entityDescriptors.invalidateAll();
+        }
+        if (index != null) {
+            index.close();
+        }
+        super.doDestroy();
+    }
+
+    /**
+     * Whether the aggregate is indexed and still valid.
+     *
+     * @return true/false
+     */
+    public boolean isRootValid() {
+        return index != null && index.isValid(Clock.systemUTC());
+    }
+
+    @Override
+    public Iterable<EntityDescriptor> resolve(final CriteriaSet criteria) throws ResolverException {
+        val entityIdCriterion = criteria == null ? null : criteria.get(EntityIdCriterion.class);
+        if (index == null || entityIdCriterion == null) {
+            LOGGER.debug("Entity descriptors of indexed metadata aggregate [{}] can only be resolved by entity id", metadataFile);
+            return List.of();
+        }
+        if (isRequireValidMetadata() && !isRootValid()) {
+            LOGGER.warn("Indexed metadata aggregate [{}] is no longer valid", metadataFile);
+            return List.of();
+        }
+        val roleCriterion = criteria.get(EntityRoleCriterion.class);
+        return entityDescriptors.get(entityIdCriterion.getEntityId(), this::loadEntityDescriptor)
+            .filter(entityDescriptor -> roleCriterion == null || !entityDescriptor.getRoleDescriptors(roleCriterion.getRole()).isEmpty())
+            .filter(entityDescriptor -> !isRequireValidMetadata() || SAML2Support.isValid(entityDescriptor))
+            .map(List::of)
+            .orElseGet(List::of);
+    }
+
+    private Optional<EntityDescriptor> loadEntityDescriptor(final String entityId) {
+        return index.read(entityId)
+            .map(document -> FunctionUtils.doUnchecked(() -> {
+                LOGGER.trace("Unmarshalling entity descriptor [{}] from indexed metadata aggregate [{}]", entityId, metadataFile);
+                try (val input = new ByteArrayInputStream(document)) {
+                    val metadata = filterMetadata(unmarshallMetadata(input));
+                    if (metadata != null) {
+                        metadata.releaseChildrenDOM(true);
+                        metadata.releaseDOM();
+                    }
+                    return metadata;
+                }
+            }))
+            .filter(EntityDescriptor.class::isInstance)
+            .map(EntityDescriptor.class::cast);
+    }
+}
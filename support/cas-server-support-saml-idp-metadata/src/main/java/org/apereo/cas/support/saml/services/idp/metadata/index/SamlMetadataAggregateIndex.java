@@ -0,0 +1,138 @@
+package org.apereo.cas.support.saml.services.idp.metadata.index;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * This is {@link SamlMetadataAggregateIndex}, which locates the entity descriptors of a metadata aggregate
+ * in an index file, where each entity descriptor is kept as a standalone document. Only the sorted entity ids
+ * and the offsets and lengths of their documents are kept in memory, so that an entity descriptor can be read
+ * and unmarshalled when it is requested rather than keeping the entire aggregate in memory.
+ * The index file is removed once the index is closed, or once the index is no longer reachable
+ * if it is discarded without being closed, such as when its metadata resolver is evicted from a cache.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class SamlMetadataAggregateIndex implements Closeable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Path indexFile;
+
+    private final Instant validUntil;
+
+    private final String[] entityIds;
+
+    private final long[] offsets;
+
+    private final int[] lengths;
+
+    @Getter(AccessLevel.NONE)
+    private final FileChannel channel;
+
+    @Getter(AccessLevel.NONE)
+    private final Cleaner.Cleanable cleanable;
+
+    public SamlMetadataAggregateIndex(final Path indexFile, final Instant validUntil, final String[] entityIds,
+                                      final long[] offsets, final int[] lengths) throws IOException {
+        this.indexFile = indexFile;
+        this.validUntil = validUntil;
+        this.entityIds = entityIds;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.channel = FileChannel.open(indexFile, StandardOpenOption.READ);
+        this.cleanable = CLEANER.register(this, new IndexFileCleaner(indexFile, channel));
+    }
+
+    /**
+     * Number of indexed entities.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entityIds.length;
+    }
+
+    /**
+     * Whether the given entity is indexed.
+     *
+     * @param entityId the entity id
+     * @return true/false
+     */
+    public boolean contains(final String entityId) {
+        return Arrays.binarySearch(entityIds, entityId) >= 0;
+    }
+
+    /**
+     * Whether the aggregate is still valid, based on its valid-until date, if any.
+     *
+     * @param clock the clock
+     * @return true/false
+     */
+    public boolean isValid(final Clock clock) {
+        return validUntil == null || validUntil.isAfter(clock.instant());
+    }
+
+    /**
+     * Read the document of the given entity.
+     *
+     * @param entityId the entity id
+     * @return the document, or empty if the entity is not indexed
+     */
+    public Optional<byte[]> read(final String entityId) {
+        val index = Arrays.binarySearch(entityIds, entityId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        val buffer = ByteBuffer.allocate(lengths[index]);
+        var position = offsets[index];
+        try {
+            while (buffer.hasRemaining()) {
+                val count = channel.read(buffer, position);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of index file " + indexFile + " for " + entityId);
+                }
+                position += count;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Optional.of(buffer.array());
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    private record IndexFileCleaner(Path indexFile, FileChannel channel) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                channel.close();
+                LOGGER.trace("Removing metadata index file [{}]", indexFile);
+                Files.deleteIfExists(indexFile);
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to remove metadata index file [{}]: [{}]", indexFile, e.getMessage());
+            }
+        }
+    }
+}
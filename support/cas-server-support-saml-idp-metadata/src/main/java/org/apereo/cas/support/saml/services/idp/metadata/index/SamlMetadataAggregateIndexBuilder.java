@@ -0,0 +1,270 @@
+package org.apereo.cas.support.saml.services.idp.metadata.index;
+
+import org.apereo.cas.support.saml.SamlException;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.saml.common.xml.SAMLConstants;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * This is {@link SamlMetadataAggregateIndexBuilder}, which reads a metadata aggregate in a single streaming pass
+ * and writes every entity descriptor it contains as a standalone document to an index file, so that the aggregate
+ * does not need to be held in memory to locate its entity descriptors. Each document carries the namespace
+ * declarations that are in scope for its entity descriptor in the aggregate.
+ * <p>
+ * The builder does not verify the signature of the aggregate. Signatures are verified with the metadata filters
+ * of the resolver before the aggregate is indexed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class SamlMetadataAggregateIndexBuilder {
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static XMLInputFactory createInputFactory() {
+        val factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
+    private static String escape(final String value, final boolean attribute) {
+        StringBuilder result = null;
+        for (var i = 0; i < value.length(); i++) {
+            val character = value.charAt(i);
+            val replacement = switch (character) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> attribute ? null : "&gt;";
+                case '"' -> attribute ? "&quot;" : null;
+                case '\t' -> attribute ? "&#x9;" : null;
+                case '\n' -> attribute ? "&#xA;" : null;
+                case '\r' -> "&#xD;";
+                default -> null;
+            };
+            if (replacement != null && result == null) {
+                result = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (result != null) {
+                if (replacement == null) {
+                    result.append(character);
+                } else {
+                    result.append(replacement);
+                }
+            }
+        }
+        return result == null ? value : result.toString();
+    }
+
+    private static String qualifiedName(final String prefix, final String localName) {
+        return StringUtils.isEmpty(prefix) ? localName : prefix + ':' + localName;
+    }
+
+    /**
+     * Index the given metadata aggregate into the given index file.
+     *
+     * @param metadata  the metadata aggregate
+     * @param indexFile the index file
+     * @return the index
+     */
+    public SamlMetadataAggregateIndex build(final Path metadata, final Path indexFile) {
+        try {
+            val entries = new TreeMap<String, long[]>();
+            val pass = new IndexingPass(metadata, entries);
+            try (val input = new BufferedInputStream(Files.newInputStream(metadata));
+                 val output = new BufferedOutputStream(Files.newOutputStream(indexFile))) {
+                val reader = INPUT_FACTORY.createXMLStreamReader(input);
+                try {
+                    pass.run(reader, output);
+                } finally {
+                    reader.close();
+                }
+            }
+            val entityIds = entries.keySet().toArray(String[]::new);
+            val offsets = new long[entityIds.length];
+            val lengths = new int[entityIds.length];
+            for (var i = 0; i < entityIds.length; i++) {
+                val entry = entries.get(entityIds[i]);
+                offsets[i] = entry[0];
+                lengths[i] = (int) entry[1];
+            }
+            LOGGER.debug("Indexed [{}] entities from metadata aggregate [{}] into [{}]", entityIds.length, metadata, indexFile);
+            return new SamlMetadataAggregateIndex(indexFile, pass.getValidUntil(), entityIds, offsets, lengths);
+        } catch (final Exception e) {
+            try {
+                Files.deleteIfExists(indexFile);
+            } catch (final Exception ex) {
+                LOGGER.debug(ex.getMessage(), ex);
+            }
+            if (e instanceof final SamlException samlException) {
+                throw samlException;
+            }
+            throw new SamlException("Unable to index metadata aggregate " + metadata + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static final class IndexingPass {
+        private final Path metadata;
+
+        private final Map<String, long[]> entries;
+
+        private final Deque<Map<String, String>> scopes = new ArrayDeque<>();
+
+        private XMLStreamReader reader;
+
+        private OutputStream output;
+
+        private long offset;
+
+        private boolean rootFound;
+
+        private Instant validUntil;
+
+        private StringBuilder entityDocument;
+
+        private String entityId;
+
+        private int entityDepth;
+
+        IndexingPass(final Path metadata, final Map<String, long[]> entries) {
+            this.metadata = metadata;
+            this.entries = entries;
+        }
+
+        Instant getValidUntil() {
+            return validUntil;
+        }
+
+        void run(final XMLStreamReader reader, final OutputStream output) throws Exception {
+            this.reader = reader;
+            this.output = output;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> startElement();
+                    case XMLStreamConstants.END_ELEMENT -> endElement();
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                        if (entityDocument != null) {
+                            entityDocument.append(escape(reader.getText(), false));
+                        }
+                    }
+                    case XMLStreamConstants.DTD, XMLStreamConstants.ENTITY_REFERENCE ->
+                        throw new SamlException("Document type declarations are not supported in metadata " + metadata);
+                    default -> LOGGER.trace("Skipping event [{}] in metadata [{}]", reader.getEventType(), metadata);
+                }
+            }
+            if (!rootFound) {
+                throw new SamlException("Unable to locate the root element of metadata " + metadata);
+            }
+        }
+
+        private void startElement() {
+            val declared = new TreeMap<String, String>();
+            for (var i = 0; i < reader.getNamespaceCount(); i++) {
+                declared.put(StringUtils.defaultString(reader.getNamespacePrefix(i)), StringUtils.defaultString(reader.getNamespaceURI(i)));
+            }
+            val parent = scopes.isEmpty() ? Map.<String, String>of() : scopes.peek();
+            var scope = parent;
+            if (!declared.isEmpty()) {
+                scope = new HashMap<>(parent);
+                scope.putAll(declared);
+            }
+            scopes.push(scope);
+
+            if (!rootFound) {
+                startRoot();
+            }
+            if (entityDocument != null) {
+                writeStartElement(declared);
+                entityDepth++;
+            } else if (SAMLConstants.SAML20MD_NS.equals(reader.getNamespaceURI())
+                       && "EntityDescriptor".equals(reader.getLocalName())) {
+                entityId = reader.getAttributeValue(null, "entityID");
+                entityDocument = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+                val namespaces = new TreeMap<>(scope);
+                namespaces.remove(XMLConstants.XML_NS_PREFIX);
+                namespaces.remove(XMLConstants.DEFAULT_NS_PREFIX, XMLConstants.NULL_NS_URI);
+                writeStartElement(namespaces);
+                entityDepth = 1;
+            }
+        }
+
+        private void endElement() throws Exception {
+            scopes.pop();
+            if (entityDocument != null) {
+                entityDocument.append("</").append(qualifiedName(reader.getPrefix(), reader.getLocalName())).append('>');
+                entityDepth--;
+                if (entityDepth == 0) {
+                    finishEntity();
+                }
+            }
+        }
+
+        private void startRoot() {
+            val namespace = reader.getNamespaceURI();
+            val name = reader.getLocalName();
+            if (!SAMLConstants.SAML20MD_NS.equals(namespace)
+                || !"EntitiesDescriptor".equals(name) && !"EntityDescriptor".equals(name)) {
+                throw new SamlException("Root element " + name + " of metadata " + metadata
+                                        + " is not an entity or entities descriptor");
+            }
+            rootFound = true;
+            validUntil = Optional.ofNullable(reader.getAttributeValue(null, "validUntil"))
+                .filter(StringUtils::isNotBlank)
+                .map(DateTimeUtils::zonedDateTimeOf)
+                .map(ZonedDateTime::toInstant)
+                .orElse(null);
+        }
+
+        private void writeStartElement(final Map<String, String> namespaces) {
+            entityDocument.append('<').append(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+            namespaces.forEach((prefix, namespaceUri) -> entityDocument
+                .append(prefix.isEmpty() ? " xmlns" : " xmlns:" + prefix)
+                .append("=\"").append(escape(namespaceUri, true)).append('"'));
+            for (var i = 0; i < reader.getAttributeCount(); i++) {
+                entityDocument.append(' ')
+                    .append(qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)))
+                    .append("=\"").append(escape(reader.getAttributeValue(i), true)).append('"');
+            }
+            entityDocument.append('>');
+        }
+
+        private void finishEntity() throws Exception {
+            val document = entityDocument.toString().getBytes(StandardCharsets.UTF_8);
+            entityDocument = null;
+            if (StringUtils.isBlank(entityId)) {
+                LOGGER.warn("Skipping entity descriptor without an entity id in metadata [{}]", metadata);
+                return;
+            }
+            if (entries.containsKey(entityId)) {
+                LOGGER.warn("Skipping duplicate entity descriptor [{}] in metadata [{}]", entityId, metadata);
+                return;
+            }
+            output.write(document);
+            entries.put(entityId, new long[]{offset, document.length});
+            offset += document.length;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CoreSamlConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.saml.InMemoryResourceMetadataResolver;
+import org.apereo.cas.support.saml.OpenSamlConfigBean;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+
+import lombok.val;
+import net.shibboleth.shared.resolver.CriteriaSet;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.criterion.EntityRoleCriterion;
+import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link SamlRegisteredServiceDefaultCachingMetadataResolver}
+ * while several threads resolve entities from a cached aggregate, along with a number of
+ * other cached metadata resolvers. Run via {@link #main(String[])} which repeats the
+ * benchmark with an increasing number of threads.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SamlRegisteredServiceDefaultCachingMetadataResolverBenchmark {
+    private static final int CACHED_SERVICES_COUNT = 25;
+
+    private static final List<String> ENTITY_IDS = List.of(
+        "https://issues.shibboleth.net/shibboleth",
+        "https://mfa-auth.dev.phenoapp.com/Saml2",
+        "https://gitlab.com");
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private SamlRegisteredServiceDefaultCachingMetadataResolver resolver;
+
+    private SamlRegisteredService aggregateService;
+
+    public static void main(final String[] args) throws Exception {
+        for (val threads : List.of(1, 2, 4, 8)) {
+            val options = new OptionsBuilder()
+                .include(SamlRegisteredServiceDefaultCachingMetadataResolverBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+
+    private static CriteriaSet getCriteriaFor(final String entityId) {
+        val criteriaSet = new CriteriaSet();
+        criteriaSet.add(new EntityIdCriterion(entityId));
+        criteriaSet.add(new EntityRoleCriterion(SPSSODescriptor.DEFAULT_ELEMENT_NAME));
+        return criteriaSet;
+    }
+
+    private static String getEntityId(final String id) {
+        return "https://sp" + id + ".example.org/shibboleth";
+    }
+
+    private static SamlRegisteredService getSamlRegisteredService(final long id, final String metadataLocation) {
+        val service = new SamlRegisteredService();
+        service.setName("Service-" + id);
+        service.setId(id);
+        service.setServiceId(".*");
+        service.setMetadataLocation(metadataLocation);
+        return service;
+    }
+
+    @Setup
+    public void setup() {
+        applicationContext = new SpringApplicationBuilder(RefreshAutoConfiguration.class,
+            CasCoreHttpConfiguration.class, CoreSamlConfiguration.class, BenchmarkConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        val casProperties = applicationContext.getBean(CasConfigurationProperties.class);
+        val configBean = applicationContext.getBean(OpenSamlConfigBean.DEFAULT_BEAN_NAME, OpenSamlConfigBean.class);
+
+        resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(casProperties, key -> {
+            val location = key.getRegisteredService().getMetadataLocation();
+            val resource = new ClassPathResource(StringUtils.substringBefore(location, "#"));
+            val metadata = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8)
+                .replace("%ENTITY_ID%", getEntityId(StringUtils.substringAfter(location, "#")));
+            val metadataResolver = new InMemoryResourceMetadataResolver(
+                new ByteArrayInputStream(metadata.getBytes(StandardCharsets.UTF_8)), configBean);
+            metadataResolver.setId(location);
+            metadataResolver.initialize();
+            return CachedMetadataResolverResult.builder().metadataResolver(metadataResolver).build();
+        }, configBean);
+
+        for (var i = 0; i < CACHED_SERVICES_COUNT; i++) {
+            val service = getSamlRegisteredService(i, "placeholder-sp.xml#" + i);
+            resolver.resolve(service, getCriteriaFor(getEntityId(String.valueOf(i))));
+        }
+        aggregateService = getSamlRegisteredService(CACHED_SERVICES_COUNT, "aggregate-md.xml");
+        ENTITY_IDS.forEach(entityId -> resolver.resolve(aggregateService, getCriteriaFor(entityId)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public CachedMetadataResolverResult resolveFromAggregate(final ThreadState state) {
+        return resolver.resolve(aggregateService, getCriteriaFor(state.nextEntityId()));
+    }
+
+    /**
+     * Per-thread state to rotate through entity ids.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int counter;
+
+        String nextEntityId() {
+            counter = (counter + 1) % ENTITY_IDS.size();
+            return ENTITY_IDS.get(counter);
+        }
+    }
+
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class BenchmarkConfiguration {
+    }
+}
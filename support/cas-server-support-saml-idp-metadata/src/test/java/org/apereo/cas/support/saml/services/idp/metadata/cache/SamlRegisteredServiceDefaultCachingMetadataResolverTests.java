@@ -19,6 +19,10 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -200,6 +204,34 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         assertEquals(0, stats3.hitCount());
     }
 
+    @Test
+    void verifyConcurrentResolutionViaEntityIdIndex() throws Throwable {
+        val resolver = getResolver("PT5M");
+        val service = getSamlRegisteredService(1, ".*", "classpath:aggregate-md.xml");
+        val entityIds = List.of("https://issues.shibboleth.net/shibboleth",
+            "https://mfa-auth.dev.phenoapp.com/Saml2", "https://gitlab.com");
+
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = IntStream.range(0, 64)
+                .mapToObj(i -> (Callable<CachedMetadataResolverResult>) () ->
+                    resolver.resolve(service, getCriteriaFor(entityIds.get(i % entityIds.size()))))
+                .toList();
+            for (val future : executor.invokeAll(tasks)) {
+                assertNotNull(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+
+        val otherService = getSamlRegisteredService(2, ".*", "classpath:sample-sp.xml");
+        assertNotNull(resolver.resolve(otherService, getCriteriaFor("https://gitlab.com")));
+        assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+        resolver.invalidate();
+        assertFalse(resolver.resolveIfPresent(service, getCriteriaFor("https://gitlab.com")).isPresent());
+    }
+
     private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final String duration) {
         val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
         val props = casProperties.getAuthn().getSamlIdp();
@@ -3,6 +3,7 @@ package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
 import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPProperties;
 import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.index.IndexedAggregateMetadataResolver;
 import com.google.common.collect.Iterables;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
@@ -106,6 +107,60 @@ class FileSystemResourceMetadataResolverTests extends BaseSamlIdPServicesTests {
         assertEquals(1, Iterables.size(directoryResolver.resolve(criteriaSet)));
     }
 
+    @Test
+    void verifyIndexedAggregate() throws Throwable {
+        val properties = new SamlIdPProperties();
+        properties.getMetadata().getCore().setIndexAggregates(true);
+        val indexingResolver = new FileSystemResourceMetadataResolver(properties, openSamlConfigBean);
+
+        val service = new SamlRegisteredService();
+        service.setName("IndexedAggregate");
+        service.setMetadataLocation(new ClassPathResource("signed-aggregate-md.xml").getFile().getCanonicalPath());
+        service.setMetadataSignatureLocation("classpath:signed-aggregate-md-cert.pem");
+        val resolvers = indexingResolver.resolve(service);
+        assertEquals(1, resolvers.size());
+        val resolver = resolvers.iterator().next();
+        assertInstanceOf(IndexedAggregateMetadataResolver.class, resolver);
+
+        val criteriaSet = getCriteriaFor("https://sp0.example.org/shibboleth");
+        val entity = resolver.resolveSingle(criteriaSet);
+        assertNotNull(entity);
+        assertSame(entity, resolver.resolveSingle(criteriaSet));
+
+        val idpCriteria = new CriteriaSet();
+        idpCriteria.add(new EntityIdCriterion("https://sp0.example.org/shibboleth"));
+        idpCriteria.add(new EntityRoleCriterion(IDPSSODescriptor.DEFAULT_ELEMENT_NAME));
+        assertNull(resolver.resolveSingle(idpCriteria));
+        assertNull(resolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://unknown.example.org"))));
+
+        service.setMetadataSignatureLocation("classpath:inc-md-cert.pem");
+        assertTrue(indexingResolver.resolve(service).isEmpty());
+    }
+
+    @Test
+    void verifyIndexedAggregateSignature() throws Throwable {
+        val properties = new SamlIdPProperties();
+        properties.getMetadata().getCore().setIndexAggregates(true);
+        val indexingResolver = new FileSystemResourceMetadataResolver(properties, openSamlConfigBean);
+
+        val content = IOUtils.toString(new ClassPathResource("signed-aggregate-md.xml").getInputStream(), StandardCharsets.UTF_8);
+        val tampered = File.createTempFile("tampered-aggregate", ".xml");
+        FileUtils.writeStringToFile(tampered, content.replace(">Org 0<", ">Org X<"), StandardCharsets.UTF_8);
+        val unsigned = File.createTempFile("unsigned-aggregate", ".xml");
+        FileUtils.writeStringToFile(unsigned, content.substring(0, content.indexOf("<ds:Signature"))
+            + content.substring(content.indexOf("</ds:Signature>") + "</ds:Signature>".length()), StandardCharsets.UTF_8);
+
+        val service = new SamlRegisteredService();
+        service.setName("IndexedAggregate");
+        service.setMetadataSignatureLocation("classpath:signed-aggregate-md-cert.pem");
+        service.setMetadataLocation(tampered.getCanonicalPath());
+        assertTrue(indexingResolver.resolve(service).isEmpty());
+        service.setMetadataLocation(unsigned.getCanonicalPath());
+        assertTrue(indexingResolver.resolve(service).isEmpty());
+        service.setRequireSignedRoot(false);
+        assertEquals(1, indexingResolver.resolve(service).size());
+    }
+
     @Test
     void verifyDefaultImpl() {
         val mock = mock(SamlRegisteredServiceMetadataResolver.class);
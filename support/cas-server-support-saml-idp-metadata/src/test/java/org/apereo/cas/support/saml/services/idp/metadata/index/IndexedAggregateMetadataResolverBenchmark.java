@@ -0,0 +1,149 @@
+package org.apereo.cas.support.saml.services.idp.metadata.index;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CoreSamlConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.saml.InMemoryResourceMetadataResolver;
+import org.apereo.cas.support.saml.OpenSamlConfigBean;
+
+import lombok.val;
+import net.shibboleth.shared.resolver.CriteriaSet;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.criterion.EntityRoleCriterion;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time and allocations it takes to load a metadata aggregate of {@value #ENTITY_COUNT} entities
+ * and resolve one entity from it, either by unmarshalling the whole aggregate with
+ * {@link InMemoryResourceMetadataResolver} or by indexing it with {@link IndexedAggregateMetadataResolver}.
+ * Run via {@link #main(String[])}, which reports allocations along with timings.
+ * The aggregate is unsigned, so this measures the streaming pass of {@link SamlMetadataAggregateIndexBuilder};
+ * signed aggregates are also unmarshalled once to verify their signature before they are indexed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IndexedAggregateMetadataResolverBenchmark {
+    private static final int ENTITY_COUNT = 50_000;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private OpenSamlConfigBean configBean;
+
+    private Path aggregate;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(IndexedAggregateMetadataResolverBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+    private static String getEntityId(final int id) {
+        return "https://sp" + id + ".example.org/shibboleth";
+    }
+
+    private static CriteriaSet getCriteria() {
+        val criteriaSet = new CriteriaSet();
+        criteriaSet.add(new EntityIdCriterion(getEntityId(ENTITY_COUNT / 2)));
+        criteriaSet.add(new EntityRoleCriterion(SPSSODescriptor.DEFAULT_ELEMENT_NAME));
+        return criteriaSet;
+    }
+
+    private static Path generateAggregate() throws Exception {
+        val template = IOUtils.toString(new ClassPathResource("placeholder-sp.xml").getInputStream(), StandardCharsets.UTF_8)
+            .replaceFirst("<\\?xml[^>]*\\?>", StringUtils.EMPTY)
+            .replaceFirst("ID=\"[^\"]*\"", StringUtils.EMPTY);
+        val file = Files.createTempFile("aggregate", ".xml");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            writer.write("<md:EntitiesDescriptor xmlns:md=\"urn:oasis:names:tc:SAML:2.0:metadata\">");
+            for (var i = 0; i < ENTITY_COUNT; i++) {
+                writer.write(template.replace("%ENTITY_ID%", getEntityId(i)));
+            }
+            writer.write("</md:EntitiesDescriptor>");
+        }
+        return file;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        applicationContext = new SpringApplicationBuilder(RefreshAutoConfiguration.class,
+            CasCoreHttpConfiguration.class, CoreSamlConfiguration.class, BenchmarkConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        configBean = applicationContext.getBean(OpenSamlConfigBean.DEFAULT_BEAN_NAME, OpenSamlConfigBean.class);
+        aggregate = generateAggregate();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(aggregate);
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public EntityDescriptor loadInMemoryAggregate() throws Exception {
+        val metadataResolver = new InMemoryResourceMetadataResolver(aggregate.toFile(), configBean);
+        metadataResolver.setId("InMemoryAggregate");
+        metadataResolver.initialize();
+        try {
+            return metadataResolver.resolveSingle(getCriteria());
+        } finally {
+            metadataResolver.destroy();
+        }
+    }
+
+    @Benchmark
+    public EntityDescriptor loadIndexedAggregate() throws Exception {
+        val metadataResolver = new IndexedAggregateMetadataResolver(aggregate, 1_000);
+        metadataResolver.setParserPool(configBean.getParserPool());
+        metadataResolver.setId("IndexedAggregate");
+        metadataResolver.initialize();
+        try {
+            return metadataResolver.resolveSingle(getCriteria());
+        } finally {
+            metadataResolver.destroy();
+        }
+    }
+
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class BenchmarkConfiguration {
+    }
+}
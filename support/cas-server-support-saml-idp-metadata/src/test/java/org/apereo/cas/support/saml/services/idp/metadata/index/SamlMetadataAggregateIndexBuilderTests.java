@@ -0,0 +1,77 @@
+package org.apereo.cas.support.saml.services.idp.metadata.index;
+
+import org.apereo.cas.support.saml.SamlException;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SamlMetadataAggregateIndexBuilderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("SAMLMetadata")
+class SamlMetadataAggregateIndexBuilderTests {
+    private static final String ENTITY_ID = "https://idp1.example.org/shibboleth";
+
+    private static Path writeAggregate(final String content) throws Exception {
+        val file = Files.createTempFile("aggregate", ".xml");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void verifyIndexedAggregate() throws Throwable {
+        val aggregate = new ClassPathResource("signed-aggregate-md.xml").getFile().toPath();
+        val indexFile = Files.createTempFile("saml-metadata-", ".index");
+        try (val index = new SamlMetadataAggregateIndexBuilder().build(aggregate, indexFile)) {
+            assertEquals(20, index.size());
+            assertTrue(index.contains(ENTITY_ID));
+            assertFalse(index.contains("https://unknown.example.org"));
+            assertTrue(index.isValid(Clock.systemUTC()));
+            val document = new String(index.read(ENTITY_ID).orElseThrow(), StandardCharsets.UTF_8);
+            assertTrue(document.contains("entityID=\"" + ENTITY_ID + '"'));
+            assertTrue(document.contains("xmlns:shibmd="));
+            assertFalse(document.contains("SignatureValue"));
+            assertTrue(index.read("https://unknown.example.org").isEmpty());
+        }
+        assertFalse(Files.exists(indexFile));
+    }
+
+    @Test
+    void verifyDuplicateEntities() throws Throwable {
+        val entity = "<md:EntityDescriptor entityID=\"https://sp.example.org\"><md:Extensions a=\"&quot;&lt;\">1 &amp; 2</md:Extensions>"
+                     + "</md:EntityDescriptor>";
+        val aggregate = writeAggregate("<md:EntitiesDescriptor xmlns:md=\"urn:oasis:names:tc:SAML:2.0:metadata\">"
+                                       + entity + entity + "</md:EntitiesDescriptor>");
+        try (val index = new SamlMetadataAggregateIndexBuilder().build(aggregate, Files.createTempFile("saml-metadata-", ".index"))) {
+            assertEquals(1, index.size());
+            assertNull(index.getValidUntil());
+            val document = new String(index.read("https://sp.example.org").orElseThrow(), StandardCharsets.UTF_8);
+            assertTrue(document.contains("a=\"&quot;&lt;\">1 &amp; 2<"));
+        }
+    }
+
+    @Test
+    void verifyInvalidAggregate() throws Throwable {
+        val builder = new SamlMetadataAggregateIndexBuilder();
+        val unknownRoot = writeAggregate("<Unknown xmlns=\"urn:example\"/>");
+        assertThrows(SamlException.class, () -> builder.build(unknownRoot, Files.createTempFile("saml-metadata-", ".index")));
+
+        val doctype = writeAggregate("<!DOCTYPE md:EntitiesDescriptor [<!ENTITY e \"x\">]>"
+                                     + "<md:EntitiesDescriptor xmlns:md=\"urn:oasis:names:tc:SAML:2.0:metadata\">&e;</md:EntitiesDescriptor>");
+        val indexFile = Files.createTempFile("saml-metadata-", ".index");
+        assertThrows(SamlException.class, () -> builder.build(doctype, indexFile));
+        assertFalse(Files.exists(indexFile));
+    }
+}
@@ -66,6 +66,8 @@ import java.util.regex.Pattern;
 
 /**
  * This is {@link DefaultSamlIdPObjectSigner}.
+ * Resolved signature signing parameters are cached by service and service provider,
+ * and resolved again once the service, the service provider metadata or the signing keys change.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -79,7 +81,10 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
     private final CasConfigurationProperties casProperties;
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
-    
+
+    private final SamlIdPSecurityParametersCache<SignatureSigningParameters> signingParametersCache =
+        new SamlIdPSecurityParametersCache<>("signing.parameters");
+
     private static boolean doesCredentialFingerprintMatch(final AbstractCredential credential,
                                                           final SamlRegisteredService samlRegisteredService) {
         val fingerprint = samlRegisteredService.getSigningCredentialFingerprint();
@@ -171,7 +176,9 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
         final SamlRegisteredService service) {
         val secParametersContext = outboundContext.ensureSubcontext(SecurityParametersContext.class);
         val roleDesc = adaptor.ssoDescriptor();
-        val signingParameters = buildSignatureSigningParameters(roleDesc, service);
+        val generation = FunctionUtils.doUnchecked(() -> getSigningKeyGeneration(service));
+        val signingParameters = signingParametersCache.get(service, adaptor, generation,
+            () -> buildSignatureSigningParameters(roleDesc, service));
         Objects.requireNonNull(secParametersContext).setSignatureSigningParameters(signingParameters);
     }
 
@@ -297,6 +304,23 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
         return config;
     }
 
+    /**
+     * Gets the generation of the signing key, certificate and metadata of the identity provider
+     * for the given service, which changes when the keys are rotated. Generations of keys
+     * that are not kept in files are remembered for a short while by the parameters cache.
+     *
+     * @param service the service
+     * @return the generation
+     * @throws Throwable the throwable
+     */
+    protected String getSigningKeyGeneration(final SamlRegisteredService service) throws Throwable {
+        val registeredService = Optional.of(service);
+        return signingParametersCache.getKeyGeneration(service,
+            samlIdPMetadataLocator.resolveSigningKey(registeredService),
+            samlIdPMetadataLocator.resolveSigningCertificate(registeredService),
+            samlIdPMetadataLocator.resolveMetadata(registeredService));
+    }
+
     /**
      * Gets signing private key.
      *
@@ -14,6 +14,7 @@ import org.apereo.cas.util.crypto.DecryptionException;
 import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -69,6 +70,8 @@ import java.util.Optional;
 
 /**
  * This is {@link SamlIdPObjectEncrypter}.
+ * Resolved key and data encryption parameters are cached by service and service provider,
+ * and resolved again once the service or the service provider metadata change.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -80,6 +83,10 @@ public class SamlIdPObjectEncrypter {
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    @Getter
+    private final SamlIdPSecurityParametersCache<EncrypterParameters> encryptionParametersCache =
+        new SamlIdPSecurityParametersCache<>("encryption.parameters");
+
     private static void handleEncryptionFailure(final SamlRegisteredService service,
                                                 final SamlRegisteredServiceMetadataAdaptor adaptor) {
         val entityId = adaptor.getEntityId();
@@ -183,6 +190,24 @@ public class SamlIdPObjectEncrypter {
     protected Encrypter buildEncrypterForSamlObject(final Object samlObject,
                                                     final SamlRegisteredService service,
                                                     final SamlRegisteredServiceMetadataAdaptor adaptor) {
+        val parameters = encryptionParametersCache.get(service, adaptor, StringUtils.EMPTY,
+            () -> resolveEncrypterParameters(samlObject, service, adaptor));
+        LOGGER.trace("Building encrypter component for [{}]", adaptor.getEntityId());
+        return getEncrypter(samlObject, service, adaptor,
+            parameters.keyEncryptionParameters(), parameters.dataEncryptionParameters());
+    }
+
+    /**
+     * Resolve the key and data encryption parameters of the encrypter.
+     *
+     * @param samlObject the saml object
+     * @param service    the service
+     * @param adaptor    the adaptor
+     * @return the encrypter parameters
+     */
+    protected EncrypterParameters resolveEncrypterParameters(final Object samlObject,
+                                                             final SamlRegisteredService service,
+                                                             final SamlRegisteredServiceMetadataAdaptor adaptor) {
         val entityId = adaptor.getEntityId();
         LOGGER.trace("Calculating encryption security configuration for [{}] based on service [{}]", entityId, service.getName());
         val encryptionConfiguration = configureEncryptionSecurityConfiguration(service);
@@ -203,8 +228,7 @@ public class SamlIdPObjectEncrypter {
         if (dataEncParams != null) {
             LOGGER.trace("Data encryption algorithm for [{}] is [{}]", entityId, dataEncParams.getAlgorithm());
         }
-        LOGGER.trace("Building encrypter component for [{}]", entityId);
-        return getEncrypter(samlObject, service, adaptor, keyEncParams, dataEncParams);
+        return new EncrypterParameters(keyEncParams, dataEncParams);
     }
 
     /**
@@ -548,4 +572,14 @@ public class SamlIdPObjectEncrypter {
         criteria.add(new DecryptionConfigurationCriterion(decryptionConfiguration));
         return new BasicDecryptionParametersResolver().resolveSingle(criteria);
     }
+
+    /**
+     * The resolved parameters of an encrypter.
+     *
+     * @param keyEncryptionParameters  the key encryption parameters
+     * @param dataEncryptionParameters the data encryption parameters
+     */
+    public record EncrypterParameters(KeyEncryptionParameters keyEncryptionParameters,
+                                      DataEncryptionParameters dataEncryptionParameters) {
+    }
 }
@@ -0,0 +1,163 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMetadataAdaptor;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link SamlIdPSecurityParametersCache}, which keeps fully resolved signing or encryption parameters
+ * by registered service and service provider entity id, so that keys are parsed and algorithms are negotiated
+ * once rather than for every response. A cached entry is only used while the registered service is unchanged,
+ * the service provider metadata has not been refreshed, which is detected by the identity of the
+ * entity descriptor that the metadata resolver hands out, and the generation of the identity provider keys
+ * the parameters were built with is the same; otherwise the parameters are resolved and cached again.
+ * Generations of keys that are not kept in files are remembered for a short while,
+ * so that their contents are not read and digested for every response.
+ *
+ * @param <T> the type of parameters
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class SamlIdPSecurityParametersCache<T> {
+    /**
+     * Prefix of the names of the cache metrics.
+     */
+    public static final String CACHE_METRIC_NAME_PREFIX = "cas.saml.idp.";
+
+    private static final int MAXIMUM_CACHE_SIZE = 10_000;
+
+    private static final String NO_RESOURCE = "none";
+
+    private static final Duration GENERATION_CACHE_EXPIRATION = Duration.ofSeconds(30);
+
+    private final Cache<CacheKey, CachedParameters<T>> cache;
+
+    private final Cache<Long, String> generations;
+
+    public SamlIdPSecurityParametersCache(final String name) {
+        this.cache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry,
+            Caffeine.newBuilder().maximumSize(MAXIMUM_CACHE_SIZE).recordStats().build(), CACHE_METRIC_NAME_PREFIX + name);
+        this.generations = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHE_SIZE)
+            .expireAfterWrite(GENERATION_CACHE_EXPIRATION)
+            .build();
+    }
+
+    /**
+     * Gets the generation of the given resources, which changes when any of them is modified.
+     * File resources are described by their location, last modification date and length,
+     * and other resources by a digest of their contents.
+     *
+     * @param resources the resources
+     * @return the generation
+     */
+    public static String getGeneration(final Resource... resources) {
+        return Arrays.stream(resources)
+            .map(SamlIdPSecurityParametersCache::getGeneration)
+            .collect(Collectors.joining("|"));
+    }
+
+    /**
+     * Gets the generation of the given identity provider key resources for the given service.
+     * The generation of file resources is cheap to determine and is always current; when any
+     * of the resources is not a file, the generation is remembered for the service for a short while
+     * and so key rotations are noticed once it expires.
+     *
+     * @param service   the service
+     * @param resources the resources
+     * @return the generation
+     */
+    public String getKeyGeneration(final SamlRegisteredService service, final Resource... resources) {
+        val files = Arrays.stream(resources).allMatch(resource -> resource == null || !resource.exists() || resource.isFile());
+        if (files) {
+            return getGeneration(resources);
+        }
+        return generations.get(service.getId(), id -> {
+            LOGGER.trace("Calculating generation of identity provider keys for service [{}]", service.getName());
+            return getGeneration(resources);
+        });
+    }
+
+    private static String getGeneration(final Resource resource) {
+        if (resource == null || !resource.exists()) {
+            return NO_RESOURCE;
+        }
+        return FunctionUtils.doUnchecked(() -> resource.isFile()
+            ? resource.getFile().getAbsolutePath() + '@' + resource.lastModified() + ':' + resource.contentLength()
+            : DigestUtils.digest("SHA-256", resource.getContentAsByteArray()));
+    }
+
+    /**
+     * Gets the parameters for the given service and metadata, and resolves them
+     * with the given loader if they are not cached or are no longer current.
+     * Parameters that cannot be resolved are not cached.
+     *
+     * @param service    the service
+     * @param adaptor    the adaptor
+     * @param generation the generation of the identity provider keys
+     * @param loader     the loader
+     * @return the parameters
+     */
+    public T get(final SamlRegisteredService service, final SamlRegisteredServiceMetadataAdaptor adaptor,
+                 final String generation, final CheckedSupplier<T> loader) {
+        val key = new CacheKey(service.getId(), adaptor.getEntityId());
+        val cached = cache.getIfPresent(key);
+        if (cached != null && cached.isCurrent(service, adaptor.entityDescriptor(), generation)) {
+            return cached.parameters();
+        }
+        LOGGER.trace("Resolving security parameters for [{}] and service [{}]", key.entityId(), service.getName());
+        val parameters = FunctionUtils.doUnchecked(loader);
+        if (parameters != null) {
+            cache.put(key, new CachedParameters<>(service, adaptor.entityDescriptor(), generation, parameters));
+        }
+        return parameters;
+    }
+
+    /**
+     * Remove all cached parameters.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        generations.invalidateAll();
+    }
+
+    /**
+     * Number of cached parameters.
+     *
+     * @return the size
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private record CacheKey(long serviceId, String entityId) {
+    }
+
+    private record CachedParameters<T>(SamlRegisteredService service, EntityDescriptor entityDescriptor,
+                                       String generation, T parameters) {
+        boolean isCurrent(final SamlRegisteredService currentService, final EntityDescriptor currentEntityDescriptor,
+                          final String currentGeneration) {
+            return entityDescriptor == currentEntityDescriptor
+                   && Objects.equals(generation, currentGeneration)
+                   && service.equals(currentService);
+        }
+    }
+}
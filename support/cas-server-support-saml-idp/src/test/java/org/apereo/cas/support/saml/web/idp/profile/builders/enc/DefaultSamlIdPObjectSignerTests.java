@@ -5,14 +5,24 @@ import org.apereo.cas.support.saml.SamlIdPTestUtils;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMetadataAdaptor;
 
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.opensaml.messaging.context.MessageContext;
 import org.opensaml.saml.common.xml.SAMLConstants;
+import org.opensaml.xmlsec.context.SecurityParametersContext;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -44,4 +54,66 @@ class DefaultSamlIdPObjectSignerTests extends BaseSamlIdPConfigurationTests {
             SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, new MessageContext()));
 
     }
+
+    @Test
+    void reusesSigningParameters() throws Exception {
+        val samlRegisteredService = getSamlRegisteredServiceFor(true, true, false, "https://cassp.example.org");
+        samlRegisteredService.setId(2000);
+        samlRegisteredService.setName("ObjectSignerCacheTest");
+
+        val adaptor = SamlRegisteredServiceMetadataAdaptor
+            .get(samlRegisteredServiceCachingMetadataResolver, samlRegisteredService,
+                samlRegisteredService.getServiceId()).get();
+        val authnRequest = SamlIdPTestUtils.getAuthnRequest(openSamlConfigBean, samlRegisteredService);
+
+        val first = new MessageContext();
+        samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, first);
+        val second = new MessageContext();
+        samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, second);
+        val parameters = Objects.requireNonNull(first.getSubcontext(SecurityParametersContext.class)).getSignatureSigningParameters();
+        assertNotNull(parameters);
+        assertSame(parameters, Objects.requireNonNull(second.getSubcontext(SecurityParametersContext.class)).getSignatureSigningParameters());
+
+        samlRegisteredService.setSigningSignatureAlgorithms(List.of(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA512));
+        val third = new MessageContext();
+        samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, third);
+        assertNotSame(parameters, Objects.requireNonNull(third.getSubcontext(SecurityParametersContext.class)).getSignatureSigningParameters());
+    }
+
+    @Test
+    void verifyKeyGenerationChanges() throws Exception {
+        val file = Files.createTempFile("signing", ".key").toFile();
+        FileUtils.writeStringToFile(file, "key", StandardCharsets.UTF_8);
+        val generation = SamlIdPSecurityParametersCache.getGeneration(new FileSystemResource(file));
+        assertEquals(generation, SamlIdPSecurityParametersCache.getGeneration(new FileSystemResource(file)));
+        FileUtils.writeStringToFile(file, "rotated-key", StandardCharsets.UTF_8);
+        assertNotEquals(generation, SamlIdPSecurityParametersCache.getGeneration(new FileSystemResource(file)));
+
+        val resource = new ByteArrayResource("key".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(SamlIdPSecurityParametersCache.getGeneration(resource),
+            SamlIdPSecurityParametersCache.getGeneration(new ByteArrayResource("rotated-key".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void verifyKeyGenerationRemembered() throws Exception {
+        val samlRegisteredService = getSamlRegisteredServiceFor(true, true, false, "https://cassp.example.org");
+        samlRegisteredService.setId(1001);
+        val cache = new SamlIdPSecurityParametersCache<Object>("test.parameters");
+
+        val generation = cache.getKeyGeneration(samlRegisteredService, new ByteArrayResource("key".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(generation, cache.getKeyGeneration(samlRegisteredService,
+            new ByteArrayResource("rotated-key".getBytes(StandardCharsets.UTF_8))));
+        cache.invalidateAll();
+        assertNotEquals(generation, cache.getKeyGeneration(samlRegisteredService,
+            new ByteArrayResource("rotated-key".getBytes(StandardCharsets.UTF_8))));
+
+        val file = Files.createTempFile("signing", ".key").toFile();
+        FileUtils.writeStringToFile(file, "key", StandardCharsets.UTF_8);
+        val fileGeneration = cache.getKeyGeneration(samlRegisteredService, new FileSystemResource(file));
+        FileUtils.writeStringToFile(file, "rotated-key", StandardCharsets.UTF_8);
+        assertNotEquals(fileGeneration, cache.getKeyGeneration(samlRegisteredService, new FileSystemResource(file)));
+    }
 }
@@ -4,6 +4,7 @@ import org.apereo.cas.support.saml.BaseSamlIdPConfigurationTests;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMetadataAdaptor;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.crypto.DecryptionException;
 
 import lombok.val;
@@ -93,6 +94,25 @@ class SamlIdPObjectEncrypterTests extends BaseSamlIdPConfigurationTests {
             () -> samlIdPObjectEncrypter.decode(encNameId, registeredService, adaptor));
     }
 
+    @Test
+    void verifyEncryptionParametersAreCached() throws Throwable {
+        val registeredService = getSamlRegisteredServiceForTestShib(true, false, true);
+        registeredService.setId(RandomUtils.nextLong());
+        val adaptor = SamlRegisteredServiceMetadataAdaptor
+            .get(samlRegisteredServiceCachingMetadataResolver, registeredService,
+                registeredService.getServiceId()).get();
+
+        val cache = samlIdPObjectEncrypter.getEncryptionParametersCache();
+        cache.invalidateAll();
+        for (var i = 0; i < 3; i++) {
+            val nameId = new NameIDBuilder().buildObject();
+            nameId.setValue(UUID.randomUUID().toString());
+            nameId.setFormat(NameIDType.ENCRYPTED);
+            assertNotNull(samlIdPObjectEncrypter.encode(nameId, registeredService, adaptor));
+        }
+        assertEquals(1, cache.size());
+    }
+
     @Test
     void verifyDecodeEncNameIdFails() throws Throwable {
         val registeredService = getSamlRegisteredServiceForTestShib(true, false, true);
@@ -5,7 +5,9 @@ import java.io.Serializable;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link MultifactorAuthenticationTrustStorage}.
@@ -80,6 +82,22 @@ public interface MultifactorAuthenticationTrustStorage {
      */
     Set<? extends MultifactorAuthenticationTrustRecord> get(String principal, ZonedDateTime onOrAfterDate);
 
+    /**
+     * Get the records of the principal that are issued to the given device fingerprint.
+     * Implementations should look up such records directly, rather than
+     * loading all records of the principal.
+     *
+     * @param principal         the principal id
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    default Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return get(principal)
+            .stream()
+            .filter(record -> deviceFingerprint.equals(record.getDeviceFingerprint()))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /**
      * Set trusted record.
      *
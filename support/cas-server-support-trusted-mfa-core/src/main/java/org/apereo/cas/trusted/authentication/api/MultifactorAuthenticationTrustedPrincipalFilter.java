@@ -0,0 +1,49 @@
+package org.apereo.cas.trusted.authentication.api;
+
+/**
+ * This is {@link MultifactorAuthenticationTrustedPrincipalFilter}, which tells whether a principal
+ * may have trusted devices before any records are looked up in storage. It may report principals
+ * that have no trusted devices, but never the other way around.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface MultifactorAuthenticationTrustedPrincipalFilter {
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "mfaTrustedPrincipalFilter";
+
+    /**
+     * Filter that reports every principal as one that may have trusted devices.
+     *
+     * @return the filter
+     */
+    static MultifactorAuthenticationTrustedPrincipalFilter noOp() {
+        return new MultifactorAuthenticationTrustedPrincipalFilter() {
+            @Override
+            public boolean mightHaveTrustedDevices(final String principal) {
+                return true;
+            }
+
+            @Override
+            public void put(final String principal) {
+            }
+        };
+    }
+
+    /**
+     * Whether the principal may have trusted devices.
+     *
+     * @param principal the principal id
+     * @return false if the principal definitely has no trusted devices.
+     */
+    boolean mightHaveTrustedDevices(String principal);
+
+    /**
+     * Record that the principal has trusted devices.
+     *
+     * @param principal the principal id
+     */
+    void put(String principal);
+}
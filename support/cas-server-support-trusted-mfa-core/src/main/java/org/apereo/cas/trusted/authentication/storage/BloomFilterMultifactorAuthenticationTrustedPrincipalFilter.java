@@ -0,0 +1,93 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustedPrincipalFilter;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * This is {@link BloomFilterMultifactorAuthenticationTrustedPrincipalFilter}, which keeps a Bloom filter
+ * of the principals that have trusted device records. The filter is rebuilt periodically from all records
+ * in storage, and principals that register a device on this node are added to it as they do.
+ * Until the filter is first built, every principal is reported as one that may have trusted devices.
+ * Principals are compared regardless of case, which may only produce false positives.
+ * The filter only knows about devices registered on this node, so it is only used with storage
+ * that is local to the node, where a negative answer is authoritative; see {@link #supports(MultifactorAuthenticationTrustStorage)}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BloomFilterMultifactorAuthenticationTrustedPrincipalFilter implements MultifactorAuthenticationTrustedPrincipalFilter {
+    private final MultifactorAuthenticationTrustStorage storage;
+
+    private final long expectedPrincipals;
+
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter<CharSequence> filter;
+
+    private volatile BloomFilter<CharSequence> pending;
+
+    private static String normalize(final String principal) {
+        return principal.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether the filter can be used with the given storage. Storage that is shared
+     * between nodes may hold devices registered on other nodes since the filter was last built,
+     * for which the filter would wrongly report that the principal has no trusted devices.
+     *
+     * @param storage the storage
+     * @return true if records of the storage are kept locally on this node
+     */
+    public static boolean supports(final MultifactorAuthenticationTrustStorage storage) {
+        return storage instanceof InMemoryMultifactorAuthenticationTrustStorage
+            || storage instanceof JsonMultifactorAuthenticationTrustStorage;
+    }
+
+    @Override
+    public boolean mightHaveTrustedDevices(final String principal) {
+        val current = filter;
+        return current == null || current.mightContain(normalize(principal));
+    }
+
+    @Override
+    public void put(final String principal) {
+        val key = normalize(principal);
+        Optional.ofNullable(pending).ifPresent(loading -> loading.put(key));
+        Optional.ofNullable(filter).ifPresent(current -> current.put(key));
+    }
+
+    /**
+     * Rebuild the filter from the records in storage. Principals that are put into the filter
+     * while it is rebuilt are added to the new filter as well.
+     */
+    @Scheduled(initialDelayString = "${cas.authn.mfa.trusted.principal-filter.start-delay:PT15S}",
+        fixedDelayString = "${cas.authn.mfa.trusted.principal-filter.refresh-interval:PT5M}")
+    public void refresh() {
+        FunctionUtils.doAndHandle(__ -> {
+            val loading = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedPrincipals, falsePositiveProbability);
+            pending = loading;
+            try {
+                storage.getAll().forEach(record -> loading.put(normalize(record.getPrincipal())));
+                filter = loading;
+                LOGGER.debug("Rebuilt filter of principals with trusted devices for approximately [{}] principal(s)",
+                    loading.approximateElementCount());
+            } finally {
+                pending = null;
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustedPrincipalFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+
+/**
+ * This is {@link CachingMultifactorAuthenticationTrustedPrincipalFilter}, which looks up whether
+ * a principal has trusted device records in storage and remembers the answer for a limited time.
+ * It is meant for storage that is shared between nodes, where devices may be registered on other nodes:
+ * a device registered elsewhere is only noticed by this node once the remembered answer expires,
+ * while principals that register a device on this node are noticed right away.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class CachingMultifactorAuthenticationTrustedPrincipalFilter implements MultifactorAuthenticationTrustedPrincipalFilter {
+    private final MultifactorAuthenticationTrustStorage storage;
+
+    private final Cache<String, Boolean> principals;
+
+    public CachingMultifactorAuthenticationTrustedPrincipalFilter(final MultifactorAuthenticationTrustStorage storage,
+                                                                  final long maximumPrincipals,
+                                                                  final Duration expiration) {
+        this.storage = storage;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maximumPrincipals)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    @Override
+    public boolean mightHaveTrustedDevices(final String principal) {
+        return principals.get(principal, key -> {
+            val found = !storage.get(key).isEmpty();
+            LOGGER.trace("Principal [{}] has trusted device records: [{}]", key, found);
+            return found;
+        });
+    }
+
+    @Override
+    public void put(final String principal) {
+        principals.put(principal, Boolean.TRUE);
+    }
+}
@@ -86,6 +86,17 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return storage.asMap()
+            .values()
+            .stream()
+            .filter(entry -> !entry.isExpired() && entry.getPrincipal().equalsIgnoreCase(principal)
+                && deviceFingerprint.equals(entry.getDeviceFingerprint()))
+            .sorted()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
@@ -7,6 +7,7 @@ import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevic
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustedDeviceBypassEvaluator;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustedPrincipalFilter;
 import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.trusted.web.flow.fingerprint.DeviceFingerprintStrategy;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -44,6 +45,8 @@ public class MultifactorAuthenticationSetTrustAction extends BaseCasWebflowActio
 
     private final MultifactorAuthenticationTrustedDeviceBypassEvaluator bypassEvaluator;
 
+    private final MultifactorAuthenticationTrustedPrincipalFilter principalFilter;
+
     @Override
     protected Event doExecuteInternal(final RequestContext requestContext) {
         return FunctionUtils.doUnchecked(() -> {
@@ -111,6 +114,7 @@ public class MultifactorAuthenticationSetTrustAction extends BaseCasWebflowActio
         }
         LOGGER.debug("Trusted authentication record will expire at [{}]", record.getExpirationDate());
         this.storageService.save(record);
+        principalFilter.put(principal);
         LOGGER.debug("Saved trusted authentication record for [{}] under [{}]", principal, record.getName());
     }
 }
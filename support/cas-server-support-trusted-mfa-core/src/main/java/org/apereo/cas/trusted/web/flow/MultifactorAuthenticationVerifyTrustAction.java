@@ -4,6 +4,7 @@ import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustedDeviceBypassEvaluator;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustedPrincipalFilter;
 import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.trusted.web.flow.fingerprint.DeviceFingerprintStrategy;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -39,6 +40,8 @@ public class MultifactorAuthenticationVerifyTrustAction extends BaseCasWebflowAc
 
     private final MultifactorAuthenticationTrustedDeviceBypassEvaluator bypassEvaluator;
 
+    private final MultifactorAuthenticationTrustedPrincipalFilter principalFilter;
+
     @Override
     protected Event doExecuteInternal(final RequestContext requestContext) {
         return FunctionUtils.doUnchecked(() -> {
@@ -54,17 +57,15 @@ public class MultifactorAuthenticationVerifyTrustAction extends BaseCasWebflowAc
                 return result(CasWebflowConstants.TRANSITION_ID_SKIP);
             }
             val principal = authn.getPrincipal().getId();
-            LOGGER.trace("Retrieving trusted authentication records for [{}]", principal);
-            val results = storage.get(principal);
-            if (results.isEmpty()) {
-                LOGGER.debug("No valid trusted authentication records could be found for [{}]", principal);
+            if (!principalFilter.mightHaveTrustedDevices(principal)) {
+                LOGGER.debug("No trusted authentication records could be found for [{}]", principal);
                 return no();
             }
             val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
             val response = WebUtils.getHttpServletResponseFromExternalWebflowContext(requestContext);
             val fingerprint = deviceFingerprintStrategy.determineFingerprintComponent(principal, request, response);
             LOGGER.trace("Retrieving authentication records for [{}] that matches [{}]", principal, fingerprint);
-            if (results.stream().noneMatch(entry -> entry.getDeviceFingerprint().equals(fingerprint))) {
+            if (storage.get(principal, fingerprint).isEmpty()) {
                 LOGGER.debug("No trusted authentication records could be found for [{}] to match the current device fingerprint", principal);
                 return no();
             }
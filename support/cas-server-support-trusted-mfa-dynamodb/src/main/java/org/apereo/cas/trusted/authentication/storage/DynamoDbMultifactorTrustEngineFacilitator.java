@@ -17,9 +17,14 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 
 import java.time.Instant;
@@ -41,6 +46,11 @@ import java.util.stream.Stream;
 @Slf4j
 @SuppressWarnings("JavaUtilDate")
 public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMultifactorProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    /**
+     * Name of the global secondary index of records by principal.
+     */
+    public static final String PRINCIPAL_INDEX_NAME = "principalIndex";
+
     private static MultifactorAuthenticationTrustRecord extractAttributeValuesFrom(final Map<String, AttributeValue> item) {
         val record = new MultifactorAuthenticationTrustRecord();
         record.setId(Long.parseLong(item.get(ColumnNames.ID.getColumnName()).s()));
@@ -87,8 +97,15 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
     public void createTable(final boolean deleteTables) {
         FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
             dynamoDbProperties.getTableName(), deleteTables,
-            List.of(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build()),
-            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build())));
+            List.of(
+                AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).attributeType(ScalarAttributeType.S).build()),
+            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()),
+            List.of(GlobalSecondaryIndex.builder()
+                .indexName(PRINCIPAL_INDEX_NAME)
+                .keySchema(KeySchemaElement.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).keyType(KeyType.HASH).build())
+                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                .build())));
     }
 
     /**
@@ -108,6 +125,56 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
             .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets unexpired records for principal and device fingerprint.
+     * Records are queried by the principal index of the table, and tables that were created
+     * without the index are scanned instead.
+     *
+     * @param principal         the principal
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    public Set<MultifactorAuthenticationTrustRecord> getRecordForDevice(final String principal, final String deviceFingerprint) {
+        val request = QueryRequest.builder()
+            .tableName(dynamoDbProperties.getTableName())
+            .indexName(PRINCIPAL_INDEX_NAME)
+            .keyConditionExpression("#principal = :principal")
+            .filterExpression("#deviceFingerprint = :deviceFingerprint")
+            .expressionAttributeNames(Map.of(
+                "#principal", ColumnNames.PRINCIPAL.getColumnName(),
+                "#deviceFingerprint", ColumnNames.DEVICE_FINGERPRINT.getColumnName()))
+            .expressionAttributeValues(Map.of(
+                ":principal", AttributeValue.builder().s(principal).build(),
+                ":deviceFingerprint", AttributeValue.builder().s(deviceFingerprint).build()))
+            .build();
+        try {
+            return amazonDynamoDBClient.queryPaginator(request)
+                .items()
+                .stream()
+                .map(DynamoDbMultifactorTrustEngineFacilitator::extractAttributeValuesFrom)
+                .filter(record -> !record.isExpired())
+                .collect(Collectors.toSet());
+        } catch (final DynamoDbException e) {
+            LOGGER.debug("Unable to query index [{}] of table [{}]; scanning the table instead: [{}]",
+                PRINCIPAL_INDEX_NAME, dynamoDbProperties.getTableName(), e.getMessage());
+            val queries = List.of(
+                DynamoDbQueryBuilder.builder()
+                    .key(ColumnNames.PRINCIPAL.getColumnName())
+                    .operator(ComparisonOperator.EQ)
+                    .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
+                    .build(),
+                DynamoDbQueryBuilder.builder()
+                    .key(ColumnNames.DEVICE_FINGERPRINT.getColumnName())
+                    .operator(ComparisonOperator.EQ)
+                    .attributeValue(List.of(AttributeValue.builder().s(deviceFingerprint).build()))
+                    .build());
+            return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient, dynamoDbProperties.getTableName(),
+                    queries, DynamoDbMultifactorTrustEngineFacilitator::extractAttributeValuesFrom)
+                .filter(record -> !record.isExpired())
+                .collect(Collectors.toSet());
+        }
+    }
+
     /**
      * Save.
      *
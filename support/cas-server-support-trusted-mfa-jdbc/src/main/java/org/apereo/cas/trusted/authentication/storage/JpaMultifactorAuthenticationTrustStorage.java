@@ -111,6 +111,20 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
         });
     }
 
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return transactionTemplate.execute(__ -> {
+            val query = entityManager
+                .createQuery(QUERY_SELECT + " WHERE r.principal = :principal AND r.deviceFingerprint = :deviceFingerprint"
+                    + " AND r.expirationDate > :expirationDate", getEntityFactory().getType())
+                .setParameter("principal", principal)
+                .setParameter("deviceFingerprint", deviceFingerprint)
+                .setParameter("expirationDate", DateTimeUtils.dateOf(ZonedDateTime.now(ZoneOffset.UTC)));
+            val results = query.getResultList();
+            return new HashSet<>(results);
+        });
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         try {
@@ -15,6 +15,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.io.Serial;
 
 /**
@@ -31,6 +33,8 @@ import java.io.Serial;
 })
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
 @Entity(name = "JpaMultifactorAuthenticationTrustRecord")
+@Table(name = "JpaMultifactorAuthenticationTrustRecord",
+    indexes = @Index(name = "JpaMfaTrustRecordPrincipalIdx", columnList = "principal"))
 @Getter
 @DiscriminatorValue("ORACLE")
 public class OracleJpaMultifactorAuthenticationTrustRecord extends MultifactorAuthenticationTrustRecord {
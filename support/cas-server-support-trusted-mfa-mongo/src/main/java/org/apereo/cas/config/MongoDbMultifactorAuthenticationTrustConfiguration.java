@@ -19,7 +19,11 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.util.List;
 
 /**
  * This is {@link MongoDbMultifactorAuthenticationTrustConfiguration}.
@@ -48,6 +52,8 @@ public class MongoDbMultifactorAuthenticationTrustConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val index = new Index().on("principal", Sort.Direction.ASC).on("deviceFingerprint", Sort.Direction.ASC);
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, mongoTemplate.getCollection(mongo.getCollection()), List.of(index));
         return mongoTemplate;
     }
 
@@ -1,18 +1,23 @@
 package org.apereo.cas.trusted.authentication.storage;
 
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -25,12 +30,18 @@ import java.util.stream.Stream;
  * @author Misagh Moayyed
  * @since 6.4.0
  */
+@Slf4j
 public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage {
     /**
      * Redis key prefix.
      */
     public static final String CAS_PREFIX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + ':';
 
+    /**
+     * Redis key prefix of records by principal and device fingerprint.
+     */
+    public static final String CAS_DEVICE_PREFIX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + "Devices:";
+
     private final CasRedisTemplate<String, List<MultifactorAuthenticationTrustRecord>> redisTemplate;
 
     private final long scanCount;
@@ -62,6 +73,10 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
         return CAS_PREFIX + record.getPrincipal() + ':' + record.getId();
     }
 
+    private static String buildRedisKeyForDevice(final String principal, final String deviceFingerprint) {
+        return CAS_DEVICE_PREFIX + principal + ':' + DigestUtils.sha256(deviceFingerprint);
+    }
+
     @Override
     public void remove(final String key) {
         val principal = getKeyGenerationStrategy().getPrincipalFromRecordKey(getCipherExecutor().decode(key));
@@ -105,12 +120,31 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
         try (val keys = redisTemplate.scan(buildRedisKeyForRecord(principal), this.scanCount)) {
-            return getFromRedisKeys(keys);
+            return getFromRedisKeys(keys)
+                .stream()
+                .filter(record -> !record.isExpired())
+                .collect(Collectors.toSet());
         }
     }
 
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        val deviceKey = buildRedisKeyForDevice(principal, deviceFingerprint);
+        val records = redisTemplate.boundValueOps(deviceKey).get();
+        if (records == null) {
+            return getAndIndexDeviceRecords(principal, deviceFingerprint, deviceKey);
+        }
+        val results = records
+            .stream()
+            .filter(record -> !record.isExpired() && Boolean.TRUE.equals(redisTemplate.hasKey(buildRedisKeyForRecord(record))))
+            .collect(Collectors.toList());
+        if (results.size() < records.size()) {
+            updateDeviceRecords(deviceKey, results);
+        }
+        return new HashSet<>(results);
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
@@ -135,9 +169,49 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
             ObjectUtils.defaultIfNull(redisTemplate.boundValueOps(redisKey).get(), new ArrayList<>());
         results.add(record);
         redisTemplate.boundValueOps(redisKey).set(results);
+
+        val deviceKey = buildRedisKeyForDevice(record.getPrincipal(), record.getDeviceFingerprint());
+        val devices = (List<MultifactorAuthenticationTrustRecord>)
+            ObjectUtils.defaultIfNull(redisTemplate.boundValueOps(deviceKey).get(), new ArrayList<>());
+        devices.add(record);
+        updateDeviceRecords(deviceKey, devices);
         return record;
     }
 
+    /**
+     * Records saved before records were indexed by device have no device key.
+     * Such records are found by scanning the records of the principal,
+     * and the device key is created for them so that the scan is not repeated.
+     * If the device has no records, the device key is created with no records,
+     * so that unknown devices are not scanned for again until the key expires.
+     */
+    private Set<? extends MultifactorAuthenticationTrustRecord> getAndIndexDeviceRecords(final String principal,
+                                                                                        final String deviceFingerprint,
+                                                                                        final String deviceKey) {
+        val results = get(principal)
+            .stream()
+            .filter(record -> !record.isExpired() && deviceFingerprint.equals(record.getDeviceFingerprint()))
+            .collect(Collectors.toList());
+        LOGGER.debug("Indexing [{}] trusted device record(s) of [{}] by device", results.size(), principal);
+        updateDeviceRecords(deviceKey, new ArrayList<>(results));
+        return new HashSet<>(results);
+    }
+
+    @SuppressWarnings("JavaUtilDate")
+    private void updateDeviceRecords(final String deviceKey, final List<MultifactorAuthenticationTrustRecord> records) {
+        if (records.isEmpty()) {
+            val timeout = Beans.newDuration(getTrustedDevicesMultifactorProperties().getRedis().getUnknownDeviceTimeout());
+            redisTemplate.boundValueOps(deviceKey).set(records, timeout);
+        } else {
+            redisTemplate.boundValueOps(deviceKey).set(records);
+            records.stream()
+                .map(MultifactorAuthenticationTrustRecord::getExpirationDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .ifPresent(expiration -> redisTemplate.expireAt(deviceKey, expiration));
+        }
+    }
+
     private Set<? extends MultifactorAuthenticationTrustRecord> getFromRedisKeys(final Stream<String> keys) {
         return keys
             .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
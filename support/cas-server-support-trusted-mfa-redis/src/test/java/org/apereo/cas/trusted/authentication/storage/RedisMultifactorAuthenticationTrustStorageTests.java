@@ -21,6 +21,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -77,6 +78,37 @@ class RedisMultifactorAuthenticationTrustStorageTests extends AbstractMultifacto
     }
 
 
+    @Test
+    void verifyRecordsWithoutDeviceIndex() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        getMfaTrustEngine().save(MultifactorAuthenticationTrustRecord.newInstance(principal, "geography", "fingerprint"));
+        val deviceKeys = RedisMultifactorAuthenticationTrustStorage.CAS_DEVICE_PREFIX + principal + ":*";
+        try (val keys = redisMfaTrustedAuthnTemplate.scan(deviceKeys, 0)) {
+            assertEquals(1, redisMfaTrustedAuthnTemplate.delete(keys.collect(Collectors.toSet())));
+        }
+
+        assertEquals(1, getMfaTrustEngine().get(principal, "fingerprint").size());
+        assertTrue(getMfaTrustEngine().get(principal, "other-fingerprint").isEmpty());
+        try (val keys = redisMfaTrustedAuthnTemplate.scan(deviceKeys, 0)) {
+            assertEquals(2, keys.count());
+        }
+        assertEquals(1, getMfaTrustEngine().get(principal, "fingerprint").size());
+    }
+
+    @Test
+    void verifyUnknownDeviceRemembered() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        assertTrue(getMfaTrustEngine().get(principal, "fingerprint").isEmpty());
+        val deviceKeys = RedisMultifactorAuthenticationTrustStorage.CAS_DEVICE_PREFIX + principal + ":*";
+        try (val keys = redisMfaTrustedAuthnTemplate.scan(deviceKeys, 0)) {
+            val deviceKey = keys.findFirst().orElseThrow();
+            assertTrue(redisMfaTrustedAuthnTemplate.boundValueOps(deviceKey).get().isEmpty());
+            assertTrue(redisMfaTrustedAuthnTemplate.getExpire(deviceKey) > 0);
+        }
+        getMfaTrustEngine().save(MultifactorAuthenticationTrustRecord.newInstance(principal, "geography", "fingerprint"));
+        assertEquals(1, getMfaTrustEngine().get(principal, "fingerprint").size());
+    }
+
     @Test
     void verifyExpireByDate() throws Throwable {
         val r = MultifactorAuthenticationTrustRecord.newInstance("castest", "geography", "fingerprint");
@@ -5,12 +5,16 @@ import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustCipherExecutor;
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustedDeviceNamingStrategy;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustedPrincipalFilter;
 import org.apereo.cas.trusted.authentication.keys.DefaultMultifactorAuthenticationTrustRecordKeyGenerator;
+import org.apereo.cas.trusted.authentication.storage.BloomFilterMultifactorAuthenticationTrustedPrincipalFilter;
+import org.apereo.cas.trusted.authentication.storage.CachingMultifactorAuthenticationTrustedPrincipalFilter;
 import org.apereo.cas.trusted.authentication.storage.InMemoryMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.JsonMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustStorageCleaner;
@@ -160,6 +164,32 @@ public class MultifactorAuthnTrustConfiguration {
                 .otherwiseProxy()
                 .get();
         }
+
+        @ConditionalOnMissingBean(name = MultifactorAuthenticationTrustedPrincipalFilter.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public MultifactorAuthenticationTrustedPrincipalFilter mfaTrustedPrincipalFilter(
+            final CasConfigurationProperties casProperties,
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(MultifactorAuthenticationTrustStorage.BEAN_NAME) final MultifactorAuthenticationTrustStorage mfaTrustEngine) {
+            val filter = casProperties.getAuthn().getMfa().getTrusted().getPrincipalFilter();
+            return BeanSupplier.of(MultifactorAuthenticationTrustedPrincipalFilter.class)
+                .when(BeanCondition.on("cas.authn.mfa.trusted.principal-filter.enabled").isTrue()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    if (!BloomFilterMultifactorAuthenticationTrustedPrincipalFilter.supports(mfaTrustEngine)) {
+                        LOGGER.debug("Trusted device storage [{}] is shared with other nodes; principals without trusted devices "
+                            + "are remembered for [{}]", mfaTrustEngine.getClass().getSimpleName(), filter.getCacheExpiration());
+                        return new CachingMultifactorAuthenticationTrustedPrincipalFilter(mfaTrustEngine,
+                            filter.getExpectedPrincipals(), Beans.newDuration(filter.getCacheExpiration()));
+                    }
+                    return new BloomFilterMultifactorAuthenticationTrustedPrincipalFilter(mfaTrustEngine,
+                        filter.getExpectedPrincipals(), filter.getFalsePositiveProbability());
+                })
+                .otherwise(MultifactorAuthenticationTrustedPrincipalFilter::noOp)
+                .get();
+        }
     }
 
     @Configuration(value = "MultifactorAuthnTrustAuditConfiguration", proxyBeanMethods = false)
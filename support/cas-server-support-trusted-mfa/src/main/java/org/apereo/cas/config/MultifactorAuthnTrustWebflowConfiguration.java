@@ -8,6 +8,7 @@ import org.apereo.cas.trusted.authentication.DefaultMultifactorAuthenticationTru
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustedDeviceBypassEvaluator;
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustedDeviceNamingStrategy;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustedPrincipalFilter;
 import org.apereo.cas.trusted.web.flow.MultifactorAuthenticationPrepareTrustDeviceViewAction;
 import org.apereo.cas.trusted.web.flow.MultifactorAuthenticationSetTrustAction;
 import org.apereo.cas.trusted.web.flow.MultifactorAuthenticationVerifyTrustAction;
@@ -59,13 +60,15 @@ public class MultifactorAuthnTrustWebflowConfiguration {
         @Qualifier(MultifactorAuthenticationTrustStorage.BEAN_NAME)
         final MultifactorAuthenticationTrustStorage mfaTrustEngine,
         @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS)
-        final AuditableExecution registeredServiceAccessStrategyEnforcer) {
+        final AuditableExecution registeredServiceAccessStrategyEnforcer,
+        @Qualifier(MultifactorAuthenticationTrustedPrincipalFilter.BEAN_NAME)
+        final MultifactorAuthenticationTrustedPrincipalFilter mfaTrustedPrincipalFilter) {
         return WebflowActionBeanSupplier.builder()
             .withApplicationContext(applicationContext)
             .withProperties(casProperties)
             .withAction(() -> new MultifactorAuthenticationSetTrustAction(mfaTrustEngine,
                 deviceFingerprintStrategy, casProperties.getAuthn().getMfa().getTrusted(), registeredServiceAccessStrategyEnforcer,
-                mfaTrustedDeviceBypassEvaluator))
+                mfaTrustedDeviceBypassEvaluator, mfaTrustedPrincipalFilter))
             .withId(CasWebflowConstants.ACTION_ID_MFA_SET_TRUST_ACTION)
             .build()
             .get();
@@ -84,13 +87,15 @@ public class MultifactorAuthnTrustWebflowConfiguration {
         @Qualifier(MultifactorAuthenticationTrustStorage.BEAN_NAME)
         final MultifactorAuthenticationTrustStorage mfaTrustEngine,
         @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS)
-        final AuditableExecution registeredServiceAccessStrategyEnforcer) {
+        final AuditableExecution registeredServiceAccessStrategyEnforcer,
+        @Qualifier(MultifactorAuthenticationTrustedPrincipalFilter.BEAN_NAME)
+        final MultifactorAuthenticationTrustedPrincipalFilter mfaTrustedPrincipalFilter) {
         return WebflowActionBeanSupplier.builder()
             .withApplicationContext(applicationContext)
             .withProperties(casProperties)
             .withAction(() -> new MultifactorAuthenticationVerifyTrustAction(mfaTrustEngine,
                 deviceFingerprintStrategy, casProperties.getAuthn().getMfa().getTrusted(),
-                registeredServiceAccessStrategyEnforcer, mfaTrustedDeviceBypassEvaluator))
+                registeredServiceAccessStrategyEnforcer, mfaTrustedDeviceBypassEvaluator, mfaTrustedPrincipalFilter))
             .withId(CasWebflowConstants.ACTION_ID_MFA_VERIFY_TRUST_ACTION)
             .build()
             .get();
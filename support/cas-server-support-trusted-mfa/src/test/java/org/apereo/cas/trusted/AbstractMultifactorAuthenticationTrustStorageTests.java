@@ -101,10 +101,13 @@ public abstract class AbstractMultifactorAuthenticationTrustStorageTests {
         val now = ZonedDateTime.now(ZoneOffset.UTC).minusDays(2);
         assertFalse(getMfaTrustEngine().get(now).isEmpty());
         assertFalse(getMfaTrustEngine().get(record.getPrincipal(), now).isEmpty());
+        assertFalse(getMfaTrustEngine().get(record.getPrincipal(), record.getDeviceFingerprint()).isEmpty());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), UUID.randomUUID().toString()).isEmpty());
 
         getMfaTrustEngine().remove(DateTimeUtils.zonedDateTimeOf(record.getExpirationDate()).plusDays(1));
         getMfaTrustEngine().remove(record.getRecordKey());
         assertTrue(getMfaTrustEngine().getAll().isEmpty());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), record.getDeviceFingerprint()).isEmpty());
     }
 
     @ImportAutoConfiguration({
@@ -0,0 +1,50 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link BloomFilterMultifactorAuthenticationTrustedPrincipalFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@SpringBootTest(classes = AbstractMultifactorAuthenticationTrustStorageTests.SharedTestConfiguration.class)
+@Tag("MFATrustedDevices")
+class BloomFilterMultifactorAuthenticationTrustedPrincipalFilterTests extends AbstractMultifactorAuthenticationTrustStorageTests {
+    @Test
+    void verifyFilter() throws Throwable {
+        val filter = new BloomFilterMultifactorAuthenticationTrustedPrincipalFilter(getMfaTrustEngine(), 1000, 0.0001);
+        val unknown = UUID.randomUUID().toString();
+        assertTrue(filter.mightHaveTrustedDevices(unknown));
+
+        val record = getMultifactorAuthenticationTrustRecord();
+        getMfaTrustEngine().save(record);
+        filter.refresh();
+        assertTrue(filter.mightHaveTrustedDevices(record.getPrincipal()));
+        assertTrue(filter.mightHaveTrustedDevices(record.getPrincipal().toUpperCase(Locale.ROOT)));
+        assertFalse(filter.mightHaveTrustedDevices(unknown));
+
+        filter.put(unknown);
+        assertTrue(filter.mightHaveTrustedDevices(unknown));
+    }
+
+    @Test
+    void verifySupportedStorage() throws Throwable {
+        assertTrue(BloomFilterMultifactorAuthenticationTrustedPrincipalFilter.supports(getMfaTrustEngine()));
+        assertFalse(BloomFilterMultifactorAuthenticationTrustedPrincipalFilter.supports(mock(MultifactorAuthenticationTrustStorage.class)));
+    }
+}
@@ -0,0 +1,65 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
+
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingMultifactorAuthenticationTrustedPrincipalFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@SpringBootTest(classes = AbstractMultifactorAuthenticationTrustStorageTests.SharedTestConfiguration.class)
+@Tag("MFATrustedDevices")
+class CachingMultifactorAuthenticationTrustedPrincipalFilterTests extends AbstractMultifactorAuthenticationTrustStorageTests {
+    @Test
+    void verifyFilter() throws Throwable {
+        val filter = new CachingMultifactorAuthenticationTrustedPrincipalFilter(getMfaTrustEngine(), 1000, Duration.ofMinutes(1));
+        val unknown = UUID.randomUUID().toString();
+        assertFalse(filter.mightHaveTrustedDevices(unknown));
+
+        val record = getMultifactorAuthenticationTrustRecord();
+        getMfaTrustEngine().save(record);
+        assertTrue(filter.mightHaveTrustedDevices(record.getPrincipal()));
+
+        filter.put(unknown);
+        assertTrue(filter.mightHaveTrustedDevices(unknown));
+    }
+
+    @Test
+    void verifyNegativeAnswerRemembered() throws Throwable {
+        val storage = mock(MultifactorAuthenticationTrustStorage.class);
+        doReturn(Set.of()).when(storage).get(anyString());
+        val filter = new CachingMultifactorAuthenticationTrustedPrincipalFilter(storage, 1000, Duration.ofMinutes(1));
+        val principal = UUID.randomUUID().toString();
+        assertFalse(filter.mightHaveTrustedDevices(principal));
+        assertFalse(filter.mightHaveTrustedDevices(principal));
+        verify(storage, times(1)).get(principal);
+    }
+
+    @Test
+    void verifyNegativeAnswerExpires() throws Throwable {
+        val storage = mock(MultifactorAuthenticationTrustStorage.class);
+        doReturn(Set.of()).when(storage).get(anyString());
+        val filter = new CachingMultifactorAuthenticationTrustedPrincipalFilter(storage, 1000, Duration.ofMillis(10));
+        val principal = UUID.randomUUID().toString();
+        assertFalse(filter.mightHaveTrustedDevices(principal));
+        Thread.sleep(50);
+        assertFalse(filter.mightHaveTrustedDevices(principal));
+        verify(storage, times(2)).get(principal);
+    }
+}
@@ -1,15 +1,24 @@
 package org.apereo.cas.web.view;
 
+import org.apereo.cas.CasProtocolConstants;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 
+import lombok.Getter;
+import lombok.Setter;
+import lombok.val;
 import org.springframework.web.servlet.View;
 
+import jakarta.annotation.Nonnull;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.OutputStreamWriter;
 import java.util.Map;
 
 /**
@@ -21,6 +30,14 @@ import java.util.Map;
  * @since 4.1.0
  */
 public class Cas30ResponseView extends Cas20ResponseView {
+    /**
+     * Whether the response should be written directly to the servlet response,
+     * rather than rendered by the delegated view.
+     */
+    @Getter
+    @Setter
+    private boolean streamingEnabled;
+
     public Cas30ResponseView(final boolean successResponse,
                              final ProtocolAttributeEncoder protocolAttributeEncoder,
                              final ServicesManager servicesManager,
@@ -39,5 +56,61 @@ public class Cas30ResponseView extends Cas20ResponseView {
         super.prepareMergedOutputModel(model, request, response);
         prepareCasResponseAttributesForViewModel(model);
     }
-    
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model,
+                                           @Nonnull final HttpServletRequest request,
+                                           @Nonnull final HttpServletResponse response) {
+        if (isStreamingSupported()) {
+            FunctionUtils.doAndHandle(__ -> writeMergedOutputModel(model, request, response));
+        } else {
+            super.renderMergedOutputModel(model, request, response);
+        }
+    }
+
+    @Override
+    protected void putCasResponseAttributesIntoModel(final Map<String, Object> model,
+                                                     final Map<String, Object> attributes,
+                                                     final RegisteredService registeredService,
+                                                     final CasProtocolAttributesRenderer attributesRenderer) {
+        if (isStreamingSupported()) {
+            val encodedAttributes = protocolAttributeEncoder.encodeAttributes(attributes, registeredService, getServiceFrom(model));
+            putIntoModel(model, CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_ATTRIBUTES, encodedAttributes);
+        } else {
+            super.putCasResponseAttributesIntoModel(model, attributes, registeredService, attributesRenderer);
+        }
+    }
+
+    /**
+     * Whether the response can be written directly to the servlet response.
+     * Only success responses whose attributes are rendered in one of the CAS3 formats
+     * are written directly, and the delegated view is otherwise used.
+     *
+     * @return true/false
+     */
+    protected boolean isStreamingSupported() {
+        return streamingEnabled && successResponse && attributesRenderer instanceof DefaultCas30ProtocolAttributesRenderer;
+    }
+
+    /**
+     * Write the response directly to the servlet response, producing the same output
+     * as the default CAS3 success template.
+     *
+     * @param model    the model
+     * @param request  the request
+     * @param response the response
+     * @throws Exception the exception
+     */
+    protected void writeMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                          final HttpServletResponse response) throws Exception {
+        prepareCasResponseAttributesForViewModel(model);
+        if (response.getContentType() == null && getView().getContentType() != null) {
+            response.setContentType(getView().getContentType());
+        }
+        val proxies = getChainedAuthentications(model).stream().map(authn -> authn.getPrincipal().getId()).toList();
+        val writer = new OutputStreamWriter(response.getOutputStream(), response.getCharacterEncoding());
+        new Cas30ValidationSuccessResponseWriter((DefaultCas30ProtocolAttributesRenderer) attributesRenderer)
+            .write(writer, getPrincipal(model).getId(), getProxyGrantingTicketIou(model), proxies, getModelAttributes(model));
+        writer.flush();
+    }
 }
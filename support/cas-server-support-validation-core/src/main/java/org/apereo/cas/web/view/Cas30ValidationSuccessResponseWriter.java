@@ -0,0 +1,107 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+
+import com.samskivert.mustache.Escapers;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link Cas30ValidationSuccessResponseWriter}, which writes CAS3 validation success responses
+ * directly to a writer. The output is identical to that of the default
+ * {@code protocol/3.0/casServiceValidationSuccess} template, including its whitespace and escaping,
+ * without building a view model or formatting attributes ahead of time.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class Cas30ValidationSuccessResponseWriter {
+    private final DefaultCas30ProtocolAttributesRenderer attributesRenderer;
+
+    private static Collection<?> getAttributeValues(final Object value) {
+        if (value instanceof String) {
+            return List.of(value);
+        }
+        if (value instanceof final Collection<?> values && values.size() == 1 && values.iterator().next() != null) {
+            return values;
+        }
+        return CollectionUtils.toCollection(value);
+    }
+
+    private static void writeEscaped(final Writer writer, final String value) throws IOException {
+        writer.write(Escapers.HTML.escape(value));
+    }
+
+    /**
+     * Write the validation success response.
+     *
+     * @param writer              the writer
+     * @param user                the principal id
+     * @param proxyGrantingTicket the proxy granting ticket iou, if any
+     * @param proxies             the principal ids of proxies, from the most recently visited
+     * @param attributes          the attributes, expected to be finalized and encoded
+     * @throws IOException the exception
+     */
+    public void write(final Writer writer, final String user, final String proxyGrantingTicket,
+                      final Collection<String> proxies, final Map<String, Object> attributes) throws IOException {
+        writer.write("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n");
+        writer.write("    <cas:authenticationSuccess>\n");
+        writer.write("        <cas:user>");
+        writeEscaped(writer, user);
+        writer.write("</cas:user>\n");
+        writer.write("        ");
+        if (proxyGrantingTicket != null) {
+            writer.write("<cas:proxyGrantingTicket>");
+            writeEscaped(writer, proxyGrantingTicket);
+            writer.write("</cas:proxyGrantingTicket>");
+        }
+        writer.write('\n');
+        if (proxies != null && !proxies.isEmpty()) {
+            writer.write("        <cas:proxies>\n");
+            writer.write("            ");
+            for (val proxy : proxies) {
+                writer.write("<cas:proxy>");
+                writeEscaped(writer, proxy);
+                writer.write("</cas:proxy>");
+            }
+            writer.write('\n');
+            writer.write("        </cas:proxies>\n");
+        }
+        if (attributes != null) {
+            writeAttributes(writer, attributes);
+        }
+        writer.write("    </cas:authenticationSuccess>\n");
+        writer.write("</cas:serviceResponse>\n\n");
+    }
+
+    private void writeAttributes(final Writer writer, final Map<String, Object> attributes) throws IOException {
+        var empty = true;
+        for (val entry : attributes.entrySet()) {
+            val values = getAttributeValues(entry.getValue());
+            if (!values.isEmpty()) {
+                val name = CasProtocolAttributesRenderer.sanitizeAttributeName(entry.getKey());
+                for (val value : values) {
+                    if (empty) {
+                        writer.write("        <cas:attributes>\n");
+                        empty = false;
+                    }
+                    writer.write("            ");
+                    attributesRenderer.writeSingleAttributeDefinitionLine(writer, name, value);
+                    writer.write('\n');
+                }
+            }
+        }
+        if (!empty) {
+            writer.write("        </cas:attributes>\n");
+        }
+    }
+}
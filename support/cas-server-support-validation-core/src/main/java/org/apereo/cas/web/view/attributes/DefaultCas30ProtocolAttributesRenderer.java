@@ -5,6 +5,8 @@ import org.apereo.cas.validation.CasProtocolAttributesRenderer;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.text.StringEscapeUtils;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
@@ -41,4 +43,28 @@ public class DefaultCas30ProtocolAttributesRenderer implements CasProtocolAttrib
     protected String encodeAttributeValue(final Object value) {
         return StringEscapeUtils.escapeXml10(value.toString().trim());
     }
+
+    /**
+     * Write a single attribute definition line, in the same format as {@link #render(Map)},
+     * directly to the given writer.
+     *
+     * @param writer        the writer
+     * @param attributeName the sanitized attribute name
+     * @param value         the attribute value
+     * @throws IOException the exception
+     */
+    public void writeSingleAttributeDefinitionLine(final Writer writer, final String attributeName,
+                                                   final Object value) throws IOException {
+        writer.write("<cas:");
+        writer.write(attributeName);
+        writer.write('>');
+        writeAttributeValue(writer, value);
+        writer.write("</cas:");
+        writer.write(attributeName);
+        writer.write('>');
+    }
+
+    protected void writeAttributeValue(final Writer writer, final Object value) throws IOException {
+        StringEscapeUtils.ESCAPE_XML10.translate(value.toString().trim(), writer);
+    }
 }
@@ -2,6 +2,9 @@ package org.apereo.cas.web.view.attributes;
 
 import lombok.val;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * This is {@link InlinedCas30ProtocolAttributesRenderer}.
  *
@@ -15,4 +18,14 @@ public class InlinedCas30ProtocolAttributesRenderer extends DefaultCas30Protocol
         val encodedValue = encodeAttributeValue(value);
         return "<cas:attribute name=\"%s\" value=\"%s\"></cas:attribute>".formatted(attributeName, encodedValue);
     }
+
+    @Override
+    public void writeSingleAttributeDefinitionLine(final Writer writer, final String attributeName,
+                                                   final Object value) throws IOException {
+        writer.write("<cas:attribute name=\"");
+        writer.write(attributeName);
+        writer.write("\" value=\"");
+        writeAttributeValue(writer, value);
+        writer.write("\"></cas:attribute>");
+    }
 }
@@ -8,10 +8,14 @@ import org.apereo.cas.validation.CasProtocolAttributesRenderer;
 import org.apereo.cas.web.view.Cas30ResponseView;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.val;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.servlet.View;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
@@ -74,6 +78,34 @@ public class Cas30JsonResponseView extends Cas30ResponseView {
 
     @Override
     protected void prepareMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request, final HttpServletResponse response) {
+        val casResponse = createServiceResponse(model, request, response);
+        val casModel = new HashMap<String, Object>();
+        casModel.put(ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE, casResponse);
+        model.clear();
+        model.putAll(casModel);
+    }
+
+    @Override
+    protected boolean isStreamingSupported() {
+        return isStreamingEnabled() && getView() instanceof MappingJackson2JsonView;
+    }
+
+    @Override
+    protected void writeMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                          final HttpServletResponse response) throws Exception {
+        val casResponse = createServiceResponse(model, request, response);
+        val objectMapper = ((MappingJackson2JsonView) getView()).getObjectMapper();
+        val mediaType = (MediaType) request.getAttribute(View.SELECTED_CONTENT_TYPE);
+        response.setContentType(mediaType != null && mediaType.isConcrete() ? mediaType.toString() : getView().getContentType());
+        response.setCharacterEncoding(JsonEncoding.UTF8.getJavaName());
+        response.addHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        try (val generator = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            objectMapper.writer().writeValue(generator, Map.of(ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE, casResponse));
+        }
+    }
+
+    private CasJsonServiceResponse createServiceResponse(final Map<String, Object> model, final HttpServletRequest request,
+                                                         final HttpServletResponse response) {
         val casResponse = new CasJsonServiceResponse();
         try {
             super.prepareMergedOutputModel(model, request, response);
@@ -87,12 +119,8 @@ public class Cas30JsonResponseView extends Cas30ResponseView {
         } catch (final Exception e) {
             val failure = createAuthenticationFailure(model);
             casResponse.setAuthenticationFailure(failure);
-        } finally {
-            val casModel = new HashMap<String, Object>();
-            casModel.put(ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE, casResponse);
-            model.clear();
-            model.putAll(casModel);
         }
+        return casResponse;
     }
 
     private CasJsonServiceResponseAuthenticationFailure createAuthenticationFailure(final Map<String, Object> model) {
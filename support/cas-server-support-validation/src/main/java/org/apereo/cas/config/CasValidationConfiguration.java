@@ -322,10 +322,13 @@ public class CasValidationConfiguration {
             @Qualifier("cas3ProtocolAttributesRenderer")
             final CasProtocolAttributesRenderer cas3ProtocolAttributesRenderer,
             @Qualifier("cas3SuccessView")
-            final View cas3SuccessView) {
-            return new Cas30ResponseView(true, protocolAttributeEncoder, servicesManager,
+            final View cas3SuccessView,
+            final CasConfigurationProperties casProperties) {
+            val view = new Cas30ResponseView(true, protocolAttributeEncoder, servicesManager,
                 cas3SuccessView, authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
                 cas3ProtocolAttributesRenderer);
+            view.setStreamingEnabled(casProperties.getView().getCas3().isStreamingEnabled());
+            return view;
         }
 
         @Bean
@@ -480,9 +483,12 @@ public class CasValidationConfiguration {
             @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME)
             final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan,
             @Qualifier("cas3ProtocolAttributesRenderer")
-            final CasProtocolAttributesRenderer cas3ProtocolAttributesRenderer) {
-            return new Cas30JsonResponseView(true, protocolAttributeEncoder, servicesManager,
+            final CasProtocolAttributesRenderer cas3ProtocolAttributesRenderer,
+            final CasConfigurationProperties casProperties) {
+            val view = new Cas30JsonResponseView(true, protocolAttributeEncoder, servicesManager,
                 authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan, cas3ProtocolAttributesRenderer);
+            view.setStreamingEnabled(casProperties.getView().getCas3().isStreamingEnabled());
+            return view;
         }
 
     }
@@ -36,6 +36,16 @@ class Cas30JsonResponseViewTests extends Cas30ResponseViewTests {
         return getCasView(true, encoder, viewDelegated);
     }
 
+    @Override
+    protected Cas30ResponseView getCasViewToStream(final ProtocolAttributeEncoder encoder) {
+        return new Cas30JsonResponseView(true,
+            encoder,
+            servicesManager,
+            new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer());
+    }
+
     private Cas30JsonResponseView getCasView(final boolean success, final ProtocolAttributeEncoder encoder, final View viewDelegated) {
         return new Cas30JsonResponseView(success,
             encoder,
@@ -3,12 +3,14 @@ package org.apereo.cas.web.view;
 import org.apereo.cas.BaseCasCoreTests;
 import org.apereo.cas.CasProtocolConstants;
 import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
 import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionStrategy;
 import org.apereo.cas.authentication.ProtocolAttributeEncoder;
 import org.apereo.cas.authentication.support.DefaultCasProtocolAttributeEncoder;
+import org.apereo.cas.authentication.support.NoOpProtocolAttributeEncoder;
 import org.apereo.cas.config.CasThemesConfiguration;
 import org.apereo.cas.config.CasThymeleafConfiguration;
 import org.apereo.cas.config.CasValidationConfiguration;
@@ -18,6 +20,10 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
+import org.apereo.cas.validation.Assertion;
+import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import org.apereo.cas.validation.DefaultAssertionBuilder;
 import org.apereo.cas.web.AbstractServiceValidateController;
 import org.apereo.cas.web.AbstractServiceValidateControllerTests;
 import org.apereo.cas.web.MockRequestedAuthenticationContextValidator;
@@ -25,6 +31,7 @@ import org.apereo.cas.web.ServiceValidateConfigurationContext;
 import org.apereo.cas.web.ServiceValidationViewFactory;
 import org.apereo.cas.web.v2.ServiceValidateController;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.services.persondir.IPersonAttributeDao;
@@ -48,6 +55,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import javax.crypto.Cipher;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,6 +89,10 @@ class Cas30ResponseViewTests extends AbstractServiceValidateControllerTests {
     @Qualifier(ServicesManager.BEAN_NAME)
     protected ServicesManager servicesManager;
 
+    @Autowired
+    @Qualifier("cas3SuccessView")
+    protected View cas3SuccessView;
+
     private static String decryptCredential(final String cred) throws Throwable {
         val factory = new PrivateKeyFactoryBean();
         factory.setAlgorithm("RSA");
@@ -100,6 +113,28 @@ class Cas30ResponseViewTests extends AbstractServiceValidateControllerTests {
         return new String(cipherData, StandardCharsets.UTF_8);
     }
 
+    private static MockHttpServletResponse renderResponse(final View view, final Map<String, Object> model) throws Exception {
+        val req = new MockHttpServletRequest(new MockServletContext());
+        req.setAttribute(RequestContext.WEB_APPLICATION_CONTEXT_ATTRIBUTE, new GenericWebApplicationContext(req.getServletContext()));
+        val resp = new MockHttpServletResponse();
+        view.render(model, req, resp);
+        return resp;
+    }
+
+    private static Assertion buildAssertion(final Assertion assertion, final Authentication primary,
+                                            final List<Authentication> authentications) {
+        return DefaultAssertionBuilder.builder()
+            .primaryAuthentication(primary)
+            .originalAuthentication(primary)
+            .authentications(authentications)
+            .service(assertion.getService())
+            .registeredService(assertion.getRegisteredService())
+            .newLogin(assertion.isFromNewLogin())
+            .context(assertion.getContext())
+            .build()
+            .assemble();
+    }
+
     protected static View getDelegatedView() {
         return new View() {
             @Override
@@ -175,6 +210,65 @@ class Cas30ResponseViewTests extends AbstractServiceValidateControllerTests {
         assertEquals("binaryAttributeValue", EncodingUtils.decodeBase64ToString(binaryAttr.toString()));
     }
 
+    @Test
+    void verifyStreamingResponse() throws Throwable {
+        val modelAndView = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE);
+        val encoder = new NoOpProtocolAttributeEncoder();
+        val expected = renderResponse(getCasViewToStream(encoder), modelAndView.getModel());
+        val view = getCasViewToStream(encoder);
+        view.setStreamingEnabled(true);
+        val actual = renderResponse(view, modelAndView.getModel());
+        assertFalse(actual.getContentAsString().isBlank());
+        assertEquals(expected.getContentType(), actual.getContentType());
+        assertArrayEquals(expected.getContentAsByteArray(), actual.getContentAsByteArray());
+    }
+
+    @Test
+    void verifyStreamingResponseWithProxies() throws Throwable {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE).getModel();
+        val assertion = (Assertion) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ASSERTION);
+        val proxy = CoreAuthenticationTestUtils.getAuthentication("proxy-<cas>");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ASSERTION, buildAssertion(assertion,
+            assertion.getPrimaryAuthentication(), List.of(proxy, assertion.getPrimaryAuthentication())));
+        val actual = renderStreamingResponse(model, new DefaultCas30ProtocolAttributesRenderer(),
+            new DefaultAuthenticationAttributeReleasePolicy("attribute"));
+        assertTrue(actual.contains("<cas:proxies>"));
+        assertTrue(actual.contains("<cas:proxy>proxy-&lt;cas&gt;</cas:proxy>"));
+    }
+
+    @Test
+    void verifyStreamingResponseWithoutAttributes() throws Throwable {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE).getModel();
+        val assertion = (Assertion) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ASSERTION);
+        val principal = CoreAuthenticationTestUtils.getPrincipal(assertion.getPrimaryAuthentication().getPrincipal().getId(), Map.of());
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(principal, Map.of());
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ASSERTION, buildAssertion(assertion, authentication, List.of(authentication)));
+        val actual = renderStreamingResponse(model, new DefaultCas30ProtocolAttributesRenderer(),
+            AuthenticationAttributeReleasePolicy.none());
+        assertFalse(actual.contains("<cas:attributes>"));
+    }
+
+    @Test
+    void verifyStreamingResponseWithInlinedAttributes() throws Throwable {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE).getModel();
+        val actual = renderStreamingResponse(model, new InlinedCas30ProtocolAttributesRenderer(),
+            new DefaultAuthenticationAttributeReleasePolicy("attribute"));
+        assertTrue(actual.contains("<cas:attribute name=\"displayName\""));
+    }
+
+    private String renderStreamingResponse(final Map<String, Object> model,
+                                           final CasProtocolAttributesRenderer renderer,
+                                           final AuthenticationAttributeReleasePolicy releasePolicy) throws Exception {
+        val encoder = new NoOpProtocolAttributeEncoder();
+        val expected = renderResponse(getCasViewToRender(encoder, cas3SuccessView, releasePolicy, renderer), new HashMap<>(model));
+        val view = (Cas30ResponseView) getCasViewToRender(encoder, cas3SuccessView, releasePolicy, renderer);
+        view.setStreamingEnabled(true);
+        val actual = renderResponse(view, new HashMap<>(model));
+        assertEquals(expected.getContentType(), actual.getContentType());
+        assertArrayEquals(expected.getContentAsByteArray(), actual.getContentAsByteArray());
+        return actual.getContentAsString();
+    }
+
     protected Map<?, ?> renderView() throws Throwable {
         val modelAndView = this.getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE);
         LOGGER.debug("Retrieved model and view [{}]", modelAndView.getModel());
@@ -194,10 +288,21 @@ class Cas30ResponseViewTests extends AbstractServiceValidateControllerTests {
     }
 
     protected AbstractCasView getCasViewToRender(final ProtocolAttributeEncoder encoder, final View viewDelegated) {
+        return getCasViewToRender(encoder, viewDelegated, new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            new DefaultCas30ProtocolAttributesRenderer());
+    }
+
+    protected AbstractCasView getCasViewToRender(final ProtocolAttributeEncoder encoder, final View viewDelegated,
+                                                 final AuthenticationAttributeReleasePolicy releasePolicy,
+                                                 final CasProtocolAttributesRenderer renderer) {
         return new Cas30ResponseView(true, encoder, servicesManager,
-            viewDelegated, new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            viewDelegated, releasePolicy,
             new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
-            new DefaultCas30ProtocolAttributesRenderer());
+            renderer);
+    }
+
+    protected Cas30ResponseView getCasViewToStream(final ProtocolAttributeEncoder encoder) {
+        return (Cas30ResponseView) getCasViewToRender(encoder, cas3SuccessView);
     }
 
     @TestConfiguration(value = "AttributeRepositoryTestConfiguration", proxyBeanMethods = false)
@@ -207,6 +312,7 @@ class Cas30ResponseViewTests extends AbstractServiceValidateControllerTests {
             val attrs = CollectionUtils.wrap("uid", CollectionUtils.wrap("uid"),
                 "eduPersonAffiliation", CollectionUtils.wrap("developer"),
                 "groupMembership", CollectionUtils.wrap("adopters"),
+                "displayName", CollectionUtils.wrap("Apereo & <CAS> \"Server\" 'Developers'"),
                 "binaryAttribute", CollectionUtils.wrap("binaryAttributeValue".getBytes(StandardCharsets.UTF_8)));
             return new StubPersonAttributeDao((Map) attrs);
         }
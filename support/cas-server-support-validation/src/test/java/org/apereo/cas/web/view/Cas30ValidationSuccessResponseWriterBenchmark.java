@@ -0,0 +1,119 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+
+import com.samskivert.mustache.Mustache;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time and allocations it takes to produce a CAS3 validation success response
+ * for a principal with {@value #ATTRIBUTE_COUNT} attributes of {@value #VALUE_COUNT} values each,
+ * either by formatting attributes and rendering the default success template, as {@code CasMustacheView} does,
+ * or by writing the response directly with {@link Cas30ValidationSuccessResponseWriter}.
+ * Run via {@link #main(String[])}, which reports allocations along with timings.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class Cas30ValidationSuccessResponseWriterBenchmark {
+    private static final int ATTRIBUTE_COUNT = 20;
+
+    private static final int VALUE_COUNT = 50;
+
+    private static final String TEMPLATE = "templates/protocol/3.0/casServiceValidationSuccess.mustache";
+
+    private final DefaultCas30ProtocolAttributesRenderer attributesRenderer = new DefaultCas30ProtocolAttributesRenderer();
+
+    private Principal principal;
+
+    private Map<String, Object> attributes;
+
+    private String template;
+
+    public static void main(final String[] args) throws Exception {
+        val options = new OptionsBuilder()
+            .include(Cas30ValidationSuccessResponseWriterBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        attributes = new HashMap<>();
+        for (var i = 0; i < ATTRIBUTE_COUNT; i++) {
+            val values = new ArrayList<>();
+            for (var j = 0; j < VALUE_COUNT; j++) {
+                values.add("cn=group-" + j + ",ou=Groups & Roles,dc=example,dc=org");
+            }
+            attributes.put("attribute" + i, values);
+        }
+        template = new ClassPathResource(TEMPLATE).getContentAsString(StandardCharsets.UTF_8);
+        if (!Arrays.equals(renderTemplate(), writeResponse())) {
+            throw new IllegalStateException("Validation response written directly does not match the template");
+        }
+    }
+
+    @Benchmark
+    public byte[] renderTemplate() throws Exception {
+        val model = new LinkedHashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, principal);
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1-example");
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_ATTRIBUTES, attributes);
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, attributesRenderer.render(attributes));
+        val output = new ByteArrayOutputStream();
+        try (val writer = new StringWriter();
+             val responseWriter = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+            Mustache.compiler().compile(template).execute(model, writer);
+            responseWriter.write(writer.toString());
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws Exception {
+        val output = new ByteArrayOutputStream();
+        try (val writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+            new Cas30ValidationSuccessResponseWriter(attributesRenderer)
+                .write(writer, principal.getId(), "PGTIOU-1-example", List.of(), attributes);
+        }
+        return output.toByteArray();
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.store.X509CRLStore;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CertUtils;
@@ -38,7 +39,8 @@ import java.util.stream.IntStream;
  * expects the name to define an absolute URL, which is the most common
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
- * check.
+ * check. When a {@link X509CRLStore} is provided, CRLs are kept parsed in the store
+ * and refreshed in the background instead of being cached as encoded bytes.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
@@ -52,6 +54,8 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     private final boolean throwOnFetchFailure;
 
+    private final X509CRLStore crlStore;
+
     public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
@@ -73,6 +77,17 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         this.crlCache = crlCache;
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.crlStore = null;
+    }
+
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final X509CRLStore crlStore, final boolean throwOnFetchFailure) {
+        super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
+        this.crlCache = null;
+        this.fetcher = crlStore.getFetcher();
+        this.throwOnFetchFailure = throwOnFetchFailure;
+        this.crlStore = crlStore;
     }
 
 
@@ -143,9 +158,21 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.asMap().get(url);
+            val item = this.crlStore == null ? this.crlCache.asMap().get(url) : null;
 
-            if (item != null) {
+            if (this.crlStore != null) {
+                try {
+                    val crl = this.crlStore.get(url);
+                    if (crl != null) {
+                        listOfLocations.add(crl);
+                    }
+                } catch (final Exception e) {
+                    LoggingUtils.error(LOGGER, e);
+                    if (this.throwOnFetchFailure) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                }
+            } else if (item != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
                 val crlFetched = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
 
@@ -186,6 +213,14 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
     protected boolean addCRL(final Object id, final X509CRL crl) {
         return FunctionUtils.doUnchecked(() -> {
             var uri = (URI) id;
+            if (this.crlStore != null) {
+                if (crl == null) {
+                    this.crlStore.remove(uri);
+                    return false;
+                }
+                this.crlStore.put(uri, crl);
+                return true;
+            }
             if (crl == null) {
                 LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
                 this.crlCache.invalidate(uri);
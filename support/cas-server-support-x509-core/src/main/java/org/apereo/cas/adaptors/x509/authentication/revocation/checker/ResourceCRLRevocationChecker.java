@@ -4,7 +4,9 @@ import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.X509CredentialsAuthenticationHandler;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.store.X509CRLStore;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.Getter;
@@ -31,6 +33,7 @@ import java.util.concurrent.TimeUnit;
  * local or remote CRL data periodically.  CRL resources should be supplied for
  * the issuers of all certificates (and intervening certificates for certificate
  * chains) that are expected to be presented to {@link X509CredentialsAuthenticationHandler}.
+ * When a {@link X509CRLStore} is provided, CRL resources are loaded into and refreshed by the store.
  *
  * @author Marvin S. Addison
  * @since 3.4.7
@@ -64,6 +67,11 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
      **/
     private final Collection<Resource> resources;
 
+    /**
+     * Store that keeps and refreshes CRLs, if any.
+     */
+    private final X509CRLStore crlStore;
+
     public ResourceCRLRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
                                         final RevocationPolicy<X509CRL> expiredCRLPolicy, final int refreshInterval,
                                         final CRLFetcher fetcher, final Collection<Resource> resources) {
@@ -71,6 +79,17 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
         this.refreshInterval = refreshInterval;
         this.fetcher = fetcher;
         this.resources = resources;
+        this.crlStore = null;
+    }
+
+    public ResourceCRLRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                        final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                        final X509CRLStore crlStore, final Collection<Resource> resources) {
+        super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
+        this.refreshInterval = DEFAULT_REFRESH_INTERVAL;
+        this.fetcher = crlStore.getFetcher();
+        this.resources = resources;
+        this.crlStore = crlStore;
     }
 
     public ResourceCRLRevocationChecker(final Resource crl,
@@ -133,6 +152,17 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
             return;
         }
 
+        if (this.crlStore != null) {
+            this.resources.forEach(resource -> {
+                try {
+                    this.crlStore.get(resource);
+                } catch (final Exception e) {
+                    LoggingUtils.error(LOGGER, e);
+                }
+            });
+            return;
+        }
+
         val results = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(getResources()));
         this.addCrls(results);
 
@@ -175,6 +205,12 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     protected Collection<X509CRL> getCRLs(final X509Certificate cert) {
         val principal = cert.getIssuerX500Principal();
 
+        if (this.crlStore != null) {
+            val crls = this.crlStore.findByIssuer(principal);
+            if (!crls.isEmpty()) {
+                return new ArrayList<>(crls);
+            }
+        }
         if (this.crlIssuerMap.containsKey(principal)) {
             return CollectionUtils.wrap(this.crlIssuerMap.get(principal));
         }
@@ -0,0 +1,179 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.store;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Principal;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.security.cert.CRLException;
+import java.security.cert.CRLReason;
+import java.security.cert.Certificate;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This is {@link DeltaX509CRL}, which presents a base CRL and a delta CRL
+ * that applies to it as a single CRL. Revocation entries are looked up in the delta CRL first,
+ * where entries marked with {@link CRLReason#REMOVE_FROM_CRL} release certificates that are
+ * on hold in the base CRL. Update dates are taken from the delta CRL, which is the one
+ * that is published more frequently. All other attributes, including the encoded form
+ * and the signature, are those of the base CRL.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode(callSuper = false)
+public class DeltaX509CRL extends X509CRL {
+    private final X509CRL baseCrl;
+
+    private final X509CRL deltaCrl;
+
+    private static X509CRLEntry applyDeltaEntry(final X509CRLEntry deltaEntry, final X509CRLEntry baseEntry) {
+        if (deltaEntry == null) {
+            return baseEntry;
+        }
+        return deltaEntry.getRevocationReason() == CRLReason.REMOVE_FROM_CRL ? null : deltaEntry;
+    }
+
+    @Override
+    public byte[] getEncoded() throws CRLException {
+        return baseCrl.getEncoded();
+    }
+
+    @Override
+    public void verify(final PublicKey key) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, NoSuchProviderException, SignatureException {
+        baseCrl.verify(key);
+        deltaCrl.verify(key);
+    }
+
+    @Override
+    public void verify(final PublicKey key, final String sigProvider) throws CRLException,
+        NoSuchAlgorithmException, InvalidKeyException, NoSuchProviderException, SignatureException {
+        baseCrl.verify(key, sigProvider);
+        deltaCrl.verify(key, sigProvider);
+    }
+
+    @Override
+    public int getVersion() {
+        return baseCrl.getVersion();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Principal getIssuerDN() {
+        return baseCrl.getIssuerDN();
+    }
+
+    @Override
+    public X500Principal getIssuerX500Principal() {
+        return baseCrl.getIssuerX500Principal();
+    }
+
+    @Override
+    public Date getThisUpdate() {
+        return deltaCrl.getThisUpdate();
+    }
+
+    @Override
+    public Date getNextUpdate() {
+        return Optional.ofNullable(deltaCrl.getNextUpdate()).orElseGet(baseCrl::getNextUpdate);
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final BigInteger serialNumber) {
+        return applyDeltaEntry(deltaCrl.getRevokedCertificate(serialNumber), baseCrl.getRevokedCertificate(serialNumber));
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final X509Certificate certificate) {
+        return applyDeltaEntry(deltaCrl.getRevokedCertificate(certificate), baseCrl.getRevokedCertificate(certificate));
+    }
+
+    @Override
+    public Set<? extends X509CRLEntry> getRevokedCertificates() {
+        val entries = new LinkedHashMap<BigInteger, X509CRLEntry>();
+        Optional.ofNullable(baseCrl.getRevokedCertificates())
+            .ifPresent(revoked -> revoked.forEach(entry -> entries.put(entry.getSerialNumber(), entry)));
+        Optional.ofNullable(deltaCrl.getRevokedCertificates()).ifPresent(revoked -> revoked.forEach(entry -> {
+            if (entry.getRevocationReason() == CRLReason.REMOVE_FROM_CRL) {
+                entries.remove(entry.getSerialNumber());
+            } else {
+                entries.put(entry.getSerialNumber(), entry);
+            }
+        }));
+        return entries.isEmpty() ? null : new LinkedHashSet<>(entries.values());
+    }
+
+    @Override
+    public byte[] getTBSCertList() throws CRLException {
+        return baseCrl.getTBSCertList();
+    }
+
+    @Override
+    public byte[] getSignature() {
+        return baseCrl.getSignature();
+    }
+
+    @Override
+    public String getSigAlgName() {
+        return baseCrl.getSigAlgName();
+    }
+
+    @Override
+    public String getSigAlgOID() {
+        return baseCrl.getSigAlgOID();
+    }
+
+    @Override
+    public byte[] getSigAlgParams() {
+        return baseCrl.getSigAlgParams();
+    }
+
+    @Override
+    public boolean isRevoked(final Certificate cert) {
+        return cert instanceof final X509Certificate certificate && getRevokedCertificate(certificate) != null;
+    }
+
+    @Override
+    public boolean hasUnsupportedCriticalExtension() {
+        return baseCrl.hasUnsupportedCriticalExtension();
+    }
+
+    @Override
+    public Set<String> getCriticalExtensionOIDs() {
+        return baseCrl.getCriticalExtensionOIDs();
+    }
+
+    @Override
+    public Set<String> getNonCriticalExtensionOIDs() {
+        return baseCrl.getNonCriticalExtensionOIDs();
+    }
+
+    @Override
+    public byte[] getExtensionValue(final String oid) {
+        return baseCrl.getExtensionValue(oid);
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaX509CRL[issuer=" + getIssuerX500Principal() + ", base=" + baseCrl.getThisUpdate()
+               + ", delta=" + deltaCrl.getThisUpdate() + ", nextUpdate=" + getNextUpdate() + ']';
+    }
+}
@@ -0,0 +1,335 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.store;
+
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.bouncycastle.asn1.ASN1IA5String;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.Resource;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link X509CRLStore}, which keeps fetched CRLs parsed in memory so that revocation checks
+ * never need to download or decode a CRL once it is first loaded. Each CRL is refreshed in the background
+ * ahead of its {@code nextUpdate} date, or periodically if it does not specify one, and the new copy
+ * replaces the old one atomically; checks that run during a refresh see the previous CRL.
+ * If a CRL advertises a delta CRL via the freshest CRL extension, the delta CRL is fetched and
+ * applied to the base CRL, and later refreshes only fetch the delta CRL until the base CRL is about to expire.
+ * A refresh that fails leaves the current CRL in place and is retried shortly after.
+ * The store is bounded in size, and CRLs that are not used for revocation checks within
+ * the configured time-to-live are evicted; background refreshes do not keep them alive.
+ * CRLs are fetched outside of any lock held by the store, and concurrent requests
+ * for a CRL that is not yet stored share a single fetch.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class X509CRLStore implements DisposableBean {
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final Cache<String, StoredCRL> crls;
+
+    private final Map<String, CompletableFuture<StoredCRL>> loading = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+    @Getter
+    private final CRLFetcher fetcher;
+
+    private final Duration refreshBeforeNextUpdate;
+
+    private final Duration refreshInterval;
+
+    private final boolean deltaCrlEnabled;
+
+    public X509CRLStore(final CRLFetcher fetcher, final Duration refreshBeforeNextUpdate,
+                        final Duration refreshInterval, final boolean deltaCrlEnabled,
+                        final long maximumSize, final Duration timeToLive) {
+        this.crls = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new StoredCRLExpiry(timeToLive))
+            .build();
+        this.fetcher = fetcher;
+        this.refreshBeforeNextUpdate = refreshBeforeNextUpdate;
+        this.refreshInterval = refreshInterval;
+        this.deltaCrlEnabled = deltaCrlEnabled;
+    }
+
+    private static List<URI> getFreshestCrlLocations(final X509CRL crl) {
+        val value = crl.getExtensionValue(Extension.freshestCRL.getId());
+        if (value == null) {
+            return List.of();
+        }
+        val locations = new ArrayList<URI>();
+        val points = CRLDistPoint.getInstance(ASN1OctetString.getInstance(value).getOctets()).getDistributionPoints();
+        Arrays.stream(points)
+            .map(DistributionPoint::getDistributionPoint)
+            .filter(name -> name != null && name.getType() == DistributionPointName.FULL_NAME)
+            .flatMap(name -> Arrays.stream(GeneralNames.getInstance(name.getName()).getNames()))
+            .filter(name -> name.getTagNo() == GeneralName.uniformResourceIdentifier)
+            .map(name -> ASN1IA5String.getInstance(name.getName()).getString())
+            .forEach(location -> {
+                try {
+                    locations.add(new URI(location));
+                } catch (final Exception e) {
+                    LOGGER.warn("Delta CRL location [{}] is not supported: [{}]", location, e.getMessage());
+                }
+            });
+        return locations;
+    }
+
+    private static Optional<BigInteger> getExtensionValueAsInteger(final X509CRL crl, final String oid) {
+        return Optional.ofNullable(crl.getExtensionValue(oid))
+            .map(value -> ASN1Integer.getInstance(ASN1OctetString.getInstance(value).getOctets()).getValue());
+    }
+
+    private static boolean isDeltaCrlFor(final X509CRL delta, final X509CRL base) {
+        if (!delta.getIssuerX500Principal().equals(base.getIssuerX500Principal())) {
+            return false;
+        }
+        val baseCrlNumber = getExtensionValueAsInteger(delta, Extension.deltaCRLIndicator.getId());
+        val crlNumber = getExtensionValueAsInteger(base, Extension.cRLNumber.getId());
+        return baseCrlNumber.isPresent() && crlNumber.isPresent() && baseCrlNumber.get().compareTo(crlNumber.get()) <= 0;
+    }
+
+    private static String getLocation(final Resource resource) {
+        return resource.getDescription();
+    }
+
+    /**
+     * Gets the CRL published at the given location,
+     * and fetches it if it is not yet stored.
+     *
+     * @param uri the uri
+     * @return the crl, or null if none could be fetched
+     */
+    public X509CRL get(final URI uri) {
+        return get(uri.toString(), () -> fetcher.fetch(uri));
+    }
+
+    /**
+     * Gets the CRL in the given resource,
+     * and fetches it if it is not yet stored.
+     *
+     * @param resource the resource
+     * @return the crl, or null if none could be fetched
+     */
+    public X509CRL get(final Resource resource) {
+        return get(getLocation(resource), () -> fetcher.fetch(resource));
+    }
+
+    /**
+     * Store the CRL that was fetched from the given location,
+     * replacing any CRL already stored for it.
+     *
+     * @param uri the uri
+     * @param crl the crl
+     */
+    public void put(final URI uri, final X509CRL crl) {
+        val stored = newStoredCRL(uri.toString(), () -> fetcher.fetch(uri), crl);
+        crls.put(stored.location(), stored);
+        scheduleRefresh(stored);
+    }
+
+    /**
+     * Remove the CRL that was fetched from the given location.
+     *
+     * @param uri the uri
+     */
+    public void remove(final URI uri) {
+        crls.invalidate(uri.toString());
+    }
+
+    /**
+     * Find all stored CRLs issued by the given issuer.
+     *
+     * @param issuer the issuer
+     * @return the CRLs
+     */
+    public Collection<X509CRL> findByIssuer(final X500Principal issuer) {
+        return crls.asMap()
+            .values()
+            .stream()
+            .map(StoredCRL::crl)
+            .filter(crl -> crl.getIssuerX500Principal().equals(issuer))
+            .toList();
+    }
+
+    /**
+     * Number of stored CRLs.
+     *
+     * @return the size
+     */
+    public int size() {
+        crls.cleanUp();
+        return (int) crls.estimatedSize();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        crls.invalidateAll();
+    }
+
+    private X509CRL get(final String location, final CheckedSupplier<X509CRL> loader) {
+        val stored = crls.getIfPresent(location);
+        if (stored != null) {
+            return stored.crl();
+        }
+        val result = new CompletableFuture<StoredCRL>();
+        val existing = loading.putIfAbsent(location, result);
+        if (existing != null) {
+            LOGGER.trace("CRL from [{}] is already being fetched", location);
+            return Optional.ofNullable(existing.join()).map(StoredCRL::crl).orElse(null);
+        }
+        try {
+            val loaded = load(location, loader);
+            result.complete(loaded);
+            return loaded == null ? null : loaded.crl();
+        } catch (final Throwable e) {
+            result.complete(null);
+            throw e;
+        } finally {
+            loading.remove(location, result);
+        }
+    }
+
+    private StoredCRL load(final String location, final CheckedSupplier<X509CRL> loader) {
+        return FunctionUtils.doUnchecked(() -> {
+            val crl = loader.get();
+            if (crl == null) {
+                return null;
+            }
+            LOGGER.debug("Fetched CRL from [{}] issued by [{}]", location, crl.getIssuerX500Principal());
+            val created = newStoredCRL(location, loader, crl);
+            val current = crls.asMap().putIfAbsent(location, created);
+            if (current != null) {
+                return current;
+            }
+            scheduleRefresh(created);
+            return created;
+        });
+    }
+
+    private StoredCRL newStoredCRL(final String location, final CheckedSupplier<X509CRL> loader, final X509CRL base) {
+        return new StoredCRL(location, loader, base, deltaCrlEnabled ? applyDeltaCrl(base) : base);
+    }
+
+    private X509CRL applyDeltaCrl(final X509CRL base) {
+        for (val location : getFreshestCrlLocations(base)) {
+            try {
+                val delta = fetcher.fetch(location);
+                if (delta != null && isDeltaCrlFor(delta, base)) {
+                    LOGGER.debug("Applying delta CRL from [{}] to CRL issued by [{}]", location, base.getIssuerX500Principal());
+                    return new DeltaX509CRL(base, delta);
+                }
+                LOGGER.warn("CRL fetched from [{}] is not a delta CRL for the CRL issued by [{}]", location, base.getIssuerX500Principal());
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to fetch delta CRL from [{}]: [{}]", location, e.getMessage());
+            }
+        }
+        return base;
+    }
+
+    private boolean isFresh(final X509CRL crl) {
+        return crl.getNextUpdate() != null
+               && crl.getNextUpdate().toInstant().minus(refreshBeforeNextUpdate).isAfter(Instant.now());
+    }
+
+    private void scheduleRefresh(final StoredCRL stored) {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        val delay = Optional.ofNullable(stored.crl().getNextUpdate())
+            .map(nextUpdate -> Duration.between(Instant.now(), nextUpdate.toInstant().minus(refreshBeforeNextUpdate)))
+            .filter(duration -> duration.compareTo(refreshInterval) < 0)
+            .orElse(refreshInterval);
+        scheduleRefresh(stored, delay.compareTo(RETRY_DELAY) < 0 ? RETRY_DELAY : delay);
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void scheduleRefresh(final StoredCRL stored, final Duration delay) {
+        LOGGER.trace("Scheduling refresh of CRL from [{}] in [{}]", stored.location(), delay);
+        scheduler.schedule(() -> refresh(stored), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(final StoredCRL current) {
+        if (crls.policy().getIfPresentQuietly(current.location()) != current) {
+            LOGGER.trace("CRL from [{}] was replaced or removed; skipping refresh", current.location());
+            return;
+        }
+        try {
+            val base = isFresh(current.base()) ? current.base() : current.loader().get();
+            Objects.requireNonNull(base, () -> "Unable to fetch CRL from " + current.location());
+            val refreshed = newStoredCRL(current.location(), current.loader(), base);
+            if (crls.asMap().replace(current.location(), current, refreshed)) {
+                LOGGER.debug("Refreshed CRL from [{}]; next update is at [{}]", current.location(), refreshed.crl().getNextUpdate());
+                scheduleRefresh(refreshed);
+            }
+        } catch (final Throwable e) {
+            LoggingUtils.warn(LOGGER, e);
+            scheduleRefresh(current, RETRY_DELAY);
+        }
+    }
+
+    private record StoredCRL(String location, CheckedSupplier<X509CRL> loader, X509CRL base, X509CRL crl) {
+    }
+
+    /**
+     * Expires CRLs that are not read within the time-to-live.
+     * Replacing a CRL with its refreshed copy does not extend its lifetime.
+     */
+    private record StoredCRLExpiry(Duration timeToLive) implements Expiry<String, StoredCRL> {
+        @Override
+        public long expireAfterCreate(final String key, final StoredCRL value, final long currentTime) {
+            return timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final StoredCRL value,
+                                      final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final StoredCRL value,
+                                    final long currentTime, final long currentDuration) {
+            return timeToLive.toNanos();
+        }
+    }
+}
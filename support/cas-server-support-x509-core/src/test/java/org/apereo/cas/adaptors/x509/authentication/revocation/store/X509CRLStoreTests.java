@@ -0,0 +1,137 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.store;
+
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.ResourceCRLRevocationChecker;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.security.cert.CRLReason;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link X509CRLStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("X509")
+class X509CRLStoreTests {
+    private ResourceCRLFetcher fetcher;
+
+    private X509CRLStore store;
+
+    private static X509CRLEntry getEntry(final long serialNumber, final CRLReason reason) {
+        val entry = mock(X509CRLEntry.class);
+        when(entry.getSerialNumber()).thenReturn(BigInteger.valueOf(serialNumber));
+        when(entry.getRevocationReason()).thenReturn(reason);
+        return entry;
+    }
+
+    @BeforeEach
+    public void setup() {
+        fetcher = spy(new ResourceCRLFetcher());
+        store = new X509CRLStore(fetcher, Duration.ofMinutes(5), Duration.ofHours(1), true, 10, Duration.ofHours(4));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    void verifyCrlIsFetchedOnce() throws Throwable {
+        val resource = new ClassPathResource("userCA-valid.crl");
+        val crl = store.get(resource);
+        assertNotNull(crl);
+        assertSame(crl, store.get(resource));
+        verify(fetcher, times(1)).fetch(resource);
+        assertEquals(1, store.size());
+        assertEquals(List.of(crl), store.findByIssuer(crl.getIssuerX500Principal()));
+    }
+
+    @Test
+    void verifyStoreIsBounded() throws Throwable {
+        val crl = fetcher.fetch(new ClassPathResource("userCA-valid.crl"));
+        val boundedStore = new X509CRLStore(fetcher, Duration.ofMinutes(5), Duration.ofHours(1), false, 2, Duration.ofHours(4));
+        try {
+            for (var i = 0; i < 10; i++) {
+                boundedStore.put(new URI("http://localhost:8085/userCA-" + i + ".crl"), crl);
+            }
+            await().untilAsserted(() -> assertTrue(boundedStore.size() <= 2));
+        } finally {
+            boundedStore.destroy();
+        }
+    }
+
+    @Test
+    void verifyUnusedCrlExpires() throws Throwable {
+        val crl = fetcher.fetch(new ClassPathResource("userCA-valid.crl"));
+        val expiringStore = new X509CRLStore(fetcher, Duration.ofMinutes(5), Duration.ofHours(1), false, 10, Duration.ofMillis(100));
+        try {
+            val uri = new URI("http://localhost:8085/userCA.crl");
+            expiringStore.put(uri, crl);
+            await().untilAsserted(() -> assertEquals(0, expiringStore.size()));
+        } finally {
+            expiringStore.destroy();
+        }
+    }
+
+    @Test
+    void verifyPutAndRemove() throws Throwable {
+        val crl = fetcher.fetch(new ClassPathResource("userCA-valid.crl"));
+        val uri = new URI("http://localhost:8085/userCA.crl");
+        store.put(uri, crl);
+        assertSame(crl, store.get(uri));
+        store.remove(uri);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void verifyResourceRevocationChecker() throws Throwable {
+        val checker = new ResourceCRLRevocationChecker(false, null, null, store,
+            List.of(new ClassPathResource("userCA-valid.crl")));
+        checker.init();
+        assertDoesNotThrow(() -> checker.check(CertUtils.readCertificate(new ClassPathResource("user-valid.crt"))));
+        assertThrows(RevokedCertificateException.class,
+            () -> checker.check(CertUtils.readCertificate(new ClassPathResource("user-revoked.crt"))));
+    }
+
+    @Test
+    void verifyDeltaCrl() {
+        val base = mock(X509CRL.class);
+        val delta = mock(X509CRL.class);
+        val revoked = getEntry(1, CRLReason.KEY_COMPROMISE);
+        val onHold = getEntry(3, CRLReason.CERTIFICATE_HOLD);
+        when(base.getRevokedCertificate(BigInteger.valueOf(1))).thenReturn(revoked);
+        when(base.getRevokedCertificate(BigInteger.valueOf(3))).thenReturn(onHold);
+        val newlyRevoked = getEntry(2, CRLReason.SUPERSEDED);
+        val released = getEntry(3, CRLReason.REMOVE_FROM_CRL);
+        when(delta.getRevokedCertificate(BigInteger.valueOf(2))).thenReturn(newlyRevoked);
+        when(delta.getRevokedCertificate(BigInteger.valueOf(3))).thenReturn(released);
+        doReturn(Set.of(revoked, onHold)).when(base).getRevokedCertificates();
+        doReturn(Set.of(newlyRevoked, released)).when(delta).getRevokedCertificates();
+
+        val crl = new DeltaX509CRL(base, delta);
+        assertSame(revoked, crl.getRevokedCertificate(BigInteger.valueOf(1)));
+        assertSame(newlyRevoked, crl.getRevokedCertificate(BigInteger.valueOf(2)));
+        assertNull(crl.getRevokedCertificate(BigInteger.valueOf(3)));
+        assertEquals(2, crl.getRevokedCertificates().size());
+    }
+}
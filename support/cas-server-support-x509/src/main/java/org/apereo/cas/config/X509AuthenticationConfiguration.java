@@ -22,6 +22,7 @@ import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevoca
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.ThresholdExpiredCRLRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.store.X509CRLStore;
 import org.apereo.cas.adaptors.x509.util.X509AuthenticationUtils;
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.AuthenticationHandler;
@@ -53,6 +54,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
@@ -184,6 +186,8 @@ public class X509AuthenticationConfiguration {
         final CasConfigurationProperties casProperties,
         @Qualifier("crlFetcher")
         final CRLFetcher crlFetcher,
+        @Qualifier("x509CrlStore")
+        final X509CRLStore x509CrlStore,
         @Qualifier("allowRevocationPolicy")
         final RevocationPolicy allowRevocationPolicy,
         @Qualifier("thresholdExpiredCRLRevocationPolicy")
@@ -191,6 +195,12 @@ public class X509AuthenticationConfiguration {
         @Qualifier("denyRevocationPolicy")
         final RevocationPolicy denyRevocationPolicy) {
         val x509 = casProperties.getAuthn().getX509();
+        if (x509.getCrlStore().isEnabled()) {
+            return new CRLDistributionPointRevocationChecker(x509.isCheckAll(),
+                getRevocationPolicy(x509.getCrlUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
+                getRevocationPolicy(x509.getCrlExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
+                x509CrlStore, x509.isThrowOnFetchFailure());
+        }
 
         val cache = Caffeine.newBuilder()
             .maximumSize(x509.getCacheMaxElementsInMemory())
@@ -222,15 +232,39 @@ public class X509AuthenticationConfiguration {
                                                           @Qualifier("denyRevocationPolicy")
                                                           final RevocationPolicy denyRevocationPolicy,
                                                           @Qualifier("crlFetcher")
-                                                          final CRLFetcher crlFetcher) {
+                                                          final CRLFetcher crlFetcher,
+                                                          @Qualifier("x509CrlStore")
+                                                          final X509CRLStore x509CrlStore) {
         val x509 = casProperties.getAuthn().getX509();
         val x509CrlResources = x509.getCrlResources().stream().map(applicationContext::getResource).collect(Collectors.toSet());
+        if (x509.getCrlStore().isEnabled()) {
+            return new ResourceCRLRevocationChecker(x509.isCheckAll(),
+                getRevocationPolicy(x509.getCrlResourceUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
+                getRevocationPolicy(x509.getCrlResourceExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
+                x509CrlStore, x509CrlResources);
+        }
         return new ResourceCRLRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlResourceUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             getRevocationPolicy(x509.getCrlResourceExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             x509.getRefreshIntervalSeconds(), crlFetcher, x509CrlResources);
     }
 
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "x509CrlStore")
+    public X509CRLStore x509CrlStore(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("crlFetcher")
+        final CRLFetcher crlFetcher) {
+        val x509 = casProperties.getAuthn().getX509();
+        return new X509CRLStore(crlFetcher,
+            Beans.newDuration(x509.getCrlStore().getRefreshBeforeNextUpdate()),
+            Duration.ofSeconds(x509.getRefreshIntervalSeconds()),
+            x509.getCrlStore().isDeltaCrlEnabled(),
+            x509.getCacheMaxElementsInMemory(),
+            Beans.newDuration(x509.getCacheTimeToLiveSeconds()));
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "crlFetcher")
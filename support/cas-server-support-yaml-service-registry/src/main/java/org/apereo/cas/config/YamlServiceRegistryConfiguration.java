@@ -24,6 +24,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +60,8 @@ public class YamlServiceRegistryConfiguration {
                 WatcherService.noOp(), applicationContext, registeredServiceReplicationStrategy,
                 resourceNamingStrategy,
                 Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+            yaml.setLoaderThreads(registry.getYaml().getLoaderThreads());
+            FunctionUtils.doIfNotBlank(registry.getYaml().getSnapshotLocation(), location -> yaml.setSnapshotFile(new File(location)));
             if (registry.getYaml().isWatcherEnabled()) {
                 yaml.enableDefaultWatcherService();
             }